@@ -0,0 +1,57 @@
+package frc.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Baseline costs every robot loop pays before doing any real work.
+ *
+ * <p>These numbers are the floor the other benchmarks should be read against: reading the clock
+ * is what any loop-timing instrumentation costs, and dispatching through an array of periodic
+ * callbacks is what a scheduler costs with nothing scheduled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LoopOverheadBenchmark {
+  private static final int SUBSYSTEMS = 16;
+
+  private Runnable[] periodics;
+  private long counter;
+
+  @Setup
+  public void setup() {
+    periodics = new Runnable[SUBSYSTEMS];
+    for (int i = 0; i < SUBSYSTEMS; i++) {
+      periodics[i] = () -> counter++;
+    }
+  }
+
+  @Benchmark
+  public long nanoTime() {
+    return System.nanoTime();
+  }
+
+  @Benchmark
+  public long timedSection() {
+    long start = System.nanoTime();
+    counter++;
+    return System.nanoTime() - start;
+  }
+
+  @Benchmark
+  public void dispatchPeriodics(Blackhole bh) {
+    for (Runnable periodic : periodics) {
+      periodic.run();
+    }
+    bh.consume(counter);
+  }
+}
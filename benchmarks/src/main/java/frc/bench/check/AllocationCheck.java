@@ -0,0 +1,75 @@
+package frc.bench.check;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Fails if a loop body allocates anything on the heap once it has warmed up.
+ *
+ * <p>The cycle is run long enough for the JIT to compile it, then measured over a fixed number of
+ * iterations using the current thread's allocation counter. Any nonzero byte count over the
+ * measured run is a failure: in steady state a robot loop should allocate exactly nothing.
+ *
+ * <p>A cycle that starts threads or opens files should also implement {@link AutoCloseable}; it
+ * is closed once the measurement is done.
+ */
+public final class AllocationCheck implements Check {
+  private static final int kWarmupIterations = 200_000;
+  private static final int kMeasuredIterations = 100_000;
+
+  private final String m_name;
+  private final Supplier<? extends Runnable> m_cycleFactory;
+
+  /**
+   * Creates an allocation check.
+   *
+   * @param name The name to report the check under.
+   * @param cycleFactory Creates the loop body. Everything it allocates up front is excluded from
+   *     the measurement. A body that is also {@link AutoCloseable} is closed afterward.
+   */
+  public AllocationCheck(String name, Supplier<? extends Runnable> cycleFactory) {
+    m_name = name;
+    m_cycleFactory = cycleFactory;
+  }
+
+  @Override
+  public String name() {
+    return "allocation: " + m_name;
+  }
+
+  @Override
+  public CheckResult run() {
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    if (!threads.isThreadAllocatedMemorySupported()) {
+      return CheckResult.fail("thread allocation accounting is not supported by this JVM");
+    }
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    Runnable cycle = m_cycleFactory.get();
+    long allocated;
+    try (AutoCloseable resources = cycle instanceof AutoCloseable closeable ? closeable : null) {
+      allocated = measure(threads, cycle);
+    } catch (Exception e) {
+      return CheckResult.fail("%s", e);
+    }
+
+    double perCycle = (double) allocated / kMeasuredIterations;
+    if (allocated > 0) {
+      return CheckResult.fail(
+          "%d bytes over %d cycles (%.3f B/cycle)", allocated, kMeasuredIterations, perCycle);
+    }
+    return CheckResult.pass("0 bytes over %d cycles", kMeasuredIterations);
+  }
+
+  private static long measure(com.sun.management.ThreadMXBean threads, Runnable cycle) {
+    for (int i = 0; i < kWarmupIterations; i++) {
+      cycle.run();
+    }
+
+    long before = threads.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < kMeasuredIterations; i++) {
+      cycle.run();
+    }
+    return threads.getCurrentThreadAllocatedBytes() - before;
+  }
+}
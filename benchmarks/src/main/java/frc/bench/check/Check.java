@@ -0,0 +1,17 @@
+package frc.bench.check;
+
+/**
+ * A headless regression check. Checks run from {@code gradle :benchmarks:checks}, which the
+ * {@code check} lifecycle task depends on, so a failing check fails the build.
+ */
+public interface Check {
+  /** Returns a short, human-readable name for the report. */
+  String name();
+
+  /**
+   * Runs the check.
+   *
+   * @return Whether the check passed, with a one-line summary of what was measured.
+   */
+  CheckResult run();
+}
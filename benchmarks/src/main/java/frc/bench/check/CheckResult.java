@@ -0,0 +1,17 @@
+package frc.bench.check;
+
+/**
+ * The outcome of a {@link Check}.
+ *
+ * @param passed Whether the check passed.
+ * @param summary One line describing what was measured.
+ */
+public record CheckResult(boolean passed, String summary) {
+  public static CheckResult pass(String format, Object... args) {
+    return new CheckResult(true, String.format(format, args));
+  }
+
+  public static CheckResult fail(String format, Object... args) {
+    return new CheckResult(false, String.format(format, args));
+  }
+}
@@ -0,0 +1,93 @@
+package frc.bench.check;
+
+import frc.bench.dashboard.DashboardBandwidthCheck;
+import frc.bench.dashboard.DashboardFlushCycle;
+import frc.bench.interpolation.ShotLookupCycle;
+import frc.bench.interpolation.ShotMapAccuracyCheck;
+import frc.bench.kinematics.DifferentialDriveCycle;
+import frc.bench.looptiming.HistogramAccuracyCheck;
+import frc.bench.looptiming.TimedSectionCycle;
+import frc.bench.odometry.OdometryDrainCycle;
+import frc.bench.odometry.OdometryRateCheck;
+import frc.bench.odometry.VisionLatencyCheck;
+import frc.bench.pathoptimizer.ParallelPathSearchCheck;
+import frc.bench.replay.ReplayRecordCycle;
+import frc.bench.replay.ReplayRegressionCheck;
+import frc.bench.scheduler.BitsetSchedulerCycle;
+import frc.bench.scheduler.SchedulerEquivalenceCheck;
+import frc.bench.telemetry.TelemetryLogCycle;
+import frc.bench.telemetry.TelemetryRoundTripCheck;
+import frc.bench.trajectory.MappedTrajectorySampleCycle;
+import frc.bench.trajectory.TrajectoryCacheRoundTripCheck;
+import frc.bench.vision.OffloadedVisionCycle;
+import frc.bench.vision.VisionOffloadLatencyCheck;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/** Runs every {@link Check} and writes a report. Exits nonzero if any check fails. */
+public final class Checks {
+  private Checks() {}
+
+  /** Every check in the scratchpad. Add new ones here. */
+  static List<Check> all() {
+    return List.of(
+        new AllocationCheck("differential kinematics and odometry", DifferentialDriveCycle::new),
+        new AllocationCheck("loop timing instrumentation", TimedSectionCycle::new),
+        new HistogramAccuracyCheck(),
+        new AllocationCheck("async telemetry logging", TelemetryLogCycle::new),
+        new TelemetryRoundTripCheck(),
+        new AllocationCheck("offloaded vision poll", OffloadedVisionCycle::new),
+        new VisionOffloadLatencyCheck(),
+        new AllocationCheck("mapped trajectory sampling", MappedTrajectorySampleCycle::new),
+        new TrajectoryCacheRoundTripCheck(),
+        new AllocationCheck("high-rate odometry drain", OdometryDrainCycle::new),
+        new OdometryRateCheck(),
+        new VisionLatencyCheck(),
+        new AllocationCheck("bitset command scheduler", BitsetSchedulerCycle::new),
+        new SchedulerEquivalenceCheck(),
+        new AllocationCheck("shot table lookups", ShotLookupCycle::new),
+        new ShotMapAccuracyCheck(),
+        new AllocationCheck("replay recording", ReplayRecordCycle::new),
+        new ReplayRegressionCheck(),
+        new AllocationCheck("batched dashboard flush", DashboardFlushCycle::new),
+        new DashboardBandwidthCheck(),
+        new ParallelPathSearchCheck());
+  }
+
+  /**
+   * Entry point.
+   *
+   * @param args The path to write the report to.
+   */
+  public static void main(String... args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("usage: Checks <report file>");
+      System.exit(2);
+    }
+
+    int failures = 0;
+    try (PrintWriter report =
+        new PrintWriter(Files.newBufferedWriter(Path.of(args[0]), StandardCharsets.UTF_8))) {
+      for (Check check : all()) {
+        CheckResult result = check.run();
+        String line =
+            String.format(
+                "%s  %s: %s", result.passed() ? "PASS" : "FAIL", check.name(), result.summary());
+        System.out.println(line);
+        report.println(line);
+        if (!result.passed()) {
+          failures++;
+        }
+      }
+    }
+
+    if (failures > 0) {
+      System.err.println(failures + " check(s) failed");
+      System.exit(1);
+    }
+  }
+}
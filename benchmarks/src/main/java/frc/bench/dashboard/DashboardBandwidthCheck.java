@@ -0,0 +1,130 @@
+package frc.bench.dashboard;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.dashboard.DashboardBuffer;
+import frc.lib.dashboard.DashboardSink;
+
+/**
+ * Runs a minute of telemetry both ways and compares what reaches the dashboard.
+ *
+ * <p>The batched dashboard must send at most one frame per loop and far fewer bytes than putting
+ * every value by name, and after every flush each number it shows must be within its deadband of
+ * the latest value, with booleans and strings exact.
+ */
+public final class DashboardBandwidthCheck implements Check {
+  private static final int kLoops = 3000;
+  private static final double kMaxBytesRatio = 0.5;
+
+  @Override
+  public String name() {
+    return "batched dashboard sends less and stays within its deadbands";
+  }
+
+  @Override
+  public CheckResult run() {
+    DashboardLoad named = new DashboardLoad();
+    Nt4WireSink namedWire = new Nt4WireSink();
+    NamedDashboard namedDashboard = new NamedDashboard(namedWire);
+    String[] names = DashboardLoad.names();
+
+    DashboardLoad batched = new DashboardLoad();
+    Nt4WireSink batchedWire = new Nt4WireSink();
+    ViewSink view = new ViewSink(batchedWire, names.length);
+    DashboardBuffer dashboard = new DashboardBuffer(view);
+    DashboardLoad.register(dashboard, true);
+
+    for (int loop = 0; loop < kLoops; loop++) {
+      named.update();
+      named.publish(namedDashboard, names);
+      batched.update();
+      batched.publish(dashboard);
+
+      for (int i = 0; i < DashboardLoad.kMechanisms; i++) {
+        int base = i * DashboardLoad.kValuesPerMechanism;
+        String error =
+            view.within(base, batched.position[i], DashboardLoad.kPositionDeadband)
+                + view.within(base + 1, batched.velocity[i], DashboardLoad.kVelocityDeadband)
+                + view.within(base + 2, batched.current[i], DashboardLoad.kCurrentDeadband)
+                + view.within(
+                    base + 3, batched.temperature[i], DashboardLoad.kTemperatureDeadband)
+                + view.within(base + 4, batched.setpoint[i], 0)
+                + view.within(base + 5, batched.atSetpoint[i] ? 1 : 0, 0)
+                + (batched.state[i].equals(view.m_strings[base + 6]) ? "" : names[base + 6]);
+        if (!error.isEmpty()) {
+          return CheckResult.fail("loop %d: dashboard shows a stale %s", loop, error);
+        }
+      }
+    }
+
+    if (batchedWire.getFrames() > kLoops) {
+      return CheckResult.fail("%d frames in %d loops", batchedWire.getFrames(), kLoops);
+    }
+    double ratio = (double) batchedWire.getBytes() / namedWire.getBytes();
+    if (ratio > kMaxBytesRatio) {
+      return CheckResult.fail(
+          "batched sent %.0f%% of the bytes of putting by name", ratio * 100);
+    }
+    return CheckResult.pass(
+        "%d values per loop: by name %.0f values / %.0f B per loop, batched %.0f values / %.0f B"
+            + " (%.0f%%) in %d frames over %d loops",
+        names.length,
+        (double) namedWire.getValues() / kLoops,
+        (double) namedWire.getBytes() / kLoops,
+        (double) batchedWire.getValues() / kLoops,
+        (double) batchedWire.getBytes() / kLoops,
+        ratio * 100,
+        batchedWire.getFrames(),
+        kLoops);
+  }
+
+  /** Passes everything on and remembers the last value of each entry, as a dashboard would. */
+  private static final class ViewSink implements DashboardSink {
+    private final DashboardSink m_wire;
+    private final String[] m_names;
+    private final double[] m_values;
+    private final String[] m_strings;
+
+    ViewSink(DashboardSink wire, int entries) {
+      m_wire = wire;
+      m_names = new String[entries];
+      m_values = new double[entries];
+      m_strings = new String[entries];
+    }
+
+    @Override
+    public void addEntry(int handle, String name, byte type) {
+      m_names[handle] = name;
+      m_values[handle] = Double.NaN;
+      m_wire.addEntry(handle, name, type);
+    }
+
+    @Override
+    public void publishDouble(int handle, double value) {
+      m_values[handle] = value;
+      m_wire.publishDouble(handle, value);
+    }
+
+    @Override
+    public void publishBoolean(int handle, boolean value) {
+      m_values[handle] = value ? 1 : 0;
+      m_wire.publishBoolean(handle, value);
+    }
+
+    @Override
+    public void publishString(int handle, String value) {
+      m_strings[handle] = value;
+      m_wire.publishString(handle, value);
+    }
+
+    @Override
+    public void flush() {
+      m_wire.flush();
+    }
+
+    /** Returns the entry's name if the dashboard is further than the deadband from the value. */
+    String within(int handle, double value, double deadband) {
+      return Math.abs(m_values[handle] - value) <= deadband ? "" : m_names[handle] + " ";
+    }
+  }
+}
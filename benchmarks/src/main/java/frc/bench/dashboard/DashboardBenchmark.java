@@ -0,0 +1,45 @@
+package frc.bench.dashboard;
+
+import frc.lib.dashboard.DashboardBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One loop of dashboard telemetry, 420 values: put by name and published on every change, or set
+ * by handle and flushed once past the deadbands.
+ *
+ * <p>{@code update} is the cost of generating the values, common to both. Neither side pays the
+ * JNI call per published value a robot does, so on a robot the gap is wider; {@code
+ * examples/dashboard-batching} measures that against a real NetworkTables server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DashboardBenchmark {
+  private final DashboardLoad m_load = new DashboardLoad();
+  private final String[] m_names = DashboardLoad.names();
+  private final NamedDashboard m_named = new NamedDashboard(new Nt4WireSink());
+  private final DashboardFlushCycle m_batched = new DashboardFlushCycle();
+
+  @Benchmark
+  public void update() {
+    m_load.update();
+  }
+
+  @Benchmark
+  public void putByName() {
+    m_load.update();
+    m_load.publish(m_named, m_names);
+  }
+
+  @Benchmark
+  public void batched() {
+    m_batched.run();
+  }
+}
@@ -0,0 +1,20 @@
+package frc.bench.dashboard;
+
+import frc.lib.dashboard.DashboardBuffer;
+
+/** One loop of batched dashboard telemetry: every value set, then the end-of-loop flush. */
+public final class DashboardFlushCycle implements Runnable {
+  private final DashboardLoad m_load = new DashboardLoad();
+  private final DashboardBuffer m_dashboard = new DashboardBuffer(new Nt4WireSink());
+
+  /** Registers every entry with its deadband. */
+  public DashboardFlushCycle() {
+    DashboardLoad.register(m_dashboard, true);
+  }
+
+  @Override
+  public void run() {
+    m_load.update();
+    m_load.publish(m_dashboard);
+  }
+}
@@ -0,0 +1,142 @@
+package frc.bench.dashboard;
+
+import frc.lib.dashboard.DashboardBuffer;
+import java.util.Random;
+
+/**
+ * The telemetry of {@code examples/dashboard-batching}, headless: sixty mechanisms, each with
+ * five numbers, a boolean and a string, moving and jittering the way real sensor readings do.
+ *
+ * <p>Setpoints and states change a few times a minute, temperatures creep, and everything else
+ * carries a little sensor noise every loop.
+ */
+final class DashboardLoad {
+  static final int kMechanisms = 60;
+  static final int kValuesPerMechanism = 7;
+  static final double kDt = 0.02;
+
+  // Deadbands for the batched dashboard, in the order the values are listed below. Booleans and
+  // strings are published whenever they change.
+  static final double kPositionDeadband = 0.005;
+  static final double kVelocityDeadband = 0.05;
+  static final double kCurrentDeadband = 0.5;
+  static final double kTemperatureDeadband = 0.5;
+
+  private static final double kSetpointPeriodSeconds = 5;
+  private static final double kTimeConstantSeconds = 0.4;
+
+  final double[] position = new double[kMechanisms];
+  final double[] velocity = new double[kMechanisms];
+  final double[] current = new double[kMechanisms];
+  final double[] temperature = new double[kMechanisms];
+  final double[] setpoint = new double[kMechanisms];
+  final boolean[] atSetpoint = new boolean[kMechanisms];
+  final String[] state = new String[kMechanisms];
+
+  // Drawing 300 Gaussians costs more than publishing them, so the noise is drawn up front.
+  private static final double[] kNoise = noise(4099);
+
+  private final double[] m_truePosition = new double[kMechanisms];
+  private int m_noiseIndex;
+  private double m_time;
+
+  /** Advances every mechanism by one loop. */
+  void update() {
+    m_time += kDt;
+    for (int i = 0; i < kMechanisms; i++) {
+      long step = (long) ((m_time + i * 0.37) / kSetpointPeriodSeconds);
+      setpoint[i] = step % 2 == 0 ? 0.25 : 1.0;
+
+      double trueVelocity = (setpoint[i] - m_truePosition[i]) / kTimeConstantSeconds;
+      m_truePosition[i] += trueVelocity * kDt;
+
+      position[i] = m_truePosition[i] + 0.001 * noise();
+      velocity[i] = trueVelocity + 0.02 * noise();
+      current[i] = 1.5 + 12 * Math.abs(trueVelocity) + 0.3 * noise();
+      temperature[i] = 25 + 0.05 * m_time + 0.05 * noise();
+      atSetpoint[i] = Math.abs(setpoint[i] - position[i]) < 0.02;
+      state[i] = atSetpoint[i] ? "HOLD" : "MOVE";
+    }
+  }
+
+  private double noise() {
+    double noise = kNoise[m_noiseIndex];
+    m_noiseIndex = m_noiseIndex + 1 == kNoise.length ? 0 : m_noiseIndex + 1;
+    return noise;
+  }
+
+  private static double[] noise(int count) {
+    Random random = new Random(2024);
+    double[] noise = new double[count];
+    for (int i = 0; i < count; i++) {
+      noise[i] = random.nextGaussian();
+    }
+    return noise;
+  }
+
+  /**
+   * Every entry's name, in registration order: all of mechanism 0's values, then 1's, and so on.
+   */
+  static String[] names() {
+    String[] names = new String[kMechanisms * kValuesPerMechanism];
+    String[] values = {
+      "position", "velocity", "currentAmps", "temperatureC", "setpoint", "atSetpoint", "state"
+    };
+    for (int i = 0; i < kMechanisms; i++) {
+      for (int v = 0; v < kValuesPerMechanism; v++) {
+        names[i * kValuesPerMechanism + v] = "Mechanism" + i + "/" + values[v];
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Adds every entry to a buffer, handles in the same order as {@link #names}.
+   *
+   * @param dashboard The buffer.
+   * @param deadbands Whether numbers get their deadbands, or are published on every change.
+   */
+  static void register(DashboardBuffer dashboard, boolean deadbands) {
+    String[] names = names();
+    for (int i = 0; i < kMechanisms; i++) {
+      int base = i * kValuesPerMechanism;
+      dashboard.addDouble(names[base], deadbands ? kPositionDeadband : 0);
+      dashboard.addDouble(names[base + 1], deadbands ? kVelocityDeadband : 0);
+      dashboard.addDouble(names[base + 2], deadbands ? kCurrentDeadband : 0);
+      dashboard.addDouble(names[base + 3], deadbands ? kTemperatureDeadband : 0);
+      dashboard.addDouble(names[base + 4], 0);
+      dashboard.addBoolean(names[base + 5]);
+      dashboard.addString(names[base + 6]);
+    }
+  }
+
+  /** Sets every entry of a buffer registered with {@link #register}, then flushes it. */
+  void publish(DashboardBuffer dashboard) {
+    for (int i = 0; i < kMechanisms; i++) {
+      int base = i * kValuesPerMechanism;
+      dashboard.setDouble(base, position[i]);
+      dashboard.setDouble(base + 1, velocity[i]);
+      dashboard.setDouble(base + 2, current[i]);
+      dashboard.setDouble(base + 3, temperature[i]);
+      dashboard.setDouble(base + 4, setpoint[i]);
+      dashboard.setBoolean(base + 5, atSetpoint[i]);
+      dashboard.setString(base + 6, state[i]);
+    }
+    dashboard.flush();
+  }
+
+  /** Puts every value by name, the way {@code SmartDashboard.put} calls do, then ends the loop. */
+  void publish(NamedDashboard dashboard, String[] names) {
+    for (int i = 0; i < kMechanisms; i++) {
+      int base = i * kValuesPerMechanism;
+      dashboard.putNumber(names[base], position[i]);
+      dashboard.putNumber(names[base + 1], velocity[i]);
+      dashboard.putNumber(names[base + 2], current[i]);
+      dashboard.putNumber(names[base + 3], temperature[i]);
+      dashboard.putNumber(names[base + 4], setpoint[i]);
+      dashboard.putBoolean(names[base + 5], atSetpoint[i]);
+      dashboard.putString(names[base + 6], state[i]);
+    }
+    dashboard.endLoop();
+  }
+}
@@ -0,0 +1,83 @@
+package frc.bench.dashboard;
+
+import frc.lib.dashboard.DashboardSink;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What {@code SmartDashboard.put} does per call, minus the JNI: look the entry up by name in a
+ * concurrent map, creating it the first time, and publish the value unless it is an exact repeat
+ * (NetworkTables drops those before they reach the wire).
+ *
+ * <p>Publishing goes to a {@link DashboardSink} so the bytes can be compared with a {@link
+ * frc.lib.dashboard.DashboardBuffer} on the same sink. NetworkTables sends on its own schedule;
+ * here the sink is flushed at the end of each loop.
+ */
+final class NamedDashboard {
+  private final DashboardSink m_sink;
+  private final Map<String, Entry> m_entries = new ConcurrentHashMap<>();
+  private boolean m_published;
+
+  NamedDashboard(DashboardSink sink) {
+    m_sink = sink;
+  }
+
+  void putNumber(String name, double value) {
+    Entry entry = entry(name, DashboardSink.kDouble);
+    if (!entry.set || Double.compare(entry.value, value) != 0) {
+      entry.set = true;
+      entry.value = value;
+      m_sink.publishDouble(entry.handle, value);
+      m_published = true;
+    }
+  }
+
+  void putBoolean(String name, boolean value) {
+    Entry entry = entry(name, DashboardSink.kBoolean);
+    double encoded = value ? 1 : 0;
+    if (!entry.set || entry.value != encoded) {
+      entry.set = true;
+      entry.value = encoded;
+      m_sink.publishBoolean(entry.handle, value);
+      m_published = true;
+    }
+  }
+
+  void putString(String name, String value) {
+    Entry entry = entry(name, DashboardSink.kString);
+    if (!entry.set || !value.equals(entry.string)) {
+      entry.set = true;
+      entry.string = value;
+      m_sink.publishString(entry.handle, value);
+      m_published = true;
+    }
+  }
+
+  void endLoop() {
+    if (m_published) {
+      m_sink.flush();
+      m_published = false;
+    }
+  }
+
+  private Entry entry(String name, byte type) {
+    Entry entry = m_entries.get(name);
+    if (entry == null) {
+      entry = new Entry(m_entries.size());
+      m_entries.put(name, entry);
+      m_sink.addEntry(entry.handle, name, type);
+    }
+    return entry;
+  }
+
+  private static final class Entry {
+    final int handle;
+    boolean set;
+    double value;
+    String string;
+
+    Entry(int handle) {
+      this.handle = handle;
+    }
+  }
+}
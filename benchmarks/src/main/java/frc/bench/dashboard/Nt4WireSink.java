@@ -0,0 +1,77 @@
+package frc.bench.dashboard;
+
+import frc.lib.dashboard.DashboardSink;
+
+/**
+ * Counts the bytes a NetworkTables 4 server would send a dashboard for what is published to it.
+ *
+ * <p>Each value is a MessagePack array of topic id, microsecond timestamp, type and value; each
+ * flush is one WebSocket frame. The count is WebSocket payload plus frame headers, without TCP/IP
+ * headers or topic announcements, which are sent once per topic rather than per loop.
+ */
+final class Nt4WireSink implements DashboardSink {
+  // Microseconds since the server started fit in a uint32 for the first 71 minutes.
+  private static final int kTimestampBytes = 5;
+
+  private long m_bytes;
+  private long m_values;
+  private long m_frames;
+  private long m_frameBytes;
+
+  @Override
+  public void addEntry(int handle, String name, byte type) {}
+
+  @Override
+  public void publishDouble(int handle, double value) {
+    value(handle, 9);
+  }
+
+  @Override
+  public void publishBoolean(int handle, boolean value) {
+    value(handle, 1);
+  }
+
+  @Override
+  public void publishString(int handle, String value) {
+    int length = utf8Length(value);
+    value(handle, (length < 32 ? 1 : length < 256 ? 2 : 3) + length);
+  }
+
+  @Override
+  public void flush() {
+    if (m_frameBytes == 0) {
+      return;
+    }
+    m_bytes += m_frameBytes + (m_frameBytes < 126 ? 2 : m_frameBytes < 65536 ? 4 : 10);
+    m_frames++;
+    m_frameBytes = 0;
+  }
+
+  long getBytes() {
+    return m_bytes;
+  }
+
+  long getValues() {
+    return m_values;
+  }
+
+  long getFrames() {
+    return m_frames;
+  }
+
+  private void value(int topicId, int valueBytes) {
+    int idBytes = topicId < 128 ? 1 : topicId < 256 ? 2 : 3;
+    // fixarray header, id, timestamp, type (a fixint), value.
+    m_frameBytes += 1 + idBytes + kTimestampBytes + 1 + valueBytes;
+    m_values++;
+  }
+
+  private static int utf8Length(String value) {
+    int length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      length += c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? 2 : 3;
+    }
+    return length;
+  }
+}
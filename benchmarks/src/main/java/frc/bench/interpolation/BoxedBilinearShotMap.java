@@ -0,0 +1,34 @@
+package frc.bench.interpolation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The boxed way to look up a shot by distance and radial velocity: a tree map of distance to
+ * {@link BoxedShotMap}s over velocity, interpolating between the two rows either side.
+ */
+final class BoxedBilinearShotMap {
+  private final TreeMap<Double, BoxedShotMap> m_rows = new TreeMap<>();
+
+  void put(Double distance, Double velocity, Double value) {
+    m_rows.computeIfAbsent(distance, k -> new BoxedShotMap()).put(velocity, value);
+  }
+
+  Double get(Double distance, Double velocity) {
+    Map.Entry<Double, BoxedShotMap> ceiling = m_rows.ceilingEntry(distance);
+    Map.Entry<Double, BoxedShotMap> floor = m_rows.floorEntry(distance);
+    if (ceiling == null && floor == null) {
+      return null;
+    }
+    if (ceiling == null) {
+      return floor.getValue().get(velocity);
+    }
+    if (floor == null || floor.getKey().equals(ceiling.getKey())) {
+      return ceiling.getValue().get(velocity);
+    }
+    Double low = floor.getValue().get(velocity);
+    Double high = ceiling.getValue().get(velocity);
+    double t = (distance - floor.getKey()) / (ceiling.getKey() - floor.getKey());
+    return low + (high - low) * t;
+  }
+}
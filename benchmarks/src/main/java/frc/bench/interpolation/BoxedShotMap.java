@@ -0,0 +1,37 @@
+package frc.bench.interpolation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The boxed shot map being replaced: a {@code TreeMap<Double, Double>} interpolated the way
+ * WPILib's {@code InterpolatingDoubleTreeMap} does it, so the benchmarks run headless.
+ */
+final class BoxedShotMap {
+  private final TreeMap<Double, Double> m_map = new TreeMap<>();
+
+  void put(Double key, Double value) {
+    m_map.put(key, value);
+  }
+
+  Double get(Double key) {
+    Double value = m_map.get(key);
+    if (value != null) {
+      return value;
+    }
+
+    Map.Entry<Double, Double> ceiling = m_map.ceilingEntry(key);
+    Map.Entry<Double, Double> floor = m_map.floorEntry(key);
+    if (ceiling == null && floor == null) {
+      return null;
+    }
+    if (ceiling == null) {
+      return floor.getValue();
+    }
+    if (floor == null) {
+      return ceiling.getValue();
+    }
+    double t = (key - floor.getKey()) / (ceiling.getKey() - floor.getKey());
+    return floor.getValue() + (ceiling.getValue() - floor.getValue()) * t;
+  }
+}
@@ -0,0 +1,190 @@
+package frc.bench.interpolation;
+
+import frc.lib.interpolation.BilinearDoubleTable;
+import frc.lib.interpolation.InterpolatingDoubleTable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * The recorded shooter setpoints the shot-map benchmarks and checks run on.
+ *
+ * <p>Stationary shots give the one-dimensional shot maps from distance. Moving shots, plus the
+ * stationary shots that fall on their grid, give the two-dimensional maps from distance and
+ * radial velocity.
+ */
+final class ShotData {
+  static final int kRpm = 2;
+  static final int kHood = 3;
+
+  private static final String kResource = "recorded-shots.csv";
+
+  private final List<double[]> m_stationary = new ArrayList<>();
+  private final double[] m_gridDistances;
+  private final double[] m_gridVelocities;
+  private final double[][] m_gridRpm;
+  private final double[][] m_gridHood;
+
+  private ShotData(List<double[]> shots) {
+    TreeSet<Double> distances = new TreeSet<>();
+    TreeSet<Double> velocities = new TreeSet<>();
+    for (double[] shot : shots) {
+      if (shot[1] == 0) {
+        m_stationary.add(shot);
+      } else {
+        distances.add(shot[0]);
+        velocities.add(shot[1]);
+      }
+    }
+    velocities.add(0.0);
+
+    m_gridDistances = toArray(distances);
+    m_gridVelocities = toArray(velocities);
+    m_gridRpm = new double[m_gridDistances.length][m_gridVelocities.length];
+    m_gridHood = new double[m_gridDistances.length][m_gridVelocities.length];
+    boolean[][] seen = new boolean[m_gridDistances.length][m_gridVelocities.length];
+    for (double[] shot : shots) {
+      int i = indexOf(m_gridDistances, shot[0]);
+      int j = indexOf(m_gridVelocities, shot[1]);
+      if (i >= 0 && j >= 0) {
+        m_gridRpm[i][j] = shot[2];
+        m_gridHood[i][j] = shot[3];
+        seen[i][j] = true;
+      }
+    }
+    for (int i = 0; i < seen.length; i++) {
+      for (int j = 0; j < seen[i].length; j++) {
+        if (!seen[i][j]) {
+          throw new IllegalStateException(
+              "No recorded shot at " + m_gridDistances[i] + " m, " + m_gridVelocities[j] + " m/s");
+        }
+      }
+    }
+  }
+
+  /** Loads the recording bundled with the benchmarks. */
+  static ShotData recorded() {
+    try (InputStream in = ShotData.class.getResourceAsStream(kResource)) {
+      if (in == null) {
+        throw new IllegalStateException("Missing resource " + kResource);
+      }
+      List<double[]> shots = new ArrayList<>();
+      BufferedReader reader =
+          new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        String[] fields = line.split(",");
+        double[] shot = new double[4];
+        for (int i = 0; i < shot.length; i++) {
+          shot[i] = Double.parseDouble(fields[i]);
+        }
+        shots.add(shot);
+      }
+      return new ShotData(shots);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Stationary shots as {distance, 0, rpm, hood}, in recording order. */
+  List<double[]> stationary() {
+    return m_stationary;
+  }
+
+  double[] stationaryColumn(int column) {
+    double[] values = new double[m_stationary.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = m_stationary.get(i)[column];
+    }
+    return values;
+  }
+
+  double[] gridDistances() {
+    return m_gridDistances;
+  }
+
+  double[] gridVelocities() {
+    return m_gridVelocities;
+  }
+
+  /** A primitive table from distance to one column of the stationary shots. */
+  InterpolatingDoubleTable table(int column) {
+    return new InterpolatingDoubleTable(stationaryColumn(0), stationaryColumn(column));
+  }
+
+  /** A boxed map from distance to one column of the stationary shots. */
+  BoxedShotMap boxedMap(int column) {
+    BoxedShotMap map = new BoxedShotMap();
+    for (double[] shot : m_stationary) {
+      map.put(shot[0], shot[column]);
+    }
+    return map;
+  }
+
+  /** A primitive table from distance and radial velocity to one column of the grid. */
+  BilinearDoubleTable grid(int column) {
+    return new BilinearDoubleTable(m_gridDistances, m_gridVelocities, gridColumn(column));
+  }
+
+  /** A boxed map from distance and radial velocity to one column of the grid. */
+  BoxedBilinearShotMap boxedGrid(int column) {
+    double[][] values = gridColumn(column);
+    BoxedBilinearShotMap map = new BoxedBilinearShotMap();
+    for (int i = 0; i < m_gridDistances.length; i++) {
+      for (int j = 0; j < m_gridVelocities.length; j++) {
+        map.put(m_gridDistances[i], m_gridVelocities[j], values[i][j]);
+      }
+    }
+    return map;
+  }
+
+  private double[][] gridColumn(int column) {
+    return column == kRpm ? m_gridRpm : m_gridHood;
+  }
+
+  /**
+   * Makes pseudo-random queries that cover the recorded range and a margin either side of it, as
+   * {distance, radial velocity} pairs.
+   */
+  double[][] queries(int count, long seed) {
+    Random random = new Random(seed);
+    double minDistance = m_gridDistances[0] - 1;
+    double maxDistance = m_gridDistances[m_gridDistances.length - 1] + 1;
+    double minVelocity = m_gridVelocities[0] - 0.5;
+    double maxVelocity = m_gridVelocities[m_gridVelocities.length - 1] + 0.5;
+    double[][] queries = new double[count][2];
+    for (double[] query : queries) {
+      query[0] = minDistance + random.nextDouble() * (maxDistance - minDistance);
+      query[1] = minVelocity + random.nextDouble() * (maxVelocity - minVelocity);
+    }
+    return queries;
+  }
+
+  private static double[] toArray(TreeSet<Double> values) {
+    double[] array = new double[values.size()];
+    int i = 0;
+    for (double value : values) {
+      array[i++] = value;
+    }
+    return array;
+  }
+
+  private static int indexOf(double[] keys, double key) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,39 @@
+package frc.bench.interpolation;
+
+import frc.lib.interpolation.BilinearDoubleTable;
+import frc.lib.interpolation.InterpolatingDoubleTable;
+
+/**
+ * A shooter's setpoint lookups for one loop: flywheel speed and hood angle from distance, and
+ * both again corrected for radial velocity.
+ */
+public final class ShotLookupCycle implements Runnable {
+  private final InterpolatingDoubleTable m_rpm;
+  private final InterpolatingDoubleTable m_hood;
+  private final BilinearDoubleTable m_gridRpm;
+  private final BilinearDoubleTable m_gridHood;
+  private final double[][] m_queries;
+  private int m_next;
+  private double m_sink;
+
+  /** Builds the tables from the recorded shot data. */
+  public ShotLookupCycle() {
+    ShotData data = ShotData.recorded();
+    m_rpm = data.table(ShotData.kRpm);
+    m_hood = data.table(ShotData.kHood);
+    m_gridRpm = data.grid(ShotData.kRpm);
+    m_gridHood = data.grid(ShotData.kHood);
+    m_queries = data.queries(256, 3);
+  }
+
+  @Override
+  public void run() {
+    double[] query = m_queries[m_next];
+    m_next = (m_next + 1) % m_queries.length;
+    m_sink +=
+        m_rpm.get(query[0])
+            + m_hood.get(query[0])
+            + m_gridRpm.get(query[0], query[1])
+            + m_gridHood.get(query[0], query[1]);
+  }
+}
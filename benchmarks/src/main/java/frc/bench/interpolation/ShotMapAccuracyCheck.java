@@ -0,0 +1,83 @@
+package frc.bench.interpolation;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.interpolation.BilinearDoubleTable;
+import frc.lib.interpolation.InterpolatingDoubleTable;
+
+/**
+ * Checks the primitive shot tables against the boxed shot maps on the recorded shot data.
+ *
+ * <p>Every recorded shot must come back exactly. Between and beyond the recorded shots, the
+ * one-dimensional tables must match the boxed maps bit for bit, and the bilinear tables to within
+ * rounding.
+ */
+public final class ShotMapAccuracyCheck implements Check {
+  private static final int kQueries = 100_000;
+  private static final double kBilinearTolerance = 1e-9;
+
+  @Override
+  public String name() {
+    return "primitive shot tables match boxed shot maps";
+  }
+
+  @Override
+  public CheckResult run() {
+    ShotData data = ShotData.recorded();
+    double[][] queries = data.queries(kQueries, 42);
+    double worstBilinear = 0;
+
+    for (int column : new int[] {ShotData.kRpm, ShotData.kHood}) {
+      String what = column == ShotData.kRpm ? "flywheel rpm" : "hood angle";
+      InterpolatingDoubleTable table = data.table(column);
+      BoxedShotMap boxed = data.boxedMap(column);
+      for (double[] shot : data.stationary()) {
+        if (Double.compare(table.get(shot[0]), shot[column]) != 0) {
+          return CheckResult.fail(
+              "%s at recorded %.2f m: %s, expected %s",
+              what, shot[0], table.get(shot[0]), shot[column]);
+        }
+      }
+      for (double[] query : queries) {
+        if (Double.compare(table.get(query[0]), boxed.get(query[0])) != 0) {
+          return CheckResult.fail(
+              "%s at %s m: %s, boxed map gives %s",
+              what, query[0], table.get(query[0]), boxed.get(query[0]));
+        }
+      }
+
+      BilinearDoubleTable grid = data.grid(column);
+      BoxedBilinearShotMap boxedGrid = data.boxedGrid(column);
+      double[] distances = data.gridDistances();
+      double[] velocities = data.gridVelocities();
+      for (double distance : distances) {
+        for (double velocity : velocities) {
+          double expected = boxedGrid.get(distance, velocity);
+          if (Double.compare(grid.get(distance, velocity), expected) != 0) {
+            return CheckResult.fail(
+                "%s at recorded %.2f m, %.1f m/s: %s, expected %s",
+                what, distance, velocity, grid.get(distance, velocity), expected);
+          }
+        }
+      }
+      for (double[] query : queries) {
+        double actual = grid.get(query[0], query[1]);
+        double expected = boxedGrid.get(query[0], query[1]);
+        double error = Math.abs(actual - expected) / Math.max(1, Math.abs(expected));
+        if (!(error <= kBilinearTolerance)) {
+          return CheckResult.fail(
+              "%s at %s m, %s m/s: %s, boxed map gives %s",
+              what, query[0], query[1], actual, expected);
+        }
+        worstBilinear = Math.max(worstBilinear, error);
+      }
+    }
+
+    return CheckResult.pass(
+        "%d stationary and %d grid shots exact, %d queries per table, worst bilinear error %.1e",
+        data.stationary().size(),
+        data.gridDistances().length * data.gridVelocities().length,
+        kQueries,
+        worstBilinear);
+  }
+}
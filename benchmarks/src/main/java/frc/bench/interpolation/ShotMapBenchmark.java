@@ -0,0 +1,93 @@
+package frc.bench.interpolation;
+
+import frc.lib.interpolation.BilinearDoubleTable;
+import frc.lib.interpolation.InterpolatingDoubleTable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-loop cost of looking up shooter setpoints from the recorded shot data: flywheel speed and
+ * hood angle, one table per mechanism, at a distance (and radial velocity) that changes every
+ * loop.
+ *
+ * <p>{@code boxed*} use {@code TreeMap<Double, Double>} shot maps interpolated like WPILib's
+ * {@code InterpolatingDoubleTreeMap}; {@code primitive*} use {@code frc.lib.interpolation}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ShotMapBenchmark {
+  private static final int kQueries = 1024;
+
+  private BoxedShotMap m_boxedRpm;
+  private BoxedShotMap m_boxedHood;
+  private BoxedBilinearShotMap m_boxedGridRpm;
+  private BoxedBilinearShotMap m_boxedGridHood;
+  private InterpolatingDoubleTable m_rpm;
+  private InterpolatingDoubleTable m_hood;
+  private BilinearDoubleTable m_gridRpm;
+  private BilinearDoubleTable m_gridHood;
+
+  private double[] m_distances;
+  private double[] m_velocities;
+  private int m_next;
+
+  @Setup
+  public void setup() {
+    ShotData data = ShotData.recorded();
+    m_boxedRpm = data.boxedMap(ShotData.kRpm);
+    m_boxedHood = data.boxedMap(ShotData.kHood);
+    m_boxedGridRpm = data.boxedGrid(ShotData.kRpm);
+    m_boxedGridHood = data.boxedGrid(ShotData.kHood);
+    m_rpm = data.table(ShotData.kRpm);
+    m_hood = data.table(ShotData.kHood);
+    m_gridRpm = data.grid(ShotData.kRpm);
+    m_gridHood = data.grid(ShotData.kHood);
+
+    double[][] queries = data.queries(kQueries, 9);
+    m_distances = new double[kQueries];
+    m_velocities = new double[kQueries];
+    for (int i = 0; i < kQueries; i++) {
+      m_distances[i] = queries[i][0];
+      m_velocities[i] = queries[i][1];
+    }
+  }
+
+  @Benchmark
+  public double boxed() {
+    int i = next();
+    return m_boxedRpm.get(m_distances[i]) + m_boxedHood.get(m_distances[i]);
+  }
+
+  @Benchmark
+  public double primitive() {
+    int i = next();
+    return m_rpm.get(m_distances[i]) + m_hood.get(m_distances[i]);
+  }
+
+  @Benchmark
+  public double boxedBilinear() {
+    int i = next();
+    return m_boxedGridRpm.get(m_distances[i], m_velocities[i])
+        + m_boxedGridHood.get(m_distances[i], m_velocities[i]);
+  }
+
+  @Benchmark
+  public double primitiveBilinear() {
+    int i = next();
+    return m_gridRpm.get(m_distances[i], m_velocities[i])
+        + m_gridHood.get(m_distances[i], m_velocities[i]);
+  }
+
+  private int next() {
+    m_next = (m_next + 1) & (kQueries - 1);
+    return m_next;
+  }
+}
@@ -0,0 +1,28 @@
+package frc.bench.kinematics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-cycle cost of the kinematics and odometry in the zero-alloc-drive loop; see {@link
+ * DifferentialDriveCycle} for what is left out. Read the {@code gc.alloc.rate.norm} row: it should
+ * be zero.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DifferentialDriveBenchmark {
+  private final DifferentialDriveCycle m_cycle = new DifferentialDriveCycle();
+
+  @Benchmark
+  public double[] driveCycle() {
+    m_cycle.run();
+    return m_cycle.getPoseArray();
+  }
+}
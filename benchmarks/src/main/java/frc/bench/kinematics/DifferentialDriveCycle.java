@@ -0,0 +1,73 @@
+package frc.bench.kinematics;
+
+import frc.lib.kinematics.DifferentialKinematics;
+import frc.lib.kinematics.MutableChassisSpeeds;
+import frc.lib.kinematics.MutableDifferentialOdometry;
+import frc.lib.kinematics.MutableDifferentialWheelSpeeds;
+
+/**
+ * One 20 ms cycle of the {@code frc.lib.kinematics} calls the zero-alloc-drive example makes, with
+ * synthetic stick and sensor signals.
+ *
+ * <p>Arcade inputs go through kinematics and desaturation, as in {@code Drivetrain.drive()}, an
+ * ideal drivetrain integrates the wheel speeds, and odometry folds the result back into the pose,
+ * as in {@code Drivetrain.updateOdometry()}. The example's WPILib code (motor controllers, PID
+ * and feedforward, encoders, gyro, NetworkTables) needs the simulator and is not part of the
+ * cycle, so this covers the kinematics classes only, not the example's whole loop.
+ */
+public final class DifferentialDriveCycle implements Runnable {
+  private static final double kDt = 0.02;
+  private static final double kMaxSpeed = 3.0;
+  private static final double kMaxAngularSpeed = 2 * Math.PI;
+  private static final double kTrackWidth = 0.381 * 2;
+  private static final int kInputSamples = 1024;
+
+  private final DifferentialKinematics m_kinematics = new DifferentialKinematics(kTrackWidth);
+  private final MutableChassisSpeeds m_chassisSpeeds = new MutableChassisSpeeds();
+  private final MutableDifferentialWheelSpeeds m_wheelSpeeds = new MutableDifferentialWheelSpeeds();
+  private final MutableDifferentialOdometry m_odometry = new MutableDifferentialOdometry(0, 0, 0);
+  private final double[] m_poseArray = new double[3];
+
+  // Precomputed stick positions, so the cycle sees varying input without calling into a RNG.
+  private final double[] m_throttle = new double[kInputSamples];
+  private final double[] m_turn = new double[kInputSamples];
+
+  private int m_index;
+  private double m_leftDistance;
+  private double m_rightDistance;
+  private double m_heading;
+
+  /** Creates a cycle with a fixed, repeating stick pattern. */
+  public DifferentialDriveCycle() {
+    for (int i = 0; i < kInputSamples; i++) {
+      double phase = 2 * Math.PI * i / kInputSamples;
+      m_throttle[i] = Math.sin(phase);
+      m_turn[i] = 0.5 * Math.cos(3 * phase);
+    }
+  }
+
+  @Override
+  public void run() {
+    int i = m_index++ & (kInputSamples - 1);
+
+    // Drivetrain.drive()
+    m_chassisSpeeds.set(m_throttle[i] * kMaxSpeed, 0, m_turn[i] * kMaxAngularSpeed);
+    m_kinematics.toWheelSpeeds(m_chassisSpeeds, m_wheelSpeeds).desaturate(kMaxSpeed);
+
+    // Stand-in for the encoders and gyro: a drivetrain that tracks its setpoint exactly.
+    m_leftDistance += m_wheelSpeeds.leftMetersPerSecond * kDt;
+    m_rightDistance += m_wheelSpeeds.rightMetersPerSecond * kDt;
+    m_heading +=
+        (m_wheelSpeeds.rightMetersPerSecond - m_wheelSpeeds.leftMetersPerSecond)
+            / kTrackWidth
+            * kDt;
+
+    // Drivetrain.updateOdometry()
+    m_odometry.update(m_heading, m_leftDistance, m_rightDistance).copyTo(m_poseArray);
+  }
+
+  /** Returns the last published pose as {x, y, degrees}. */
+  public double[] getPoseArray() {
+    return m_poseArray;
+  }
+}
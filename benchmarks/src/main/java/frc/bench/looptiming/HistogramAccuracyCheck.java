@@ -0,0 +1,63 @@
+package frc.bench.looptiming;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.looptiming.LoopHistogram;
+import frc.lib.looptiming.TimingSummary;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares {@link LoopHistogram} percentiles against exact ones computed by sorting.
+ *
+ * <p>The samples look like real loop timing: mostly a few milliseconds, with a long tail and the
+ * occasional overrun. Every reported percentile must be no lower than the exact value and no more
+ * than one bucket width (1/32 of the value) above it.
+ */
+public final class HistogramAccuracyCheck implements Check {
+  private static final int kSamples = 200_000;
+  private static final double kMaxRelativeError = 1.0 / 32;
+  private static final double[] kPercentiles = {50, 90, 99, 99.9};
+
+  @Override
+  public String name() {
+    return "loop histogram percentile accuracy";
+  }
+
+  @Override
+  public CheckResult run() {
+    Random random = new Random(2024);
+    LoopHistogram histogram = new LoopHistogram();
+    long[] samples = new long[kSamples];
+    for (int i = 0; i < kSamples; i++) {
+      double millis = Math.exp(1.0 + 0.5 * random.nextGaussian());
+      if (random.nextInt(500) == 0) {
+        millis += 20 + 10 * random.nextDouble();
+      }
+      samples[i] = (long) (millis * 1e6);
+      histogram.record(samples[i]);
+    }
+    Arrays.sort(samples);
+
+    double worst = 0;
+    for (double percentile : kPercentiles) {
+      long exact = samples[(int) Math.ceil(percentile / 100 * kSamples) - 1];
+      long reported = histogram.getValueAtPercentile(percentile);
+      double error = (double) (reported - exact) / exact;
+      if (reported < exact || error > kMaxRelativeError) {
+        return CheckResult.fail(
+            "p%s reported %d ns, exact %d ns (%.2f%% off)", percentile, reported, exact,
+            100 * error);
+      }
+      worst = Math.max(worst, error);
+    }
+
+    TimingSummary summary = histogram.summarize(new TimingSummary());
+    if (summary.maxNanos != samples[kSamples - 1]
+        || summary.p50Nanos != histogram.getValueAtPercentile(50)
+        || summary.p99Nanos != histogram.getValueAtPercentile(99)) {
+      return CheckResult.fail("summary disagrees with per-percentile queries: %s", summary);
+    }
+    return CheckResult.pass("worst percentile error %.2f%% over %d samples", 100 * worst, kSamples);
+  }
+}
@@ -0,0 +1,61 @@
+package frc.bench.looptiming;
+
+import frc.lib.looptiming.LoopHistogram;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.TimingSummary;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * What loop-timing instrumentation adds to every timed section, and what summarizing a histogram
+ * for publishing costs.
+ *
+ * <p>Compare {@code timedSection} with {@code LoopOverheadBenchmark.timedSection}: the difference
+ * is the histogram update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LoopTimingBenchmark {
+  private final LoopTimer m_timer = new LoopTimingRegistry().timer("bench");
+  private final LoopHistogram m_histogram = new LoopHistogram();
+  private final TimingSummary m_summary = new TimingSummary();
+  private long m_counter;
+  private long m_value;
+
+  @Setup
+  public void setup() {
+    // Spread of durations a real loop would record, from microseconds to a stall.
+    for (long nanos = 1_000; nanos < 40_000_000; nanos += 997) {
+      m_histogram.record(nanos);
+    }
+  }
+
+  @Benchmark
+  public long record() {
+    m_value = (m_value + 7919) & 0xFFFFFF;
+    m_histogram.record(m_value);
+    return m_value;
+  }
+
+  @Benchmark
+  public long timedSection() {
+    long start = m_timer.start();
+    m_counter++;
+    m_timer.stop(start);
+    return m_counter;
+  }
+
+  @Benchmark
+  public TimingSummary summarize() {
+    return m_histogram.summarize(m_summary);
+  }
+}
@@ -0,0 +1,40 @@
+package frc.bench.looptiming;
+
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.TimingSummary;
+
+/**
+ * One loop of instrumentation: a registry cycle with a handful of timed sections and a periodic
+ * summary, the way {@code LoopTimingPublisher} drives it.
+ */
+public final class TimedSectionCycle implements Runnable {
+  private static final int kSections = 8;
+  private static final int kSummaryPeriod = 50;
+
+  private final LoopTimingRegistry m_registry = new LoopTimingRegistry();
+  private final LoopTimer[] m_timers = new LoopTimer[kSections];
+  private final TimingSummary m_summary = new TimingSummary();
+  private long m_work;
+  private int m_loops;
+
+  /** Registers the sections up front, as subsystem constructors would. */
+  public TimedSectionCycle() {
+    for (int i = 0; i < kSections; i++) {
+      m_timers[i] = m_registry.timer("Section" + i + ".periodic");
+    }
+  }
+
+  @Override
+  public void run() {
+    m_registry.startCycle();
+    for (LoopTimer timer : m_timers) {
+      long start = timer.start();
+      m_work += start & 0xFF;
+      timer.stop(start);
+    }
+    if (++m_loops % kSummaryPeriod == 0) {
+      m_registry.getSlowestLast().getHistogram().summarize(m_summary);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package frc.bench.odometry;
+
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.odometry.OdometrySample;
+import frc.lib.odometry.OdometrySampleRing;
+import frc.lib.odometry.SwervePoseEstimator;
+
+/**
+ * One 50 Hz loop of the high-rate-odometry example with 250 Hz sampling: five samples queued by
+ * the odometry thread, then drained into the pose estimator by the robot thread, followed by one
+ * vision measurement stamped at the loop's first sample. Both halves run on the calling thread
+ * here.
+ */
+public final class OdometryDrainCycle implements Runnable {
+  private static final int kSamplesPerLoop = 5;
+
+  private final SwerveScenario m_scenario = new SwerveScenario();
+  private final OdometrySampleRing m_ring = new OdometrySampleRing(16, 4);
+  private final OdometrySample m_written = new OdometrySample(4);
+  private final OdometrySample m_read = new OdometrySample(4);
+  private final MutablePose2d m_visionPose = new MutablePose2d();
+  private double m_visionTimestamp;
+  private final SwervePoseEstimator m_estimator;
+
+  public OdometryDrainCycle() {
+    m_scenario.sample(m_written);
+    m_estimator =
+        new SwervePoseEstimator(
+            m_scenario.getKinematics(), m_written, SwerveScenario.kHistorySize);
+  }
+
+  @Override
+  public void run() {
+    for (int i = 0; i < kSamplesPerLoop; i++) {
+      m_scenario.step();
+      m_scenario.sample(m_written);
+      m_ring.offer(m_written);
+      if (i == 0) {
+        m_visionPose.set(m_scenario.getPose());
+        m_visionTimestamp = m_written.timestampSeconds;
+      }
+    }
+    while (m_ring.poll(m_read)) {
+      m_estimator.update(m_read);
+    }
+    m_estimator.addVisionMeasurement(
+        m_visionPose.getX(),
+        m_visionPose.getY(),
+        m_visionPose.getRotationRadians(),
+        m_visionTimestamp,
+        0.1);
+  }
+}
@@ -0,0 +1,92 @@
+package frc.bench.odometry;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.odometry.OdometrySample;
+import frc.lib.odometry.OdometrySampleRing;
+import frc.lib.odometry.SwervePoseEstimator;
+
+/**
+ * Drives the same {@link SwerveScenario} with odometry sampled at the 50 Hz loop rate and at
+ * 250 Hz, draining the samples through an {@link OdometrySampleRing} once per 50 Hz loop like the
+ * high-rate-odometry example does. Sampling faster must track the true pose more closely.
+ *
+ * <p>Position error is measured against ground truth at the end of every loop. The per-loop cost
+ * is the robot-thread time to drain the queued samples into the pose estimator, averaged over a
+ * run short enough that it includes JIT warm-up; {@code SwerveOdometryBenchmark} has steady-state
+ * numbers.
+ */
+public final class OdometryRateCheck implements Check {
+  private static final double kDurationSeconds = 15;
+  private static final int kStepsPerLoop = (int) Math.round(0.02 / SwerveScenario.kStepSeconds);
+
+  @Override
+  public String name() {
+    return "high-rate swerve odometry";
+  }
+
+  @Override
+  public CheckResult run() {
+    Result loopRate = drive(1);
+    Result highRate = drive(5);
+    String summary =
+        String.format(
+            "50 Hz: %s; 250 Hz: %s (%.1fx lower RMS error)",
+            loopRate, highRate, loopRate.rmsErrorMeters / highRate.rmsErrorMeters);
+    return highRate.rmsErrorMeters < loopRate.rmsErrorMeters
+        ? CheckResult.pass("%s", summary)
+        : CheckResult.fail("%s", summary);
+  }
+
+  private static Result drive(int samplesPerLoop) {
+    SwerveScenario scenario = new SwerveScenario();
+    OdometrySample sample = new OdometrySample(4);
+    OdometrySampleRing ring = new OdometrySampleRing(16, 4);
+    scenario.sample(sample);
+    SwervePoseEstimator estimator =
+        new SwervePoseEstimator(scenario.getKinematics(), sample, SwerveScenario.kHistorySize);
+
+    int stepsPerSample = kStepsPerLoop / samplesPerLoop;
+    int loops = (int) Math.round(kDurationSeconds / 0.02);
+    double sumSquaredError = 0;
+    double maxError = 0;
+    long drainNanos = 0;
+    for (int loop = 0; loop < loops; loop++) {
+      for (int s = 0; s < samplesPerLoop; s++) {
+        for (int i = 0; i < stepsPerSample; i++) {
+          scenario.step();
+        }
+        scenario.sample(sample);
+        ring.offer(sample);
+      }
+
+      long start = System.nanoTime();
+      while (ring.poll(sample)) {
+        estimator.update(sample);
+      }
+      drainNanos += System.nanoTime() - start;
+
+      double error = estimator.getEstimatedPosition().getDistance(scenario.getPose());
+      sumSquaredError += error * error;
+      maxError = Math.max(maxError, error);
+    }
+
+    MutablePose2d truth = scenario.getPose();
+    return new Result(
+        Math.sqrt(sumSquaredError / loops),
+        maxError,
+        estimator.getEstimatedPosition().getDistance(truth),
+        (double) drainNanos / loops);
+  }
+
+  private record Result(
+      double rmsErrorMeters, double maxErrorMeters, double finalErrorMeters, double nanosPerLoop) {
+    @Override
+    public String toString() {
+      return String.format(
+          "RMS error %.1f cm, max %.1f cm, final %.1f cm, %.0f ns/loop",
+          rmsErrorMeters * 100, maxErrorMeters * 100, finalErrorMeters * 100, nanosPerLoop);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package frc.bench.odometry;
+
+import frc.lib.odometry.OdometrySample;
+import frc.lib.odometry.OdometrySampleRing;
+import frc.lib.odometry.SwervePoseEstimator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Robot-thread cost per 50 Hz loop of swerve odometry at different sample rates.
+ *
+ * <p>Setup records one second of sensor samples from {@link SwerveScenario}. Each invocation
+ * queues the samples one loop's worth at a time, as the odometry thread would, and drains them
+ * into the pose estimator, as the robot loop would. At 50 Hz that is one sample per loop; at
+ * 250 Hz, five.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SwerveOdometryBenchmark {
+  private static final int kRecordedLoops = 50;
+
+  @Param({"50", "250"})
+  public int sampleRateHz;
+
+  private OdometrySample[] m_recorded;
+  private int m_samplesPerLoop;
+  private int m_next;
+
+  private final OdometrySampleRing m_ring = new OdometrySampleRing(16, 4);
+  private final OdometrySample m_read = new OdometrySample(4);
+  private SwervePoseEstimator m_estimator;
+
+  @Setup
+  public void setup() {
+    m_samplesPerLoop = sampleRateHz / 50;
+    int stepsPerSample = (int) Math.round(1.0 / sampleRateHz / SwerveScenario.kStepSeconds);
+
+    SwerveScenario scenario = new SwerveScenario();
+    m_recorded = new OdometrySample[kRecordedLoops * m_samplesPerLoop];
+    for (int i = 0; i < m_recorded.length; i++) {
+      for (int step = 0; step < stepsPerSample; step++) {
+        scenario.step();
+      }
+      m_recorded[i] = new OdometrySample(4);
+      scenario.sample(m_recorded[i]);
+    }
+    m_estimator =
+        new SwervePoseEstimator(
+            scenario.getKinematics(), m_recorded[0], SwerveScenario.kHistorySize);
+  }
+
+  @Benchmark
+  public double drainLoop() {
+    for (int i = 0; i < m_samplesPerLoop; i++) {
+      m_ring.offer(m_recorded[m_next]);
+      m_next = m_next + 1 == m_recorded.length ? 0 : m_next + 1;
+    }
+    while (m_ring.poll(m_read)) {
+      m_estimator.update(m_read);
+    }
+    return m_estimator.getEstimatedPosition().getX();
+  }
+}
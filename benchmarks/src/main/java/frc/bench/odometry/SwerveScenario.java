@@ -0,0 +1,82 @@
+package frc.bench.odometry;
+
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.geometry.MutableTwist2d;
+import frc.lib.kinematics.MutableChassisSpeeds;
+import frc.lib.kinematics.SwerveKinematics;
+import frc.lib.odometry.OdometrySample;
+
+/**
+ * Ground truth for a swerve robot translating and spinning at speed, integrated in small steps.
+ *
+ * <p>The driver holds a field-relative translation that sweeps around the field while the robot
+ * spins, the motion where loop-rate odometry is worst: the modules steer continuously, so the
+ * angle each module reports at the end of an update is not the angle it rolled at. Sensors are
+ * perfect, so every bit of odometry error comes from how often they are sampled.
+ */
+final class SwerveScenario {
+  static final double kHalfWheelbase = 0.28; // meters
+  static final double kStepSeconds = 1e-4;
+  // Pose estimator history: 1.5 seconds at 250 Hz, as in the high-rate-odometry example.
+  static final int kHistorySize = 376;
+
+  private static final double kMaxSpeed = 4.0; // meters per second
+  private static final double kMaxSpin = 1.5 * Math.PI; // radians per second
+
+  private final SwerveKinematics m_kinematics =
+      new SwerveKinematics(
+          new double[] {kHalfWheelbase, kHalfWheelbase, -kHalfWheelbase, -kHalfWheelbase},
+          new double[] {kHalfWheelbase, -kHalfWheelbase, kHalfWheelbase, -kHalfWheelbase});
+
+  private final MutablePose2d m_pose = new MutablePose2d();
+  private final MutableTwist2d m_twist = new MutableTwist2d();
+  private final MutableChassisSpeeds m_speeds = new MutableChassisSpeeds();
+  private final double[] m_moduleSpeeds = new double[4];
+  private final double[] m_distances = new double[4];
+  private final double[] m_angles = new double[4];
+  private double m_time;
+
+  SwerveKinematics getKinematics() {
+    return m_kinematics;
+  }
+
+  MutablePose2d getPose() {
+    return m_pose;
+  }
+
+  double getTimeSeconds() {
+    return m_time;
+  }
+
+  /** Advances the robot by one integration step. */
+  void step() {
+    double t = m_time + kStepSeconds / 2;
+    double speed = kMaxSpeed * (0.6 + 0.4 * Math.sin(0.8 * t));
+    double direction = 0.9 * t + 0.5 * Math.sin(1.7 * t);
+    double omega = kMaxSpin * Math.sin(0.6 * t + 0.3);
+    m_speeds.setFieldRelative(
+        speed * Math.cos(direction),
+        speed * Math.sin(direction),
+        omega,
+        m_pose.getRotationRadians());
+
+    m_kinematics.toModuleStates(m_speeds, m_moduleSpeeds, m_angles);
+    for (int i = 0; i < m_distances.length; i++) {
+      m_distances[i] += m_moduleSpeeds[i] * kStepSeconds;
+    }
+    m_twist.set(
+        m_speeds.vxMetersPerSecond * kStepSeconds,
+        m_speeds.vyMetersPerSecond * kStepSeconds,
+        m_speeds.omegaRadiansPerSecond * kStepSeconds);
+    m_pose.exp(m_twist);
+    m_time += kStepSeconds;
+  }
+
+  /** Reads the robot's sensors as they are right now. */
+  void sample(OdometrySample out) {
+    out.timestampSeconds = m_time;
+    out.gyroRadians = m_pose.getRotationRadians();
+    System.arraycopy(m_distances, 0, out.distancesMeters, 0, m_distances.length);
+    System.arraycopy(m_angles, 0, out.anglesRadians, 0, m_angles.length);
+  }
+}
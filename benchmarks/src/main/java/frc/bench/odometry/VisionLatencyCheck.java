@@ -0,0 +1,86 @@
+package frc.bench.odometry;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.odometry.OdometrySample;
+import frc.lib.odometry.SwervePoseEstimator;
+
+/**
+ * Fuses delayed vision into a {@link SwervePoseEstimator} driven by {@link SwerveScenario} at
+ * 250 Hz, once with each measurement stamped at its capture time and once stamped when it arrives.
+ * Stamping at capture time must track the true pose more closely.
+ *
+ * <p>The estimate starts half a meter off. Every 100 ms a perfect pose arrives that was captured
+ * 60 ms earlier, roughly a coprocessor pipeline's latency. Error is measured over the second half
+ * of the run, after the starting offset has been corrected.
+ */
+public final class VisionLatencyCheck implements Check {
+  private static final double kDurationSeconds = 10;
+  private static final int kStepsPerSample = (int) Math.round(0.004 / SwerveScenario.kStepSeconds);
+  private static final int kSamplesPerFrame = 25;
+  private static final int kLatencySamples = 15;
+  private static final double kVisionWeight = 0.3;
+
+  @Override
+  public String name() {
+    return "vision latency compensation";
+  }
+
+  @Override
+  public CheckResult run() {
+    double compensated = drive(true);
+    double arrival = drive(false);
+    String summary =
+        String.format(
+            "RMS error %.1f cm stamped at capture, %.1f cm stamped at arrival",
+            compensated * 100, arrival * 100);
+    return compensated < arrival
+        ? CheckResult.pass("%s", summary)
+        : CheckResult.fail("%s", summary);
+  }
+
+  private static double drive(boolean stampAtCapture) {
+    SwerveScenario scenario = new SwerveScenario();
+    OdometrySample sample = new OdometrySample(4);
+    scenario.sample(sample);
+    SwervePoseEstimator estimator =
+        new SwervePoseEstimator(scenario.getKinematics(), sample, SwerveScenario.kHistorySize);
+    estimator.resetPosition(sample, 0.5, -0.3, 0.1);
+
+    int samples = (int) Math.round(kDurationSeconds / 0.004);
+    double[] times = new double[samples];
+    double[] trueX = new double[samples];
+    double[] trueY = new double[samples];
+    double[] trueTheta = new double[samples];
+    double sumSquaredError = 0;
+    int measured = 0;
+    for (int n = 0; n < samples; n++) {
+      for (int i = 0; i < kStepsPerSample; i++) {
+        scenario.step();
+      }
+      scenario.sample(sample);
+      estimator.update(sample);
+      times[n] = sample.timestampSeconds;
+      trueX[n] = scenario.getPose().getX();
+      trueY[n] = scenario.getPose().getY();
+      trueTheta[n] = scenario.getPose().getRotationRadians();
+
+      if (n % kSamplesPerFrame == 0 && n >= kLatencySamples) {
+        int captured = n - kLatencySamples;
+        estimator.addVisionMeasurement(
+            trueX[captured],
+            trueY[captured],
+            trueTheta[captured],
+            stampAtCapture ? times[captured] : times[n],
+            kVisionWeight);
+      }
+
+      if (n >= samples / 2) {
+        double error = estimator.getEstimatedPosition().getDistance(scenario.getPose());
+        sumSquaredError += error * error;
+        measured++;
+      }
+    }
+    return Math.sqrt(sumSquaredError / measured);
+  }
+}
@@ -0,0 +1,108 @@
+package frc.bench.pathoptimizer;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.pathoptimizer.PathSearch;
+import frc.pathoptimizer.RouteSpec;
+import frc.pathoptimizer.SearchResult;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs a small path search on one thread and on every core (at least two threads, so the
+ * fork/join split is exercised even on a single-core box). Both must pick the same, feasible
+ * candidate.
+ *
+ * <p>With more than one core the report also gives the speedup, from the best of several timed
+ * runs of each pool size after the comparison runs have warmed both up. A single core has no
+ * speedup to measure, so there the report leaves it out.
+ */
+public final class ParallelPathSearchCheck implements Check {
+  private static final List<String> kRoute =
+      List.of(
+          "drivetrain freeSpeed=4.8 maxAcceleration=4.0 maxCentripetalAcceleration=3.0"
+              + " trackWidth=0.762 robotRadius=0.5",
+          "pickup maxSpeed=2.0",
+          "start 1.35 5.55 0",
+          "note 2.90 5.55",
+          "note 2.90 4.10",
+          "shoot 1.80 5.20",
+          "end 1.35 5.55 180",
+          "search velocity=2.5:4.5 acceleration=2.0:4.0 tangentScale=0.6:1.8 candidates=1024"
+              + " rounds=3");
+
+  private static final int kTimedRuns = 3;
+
+  @Override
+  public String name() {
+    return "parallel path search matches a single-threaded search";
+  }
+
+  @Override
+  public CheckResult run() {
+    RouteSpec route;
+    try {
+      route = RouteSpec.parse("TwoNoteCheck", kRoute);
+    } catch (IOException e) {
+      return CheckResult.fail("route did not parse: %s", e.getMessage());
+    }
+
+    int cores = Runtime.getRuntime().availableProcessors();
+    int threads = Math.max(2, cores);
+    SearchResult serial = search(route, 1);
+    SearchResult parallel = search(route, threads);
+
+    if (serial.candidate() == null) {
+      return CheckResult.fail("no feasible candidate in %d", serial.scored());
+    }
+    if (parallel.candidate() == null
+        || !serial.candidate().toString().equals(parallel.candidate().toString())
+        || Double.compare(serial.score().seconds(), parallel.score().seconds()) != 0
+        || serial.feasible() != parallel.feasible()) {
+      return CheckResult.fail(
+          "one thread found %s (%.3f s), %d threads found %s",
+          serial.candidate(),
+          serial.score().seconds(),
+          threads,
+          parallel.candidate());
+    }
+    String summary =
+        String.format(
+            "%d candidates, %d feasible, best %.2f s (%s)",
+            serial.scored(), serial.feasible(), serial.score().seconds(), serial.candidate());
+    if (cores == 1) {
+      return CheckResult.pass("%s; 1 core, so no speedup to report", summary);
+    }
+
+    long serialNanos = fastestSearch(route, 1);
+    long parallelNanos = fastestSearch(route, threads);
+    return CheckResult.pass(
+        "%s; best of %d: %.1f ms on 1 thread, %.1f ms on %d (%.1fx)",
+        summary,
+        kTimedRuns,
+        serialNanos / 1e6,
+        parallelNanos / 1e6,
+        threads,
+        (double) serialNanos / parallelNanos);
+  }
+
+  private static long fastestSearch(RouteSpec route, int threads) {
+    long fastest = Long.MAX_VALUE;
+    for (int i = 0; i < kTimedRuns; i++) {
+      long start = System.nanoTime();
+      search(route, threads);
+      fastest = Math.min(fastest, System.nanoTime() - start);
+    }
+    return fastest;
+  }
+
+  private static SearchResult search(RouteSpec route, int threads) {
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      return PathSearch.run(route, pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
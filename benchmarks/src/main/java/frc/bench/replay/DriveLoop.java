@@ -0,0 +1,170 @@
+package frc.bench.replay;
+
+import frc.lib.kinematics.DifferentialKinematics;
+import frc.lib.kinematics.MutableChassisSpeeds;
+import frc.lib.kinematics.MutableDifferentialOdometry;
+import frc.lib.kinematics.MutableDifferentialWheelSpeeds;
+import frc.lib.replay.ReplayChannels;
+import frc.lib.replay.ReplayFrame;
+import frc.lib.replay.ReplaySchema;
+import frc.lib.replay.ReplayTarget;
+
+/**
+ * The zero-alloc-drive example's robot code with WPILib taken out, wired for recording and
+ * replay the same way the example is.
+ *
+ * <p>Inputs are two stick axes and the encoder and gyro readings; outputs are the motor commands
+ * and the pose. The sticks go through slew rate limiters that read the loop's timestamp, as the
+ * example's {@code SlewRateLimiter}s read the robot clock, so a replay only reproduces the
+ * outputs if it runs each loop at the time it was recorded. {@link #simulate} stands in for the
+ * drivetrain simulation that runs after each loop in a live session. The proportional gain is a
+ * parameter so a replay can be run against a deliberately changed build.
+ */
+final class DriveLoop implements ReplayTarget {
+  static final double kDt = 0.02;
+  static final long kPeriodMicros = 20_000;
+
+  private static final double kMaxSpeed = 3.0;
+  private static final double kMaxAngularSpeed = 2 * Math.PI;
+  private static final double kTrackWidth = 0.381 * 2;
+  private static final double kV = 3.0;
+  private static final double kS = 1.0;
+  private static final double kBatteryVolts = 12.0;
+  // 1/3 s from 0 to full stick, as in the example.
+  private static final double kStickRate = 3.0;
+  // How much of the gap to its commanded speed the drivetrain closes each loop.
+  private static final double kResponse = 0.25;
+
+  private final double m_kP;
+  private final ReplayChannels m_channels = new ReplayChannels();
+  private final DifferentialKinematics m_kinematics = new DifferentialKinematics(kTrackWidth);
+  private final MutableChassisSpeeds m_chassisSpeeds = new MutableChassisSpeeds();
+  private final MutableDifferentialWheelSpeeds m_wheelSpeeds = new MutableDifferentialWheelSpeeds();
+  private final MutableDifferentialOdometry m_odometry = new MutableDifferentialOdometry(0, 0, 0);
+  private final double[] m_poseArray = new double[3];
+  private final RateLimiter m_throttleLimiter = new RateLimiter(kStickRate);
+  private final RateLimiter m_turnLimiter = new RateLimiter(kStickRate);
+
+  // Inputs.
+  private double m_throttle;
+  private double m_turn;
+  private double m_leftDistance;
+  private double m_leftRate;
+  private double m_rightDistance;
+  private double m_rightRate;
+  private double m_gyroDegrees;
+
+  // Outputs, as fractions of battery voltage like a motor controller's get().
+  private double m_leftOutput;
+  private double m_rightOutput;
+
+  /**
+   * Creates the robot code and registers its channels.
+   *
+   * @param kP The wheel velocity controllers' proportional gain.
+   */
+  DriveLoop(double kP) {
+    m_kP = kP;
+    m_channels.addInput("Joystick0/axis1", () -> m_throttle, value -> m_throttle = value);
+    m_channels.addInput("Joystick0/axis4", () -> m_turn, value -> m_turn = value);
+    m_channels.addInput(
+        "Drivetrain/leftDistance", () -> m_leftDistance, value -> m_leftDistance = value);
+    m_channels.addInput("Drivetrain/leftRate", () -> m_leftRate, value -> m_leftRate = value);
+    m_channels.addInput(
+        "Drivetrain/rightDistance", () -> m_rightDistance, value -> m_rightDistance = value);
+    m_channels.addInput("Drivetrain/rightRate", () -> m_rightRate, value -> m_rightRate = value);
+    m_channels.addInput(
+        "Drivetrain/gyroDegrees", () -> m_gyroDegrees, value -> m_gyroDegrees = value);
+
+    m_channels.addOutput("Drivetrain/leftOutput", () -> m_leftOutput);
+    m_channels.addOutput("Drivetrain/rightOutput", () -> m_rightOutput);
+    m_channels.addOutput("Drivetrain/poseX", () -> m_poseArray[0]);
+    m_channels.addOutput("Drivetrain/poseY", () -> m_poseArray[1]);
+    m_channels.addOutput("Drivetrain/poseDegrees", () -> m_poseArray[2]);
+  }
+
+  ReplayChannels getChannels() {
+    return m_channels;
+  }
+
+  /** Moves the sticks, as a driver would during a live session. */
+  void setSticks(double throttle, double turn) {
+    m_throttle = throttle;
+    m_turn = turn;
+  }
+
+  /**
+   * One loop: teleopPeriodic() then robotPeriodic().
+   *
+   * @param timestampMicros When the loop started, on the robot's clock.
+   */
+  void loop(long timestampMicros) {
+    double throttle = m_throttleLimiter.calculate(m_throttle, timestampMicros);
+    double turn = m_turnLimiter.calculate(m_turn, timestampMicros);
+    m_chassisSpeeds.set(-throttle * kMaxSpeed, 0, -turn * kMaxAngularSpeed);
+    m_kinematics.toWheelSpeeds(m_chassisSpeeds, m_wheelSpeeds).desaturate(kMaxSpeed);
+
+    double left = m_wheelSpeeds.leftMetersPerSecond;
+    double right = m_wheelSpeeds.rightMetersPerSecond;
+    m_leftOutput = volts(left, m_leftRate) / kBatteryVolts;
+    m_rightOutput = volts(right, m_rightRate) / kBatteryVolts;
+
+    m_odometry
+        .update(-Math.toRadians(m_gyroDegrees), m_leftDistance, m_rightDistance)
+        .copyTo(m_poseArray);
+  }
+
+  private double volts(double setpoint, double measured) {
+    double volts = m_kP * (setpoint - measured) + kS * Math.signum(setpoint) + kV * setpoint;
+    return Math.max(-kBatteryVolts, Math.min(kBatteryVolts, volts));
+  }
+
+  /** The drivetrain's response to this loop's outputs, like simulationPeriodic(). */
+  void simulate() {
+    m_leftRate += (m_leftOutput * kBatteryVolts / kV - m_leftRate) * kResponse;
+    m_rightRate += (m_rightOutput * kBatteryVolts / kV - m_rightRate) * kResponse;
+    m_leftDistance += m_leftRate * kDt;
+    m_rightDistance += m_rightRate * kDt;
+    m_gyroDegrees -= Math.toDegrees((m_rightRate - m_leftRate) / kTrackWidth * kDt);
+  }
+
+  @Override
+  public ReplaySchema getSchema() {
+    return m_channels.getSchema();
+  }
+
+  @Override
+  public void applyInputs(ReplayFrame frame) {
+    m_channels.applyInputs(frame);
+  }
+
+  @Override
+  public void runLoop(long timestampMicros) {
+    loop(timestampMicros);
+  }
+
+  @Override
+  public void capture(ReplayFrame frame) {
+    m_channels.capture(frame.timestampMicros, frame);
+  }
+
+  /** WPILib's {@code SlewRateLimiter}, reading the loop's timestamp instead of the FPGA clock. */
+  private static final class RateLimiter {
+    private final double m_rate;
+    private double m_value;
+    private long m_lastMicros = -1;
+
+    RateLimiter(double rate) {
+      m_rate = rate;
+    }
+
+    double calculate(double input, long timestampMicros) {
+      // The first loop starts the clock, like a reset() in teleopInit().
+      double elapsed = m_lastMicros < 0 ? 0 : (timestampMicros - m_lastMicros) * 1e-6;
+      m_lastMicros = timestampMicros;
+      double step = m_rate * elapsed;
+      m_value += Math.max(-step, Math.min(step, input - m_value));
+      return m_value;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package frc.bench.replay;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * What recording for replay adds to a loop: the drive code alone, then the drive code with every
+ * channel captured and appended to a log.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ReplayRecordBenchmark {
+  private final DriveLoop m_robot = new DriveLoop(ReplaySetup.kRecordedGain);
+  private final ReplayRecordCycle m_recorded = new ReplayRecordCycle();
+  private long m_loops;
+
+  @Benchmark
+  public void loop() {
+    double t = m_loops * DriveLoop.kDt;
+    m_robot.setSticks(0.8 * Math.sin(0.4 * t), 0.6 * Math.sin(1.3 * t));
+    m_robot.loop(m_loops++ * DriveLoop.kPeriodMicros);
+    m_robot.simulate();
+  }
+
+  @Benchmark
+  public void recordedLoop() {
+    m_recorded.run();
+  }
+}
@@ -0,0 +1,62 @@
+package frc.bench.replay;
+
+import frc.lib.replay.ReplayFrame;
+import frc.lib.replay.ReplayLogWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * One recorded loop of the drive code: run the loop, capture every channel and append the frame
+ * to a log. The log goes to a channel that discards it, so only the recording cost is measured.
+ */
+public final class ReplayRecordCycle implements Runnable {
+  private final DriveLoop m_robot = new DriveLoop(ReplaySetup.kRecordedGain);
+  private final ReplayFrame m_frame = new ReplayFrame(m_robot.getSchema().getChannelCount());
+  private final ReplayLogWriter m_writer;
+  private long m_loops;
+
+  /** Creates the drive code and a log writer that discards what it writes. */
+  public ReplayRecordCycle() {
+    try {
+      m_writer = new ReplayLogWriter(new DiscardingChannel(), m_robot.getSchema());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void run() {
+    double t = m_loops * DriveLoop.kDt;
+    m_robot.setSticks(0.8 * Math.sin(0.4 * t), 0.6 * Math.sin(1.3 * t));
+    long timestampMicros = m_loops * DriveLoop.kPeriodMicros;
+    m_robot.loop(timestampMicros);
+    try {
+      m_robot.getChannels().capture(timestampMicros, m_frame);
+      m_writer.write(m_frame);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    m_robot.simulate();
+    m_loops++;
+  }
+
+  /** A channel that accepts everything and keeps nothing. */
+  static final class DiscardingChannel implements WritableByteChannel {
+    @Override
+    public int write(ByteBuffer src) {
+      int bytes = src.remaining();
+      src.position(src.limit());
+      return bytes;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,108 @@
+package frc.bench.replay;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.looptiming.TimingSummary;
+import frc.lib.replay.MappedReplayLog;
+import frc.lib.replay.ReplayFrame;
+import frc.lib.replay.ReplayHarness;
+import frc.lib.replay.ReplayResult;
+import frc.lib.replay.ReplaySchema;
+import frc.lib.replay.ReplayTarget;
+import java.io.IOException;
+
+/**
+ * Records a minute of driving, then replays it headless three times: against the same robot code,
+ * which must reproduce every channel exactly and run far faster than real time; against the same
+ * code on a clock that jitters around the recorded loop times, which the slew rate limiters make
+ * visible; and against a build with a retuned velocity gain, which the replay must flag.
+ */
+public final class ReplayRegressionCheck implements Check {
+  private static final int kLoops = 3000;
+  private static final double kMinSpeedup = 10;
+
+  @Override
+  public String name() {
+    return "replay reproduces a recorded session and flags changed outputs";
+  }
+
+  @Override
+  public CheckResult run() {
+    try {
+      MappedReplayLog log = MappedReplayLog.open(ReplaySetup.record(kLoops));
+      if (log.getFrameCount() != kLoops) {
+        return CheckResult.fail("log holds %d frames, expected %d", log.getFrameCount(), kLoops);
+      }
+
+      ReplayResult same =
+          ReplayHarness.run(log, new DriveLoop(ReplaySetup.kRecordedGain), 0, null);
+      if (same.getDiff().hasDifferences() || !same.getMissingInputs().isEmpty()) {
+        return CheckResult.fail("unchanged code did not replay exactly");
+      }
+      double speedup = same.getRobotSeconds() / same.getWallSeconds();
+      if (speedup < kMinSpeedup) {
+        return CheckResult.fail("replay ran only %.1fx real time", speedup);
+      }
+
+      DriveLoop jitteredRobot = new DriveLoop(ReplaySetup.kRecordedGain);
+      ReplayResult jittered = ReplayHarness.run(log, new JitteredClock(jitteredRobot), 0, null);
+      int jitterFrame = jittered.getDiff().getFirstDifferingFrame("Drivetrain/leftOutput");
+      if (jitterFrame < 0) {
+        return CheckResult.fail("loops run off their recorded times went unnoticed");
+      }
+
+      ReplayResult retuned =
+          ReplayHarness.run(log, new DriveLoop(ReplaySetup.kRecordedGain * 0.5), 0, null);
+      if (!retuned.getDiff().hasDifferences()) {
+        return CheckResult.fail("a retuned velocity gain went unnoticed");
+      }
+      int firstFrame = retuned.getDiff().getFirstDifferingFrame("Drivetrain/leftOutput");
+      if (firstFrame < 0) {
+        return CheckResult.fail("a retuned velocity gain did not change the left output");
+      }
+
+      TimingSummary loopTimes = same.getLoopTimes().summarize(new TimingSummary());
+      return CheckResult.pass(
+          "%d loops exact at %.0fx real time (p99 loop %.1f us); clock jitter flagged at loop %d;"
+              + " retuned gain flagged at loop %d",
+          kLoops,
+          speedup,
+          loopTimes.p99Nanos / 1e3,
+          jitterFrame,
+          firstFrame);
+    } catch (IOException e) {
+      return CheckResult.fail("I/O error: %s", e);
+    }
+  }
+
+  /** Runs each loop up to a quarter period early or late, as a free-running clock would. */
+  private static final class JitteredClock implements ReplayTarget {
+    private final ReplayTarget m_target;
+    private long m_loops;
+
+    JitteredClock(ReplayTarget target) {
+      m_target = target;
+    }
+
+    @Override
+    public ReplaySchema getSchema() {
+      return m_target.getSchema();
+    }
+
+    @Override
+    public void applyInputs(ReplayFrame frame) {
+      m_target.applyInputs(frame);
+    }
+
+    @Override
+    public void runLoop(long timestampMicros) {
+      long jitter = (m_loops++ * 7919 % 11 - 5) * DriveLoop.kPeriodMicros / 20;
+      m_target.runLoop(timestampMicros + jitter);
+    }
+
+    @Override
+    public void capture(ReplayFrame frame) {
+      m_target.capture(frame);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package frc.bench.replay;
+
+import frc.lib.replay.ReplayFrame;
+import frc.lib.replay.ReplayLogWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** Records the live drive session the replay checks and benchmarks run on. */
+final class ReplaySetup {
+  /** The wheel velocity gain the zero-alloc-drive example ships with. */
+  static final double kRecordedGain = 8.5;
+
+  // A live session's clock has been running since the robot booted.
+  private static final long kStartMicros = 7_340_000;
+
+  private ReplaySetup() {}
+
+  /**
+   * Drives a {@link DriveLoop} with a scripted driver for a number of loops, recording every loop
+   * to a temporary log. Each frame carries its loop's start time, which the loop also read.
+   */
+  static Path record(int loops) {
+    try {
+      Path log = Files.createTempFile("drive-session", ".rlog");
+      log.toFile().deleteOnExit();
+      DriveLoop robot = new DriveLoop(kRecordedGain);
+      ReplayFrame frame = new ReplayFrame(robot.getSchema().getChannelCount());
+      try (ReplayLogWriter writer = ReplayLogWriter.open(log, robot.getSchema())) {
+        for (int i = 0; i < loops; i++) {
+          double t = i * DriveLoop.kDt;
+          long timestampMicros = kStartMicros + i * DriveLoop.kPeriodMicros;
+          // The throttle snaps between forward and back, faster than the slew rate limit allows.
+          double throttle = -0.8 * Math.signum(Math.sin(0.4 * t));
+          robot.setSticks(stick(throttle), stick(0.6 * Math.sin(1.3 * t)));
+          robot.loop(timestampMicros);
+          robot.getChannels().capture(timestampMicros, frame);
+          writer.write(frame);
+          robot.simulate();
+        }
+      }
+      return log;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // Joystick axes arrive with 1/127 resolution; record them the way the driver station would.
+  private static double stick(double value) {
+    return Math.round(value * 127) / 127.0;
+  }
+}
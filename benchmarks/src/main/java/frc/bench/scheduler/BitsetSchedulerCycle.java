@@ -0,0 +1,14 @@
+package frc.bench.scheduler;
+
+import frc.lib.scheduler.BitsetCommandScheduler;
+
+/** One robot loop of the scheduler-stress example on the bitset scheduler, 200 subsystems. */
+public final class BitsetSchedulerCycle implements Runnable {
+  private final StressScenario m_scenario =
+      new StressScenario(StressScenario.bitset(new BitsetCommandScheduler(() -> false)), 200);
+
+  @Override
+  public void run() {
+    m_scenario.cycle();
+  }
+}
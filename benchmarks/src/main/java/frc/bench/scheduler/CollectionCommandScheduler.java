@@ -0,0 +1,230 @@
+package frc.bench.scheduler;
+
+import frc.lib.scheduler.Command;
+import frc.lib.scheduler.Subsystem;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The bookkeeping of WPILib 2024's {@code CommandScheduler}, without WPILib, as the baseline for
+ * {@code BitsetCommandScheduler}.
+ *
+ * <p>Data structures and per-cycle steps follow the stock scheduler: scheduled commands in a
+ * {@link LinkedHashSet} walked with an iterator, requirements in a {@code Map<Subsystem,
+ * Command>} checked with {@link Collections#disjoint}, one {@link Runnable} per trigger binding in
+ * an event loop, and a watchdog epoch, keyed by a freshly built name string, for every subsystem
+ * periodic and command execute. Commands run through the same {@code frc.lib.scheduler} classes
+ * as the bitset scheduler, so only the scheduler's own overhead differs.
+ */
+final class CollectionCommandScheduler {
+  private final Map<Subsystem, Command> m_subsystems = new LinkedHashMap<>();
+  private final Set<Command> m_scheduledCommands = new LinkedHashSet<>();
+  private final Map<Subsystem, Command> m_requirements = new LinkedHashMap<>();
+  private final Set<Command> m_composedCommands = Collections.newSetFromMap(new LinkedHashMap<>());
+  private final Set<Runnable> m_bindings = new LinkedHashSet<>();
+  private final List<Command> m_toSchedule = new ArrayList<>();
+  private final List<Command> m_toCancel = new ArrayList<>();
+  private final Tracer m_tracer = new Tracer();
+  private final BooleanSupplier m_isDisabled;
+  private boolean m_inRunLoop;
+
+  CollectionCommandScheduler(BooleanSupplier isDisabled) {
+    m_isDisabled = isDisabled;
+  }
+
+  void registerSubsystem(Subsystem subsystem) {
+    m_subsystems.put(subsystem, null);
+  }
+
+  void setDefaultCommand(Subsystem subsystem, Command command) {
+    m_subsystems.put(subsystem, command);
+  }
+
+  void onTrue(BooleanSupplier condition, Command command) {
+    m_bindings.add(
+        new Runnable() {
+          private boolean m_pressedLast = condition.getAsBoolean();
+
+          @Override
+          public void run() {
+            boolean pressed = condition.getAsBoolean();
+            if (!m_pressedLast && pressed) {
+              schedule(command);
+            }
+            m_pressedLast = pressed;
+          }
+        });
+  }
+
+  void whileTrue(BooleanSupplier condition, Command command) {
+    m_bindings.add(
+        new Runnable() {
+          private boolean m_pressedLast = condition.getAsBoolean();
+
+          @Override
+          public void run() {
+            boolean pressed = condition.getAsBoolean();
+            if (!m_pressedLast && pressed) {
+              schedule(command);
+            } else if (m_pressedLast && !pressed) {
+              cancel(command);
+            }
+            m_pressedLast = pressed;
+          }
+        });
+  }
+
+  void toggleOnTrue(BooleanSupplier condition, Command command) {
+    m_bindings.add(
+        new Runnable() {
+          private boolean m_pressedLast = condition.getAsBoolean();
+
+          @Override
+          public void run() {
+            boolean pressed = condition.getAsBoolean();
+            if (!m_pressedLast && pressed) {
+              if (isScheduled(command)) {
+                cancel(command);
+              } else {
+                schedule(command);
+              }
+            }
+            m_pressedLast = pressed;
+          }
+        });
+  }
+
+  boolean isScheduled(Command command) {
+    return m_scheduledCommands.contains(command);
+  }
+
+  int getScheduledCount() {
+    return m_scheduledCommands.size();
+  }
+
+  void schedule(Command command) {
+    if (m_inRunLoop) {
+      m_toSchedule.add(command);
+      return;
+    }
+    if (m_composedCommands.contains(command)) {
+      throw new IllegalArgumentException("Command is composed");
+    }
+    if (m_isDisabled.getAsBoolean() && !command.runsWhenDisabled() || isScheduled(command)) {
+      return;
+    }
+
+    Set<Subsystem> requirements = command.getRequirements().asSet();
+    if (!Collections.disjoint(m_requirements.keySet(), requirements)) {
+      for (Subsystem requirement : requirements) {
+        Command requiring = m_requirements.get(requirement);
+        if (requiring != null
+            && requiring.getInterruptionBehavior()
+                == Command.InterruptionBehavior.kCancelIncoming) {
+          return;
+        }
+      }
+      for (Subsystem requirement : requirements) {
+        Command requiring = m_requirements.get(requirement);
+        if (requiring != null) {
+          cancel(requiring);
+        }
+      }
+    }
+
+    m_scheduledCommands.add(command);
+    for (Subsystem requirement : requirements) {
+      m_requirements.put(requirement, command);
+    }
+    command.initialize();
+    m_tracer.addEpoch(command.getName() + ".initialize()");
+  }
+
+  void cancel(Command command) {
+    if (m_inRunLoop) {
+      m_toCancel.add(command);
+      return;
+    }
+    if (!isScheduled(command)) {
+      return;
+    }
+    m_scheduledCommands.remove(command);
+    m_requirements.keySet().removeAll(command.getRequirements().asSet());
+    command.end(true);
+    m_tracer.addEpoch(command.getName() + ".end(true)");
+  }
+
+  void run() {
+    m_tracer.clearEpochs();
+
+    for (Subsystem subsystem : m_subsystems.keySet()) {
+      subsystem.periodic();
+      m_tracer.addEpoch(subsystem.getName() + ".periodic()");
+    }
+
+    // EventLoop.poll().
+    for (Runnable binding : m_bindings) {
+      binding.run();
+    }
+    m_tracer.addEpoch("buttons.run()");
+
+    m_inRunLoop = true;
+    boolean isDisabled = m_isDisabled.getAsBoolean();
+    for (Iterator<Command> iterator = m_scheduledCommands.iterator(); iterator.hasNext(); ) {
+      Command command = iterator.next();
+      if (isDisabled && !command.runsWhenDisabled()) {
+        cancel(command);
+        continue;
+      }
+      command.execute();
+      m_tracer.addEpoch(command.getName() + ".execute()");
+      if (command.isFinished()) {
+        command.end(false);
+        iterator.remove();
+        m_requirements.keySet().removeAll(command.getRequirements().asSet());
+        m_tracer.addEpoch(command.getName() + ".end(false)");
+      }
+    }
+    m_inRunLoop = false;
+
+    for (Command command : m_toSchedule) {
+      schedule(command);
+    }
+    for (Command command : m_toCancel) {
+      cancel(command);
+    }
+    m_toSchedule.clear();
+    m_toCancel.clear();
+
+    for (Map.Entry<Subsystem, Command> subsystemCommand : m_subsystems.entrySet()) {
+      if (!m_requirements.containsKey(subsystemCommand.getKey())
+          && subsystemCommand.getValue() != null) {
+        schedule(subsystemCommand.getValue());
+      }
+    }
+  }
+
+  /** WPILib's {@code Tracer}: time since the previous epoch, recorded under the epoch's name. */
+  private static final class Tracer {
+    private final Map<String, Long> m_epochs = new LinkedHashMap<>();
+    private long m_startTime = System.nanoTime();
+
+    void clearEpochs() {
+      m_epochs.clear();
+      m_startTime = System.nanoTime();
+    }
+
+    void addEpoch(String name) {
+      long now = System.nanoTime();
+      m_epochs.put(name, now - m_startTime);
+      m_startTime = now;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package frc.bench.scheduler;
+
+import frc.lib.scheduler.BitsetCommandScheduler;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-cycle cost of scheduling the {@link StressScenario}: subsystem periodics, trigger polling,
+ * command execution and default commands, with {@code subsystems} subsystems and twice as many
+ * triggers.
+ *
+ * <p>{@code collections} is WPILib's scheduler bookkeeping; {@code bitset} is {@link
+ * BitsetCommandScheduler}. The commands themselves are identical and do almost nothing, so the
+ * difference is scheduler overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SchedulerBenchmark {
+  @Param({"collections", "bitset"})
+  public String scheduler;
+
+  @Param({"50", "200"})
+  public int subsystems;
+
+  private StressScenario m_scenario;
+
+  @Setup
+  public void setup() {
+    m_scenario =
+        new StressScenario(
+            scheduler.equals("bitset")
+                ? StressScenario.bitset(new BitsetCommandScheduler(() -> false))
+                : StressScenario.collections(new CollectionCommandScheduler(() -> false)),
+            subsystems);
+  }
+
+  @Benchmark
+  public int cycle() {
+    m_scenario.cycle();
+    return m_scenario.getScheduledCount();
+  }
+}
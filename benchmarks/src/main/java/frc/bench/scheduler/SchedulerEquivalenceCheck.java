@@ -0,0 +1,50 @@
+package frc.bench.scheduler;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.scheduler.BitsetCommandScheduler;
+
+/**
+ * Runs the {@link StressScenario} on both schedulers side by side. After every cycle the same
+ * commands must have been initialized, interrupted and finished in the same order, and the same
+ * number must be scheduled.
+ */
+public final class SchedulerEquivalenceCheck implements Check {
+  private static final int kSubsystems = 200;
+  private static final int kCycles = 3000;
+
+  @Override
+  public String name() {
+    return "bitset scheduler matches WPILib scheduling";
+  }
+
+  @Override
+  public CheckResult run() {
+    StressScenario reference =
+        new StressScenario(
+            StressScenario.collections(new CollectionCommandScheduler(() -> false)), kSubsystems);
+    StressScenario bitset =
+        new StressScenario(
+            StressScenario.bitset(new BitsetCommandScheduler(() -> false)), kSubsystems);
+
+    long scheduled = 0;
+    for (int cycle = 1; cycle <= kCycles; cycle++) {
+      reference.cycle();
+      bitset.cycle();
+      if (reference.getTrace() != bitset.getTrace()
+          || reference.getScheduledCount() != bitset.getScheduledCount()) {
+        return CheckResult.fail(
+            "diverged at cycle %d: %d vs %d events, %d vs %d scheduled",
+            cycle,
+            reference.getEventCount(),
+            bitset.getEventCount(),
+            reference.getScheduledCount(),
+            bitset.getScheduledCount());
+      }
+      scheduled += bitset.getScheduledCount();
+    }
+    return CheckResult.pass(
+        "%d cycles, %d lifecycle events, %.0f commands scheduled on average",
+        kCycles, bitset.getEventCount(), (double) scheduled / kCycles);
+  }
+}
@@ -0,0 +1,355 @@
+package frc.bench.scheduler;
+
+import frc.lib.scheduler.BitsetCommandScheduler;
+import frc.lib.scheduler.Command;
+import frc.lib.scheduler.InstantCommand;
+import frc.lib.scheduler.ParallelCommandGroup;
+import frc.lib.scheduler.RunCommand;
+import frc.lib.scheduler.SequentialCommandGroup;
+import frc.lib.scheduler.Subsystem;
+import frc.lib.scheduler.Trigger;
+import frc.lib.scheduler.WaitUntilCommand;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A large command-based robot for stress-testing schedulers: hundreds of subsystems, each with a
+ * default command, two triggers per subsystem bound to composed commands, and supervisor
+ * commands that schedule and cancel other commands from their {@code execute()}.
+ *
+ * <p>Triggers are simulated buttons that flip on fixed, staggered periods, so every cycle some are
+ * pressed or released and commands are scheduled, interrupted and finished throughout. Composed
+ * commands span neighbouring subsystems, so requirements conflict often. The scenario is
+ * deterministic and the same for both schedulers, and it records a running hash of every command
+ * lifecycle event so runs can be compared.
+ */
+final class StressScenario {
+  /** The scheduler calls the scenario needs, implemented by both schedulers under test. */
+  interface Scheduler {
+    void register(Subsystem subsystem);
+
+    void setDefaultCommand(Subsystem subsystem, Command command);
+
+    void onTrue(BooleanSupplier condition, Command command);
+
+    void whileTrue(BooleanSupplier condition, Command command);
+
+    void toggleOnTrue(BooleanSupplier condition, Command command);
+
+    void schedule(Command command);
+
+    void cancel(Command command);
+
+    void run();
+
+    int getScheduledCount();
+  }
+
+  private final Scheduler m_scheduler;
+  private int m_cycle;
+  private long m_trace;
+  private long m_events;
+
+  /**
+   * Builds the scenario.
+   *
+   * @param scheduler The scheduler to build it in.
+   * @param subsystemCount The number of subsystems; there are twice as many triggers.
+   */
+  StressScenario(Scheduler scheduler, int subsystemCount) {
+    if (subsystemCount < 3) {
+      throw new IllegalArgumentException("The scenario needs at least three subsystems");
+    }
+    m_scheduler = scheduler;
+    StressSubsystem[] subsystems = new StressSubsystem[subsystemCount];
+    Command[] holds = new Command[subsystemCount];
+    for (int i = 0; i < subsystemCount; i++) {
+      subsystems[i] = new StressSubsystem("Subsystem" + i);
+      scheduler.register(subsystems[i]);
+      Command idle = new TracedCommand(4 * i, -1, subsystems[i]);
+      idle.setName("Idle" + i);
+      scheduler.setDefaultCommand(subsystems[i], idle);
+    }
+
+    for (int i = 0; i < subsystemCount; i++) {
+      StressSubsystem a = subsystems[i];
+      StressSubsystem b = subsystems[(i + 1) % subsystemCount];
+      StressSubsystem c = subsystems[(i + 2) % subsystemCount];
+
+      // A button held for a while: run two subsystems together while held.
+      BooleanSupplier held = button(20 + i % 37, i * 7);
+      holds[i] =
+          named(
+              new ParallelCommandGroup(
+                  new TracedCommand(4 * i + 1, -1, a), new TracedCommand(4 * i + 2, -1, b)),
+              "Hold" + i);
+      scheduler.whileTrue(held, holds[i]);
+
+      // A tap: a short sequence over three subsystems, started on press.
+      BooleanSupplier tap = button(11 + i % 23, i * 13);
+      int id = 4 * i + 3;
+      scheduler.onTrue(
+          tap,
+          named(
+              new SequentialCommandGroup(
+                  new InstantCommand(() -> record(id, 3), a),
+                  new TracedCommand(id, 5, a, b),
+                  new WaitUntilCommand(() -> (m_cycle & 3) == 0),
+                  ParallelCommandGroup.race(
+                      new TracedCommand(id, 8, c), new RunCommand(() -> record(id, 4)))),
+              "Tap" + i));
+
+      // Every tenth tap button also toggles a long-running command on the third subsystem.
+      if (i % 10 == 0) {
+        scheduler.toggleOnTrue(tap, named(new TracedCommand(4 * i, 30, c), "Toggle" + i));
+      }
+    }
+
+    // Every fifth subsystem gets a supervisor that, from its execute(), starts a follower on a
+    // subsystem further along (interrupting whatever runs there) and cancels a hold command that
+    // was scheduled after it. Both must take effect after the command loop, not in the middle of
+    // it.
+    for (int i = 0; i < subsystemCount; i += 5) {
+      Command follower =
+          named(
+              new TracedCommand(4 * i + 2, 4, subsystems[(i + 3) % subsystemCount]),
+              "Follow" + i);
+      Command victim = holds[(i + 4) % subsystemCount];
+      scheduler.onTrue(
+          button(17 + i % 19, i * 3),
+          named(new SupervisorCommand(4 * i + 1, follower, victim), "Supervise" + i));
+    }
+  }
+
+  /** Runs one cycle: advances the simulated buttons, then runs the scheduler. */
+  void cycle() {
+    m_cycle++;
+    m_scheduler.run();
+  }
+
+  int getScheduledCount() {
+    return m_scheduler.getScheduledCount();
+  }
+
+  /** Returns a hash of every command lifecycle event so far, in order. */
+  long getTrace() {
+    return m_trace;
+  }
+
+  /** Returns how many command lifecycle events there have been. */
+  long getEventCount() {
+    return m_events;
+  }
+
+  private BooleanSupplier button(int period, int phase) {
+    return () -> ((m_cycle + phase) / period & 1) == 0;
+  }
+
+  private void record(int commandId, int event) {
+    m_trace = m_trace * 31 + commandId * 8L + event;
+    m_events++;
+  }
+
+  private static Command named(Command command, String name) {
+    command.setName(name);
+    return command;
+  }
+
+  /** Adapts {@link BitsetCommandScheduler}, creating one trigger per distinct condition. */
+  static Scheduler bitset(BitsetCommandScheduler scheduler) {
+    return new Scheduler() {
+      private final Map<BooleanSupplier, Trigger> m_triggers = new IdentityHashMap<>();
+
+      @Override
+      public void register(Subsystem subsystem) {
+        scheduler.registerSubsystem(subsystem);
+      }
+
+      @Override
+      public void setDefaultCommand(Subsystem subsystem, Command command) {
+        scheduler.setDefaultCommand(subsystem, command);
+      }
+
+      @Override
+      public void onTrue(BooleanSupplier condition, Command command) {
+        trigger(condition).onTrue(command);
+      }
+
+      @Override
+      public void whileTrue(BooleanSupplier condition, Command command) {
+        trigger(condition).whileTrue(command);
+      }
+
+      @Override
+      public void toggleOnTrue(BooleanSupplier condition, Command command) {
+        trigger(condition).toggleOnTrue(command);
+      }
+
+      @Override
+      public void schedule(Command command) {
+        scheduler.schedule(command);
+      }
+
+      @Override
+      public void cancel(Command command) {
+        scheduler.cancel(command);
+      }
+
+      @Override
+      public void run() {
+        scheduler.run();
+      }
+
+      @Override
+      public int getScheduledCount() {
+        return scheduler.getScheduledCount();
+      }
+
+      private Trigger trigger(BooleanSupplier condition) {
+        return m_triggers.computeIfAbsent(condition, scheduler::trigger);
+      }
+    };
+  }
+
+  /** Adapts {@link CollectionCommandScheduler}. */
+  static Scheduler collections(CollectionCommandScheduler scheduler) {
+    return new Scheduler() {
+      @Override
+      public void register(Subsystem subsystem) {
+        scheduler.registerSubsystem(subsystem);
+      }
+
+      @Override
+      public void setDefaultCommand(Subsystem subsystem, Command command) {
+        scheduler.setDefaultCommand(subsystem, command);
+      }
+
+      @Override
+      public void onTrue(BooleanSupplier condition, Command command) {
+        scheduler.onTrue(condition, command);
+      }
+
+      @Override
+      public void whileTrue(BooleanSupplier condition, Command command) {
+        scheduler.whileTrue(condition, command);
+      }
+
+      @Override
+      public void toggleOnTrue(BooleanSupplier condition, Command command) {
+        scheduler.toggleOnTrue(condition, command);
+      }
+
+      @Override
+      public void schedule(Command command) {
+        scheduler.schedule(command);
+      }
+
+      @Override
+      public void cancel(Command command) {
+        scheduler.cancel(command);
+      }
+
+      @Override
+      public void run() {
+        scheduler.run();
+      }
+
+      @Override
+      public int getScheduledCount() {
+        return scheduler.getScheduledCount();
+      }
+    };
+  }
+
+  /** A subsystem with a little state to update each cycle. */
+  private static final class StressSubsystem extends Subsystem {
+    private double m_output;
+
+    StressSubsystem(String name) {
+      super(name);
+    }
+
+    @Override
+    public void periodic() {
+      m_output = m_output * 0.9 + 0.1;
+    }
+  }
+
+  /** Records its lifecycle, and finishes after a number of cycles, or never if that is -1. */
+  private final class TracedCommand extends Command {
+    private final int m_id;
+    private final int m_duration;
+    private int m_elapsed;
+
+    TracedCommand(int id, int duration, Subsystem... requirements) {
+      m_id = id;
+      m_duration = duration;
+      addRequirements(requirements);
+    }
+
+    @Override
+    public void initialize() {
+      m_elapsed = 0;
+      record(m_id, 0);
+    }
+
+    @Override
+    public void execute() {
+      m_elapsed++;
+    }
+
+    @Override
+    public void end(boolean interrupted) {
+      record(m_id, interrupted ? 1 : 2);
+    }
+
+    @Override
+    public boolean isFinished() {
+      return m_duration >= 0 && m_elapsed >= m_duration;
+    }
+  }
+
+  /**
+   * Requires nothing, runs for nine cycles, and schedules one command and cancels another from
+   * its {@code execute()}, alternating every cycle.
+   */
+  private final class SupervisorCommand extends Command {
+    private final int m_id;
+    private final Command m_toSchedule;
+    private final Command m_toCancel;
+    private int m_elapsed;
+
+    SupervisorCommand(int id, Command toSchedule, Command toCancel) {
+      m_id = id;
+      m_toSchedule = toSchedule;
+      m_toCancel = toCancel;
+    }
+
+    @Override
+    public void initialize() {
+      m_elapsed = 0;
+      record(m_id, 5);
+    }
+
+    @Override
+    public void execute() {
+      m_elapsed++;
+      if (m_elapsed % 2 == 1) {
+        m_scheduler.schedule(m_toSchedule);
+      } else {
+        m_scheduler.cancel(m_toCancel);
+      }
+    }
+
+    @Override
+    public void end(boolean interrupted) {
+      record(m_id, interrupted ? 6 : 7);
+    }
+
+    @Override
+    public boolean isFinished() {
+      return m_elapsed >= 9;
+    }
+  }
+}
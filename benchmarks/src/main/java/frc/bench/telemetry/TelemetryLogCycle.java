@@ -0,0 +1,48 @@
+package frc.bench.telemetry;
+
+import frc.lib.telemetry.AsyncTelemetryLogger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One loop of the async-telemetry example: a sample per channel into the logger's ring. Closing
+ * the cycle stops the logger's writer thread.
+ */
+public final class TelemetryLogCycle implements Runnable, AutoCloseable {
+  private static final int kChannels = 32;
+
+  private final AsyncTelemetryLogger m_logger;
+  private long m_timestamp;
+
+  /** Opens a logger on a temporary file that is removed when the JVM exits. */
+  public TelemetryLogCycle() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < kChannels; i++) {
+      names.add("Channel" + i);
+    }
+    try {
+      Path file = Files.createTempFile("telemetry-cycle", ".bin");
+      file.toFile().deleteOnExit();
+      m_logger = new AsyncTelemetryLogger(file, names, () -> m_timestamp);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void run() {
+    m_timestamp += 20_000;
+    for (int channel = 0; channel < kChannels; channel++) {
+      m_logger.log(channel, m_timestamp * 1e-6 + channel);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    m_logger.close();
+  }
+}
@@ -0,0 +1,84 @@
+package frc.bench.telemetry;
+
+import frc.lib.telemetry.AsyncTelemetryLogger;
+import frc.lib.telemetry.SyncTelemetryLogger;
+import frc.lib.telemetry.TelemetryLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Robot-thread cost of logging one loop's worth of telemetry, asynchronously through the ring
+ * versus synchronously with a write per sample.
+ *
+ * <p>This runs against the local disk, which is far kinder than a USB stick on a roboRIO: the sync
+ * numbers here are a floor, and the real-robot tail is what the stalls come from. The async
+ * writer cannot keep up with a benchmark that logs back to back, so its {@code dropped} counter is
+ * reported too; the robot-thread cost of a dropped sample is the same as a queued one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TelemetryLoggerBenchmark {
+  private static final int kChannels = 32;
+
+  @Param({"async", "sync"})
+  public String logger;
+
+  private Path m_file;
+  private TelemetryLogger m_logger;
+  private long m_timestamp;
+
+  /** Samples the async logger dropped during the iteration. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Drops {
+    public long dropped;
+  }
+
+  @Setup(Level.Iteration)
+  public void setup() throws IOException {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < kChannels; i++) {
+      names.add("Channel" + i);
+    }
+    m_file = Files.createTempFile("telemetry-bench", ".bin");
+    m_logger =
+        "async".equals(logger)
+            ? new AsyncTelemetryLogger(m_file, names, () -> m_timestamp, 1 << 16)
+            : new SyncTelemetryLogger(m_file, names, () -> m_timestamp);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown(Drops drops) throws IOException {
+    if (m_logger instanceof AsyncTelemetryLogger async) {
+      drops.dropped = async.getDroppedCount();
+    }
+    m_logger.close();
+    Files.deleteIfExists(m_file);
+  }
+
+  @Benchmark
+  public long logLoop() {
+    m_timestamp += 20_000;
+    for (int channel = 0; channel < kChannels; channel++) {
+      m_logger.log(m_timestamp, channel, channel * 0.5);
+    }
+    return m_timestamp;
+  }
+}
@@ -0,0 +1,114 @@
+package frc.bench.telemetry;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.telemetry.AsyncTelemetryLogger;
+import frc.lib.telemetry.MappedTelemetryLog;
+import frc.lib.telemetry.SyncTelemetryLogger;
+import frc.lib.telemetry.TelemetryLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes the same samples through both loggers and reads them back through the memory-mapped
+ * reader. Every sample must come back exactly, in order, with nothing dropped. Halfway through,
+ * the clock jumps further than a block's timestamp deltas reach.
+ */
+public final class TelemetryRoundTripCheck implements Check {
+  private static final List<String> kChannels = List.of("Drive/Left", "Drive/Right", "Gyro/Yaw");
+  private static final int kLoops = 20_000;
+  // An hour, as when the clock is set from the driver station mid-session.
+  private static final long kClockJumpMicros = 3_600_000_000L;
+
+  @Override
+  public String name() {
+    return "telemetry log round trip";
+  }
+
+  @Override
+  public CheckResult run() {
+    try {
+      Path asyncFile = Files.createTempFile("telemetry-async", ".bin");
+      Path syncFile = Files.createTempFile("telemetry-sync", ".bin");
+      try {
+        // A ring large enough for the whole run, so the writer's pace cannot cause drops.
+        var async = new AsyncTelemetryLogger(asyncFile, kChannels, () -> 0, 1 << 17);
+        writeSamples(async);
+        async.close();
+        if (async.getDroppedCount() != 0) {
+          return CheckResult.fail("async logger dropped %d samples", async.getDroppedCount());
+        }
+
+        var sync = new SyncTelemetryLogger(syncFile, kChannels, () -> 0);
+        writeSamples(sync);
+        sync.close();
+
+        for (Path file : List.of(asyncFile, syncFile)) {
+          String mismatch = verify(MappedTelemetryLog.open(file));
+          if (mismatch != null) {
+            return CheckResult.fail("%s: %s", file.getFileName(), mismatch);
+          }
+        }
+        return CheckResult.pass(
+            "%d samples through each logger; async file %d bytes, sync file %d bytes",
+            kLoops * kChannels.size(), Files.size(asyncFile), Files.size(syncFile));
+      } finally {
+        Files.deleteIfExists(asyncFile);
+        Files.deleteIfExists(syncFile);
+      }
+    } catch (IOException e) {
+      return CheckResult.fail("I/O error: %s", e);
+    }
+  }
+
+  private static void writeSamples(TelemetryLogger logger) {
+    for (int loop = 0; loop < kLoops; loop++) {
+      long timestamp = timestamp(loop);
+      for (int channel = 0; channel < kChannels.size(); channel++) {
+        logger.log(timestamp, channel, expectedValue(loop, channel));
+      }
+    }
+  }
+
+  private static long timestamp(int loop) {
+    return 1_000_000L + loop * 20_000L + (loop >= kLoops / 2 ? kClockJumpMicros : 0);
+  }
+
+  private static double expectedValue(int loop, int channel) {
+    return Math.sin(loop * 0.01 + channel);
+  }
+
+  private static String verify(MappedTelemetryLog log) {
+    if (!log.getChannelNames().equals(kChannels)) {
+      return "channel names " + log.getChannelNames();
+    }
+    String[] mismatch = new String[1];
+    int[] index = new int[1];
+    long count =
+        log.read(
+            (timestamp, channel, value) -> {
+              int loop = index[0] / kChannels.size();
+              int expectedChannel = index[0] % kChannels.size();
+              long expectedTimestamp = timestamp(loop);
+              if (mismatch[0] == null
+                  && (timestamp != expectedTimestamp
+                      || channel != expectedChannel
+                      || value != expectedValue(loop, expectedChannel))) {
+                mismatch[0] =
+                    String.format(
+                        "sample %d was (%d, %d, %f)", index[0], timestamp, channel, value);
+              }
+              index[0]++;
+              return true;
+            });
+    if (mismatch[0] != null) {
+      return mismatch[0];
+    }
+    if (count != (long) kLoops * kChannels.size()) {
+      return "read " + count + " samples";
+    }
+    return null;
+  }
+}
@@ -0,0 +1,36 @@
+package frc.bench.trajectory;
+
+import frc.lib.trajectory.MappedTrajectoryCache;
+import frc.lib.trajectory.SampledTrajectory;
+import frc.lib.trajectory.TrajectoryState;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/** The autonomous loop of the trajectory-cache example: sample the mapped trajectory. */
+public final class MappedTrajectorySampleCycle implements Runnable {
+  private final SampledTrajectory m_trajectory;
+  private final TrajectoryState m_state = new TrajectoryState();
+  private double m_time;
+
+  /** Generates the example's paths, writes them to a cache and maps it. */
+  public MappedTrajectorySampleCycle() {
+    var paths = TrajectorySetup.paths();
+    try {
+      MappedTrajectoryCache cache =
+          MappedTrajectoryCache.open(TrajectorySetup.writeCache(TrajectorySetup.generate(paths)));
+      m_trajectory = cache.get(List.copyOf(cache.getNames()).get(0));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void run() {
+    m_time += 0.02;
+    if (m_time > m_trajectory.getTotalTimeSeconds()) {
+      m_time = 0;
+    }
+    m_trajectory.sample(m_time, m_state);
+  }
+}
@@ -0,0 +1,71 @@
+package frc.bench.trajectory;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.trajectory.MappedTrajectoryCache;
+import frc.lib.trajectory.SampledTrajectory;
+import frc.lib.trajectory.TrajectoryState;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Writes the example's trajectories to a cache and maps it back. Every trajectory must come back
+ * under its name with every sample bit-for-bit equal to the generated one.
+ */
+public final class TrajectoryCacheRoundTripCheck implements Check {
+  @Override
+  public String name() {
+    return "trajectory cache round trip";
+  }
+
+  @Override
+  public CheckResult run() {
+    Map<String, SampledTrajectory> generated = TrajectorySetup.generate(TrajectorySetup.paths());
+    Path file = TrajectorySetup.writeCache(generated);
+    try {
+      MappedTrajectoryCache cache = MappedTrajectoryCache.open(file);
+      if (!cache.getNames().equals(generated.keySet())) {
+        return CheckResult.fail(
+            "cache holds %s, expected %s", cache.getNames(), generated.keySet());
+      }
+
+      TrajectoryState expected = new TrajectoryState();
+      TrajectoryState actual = new TrajectoryState();
+      int samples = 0;
+      for (var entry : generated.entrySet()) {
+        SampledTrajectory original = entry.getValue();
+        SampledTrajectory mapped = cache.get(entry.getKey());
+        if (mapped.getSampleCount() != original.getSampleCount()) {
+          return CheckResult.fail(
+              "%s: %d samples, expected %d",
+              entry.getKey(), mapped.getSampleCount(), original.getSampleCount());
+        }
+        for (int i = 0; i < original.getSampleCount(); i++) {
+          if (!same(original.copySample(i, expected), mapped.copySample(i, actual))) {
+            return CheckResult.fail("%s: sample %d differs", entry.getKey(), i);
+          }
+        }
+        samples += original.getSampleCount();
+      }
+      return CheckResult.pass(
+          "%d trajectories, %d samples, %d-byte cache",
+          generated.size(),
+          samples,
+          Files.size(file));
+    } catch (IOException e) {
+      return CheckResult.fail("I/O error: %s", e);
+    }
+  }
+
+  private static boolean same(TrajectoryState a, TrajectoryState b) {
+    return Double.compare(a.timeSeconds, b.timeSeconds) == 0
+        && Double.compare(a.x, b.x) == 0
+        && Double.compare(a.y, b.y) == 0
+        && Double.compare(a.headingRadians, b.headingRadians) == 0
+        && Double.compare(a.velocity, b.velocity) == 0
+        && Double.compare(a.acceleration, b.acceleration) == 0
+        && Double.compare(a.curvature, b.curvature) == 0;
+  }
+}
@@ -0,0 +1,75 @@
+package frc.bench.trajectory;
+
+import frc.lib.trajectory.MappedTrajectoryCache;
+import frc.lib.trajectory.PathDefinition;
+import frc.lib.trajectory.SampledTrajectory;
+import frc.lib.trajectory.TrajectoryState;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-loop cost of sampling the longest autonomous trajectory, stepping through it 20 ms at a time
+ * like {@code autonomousPeriodic()} does.
+ *
+ * <p>{@code generated} samples a trajectory generated into heap arrays; {@code mapped} samples the
+ * same trajectory read out of the memory-mapped cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TrajectorySampleBenchmark {
+  private static final double kLoopPeriod = 0.02;
+
+  private final TrajectoryState m_state = new TrajectoryState();
+
+  private SampledTrajectory m_generated;
+  private SampledTrajectory m_mapped;
+  private double m_duration;
+  private double m_time;
+
+  @Setup
+  public void setup() throws IOException {
+    List<PathDefinition> paths = TrajectorySetup.paths();
+    Map<String, SampledTrajectory> trajectories = TrajectorySetup.generate(paths);
+    String longest = null;
+    for (var entry : trajectories.entrySet()) {
+      if (longest == null
+          || entry.getValue().getSampleCount() > trajectories.get(longest).getSampleCount()) {
+        longest = entry.getKey();
+      }
+    }
+
+    m_generated = trajectories.get(longest);
+    m_mapped =
+        MappedTrajectoryCache.open(TrajectorySetup.writeCache(trajectories)).get(longest);
+    m_duration = m_generated.getTotalTimeSeconds();
+  }
+
+  @Benchmark
+  public double generated() {
+    return sample(m_generated);
+  }
+
+  @Benchmark
+  public double mapped() {
+    return sample(m_mapped);
+  }
+
+  private double sample(SampledTrajectory trajectory) {
+    m_time += kLoopPeriod;
+    if (m_time > m_duration) {
+      m_time = 0;
+    }
+    return trajectory.sample(m_time, m_state).x;
+  }
+}
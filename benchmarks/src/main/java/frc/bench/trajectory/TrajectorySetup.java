@@ -0,0 +1,59 @@
+package frc.bench.trajectory;
+
+import frc.lib.trajectory.PathDefinition;
+import frc.lib.trajectory.SampledTrajectory;
+import frc.lib.trajectory.TrajectoryCacheFile;
+import frc.lib.trajectory.TrajectoryGenerator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The autonomous paths from the trajectory-cache example, which the build passes in through the
+ * {@code scratchpad.trajectoryPaths} system property.
+ */
+final class TrajectorySetup {
+  private TrajectorySetup() {}
+
+  static List<PathDefinition> paths() {
+    Path directory =
+        Path.of(
+            System.getProperty(
+                "scratchpad.trajectoryPaths", "examples/trajectory-cache/src/main/paths"));
+    List<PathDefinition> paths = new ArrayList<>();
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.filter(f -> f.toString().endsWith(".path")).sorted().toList()) {
+        paths.add(PathDefinition.read(file));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return paths;
+  }
+
+  static Map<String, SampledTrajectory> generate(List<PathDefinition> paths) {
+    Map<String, SampledTrajectory> trajectories = new LinkedHashMap<>();
+    for (PathDefinition path : paths) {
+      trajectories.put(path.name(), TrajectoryGenerator.generate(path));
+    }
+    return trajectories;
+  }
+
+  /** Writes the cache the example's build would produce to a temporary file. */
+  static Path writeCache(Map<String, SampledTrajectory> trajectories) {
+    try {
+      Path file = Files.createTempFile("trajectories", ".bin");
+      file.toFile().deleteOnExit();
+      TrajectoryCacheFile.write(file, trajectories);
+      return file;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
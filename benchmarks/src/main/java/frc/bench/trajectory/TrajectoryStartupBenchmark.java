@@ -0,0 +1,57 @@
+package frc.bench.trajectory;
+
+import frc.lib.trajectory.MappedTrajectoryCache;
+import frc.lib.trajectory.PathDefinition;
+import frc.lib.trajectory.TrajectoryGenerator;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * What it costs at robot init to have every autonomous trajectory ready.
+ *
+ * <p>{@code generate} builds each trajectory from its path definition, as a robot generating at
+ * init would. {@code map} maps the prebuilt cache and looks each trajectory up by name. The cache
+ * file stays in the OS page cache between invocations, so {@code map} is the warm-storage cost; a
+ * cold roboRIO adds the reads of the directory page, and sample pages fault in later as they are
+ * first used. Both run with a warmed-up JIT, which flatters {@code generate} more than it does
+ * {@code map}: on a freshly booted robot the generator also runs interpreted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TrajectoryStartupBenchmark {
+  private List<PathDefinition> m_paths;
+  private Path m_cacheFile;
+
+  @Setup
+  public void setup() {
+    m_paths = TrajectorySetup.paths();
+    m_cacheFile = TrajectorySetup.writeCache(TrajectorySetup.generate(m_paths));
+  }
+
+  @Benchmark
+  public void generate(Blackhole bh) {
+    for (PathDefinition path : m_paths) {
+      bh.consume(TrajectoryGenerator.generate(path));
+    }
+  }
+
+  @Benchmark
+  public void map(Blackhole bh) throws IOException {
+    MappedTrajectoryCache cache = MappedTrajectoryCache.open(m_cacheFile);
+    for (PathDefinition path : m_paths) {
+      bh.consume(cache.get(path.name()));
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package frc.bench.vision;
+
+import frc.lib.vision.PoseObservation;
+import frc.lib.vision.ReplayCameraSource;
+import frc.lib.vision.VisionIngestThread;
+
+/**
+ * The robot-thread side of the vision-offload example: pick up the newest estimate, if any.
+ * Closing the cycle stops the ingest thread.
+ */
+public final class OffloadedVisionCycle implements Runnable, AutoCloseable {
+  private final VisionIngestThread m_vision =
+      new VisionIngestThread(
+          new ReplayCameraSource(
+              ReplayCameraSource.recordedFrames(), 100, VisionSetup::clockSeconds),
+          VisionSetup.processor());
+  private double m_lastTimestamp;
+
+  @Override
+  public void run() {
+    PoseObservation observation = m_vision.poll();
+    if (observation != null && observation.timestampSeconds > m_lastTimestamp) {
+      m_lastTimestamp = observation.timestampSeconds;
+    }
+  }
+
+  @Override
+  public void close() {
+    m_vision.close();
+  }
+}
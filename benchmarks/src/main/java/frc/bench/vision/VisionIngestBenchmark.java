@@ -0,0 +1,73 @@
+package frc.bench.vision;
+
+import frc.lib.vision.CameraFrame;
+import frc.lib.vision.PoseObservation;
+import frc.lib.vision.ReplayCameraSource;
+import frc.lib.vision.VisionIngestThread;
+import frc.lib.vision.VisionProcessor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Robot-thread cost of vision per 50 Hz loop, with a 100 Hz camera.
+ *
+ * <p>{@code inline} decodes and processes the two frames that arrive each loop on the robot
+ * thread. {@code offloaded} only picks up the newest estimate from the vision thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class VisionIngestBenchmark {
+  private static final int kFramesPerLoop = 2;
+
+  private final CameraFrame m_frame = new CameraFrame();
+  private final PoseObservation m_observation = new PoseObservation();
+  private final VisionProcessor m_processor = VisionSetup.processor();
+
+  // Delivers a frame on every poll, so each inline loop sees exactly kFramesPerLoop frames.
+  private final ReplayCameraSource m_inlineSource =
+      new ReplayCameraSource(ReplayCameraSource.recordedFrames(), 1e12, VisionSetup::clockSeconds);
+
+  private VisionIngestThread m_vision;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_vision =
+        new VisionIngestThread(
+            new ReplayCameraSource(
+                ReplayCameraSource.recordedFrames(), 100, VisionSetup::clockSeconds),
+            VisionSetup.processor());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    m_vision.close();
+  }
+
+  @Benchmark
+  public void inline(Blackhole bh) {
+    for (int i = 0; i < kFramesPerLoop; i++) {
+      if (m_inlineSource.poll(m_frame) && m_processor.process(m_frame, m_observation)) {
+        bh.consume(m_observation.x);
+      }
+    }
+  }
+
+  @Benchmark
+  public void offloaded(Blackhole bh) {
+    PoseObservation observation = m_vision.poll();
+    if (observation != null) {
+      bh.consume(observation.x);
+    }
+  }
+}
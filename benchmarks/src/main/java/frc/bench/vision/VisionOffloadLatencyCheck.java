@@ -0,0 +1,126 @@
+package frc.bench.vision;
+
+import frc.bench.check.Check;
+import frc.bench.check.CheckResult;
+import frc.lib.looptiming.LoopHistogram;
+import frc.lib.looptiming.TimingSummary;
+import frc.lib.vision.CameraFrame;
+import frc.lib.vision.PoseObservation;
+import frc.lib.vision.ReplayCameraSource;
+import frc.lib.vision.VisionIngestThread;
+import frc.lib.vision.VisionProcessor;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a real-time 50 Hz loop against the recorded camera feed replayed at 100 Hz, once with
+ * vision processed inline on the loop thread and once offloaded, and reports how long the vision
+ * step of the loop takes in each.
+ *
+ * <p>Timing depends on the machine, so the check only fails if estimates stop flowing or arrive
+ * stale; the latency numbers are for reading.
+ */
+public final class VisionOffloadLatencyCheck implements Check {
+  private static final double kCameraHz = 100;
+  private static final long kLoopPeriodNanos = 20_000_000;
+  private static final int kWarmupLoops = 50;
+  private static final int kLoops = 150;
+  private static final double kMaxAgeSeconds = 0.1;
+
+  @Override
+  public String name() {
+    return "vision offload main-loop latency";
+  }
+
+  @Override
+  public CheckResult run() {
+    Result inline = runInline();
+    Result offloaded = runOffloaded();
+
+    if (inline.m_estimates == 0 || offloaded.m_estimates == 0) {
+      return CheckResult.fail(
+          "no estimates (inline %d, offloaded %d)", inline.m_estimates, offloaded.m_estimates);
+    }
+    if (offloaded.meanAge() > kMaxAgeSeconds) {
+      return CheckResult.fail("offloaded estimates %.0f ms old", 1e3 * offloaded.meanAge());
+    }
+    return CheckResult.pass("inline %s; offloaded %s", inline, offloaded);
+  }
+
+  private static Result runInline() {
+    VisionProcessor processor = VisionSetup.processor();
+    ReplayCameraSource camera =
+        new ReplayCameraSource(
+            ReplayCameraSource.recordedFrames(), kCameraHz, VisionSetup::clockSeconds);
+    CameraFrame frame = new CameraFrame();
+    PoseObservation observation = new PoseObservation();
+    Result result = new Result();
+
+    long next = System.nanoTime();
+    for (int loop = -kWarmupLoops; loop < kLoops; loop++) {
+      next += kLoopPeriodNanos;
+      LockSupport.parkNanos(next - System.nanoTime());
+
+      long start = System.nanoTime();
+      boolean fresh = false;
+      while (camera.poll(frame)) {
+        fresh |= processor.process(frame, observation);
+      }
+      if (loop >= 0) {
+        result.m_visionStep.record(System.nanoTime() - start);
+      }
+      if (fresh) {
+        result.recordEstimate(observation);
+      }
+    }
+    return result;
+  }
+
+  private static Result runOffloaded() {
+    Result result = new Result();
+    try (VisionIngestThread vision =
+        new VisionIngestThread(
+            new ReplayCameraSource(
+                ReplayCameraSource.recordedFrames(), kCameraHz, VisionSetup::clockSeconds),
+            VisionSetup.processor())) {
+      long next = System.nanoTime();
+      for (int loop = -kWarmupLoops; loop < kLoops; loop++) {
+        next += kLoopPeriodNanos;
+        LockSupport.parkNanos(next - System.nanoTime());
+
+        long start = System.nanoTime();
+        PoseObservation observation = vision.poll();
+        if (loop >= 0) {
+          result.m_visionStep.record(System.nanoTime() - start);
+        }
+        if (observation != null) {
+          result.recordEstimate(observation);
+        }
+      }
+    }
+    return result;
+  }
+
+  private static final class Result {
+    final LoopHistogram m_visionStep = new LoopHistogram();
+    int m_estimates;
+    double m_totalAgeSeconds;
+
+    void recordEstimate(PoseObservation observation) {
+      m_estimates++;
+      m_totalAgeSeconds += VisionSetup.clockSeconds() - observation.timestampSeconds;
+    }
+
+    double meanAge() {
+      return m_totalAgeSeconds / m_estimates;
+    }
+
+    @Override
+    public String toString() {
+      TimingSummary summary = m_visionStep.summarize(new TimingSummary());
+      return String.format(
+          "p50 %.1f us, p99 %.1f us, max %.1f us, %d estimates %.0f ms old",
+          summary.p50Nanos / 1e3, summary.p99Nanos / 1e3, summary.maxNanos / 1e3, m_estimates,
+          1e3 * meanAge());
+    }
+  }
+}
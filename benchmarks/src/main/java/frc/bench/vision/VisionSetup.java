@@ -0,0 +1,17 @@
+package frc.bench.vision;
+
+import frc.lib.vision.FieldTags;
+import frc.lib.vision.VisionProcessor;
+
+/** The camera mounting and filter settings the recorded frames were captured with. */
+final class VisionSetup {
+  private VisionSetup() {}
+
+  static VisionProcessor processor() {
+    return new VisionProcessor(FieldTags.k2024Crescendo, 0.3, 0, 0, 0.3, 6.0, 0.02, 0.05);
+  }
+
+  static double clockSeconds() {
+    return System.nanoTime() * 1e-9;
+  }
+}
@@ -0,0 +1,93 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.XboxController;
+import frc.lib.telemetry.AsyncTelemetryLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Logs a handful of signals every loop without ever writing to storage from the robot thread.
+ *
+ * <p>Each {@code log()} call below is a store into a preallocated ring; the logger's background
+ * thread batches the samples and writes them to {@code /U/logs} on the roboRIO (the USB stick) or
+ * {@code build/telemetry} in simulation. The logger is closed on exit, which writes out whatever is
+ * still queued. Read a log back with {@code MappedTelemetryLog}.
+ */
+public class Robot extends TimedRobot {
+  // Channel indices, matching the order of kChannelNames.
+  private static final int kBatteryVoltage = 0;
+  private static final int kInputCurrent = 1;
+  private static final int kLeftY = 2;
+  private static final int kRightX = 3;
+  private static final int kEnabled = 4;
+  private static final int kMatchTime = 5;
+
+  private static final List<String> kChannelNames =
+      List.of(
+          "Robot/BatteryVoltage",
+          "Robot/InputCurrent",
+          "Driver/LeftY",
+          "Driver/RightX",
+          "Robot/Enabled",
+          "Robot/MatchTime");
+
+  private final XboxController m_controller = new XboxController(0);
+
+  private AsyncTelemetryLogger m_logger;
+  private boolean m_reportedFailure;
+
+  @Override
+  public void robotInit() {
+    Path directory = RobotBase.isReal() ? Path.of("/U/logs") : Path.of("build", "telemetry");
+    try {
+      Files.createDirectories(directory);
+      m_logger =
+          new AsyncTelemetryLogger(
+              directory.resolve("telemetry-" + System.currentTimeMillis() + ".bin"),
+              kChannelNames,
+              RobotController::getFPGATime);
+    } catch (IOException e) {
+      DriverStation.reportError("Telemetry disabled: " + e.getMessage(), false);
+      return;
+    }
+    // The writer thread is a daemon; without this, whatever is still queued in the ring when the
+    // program exits never reaches the file.
+    AsyncTelemetryLogger logger = m_logger;
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> close(logger), "TelemetryClose"));
+  }
+
+  @Override
+  public void robotPeriodic() {
+    if (m_logger == null) {
+      return;
+    }
+
+    long now = RobotController.getFPGATime();
+    m_logger.log(now, kBatteryVoltage, RobotController.getBatteryVoltage());
+    m_logger.log(now, kInputCurrent, RobotController.getInputCurrent());
+    m_logger.log(now, kLeftY, m_controller.getLeftY());
+    m_logger.log(now, kRightX, m_controller.getRightX());
+    m_logger.log(now, kEnabled, DriverStation.isEnabled() ? 1 : 0);
+    m_logger.log(now, kMatchTime, DriverStation.getMatchTime());
+
+    if (!m_reportedFailure && m_logger.getFailure() != null) {
+      m_reportedFailure = true;
+      DriverStation.reportError(
+          "Telemetry writer stopped: " + m_logger.getFailure().getMessage(), false);
+    }
+  }
+
+  private static void close(AsyncTelemetryLogger logger) {
+    try {
+      logger.close();
+    } catch (IOException e) {
+      System.err.println("Could not finish telemetry log: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package frc.robot;
+
+import frc.lib.dashboard.DashboardBuffer;
+import frc.lib.dashboard.wpilib.NetworkTablesSink;
+
+/**
+ * The same values through a {@link DashboardBuffer}: handles instead of names, and one flush at
+ * the end of the loop that only publishes what moved past its deadband.
+ *
+ * <p>The deadbands are about what a driver or programmer can read off a dashboard: five millimetres
+ * of position, half an amp, half a degree.
+ */
+final class BatchedTelemetry implements MechanismTelemetry {
+  private final DashboardBuffer m_dashboard = new DashboardBuffer(new NetworkTablesSink());
+  private final int[] m_position;
+  private final int[] m_velocity;
+  private final int[] m_current;
+  private final int[] m_temperature;
+  private final int[] m_setpoint;
+  private final int[] m_atSetpoint;
+  private final int[] m_state;
+
+  BatchedTelemetry(int count) {
+    m_position = new int[count];
+    m_velocity = new int[count];
+    m_current = new int[count];
+    m_temperature = new int[count];
+    m_setpoint = new int[count];
+    m_atSetpoint = new int[count];
+    m_state = new int[count];
+    String[] position = SmartDashboardTelemetry.names(count, "position");
+    String[] velocity = SmartDashboardTelemetry.names(count, "velocity");
+    String[] current = SmartDashboardTelemetry.names(count, "currentAmps");
+    String[] temperature = SmartDashboardTelemetry.names(count, "temperatureC");
+    String[] setpoint = SmartDashboardTelemetry.names(count, "setpoint");
+    String[] atSetpoint = SmartDashboardTelemetry.names(count, "atSetpoint");
+    String[] state = SmartDashboardTelemetry.names(count, "state");
+    for (int i = 0; i < count; i++) {
+      m_position[i] = m_dashboard.addDouble(position[i], 0.005);
+      m_velocity[i] = m_dashboard.addDouble(velocity[i], 0.05);
+      m_current[i] = m_dashboard.addDouble(current[i], 0.5);
+      m_temperature[i] = m_dashboard.addDouble(temperature[i], 0.5);
+      m_setpoint[i] = m_dashboard.addDouble(setpoint[i], 0);
+      m_atSetpoint[i] = m_dashboard.addBoolean(atSetpoint[i]);
+      m_state[i] = m_dashboard.addString(state[i]);
+    }
+  }
+
+  @Override
+  public void publish(SimulatedMechanisms mechanisms) {
+    for (int i = 0; i < mechanisms.count; i++) {
+      m_dashboard.setDouble(m_position[i], mechanisms.position[i]);
+      m_dashboard.setDouble(m_velocity[i], mechanisms.velocity[i]);
+      m_dashboard.setDouble(m_current[i], mechanisms.current[i]);
+      m_dashboard.setDouble(m_temperature[i], mechanisms.temperature[i]);
+      m_dashboard.setDouble(m_setpoint[i], mechanisms.setpoint[i]);
+      m_dashboard.setBoolean(m_atSetpoint[i], mechanisms.atSetpoint[i]);
+      m_dashboard.setString(m_state[i], mechanisms.state[i]);
+    }
+    m_dashboard.flush();
+  }
+}
@@ -0,0 +1,6 @@
+package frc.robot;
+
+/** Puts every mechanism's values on the dashboard. Called once per loop. */
+interface MechanismTelemetry {
+  void publish(SimulatedMechanisms mechanisms);
+}
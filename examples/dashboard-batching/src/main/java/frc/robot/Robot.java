@@ -0,0 +1,155 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.Preferences;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.livewindow.LiveWindow;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.wpilib.LoopTimingPublisher;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sixty mechanisms' worth of dashboard telemetry, to see what publishing it costs per loop in CPU
+ * and on the wire.
+ *
+ * <p>The {@code Dashboard} preference picks one {@code SmartDashboard.put} per value per loop
+ * ({@code putnumber}) or a {@code frc.lib.dashboard.DashboardBuffer} flushed once per loop
+ * ({@code batched}). In simulation the {@code DASHBOARD} environment variable overrides it ({@code
+ * -Pdashboard=batched} on the Gradle command line), and a {@link WireProbe} connects a dashboard
+ * client to the robot's NetworkTables server from inside the process. Let it run, quit, and {@code
+ * test_output.txt} at the repository root has the bytes sent per loop and the publishing time.
+ * Run it once each way to compare.
+ */
+public class Robot extends TimedRobot {
+  private static final String kDashboardPreference = "Dashboard";
+  private static final int kMechanisms = 60;
+  private static final int kValuesPerMechanism = 7;
+  // Topic announcements and the first full set of values go out while the probe connects. Steady
+  // state is what is worth measuring.
+  private static final int kSettleLoops = 100;
+
+  private final LoopTimingRegistry m_registry = LoopTimingRegistry.getDefault();
+  private final SimulatedMechanisms m_mechanisms = new SimulatedMechanisms(kMechanisms);
+
+  private String m_mode;
+  private MechanismTelemetry m_telemetry;
+  private LoopTimer m_publishTimer;
+  private LoopTimingPublisher m_timingPublisher;
+
+  // Simulation only: the in-process dashboard and what it has seen since things settled.
+  private WireProbe m_probe;
+  private int m_settledLoops;
+  private long m_measuredLoops;
+  private long m_startBytesDown;
+  private long m_startBytesUp;
+  private long m_startCpuNanos;
+  private long m_endBytesDown;
+  private long m_endBytesUp;
+  private long m_endCpuNanos;
+
+  @Override
+  public void robotInit() {
+    // LiveWindow walks and republishes every sendable each loop, which would blur the comparison.
+    LiveWindow.disableAllTelemetry();
+
+    Preferences.initString(kDashboardPreference, "putnumber");
+    m_mode = Preferences.getString(kDashboardPreference, "putnumber");
+    if (RobotBase.isSimulation()) {
+      m_mode = System.getenv().getOrDefault("DASHBOARD", m_mode);
+    }
+
+    if (m_mode.equals("batched")) {
+      m_telemetry = new BatchedTelemetry(kMechanisms);
+      m_publishTimer = m_registry.timer("DashboardBuffer set + flush");
+    } else {
+      m_telemetry = new SmartDashboardTelemetry(kMechanisms);
+      m_publishTimer = m_registry.timer("SmartDashboard.put");
+    }
+    m_timingPublisher = new LoopTimingPublisher(m_registry, m_publishTimer);
+
+    if (RobotBase.isSimulation()) {
+      try {
+        m_probe = new WireProbe();
+      } catch (IOException e) {
+        System.err.println("Could not start the wire probe: " + e.getMessage());
+      }
+      Path report =
+          Path.of(System.getenv().getOrDefault("SCRATCHPAD_ROOT", "."), "test_output.txt");
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(() -> writeReport(report), "DashboardReport"));
+    }
+  }
+
+  @Override
+  public void robotPeriodic() {
+    m_registry.startCycle();
+    m_mechanisms.update(getPeriod());
+
+    long start = m_publishTimer.start();
+    m_telemetry.publish(m_mechanisms);
+    m_publishTimer.stop(start);
+
+    m_timingPublisher.update();
+    if (m_probe != null) {
+      sampleProbe();
+    }
+  }
+
+  private synchronized void sampleProbe() {
+    if (!m_probe.isConnected()) {
+      return;
+    }
+    long cpuNanos = processCpuNanos();
+    if (m_settledLoops < kSettleLoops) {
+      if (++m_settledLoops == kSettleLoops) {
+        m_startBytesDown = m_probe.getBytesToDashboard();
+        m_startBytesUp = m_probe.getBytesFromDashboard();
+        m_startCpuNanos = cpuNanos;
+      }
+      return;
+    }
+    m_measuredLoops++;
+    m_endBytesDown = m_probe.getBytesToDashboard();
+    m_endBytesUp = m_probe.getBytesFromDashboard();
+    m_endCpuNanos = cpuNanos;
+  }
+
+  private static long processCpuNanos() {
+    if (ManagementFactory.getOperatingSystemMXBean()
+        instanceof com.sun.management.OperatingSystemMXBean os) {
+      return os.getProcessCpuTime();
+    }
+    return 0;
+  }
+
+  private synchronized void writeReport(Path path) {
+    try (PrintWriter out =
+        new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+      out.printf(
+          "Dashboard (%s): %d values per loop, %d loops measured%n",
+          m_mode, kMechanisms * kValuesPerMechanism, m_measuredLoops);
+      if (m_measuredLoops > 0) {
+        out.printf(
+            "  to dashboard:   %10.1f bytes per loop%n",
+            (double) (m_endBytesDown - m_startBytesDown) / m_measuredLoops);
+        out.printf(
+            "  from dashboard: %10.1f bytes per loop%n",
+            (double) (m_endBytesUp - m_startBytesUp) / m_measuredLoops);
+        out.printf(
+            "  process CPU:    %10.3f ms per loop (robot and NetworkTables threads)%n%n",
+            (m_endCpuNanos - m_startCpuNanos) / 1e6 / m_measuredLoops);
+      } else {
+        out.printf("  the wire probe never connected%n%n");
+      }
+      m_registry.writeReport(out);
+    } catch (IOException e) {
+      System.err.println("Could not write dashboard report: " + e.getMessage());
+    }
+  }
+}
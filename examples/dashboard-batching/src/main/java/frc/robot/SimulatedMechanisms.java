@@ -0,0 +1,64 @@
+package frc.robot;
+
+import java.util.Random;
+
+/**
+ * A robot's worth of mechanism telemetry: positions chasing setpoints, with the sensor noise real
+ * encoders, current sensors and thermistors have.
+ *
+ * <p>Most of what a robot puts on the dashboard looks like this. Setpoints and states change a
+ * few times a match, temperatures creep, and the rest jitters by a hair every loop.
+ */
+final class SimulatedMechanisms {
+  private static final double kSetpointPeriodSeconds = 5;
+  private static final double kTimeConstantSeconds = 0.4;
+
+  final int count;
+  final double[] position;
+  final double[] velocity;
+  final double[] current;
+  final double[] temperature;
+  final double[] setpoint;
+  final boolean[] atSetpoint;
+  final String[] state;
+
+  private final double[] m_truePosition;
+  private final Random m_noise = new Random(2024);
+  private double m_time;
+
+  SimulatedMechanisms(int count) {
+    this.count = count;
+    position = new double[count];
+    velocity = new double[count];
+    current = new double[count];
+    temperature = new double[count];
+    setpoint = new double[count];
+    atSetpoint = new boolean[count];
+    state = new String[count];
+    m_truePosition = new double[count];
+  }
+
+  /**
+   * Advances every mechanism by one loop.
+   *
+   * @param dtSeconds The loop period.
+   */
+  void update(double dtSeconds) {
+    m_time += dtSeconds;
+    for (int i = 0; i < count; i++) {
+      // Stagger the setpoint changes so they do not all land on the same loop.
+      long step = (long) ((m_time + i * 0.37) / kSetpointPeriodSeconds);
+      setpoint[i] = step % 2 == 0 ? 0.25 : 1.0;
+
+      double trueVelocity = (setpoint[i] - m_truePosition[i]) / kTimeConstantSeconds;
+      m_truePosition[i] += trueVelocity * dtSeconds;
+
+      position[i] = m_truePosition[i] + 0.001 * m_noise.nextGaussian();
+      velocity[i] = trueVelocity + 0.02 * m_noise.nextGaussian();
+      current[i] = 1.5 + 12 * Math.abs(trueVelocity) + 0.3 * m_noise.nextGaussian();
+      temperature[i] = 25 + 0.05 * m_time + 0.05 * m_noise.nextGaussian();
+      atSetpoint[i] = Math.abs(setpoint[i] - position[i]) < 0.02;
+      state[i] = atSetpoint[i] ? "HOLD" : "MOVE";
+    }
+  }
+}
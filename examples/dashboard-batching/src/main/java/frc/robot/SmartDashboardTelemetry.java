@@ -0,0 +1,49 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
+
+/**
+ * Telemetry the way most robot code does it: a {@code SmartDashboard.put} call per value per loop.
+ * Each call looks its entry up by name and publishes straight away, changed or not.
+ */
+final class SmartDashboardTelemetry implements MechanismTelemetry {
+  private final String[] m_position;
+  private final String[] m_velocity;
+  private final String[] m_current;
+  private final String[] m_temperature;
+  private final String[] m_setpoint;
+  private final String[] m_atSetpoint;
+  private final String[] m_state;
+
+  SmartDashboardTelemetry(int count) {
+    m_position = names(count, "position");
+    m_velocity = names(count, "velocity");
+    m_current = names(count, "currentAmps");
+    m_temperature = names(count, "temperatureC");
+    m_setpoint = names(count, "setpoint");
+    m_atSetpoint = names(count, "atSetpoint");
+    m_state = names(count, "state");
+  }
+
+  @Override
+  public void publish(SimulatedMechanisms mechanisms) {
+    for (int i = 0; i < mechanisms.count; i++) {
+      SmartDashboard.putNumber(m_position[i], mechanisms.position[i]);
+      SmartDashboard.putNumber(m_velocity[i], mechanisms.velocity[i]);
+      SmartDashboard.putNumber(m_current[i], mechanisms.current[i]);
+      SmartDashboard.putNumber(m_temperature[i], mechanisms.temperature[i]);
+      SmartDashboard.putNumber(m_setpoint[i], mechanisms.setpoint[i]);
+      SmartDashboard.putBoolean(m_atSetpoint[i], mechanisms.atSetpoint[i]);
+      SmartDashboard.putString(m_state[i], mechanisms.state[i]);
+    }
+  }
+
+  // Built once so the comparison is not about string concatenation.
+  static String[] names(int count, String value) {
+    String[] names = new String[count];
+    for (int i = 0; i < count; i++) {
+      names[i] = "Mechanism" + i + "/" + value;
+    }
+    return names;
+  }
+}
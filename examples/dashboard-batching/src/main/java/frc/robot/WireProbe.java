@@ -0,0 +1,108 @@
+package frc.robot;
+
+import edu.wpi.first.networktables.MultiSubscriber;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.PubSubOption;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A dashboard inside the simulated robot's own process, for measuring what telemetry costs on the
+ * wire.
+ *
+ * <p>The robot's NetworkTables server listens where it always does. The probe starts a loopback
+ * relay in front of it that counts every byte it forwards, and a second NetworkTables instance
+ * connects through the relay as a client subscribed to {@code /SmartDashboard} with {@code
+ * sendAll}, the way a logging dashboard does. Bytes counted from server to client are what a
+ * dashboard on the driver station laptop would have received.
+ */
+final class WireProbe implements AutoCloseable {
+  private final ServerSocket m_relay;
+  private final NetworkTableInstance m_client = NetworkTableInstance.create();
+  private final MultiSubscriber m_subscriber;
+  private final AtomicLong m_bytesToDashboard = new AtomicLong();
+  private final AtomicLong m_bytesFromDashboard = new AtomicLong();
+
+  WireProbe() throws IOException {
+    m_relay = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    Thread accept = new Thread(this::accept, "WireProbeRelay");
+    accept.setDaemon(true);
+    accept.start();
+
+    m_client.setServer("127.0.0.1", m_relay.getLocalPort());
+    m_client.startClient4("wire-probe");
+    m_subscriber =
+        new MultiSubscriber(
+            m_client, new String[] {"/SmartDashboard/"}, PubSubOption.sendAll(true));
+  }
+
+  boolean isConnected() {
+    return m_client.isConnected();
+  }
+
+  long getBytesToDashboard() {
+    return m_bytesToDashboard.get();
+  }
+
+  long getBytesFromDashboard() {
+    return m_bytesFromDashboard.get();
+  }
+
+  @Override
+  public void close() throws IOException {
+    m_subscriber.close();
+    m_client.close();
+    m_relay.close();
+  }
+
+  private void accept() {
+    while (!m_relay.isClosed()) {
+      try {
+        Socket dashboard = m_relay.accept();
+        Socket server =
+            new Socket(InetAddress.getLoopbackAddress(), NetworkTableInstance.kDefaultPort4);
+        pump(server, dashboard, m_bytesToDashboard, "WireProbeDown");
+        pump(dashboard, server, m_bytesFromDashboard, "WireProbeUp");
+      } catch (IOException e) {
+        // Closed while waiting for a connection, or the server went away; the client retries.
+      }
+    }
+  }
+
+  private static void pump(Socket from, Socket to, AtomicLong counter, String name) {
+    Thread thread =
+        new Thread(
+            () -> {
+              byte[] buffer = new byte[64 * 1024];
+              try (InputStream in = from.getInputStream();
+                  OutputStream out = to.getOutputStream()) {
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                  out.write(buffer, 0, read);
+                  counter.addAndGet(read);
+                }
+              } catch (IOException e) {
+                // Either side closing ends the relay for this connection.
+              } finally {
+                closeQuietly(from);
+                closeQuietly(to);
+              }
+            },
+            name);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private static void closeQuietly(Socket socket) {
+    try {
+      socket.close();
+    } catch (IOException e) {
+      // Already closed.
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package frc.robot;
+
+import edu.wpi.first.networktables.DoubleArrayPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.AnalogGyro;
+import edu.wpi.first.wpilibj.Threads;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.AnalogGyroSim;
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.kinematics.MutableChassisSpeeds;
+import frc.lib.kinematics.SwerveKinematics;
+import frc.lib.odometry.OdometrySample;
+import frc.lib.odometry.OdometryThread;
+import frc.lib.odometry.SwervePoseEstimator;
+
+/**
+ * A swerve drivetrain whose odometry sensors are sampled on their own thread.
+ *
+ * <p>The {@link OdometryThread} reads the gyro and all four modules together at the configured
+ * rate and queues each timestamped sample. Once per robot loop, {@link #updateOdometry} drains the
+ * queue into a {@link SwervePoseEstimator} in order. The estimator records the pose at each
+ * sample's own timestamp, so {@link #addVisionMeasurement} can fuse a camera pose at the time the
+ * frame was captured rather than when it arrived. Neither path allocates.
+ */
+public class Drivetrain implements AutoCloseable {
+  public static final double kMaxSpeed = 4.0; // meters per second
+  public static final double kMaxAngularSpeed = 2 * Math.PI; // one rotation per second
+
+  private static final double kHalfWheelbase = 0.28; // meters
+  private static final int kModuleCount = 4;
+  // How far back vision measurements can reach, as in WPILib's pose estimator.
+  private static final double kHistorySeconds = 1.5;
+
+  // Front left, front right, back left, back right.
+  static final double[] kModuleX = {
+    kHalfWheelbase, kHalfWheelbase, -kHalfWheelbase, -kHalfWheelbase
+  };
+  static final double[] kModuleY = {
+    kHalfWheelbase, -kHalfWheelbase, kHalfWheelbase, -kHalfWheelbase
+  };
+
+  private final SwerveModule[] m_modules = {
+    new SwerveModule(1, 2, 0, 1, 2, 3),
+    new SwerveModule(3, 4, 4, 5, 6, 7),
+    new SwerveModule(5, 6, 8, 9, 10, 11),
+    new SwerveModule(7, 8, 12, 13, 14, 15),
+  };
+
+  private final AnalogGyro m_gyro = new AnalogGyro(0);
+  private final AnalogGyroSim m_gyroSim = new AnalogGyroSim(m_gyro);
+
+  private final SwerveKinematics m_kinematics = new SwerveKinematics(kModuleX, kModuleY);
+  private final MutableChassisSpeeds m_chassisSpeeds = new MutableChassisSpeeds();
+  private final double[] m_moduleSpeeds = new double[kModuleCount];
+  private final double[] m_moduleAngles = new double[kModuleCount];
+
+  private final SwervePoseEstimator m_poseEstimator;
+
+  private final OdometryThread m_odometryThread;
+  private final OdometrySample m_sample = new OdometrySample(kModuleCount);
+
+  private final double[] m_poseArray = new double[3];
+  private final DoubleArrayPublisher m_posePublisher;
+
+  /**
+   * Creates the drivetrain and starts its odometry thread.
+   *
+   * @param odometryHz How often to sample the odometry sensors.
+   */
+  public Drivetrain(double odometryHz) {
+    sampleSensors(m_sample);
+    m_poseEstimator =
+        new SwervePoseEstimator(
+            m_kinematics, m_sample, (int) Math.ceil(kHistorySeconds * odometryHz) + 1);
+
+    NetworkTable field = NetworkTableInstance.getDefault().getTable("SmartDashboard/Field");
+    field.getStringTopic(".type").publish().set("Field2d");
+    m_posePublisher = field.getDoubleArrayTopic("Robot").publish();
+
+    // Real-time priority just above the robot thread's default, so sensor reads land on schedule
+    // even while the robot loop is busy. Ignored in simulation.
+    m_odometryThread =
+        new OdometryThread(
+            this::sampleSensors,
+            kModuleCount,
+            odometryHz,
+            () -> Threads.setCurrentThreadPriority(true, 1));
+  }
+
+  /**
+   * Drives the robot.
+   *
+   * @param xSpeed Speed of the robot in the x direction (forward), in meters per second.
+   * @param ySpeed Speed of the robot in the y direction (sideways), in meters per second.
+   * @param rot Angular rate of the robot, in radians per second.
+   * @param fieldRelative Whether the provided x and y speeds are relative to the field.
+   * @param periodSeconds The robot loop period.
+   */
+  public void drive(
+      double xSpeed, double ySpeed, double rot, boolean fieldRelative, double periodSeconds) {
+    if (fieldRelative) {
+      m_chassisSpeeds.setFieldRelative(xSpeed, ySpeed, rot, getGyroRadians());
+    } else {
+      m_chassisSpeeds.set(xSpeed, ySpeed, rot);
+    }
+    m_chassisSpeeds.discretize(periodSeconds);
+    // The simulation reads the desired states from its own thread.
+    synchronized (m_moduleSpeeds) {
+      m_kinematics.toModuleStates(m_chassisSpeeds, m_moduleSpeeds, m_moduleAngles);
+      SwerveKinematics.desaturate(m_moduleSpeeds, kMaxSpeed);
+    }
+    for (int i = 0; i < kModuleCount; i++) {
+      m_modules[i].setDesiredState(m_moduleSpeeds[i], m_moduleAngles[i]);
+    }
+  }
+
+  /**
+   * Feeds every odometry sample taken since the last call into the pose estimator, then publishes
+   * the pose. Call once per robot loop.
+   *
+   * @return The number of samples applied.
+   */
+  public int updateOdometry() {
+    int samples = 0;
+    while (m_odometryThread.poll(m_sample)) {
+      m_poseEstimator.update(m_sample);
+      samples++;
+    }
+
+    m_poseEstimator.getEstimatedPosition().copyTo(m_poseArray);
+    m_posePublisher.set(m_poseArray);
+    return samples;
+  }
+
+  /**
+   * Fuses a field-relative pose from vision at the time its frame was captured. Call after {@link
+   * #updateOdometry}, so the odometry covers the capture time.
+   *
+   * @param x The measured x position, in meters.
+   * @param y The measured y position, in meters.
+   * @param thetaRadians The measured heading.
+   * @param timestampSeconds The capture time, on the FPGA clock.
+   * @param weight How far to move toward the measurement, from 0 to 1.
+   * @return False if the capture time is outside the pose history and the measurement was ignored.
+   */
+  public boolean addVisionMeasurement(
+      double x, double y, double thetaRadians, double timestampSeconds, double weight) {
+    return m_poseEstimator.addVisionMeasurement(x, y, thetaRadians, timestampSeconds, weight);
+  }
+
+  /**
+   * Returns the pose as of the newest sample. The returned object is owned by the estimator and
+   * changes on every {@link #updateOdometry}.
+   */
+  public MutablePose2d getPose() {
+    return m_poseEstimator.getEstimatedPosition();
+  }
+
+  /** Returns the odometry thread, for its sample, overrun and CPU counters. */
+  public OdometryThread getOdometryThread() {
+    return m_odometryThread;
+  }
+
+  /** Returns the module speeds and angles the last {@link #drive} call asked for. */
+  void getDesiredStates(double[] speedsOut, double[] anglesOut) {
+    synchronized (m_moduleSpeeds) {
+      System.arraycopy(m_moduleSpeeds, 0, speedsOut, 0, kModuleCount);
+      System.arraycopy(m_moduleAngles, 0, anglesOut, 0, kModuleCount);
+    }
+  }
+
+  /** Writes simulated sensor values. Called by {@link SwerveSimulation} on its own thread. */
+  void setSimulatedState(
+      double headingRadians, double[] distances, double[] speeds, double[] angles) {
+    m_gyroSim.setAngle(-Math.toDegrees(headingRadians));
+    for (int i = 0; i < kModuleCount; i++) {
+      m_modules[i].setSimulatedState(distances[i], speeds[i], angles[i]);
+    }
+  }
+
+  @Override
+  public void close() {
+    m_odometryThread.close();
+  }
+
+  // Runs on the odometry thread.
+  private void sampleSensors(OdometrySample out) {
+    out.timestampSeconds = Timer.getFPGATimestamp();
+    out.gyroRadians = getGyroRadians();
+    for (int i = 0; i < kModuleCount; i++) {
+      out.distancesMeters[i] = m_modules[i].getDistance();
+      out.anglesRadians[i] = m_modules[i].getAngle();
+    }
+  }
+
+  // AnalogGyro reads clockwise-positive degrees; odometry wants counterclockwise radians. This
+  // avoids getRotation2d(), which allocates.
+  private double getGyroRadians() {
+    return -Math.toRadians(m_gyro.getAngle());
+  }
+}
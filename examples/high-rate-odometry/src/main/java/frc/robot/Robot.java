@@ -0,0 +1,177 @@
+package frc.robot;
+
+import edu.wpi.first.math.filter.SlewRateLimiter;
+import edu.wpi.first.wpilibj.Preferences;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.XboxController;
+import edu.wpi.first.wpilibj.livewindow.LiveWindow;
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.wpilib.LoopTimingPublisher;
+import frc.lib.odometry.OdometryThread;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A swerve drive with odometry sampled at 250 Hz on its own thread and applied at the 50 Hz loop.
+ *
+ * <p>The sample rate comes from the {@code OdometryHz} preference, or in simulation from the
+ * {@code ODOMETRY_HZ} environment variable ({@code -PodometryHz=50} on the Gradle command line).
+ * In simulation, {@link SwerveSimulation} keeps ground truth, and autonomous drives a fixed
+ * pattern of translating while spinning. Run autonomous for a while, quit, and {@code
+ * test_output.txt} at the repository root has the pose error against ground truth and the CPU
+ * cost of odometry on each thread. Run it once at 50 Hz and once at 250 Hz to compare.
+ */
+public class Robot extends TimedRobot {
+  private static final String kOdometryHzPreference = "OdometryHz";
+  private static final double kDefaultOdometryHz = 250;
+
+  private final XboxController m_controller = new XboxController(0);
+
+  // Slew rate limiters to make joystick inputs more gentle; 1/3 sec from 0 to 1.
+  private final SlewRateLimiter m_xspeedLimiter = new SlewRateLimiter(3);
+  private final SlewRateLimiter m_yspeedLimiter = new SlewRateLimiter(3);
+  private final SlewRateLimiter m_rotLimiter = new SlewRateLimiter(3);
+
+  private final LoopTimingRegistry m_registry = LoopTimingRegistry.getDefault();
+  private final LoopTimer m_loopTimer = m_registry.timer("Robot.robotPeriodic");
+  private final LoopTimer m_odometryTimer = m_registry.timer("Drivetrain.updateOdometry");
+  private final LoopTimingPublisher m_timingPublisher =
+      new LoopTimingPublisher(m_registry, m_loopTimer);
+
+  private final Timer m_autoTimer = new Timer();
+
+  private double m_odometryHz;
+  private Drivetrain m_drive;
+
+  // Simulation only: ground truth and the error against it during autonomous.
+  private SwerveSimulation m_simulation;
+  private final MutablePose2d m_truePose = new MutablePose2d();
+  private double m_sumSquaredError;
+  private double m_maxError;
+  private long m_errorLoops;
+
+  @Override
+  public void robotInit() {
+    // LiveWindow walks and republishes every sendable each loop. Nothing in this example needs it.
+    LiveWindow.disableAllTelemetry();
+
+    Preferences.initDouble(kOdometryHzPreference, kDefaultOdometryHz);
+    m_odometryHz = Preferences.getDouble(kOdometryHzPreference, kDefaultOdometryHz);
+    String simulatedHz = System.getenv("ODOMETRY_HZ");
+    if (RobotBase.isSimulation() && simulatedHz != null) {
+      m_odometryHz = Double.parseDouble(simulatedHz);
+    }
+    m_drive = new Drivetrain(m_odometryHz);
+
+    if (RobotBase.isSimulation()) {
+      m_simulation = new SwerveSimulation(m_drive);
+      Path report =
+          Path.of(System.getenv().getOrDefault("SCRATCHPAD_ROOT", "."), "test_output.txt");
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> writeReport(report), "OdometryReport"));
+    }
+  }
+
+  @Override
+  public void robotPeriodic() {
+    m_registry.startCycle();
+    long start = m_loopTimer.start();
+
+    long odometryStart = m_odometryTimer.start();
+    m_drive.updateOdometry();
+    m_odometryTimer.stop(odometryStart);
+
+    m_loopTimer.stop(start);
+    m_timingPublisher.update();
+  }
+
+  @Override
+  public void autonomousInit() {
+    m_autoTimer.restart();
+  }
+
+  @Override
+  public void autonomousPeriodic() {
+    // Sweep the direction of travel around while spinning back and forth: every module steers
+    // continuously, which is where sampling odometry once per loop loses the most.
+    double t = m_autoTimer.get();
+    double speed = 3.0;
+    double direction = 0.9 * t;
+    double rot = 0.75 * Drivetrain.kMaxAngularSpeed * Math.sin(0.6 * t);
+    m_drive.drive(
+        speed * Math.cos(direction), speed * Math.sin(direction), rot, true, getPeriod());
+  }
+
+  @Override
+  public void teleopPeriodic() {
+    // Get the x speed. We are inverting this because Xbox controllers return
+    // negative values when we push forward.
+    double xSpeed = -m_xspeedLimiter.calculate(m_controller.getLeftY()) * Drivetrain.kMaxSpeed;
+
+    // Get the y speed or sideways/strafe speed. We are inverting this because
+    // we want a positive value when we pull to the left. Xbox controllers
+    // return positive values when you pull to the right by default.
+    double ySpeed = -m_yspeedLimiter.calculate(m_controller.getLeftX()) * Drivetrain.kMaxSpeed;
+
+    // Get the rate of angular rotation. We are inverting this because we want a
+    // positive value when we pull to the left (remember, CCW is positive in
+    // mathematics). Xbox controllers return positive values when you pull to
+    // the right by default.
+    double rot = -m_rotLimiter.calculate(m_controller.getRightX()) * Drivetrain.kMaxAngularSpeed;
+
+    m_drive.drive(xSpeed, ySpeed, rot, true, getPeriod());
+  }
+
+  @Override
+  public void disabledInit() {
+    m_drive.drive(0, 0, 0, false, getPeriod());
+  }
+
+  @Override
+  public void simulationPeriodic() {
+    if (!isAutonomousEnabled()) {
+      return;
+    }
+    // The error the robot loop sees: the estimate is as of the newest sample, compared with where
+    // the robot is now, so it includes how stale the newest sample is.
+    m_simulation.getPose(m_truePose);
+    MutablePose2d estimate = m_drive.getPose();
+    double error =
+        Math.hypot(estimate.getX() - m_truePose.getX(), estimate.getY() - m_truePose.getY());
+    synchronized (this) {
+      m_sumSquaredError += error * error;
+      m_maxError = Math.max(m_maxError, error);
+      m_errorLoops++;
+    }
+  }
+
+  private synchronized void writeReport(Path path) {
+    OdometryThread odometry = m_drive.getOdometryThread();
+    try (PrintWriter out =
+        new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+      out.printf(
+          "Odometry at %.0f Hz: RMS pose error %.1f cm, max %.1f cm over %d autonomous loops%n",
+          m_odometryHz,
+          m_errorLoops > 0 ? Math.sqrt(m_sumSquaredError / m_errorLoops) * 100 : 0,
+          m_maxError * 100,
+          m_errorLoops);
+      out.printf(
+          "Odometry thread: %d samples, %.1f us each, %d overruns, %d dropped%n%n",
+          odometry.getSampleCount(),
+          odometry.getSampleCount() > 0
+              ? odometry.getBusyNanos() / 1e3 / odometry.getSampleCount()
+              : 0,
+          odometry.getOverrunCount(),
+          odometry.getDroppedCount());
+      m_registry.writeReport(out);
+    } catch (IOException e) {
+      System.err.println("Could not write odometry report: " + e.getMessage());
+    }
+  }
+}
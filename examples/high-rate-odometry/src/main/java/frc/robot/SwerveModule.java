@@ -0,0 +1,127 @@
+package frc.robot;
+
+import edu.wpi.first.math.controller.PIDController;
+import edu.wpi.first.math.controller.SimpleMotorFeedforward;
+import edu.wpi.first.wpilibj.Encoder;
+import edu.wpi.first.wpilibj.motorcontrol.PWMSparkMax;
+import edu.wpi.first.wpilibj.simulation.EncoderSim;
+
+/**
+ * One swerve module: a drive motor and a turning motor, each with a quadrature encoder.
+ *
+ * <p>The encoders are read from both the robot thread (for control) and the odometry thread (for
+ * odometry); the HAL makes concurrent reads safe.
+ */
+public class SwerveModule {
+  private static final double kWheelRadius = 0.0508; // meters
+  private static final int kEncoderResolution = 4096;
+
+  private final PWMSparkMax m_driveMotor;
+  private final PWMSparkMax m_turningMotor;
+
+  private final Encoder m_driveEncoder;
+  private final Encoder m_turningEncoder;
+
+  private final PIDController m_drivePIDController = new PIDController(1, 0, 0);
+  private final PIDController m_turningPIDController = new PIDController(8, 0, 0);
+
+  private final SimpleMotorFeedforward m_driveFeedforward = new SimpleMotorFeedforward(1, 3);
+
+  private final EncoderSim m_driveEncoderSim;
+  private final EncoderSim m_turningEncoderSim;
+
+  /**
+   * Constructs a SwerveModule.
+   *
+   * @param driveMotorChannel PWM output for the drive motor.
+   * @param turningMotorChannel PWM output for the turning motor.
+   * @param driveEncoderChannelA DIO input for the drive encoder channel A
+   * @param driveEncoderChannelB DIO input for the drive encoder channel B
+   * @param turningEncoderChannelA DIO input for the turning encoder channel A
+   * @param turningEncoderChannelB DIO input for the turning encoder channel B
+   */
+  public SwerveModule(
+      int driveMotorChannel,
+      int turningMotorChannel,
+      int driveEncoderChannelA,
+      int driveEncoderChannelB,
+      int turningEncoderChannelA,
+      int turningEncoderChannelB) {
+    m_driveMotor = new PWMSparkMax(driveMotorChannel);
+    m_turningMotor = new PWMSparkMax(turningMotorChannel);
+
+    m_driveEncoder = new Encoder(driveEncoderChannelA, driveEncoderChannelB);
+    m_turningEncoder = new Encoder(turningEncoderChannelA, turningEncoderChannelB);
+
+    // Set the distance per pulse for the drive encoder. We can simply use the
+    // distance traveled for one rotation of the wheel divided by the encoder
+    // resolution.
+    m_driveEncoder.setDistancePerPulse(2 * Math.PI * kWheelRadius / kEncoderResolution);
+
+    // Set the distance (in this case, angle) in radians per pulse for the turning encoder.
+    // This is the the angle through an entire rotation (2 * pi) divided by the
+    // encoder resolution.
+    m_turningEncoder.setDistancePerPulse(2 * Math.PI / kEncoderResolution);
+
+    // Limit the PID Controller's input range between -pi and pi and set the input
+    // to be continuous.
+    m_turningPIDController.enableContinuousInput(-Math.PI, Math.PI);
+
+    m_driveEncoderSim = new EncoderSim(m_driveEncoder);
+    m_turningEncoderSim = new EncoderSim(m_turningEncoder);
+  }
+
+  /** Returns how far the wheel has rolled, in meters. */
+  public double getDistance() {
+    return m_driveEncoder.getDistance();
+  }
+
+  /** Returns the module angle, in radians. */
+  public double getAngle() {
+    return m_turningEncoder.getDistance();
+  }
+
+  /**
+   * Sets the desired state for the module.
+   *
+   * @param speedMetersPerSecond The desired wheel speed.
+   * @param angleRadians The desired module angle.
+   */
+  public void setDesiredState(double speedMetersPerSecond, double angleRadians) {
+    // Reverse the wheel rather than turn the module more than 90 degrees.
+    double angle = getAngle();
+    double error = Math.IEEEremainder(angleRadians - angle, 2 * Math.PI);
+    if (Math.abs(error) > Math.PI / 2) {
+      speedMetersPerSecond = -speedMetersPerSecond;
+      angleRadians += Math.PI;
+      error = Math.IEEEremainder(angleRadians - angle, 2 * Math.PI);
+    }
+
+    // Scale speed by cosine of angle error. This scales down movement perpendicular to the desired
+    // direction of travel that can occur when modules change directions. This results in smoother
+    // driving.
+    speedMetersPerSecond *= Math.cos(error);
+
+    double driveOutput =
+        m_drivePIDController.calculate(m_driveEncoder.getRate(), speedMetersPerSecond)
+            + m_driveFeedforward.calculate(speedMetersPerSecond);
+    double turnOutput = m_turningPIDController.calculate(angle, angleRadians);
+
+    m_driveMotor.setVoltage(driveOutput);
+    m_turningMotor.setVoltage(turnOutput);
+  }
+
+  /**
+   * Writes the simulated wheel distance and module angle to the encoders.
+   *
+   * @param distanceMeters How far the wheel has rolled.
+   * @param speedMetersPerSecond The wheel speed.
+   * @param angleRadians The module angle.
+   */
+  public void setSimulatedState(
+      double distanceMeters, double speedMetersPerSecond, double angleRadians) {
+    m_driveEncoderSim.setDistance(distanceMeters);
+    m_driveEncoderSim.setRate(speedMetersPerSecond);
+    m_turningEncoderSim.setDistance(angleRadians);
+  }
+}
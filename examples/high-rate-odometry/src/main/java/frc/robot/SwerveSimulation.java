@@ -0,0 +1,76 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.Notifier;
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.geometry.MutableTwist2d;
+import frc.lib.kinematics.MutableChassisSpeeds;
+import frc.lib.kinematics.SwerveKinematics;
+
+/**
+ * Ground-truth physics for the simulated drivetrain, stepped at 1 kHz.
+ *
+ * <p>Simulation normally advances once per robot loop, which would leave the encoders unchanged
+ * between the odometry thread's samples and hide exactly the effect this example measures. This
+ * steps its own model much faster than any sample rate under test. Modules are ideal: they reach
+ * the commanded speed and angle immediately.
+ */
+public class SwerveSimulation implements AutoCloseable {
+  private static final double kStepSeconds = 0.001;
+
+  private final Drivetrain m_drivetrain;
+  private final SwerveKinematics m_kinematics =
+      new SwerveKinematics(Drivetrain.kModuleX, Drivetrain.kModuleY);
+  private final MutableChassisSpeeds m_chassisSpeeds = new MutableChassisSpeeds();
+  private final MutableTwist2d m_twist = new MutableTwist2d();
+  private final double[] m_speeds = new double[4];
+  private final double[] m_angles = new double[4];
+  private final double[] m_distances = new double[4];
+
+  // Guarded by this.
+  private final MutablePose2d m_pose = new MutablePose2d();
+
+  private final Notifier m_notifier = new Notifier(this::step);
+
+  /**
+   * Starts simulating a drivetrain.
+   *
+   * @param drivetrain The drivetrain whose commands to follow and sensors to set.
+   */
+  public SwerveSimulation(Drivetrain drivetrain) {
+    m_drivetrain = drivetrain;
+    m_notifier.setName("SwerveSimulation");
+    m_notifier.startPeriodic(kStepSeconds);
+  }
+
+  /**
+   * Copies the true pose.
+   *
+   * @param out The pose to overwrite.
+   */
+  public synchronized void getPose(MutablePose2d out) {
+    out.set(m_pose);
+  }
+
+  @Override
+  public void close() {
+    m_notifier.close();
+  }
+
+  private void step() {
+    m_drivetrain.getDesiredStates(m_speeds, m_angles);
+    for (int i = 0; i < m_distances.length; i++) {
+      m_distances[i] += m_speeds[i] * kStepSeconds;
+    }
+    m_kinematics.toChassisSpeeds(m_speeds, m_angles, m_chassisSpeeds);
+    m_twist.set(
+        m_chassisSpeeds.vxMetersPerSecond * kStepSeconds,
+        m_chassisSpeeds.vyMetersPerSecond * kStepSeconds,
+        m_chassisSpeeds.omegaRadiansPerSecond * kStepSeconds);
+
+    double heading;
+    synchronized (this) {
+      heading = m_pose.exp(m_twist).getRotationRadians();
+    }
+    m_drivetrain.setSimulatedState(heading, m_distances, m_speeds, m_angles);
+  }
+}
@@ -0,0 +1,50 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.wpilib.LoopTimingPublisher;
+import frc.lib.looptiming.wpilib.TimedCommand;
+import frc.robot.subsystems.Flywheel;
+import frc.robot.subsystems.StallingCamera;
+import java.nio.file.Path;
+
+/**
+ * A command-based robot with every subsystem and command timed.
+ *
+ * <p>{@link StallingCamera} occasionally blocks for longer than a whole loop. Run it in simulation
+ * and the overrun warnings name it as the slowest section, {@code /LoopTiming} on NetworkTables
+ * shows p50/p99/max for every section, and {@code test_output.txt} at the repository root gets the
+ * full table when the simulation exits.
+ */
+public class Robot extends TimedRobot {
+  private final LoopTimingRegistry m_registry = LoopTimingRegistry.getDefault();
+  private final LoopTimer m_schedulerTimer = m_registry.timer("CommandScheduler.run");
+
+  private final Flywheel m_flywheel = new Flywheel();
+  private final StallingCamera m_camera = new StallingCamera();
+
+  private final LoopTimingPublisher m_timingPublisher =
+      new LoopTimingPublisher(m_registry, m_schedulerTimer);
+
+  @Override
+  public void robotInit() {
+    m_flywheel.setDefaultCommand(
+        new TimedCommand(m_flywheel.holdSpeedCommand(Flywheel.kIdleRadPerSec)));
+    m_timingPublisher.writeReportOnSimulationExit(
+        Path.of(System.getenv().getOrDefault("SCRATCHPAD_ROOT", "."), "test_output.txt"));
+  }
+
+  @Override
+  public void robotPeriodic() {
+    m_registry.startCycle();
+    m_schedulerTimer.time(CommandScheduler.getInstance()::run);
+    m_timingPublisher.update();
+  }
+
+  @Override
+  public void teleopInit() {
+    new TimedCommand(m_flywheel.holdSpeedCommand(Flywheel.kShootRadPerSec)).schedule();
+  }
+}
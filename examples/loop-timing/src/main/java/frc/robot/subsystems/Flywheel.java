@@ -0,0 +1,61 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.math.controller.PIDController;
+import edu.wpi.first.math.controller.SimpleMotorFeedforward;
+import edu.wpi.first.math.system.plant.DCMotor;
+import edu.wpi.first.wpilibj.Encoder;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.motorcontrol.PWMSparkMax;
+import edu.wpi.first.wpilibj.simulation.EncoderSim;
+import edu.wpi.first.wpilibj.simulation.FlywheelSim;
+import edu.wpi.first.wpilibj2.command.Command;
+import frc.lib.looptiming.wpilib.TimedSubsystemBase;
+
+/** A velocity-controlled flywheel. Cheap to run, so it anchors the bottom of the timing table. */
+public class Flywheel extends TimedSubsystemBase {
+  public static final double kIdleRadPerSec = 100;
+  public static final double kShootRadPerSec = 400;
+
+  private static final double kGearing = 1.0;
+  private static final double kMomentOfInertia = 0.004; // kg m^2
+  private static final int kEncoderCpr = 2048;
+
+  private final PWMSparkMax m_motor = new PWMSparkMax(0);
+  private final Encoder m_encoder = new Encoder(0, 1);
+  private final PIDController m_pid = new PIDController(0.05, 0, 0);
+  private final SimpleMotorFeedforward m_feedforward = new SimpleMotorFeedforward(0.05, 0.02);
+
+  private final EncoderSim m_encoderSim = new EncoderSim(m_encoder);
+  private final FlywheelSim m_flywheelSim =
+      new FlywheelSim(DCMotor.getNEO(1), kGearing, kMomentOfInertia);
+
+  private double m_setpointRadPerSec;
+
+  /** Creates the flywheel. */
+  public Flywheel() {
+    m_encoder.setDistancePerPulse(2 * Math.PI / kEncoderCpr);
+  }
+
+  /**
+   * Returns a command that holds the flywheel at a speed until interrupted.
+   *
+   * @param radPerSec The speed to hold.
+   */
+  public Command holdSpeedCommand(double radPerSec) {
+    return run(() -> m_setpointRadPerSec = radPerSec).withName("HoldSpeed" + (int) radPerSec);
+  }
+
+  @Override
+  protected void timedPeriodic() {
+    m_motor.setVoltage(
+        m_pid.calculate(m_encoder.getRate(), m_setpointRadPerSec)
+            + m_feedforward.calculate(m_setpointRadPerSec));
+  }
+
+  @Override
+  protected void timedSimulationPeriodic() {
+    m_flywheelSim.setInputVoltage(m_motor.get() * RobotController.getInputVoltage());
+    m_flywheelSim.update(0.02);
+    m_encoderSim.setRate(m_flywheelSim.getAngularVelocityRadPerSec());
+  }
+}
@@ -0,0 +1,25 @@
+package frc.robot.subsystems;
+
+import frc.lib.looptiming.wpilib.TimedSubsystemBase;
+
+/**
+ * Stands in for a subsystem that does blocking work on the robot thread, like a synchronous
+ * camera or file read. Most loops it takes a fraction of a millisecond; every few seconds it
+ * stalls for longer than the whole 20 ms budget.
+ */
+public class StallingCamera extends TimedSubsystemBase {
+  private static final long kNormalWorkNanos = 300_000;
+  private static final long kStallNanos = 25_000_000;
+  private static final int kLoopsBetweenStalls = 250;
+
+  private int m_loops;
+
+  @Override
+  protected void timedPeriodic() {
+    long work = ++m_loops % kLoopsBetweenStalls == 0 ? kStallNanos : kNormalWorkNanos;
+    long end = System.nanoTime() + work;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import frc.lib.scheduler.BitsetCommandScheduler;
+import frc.lib.scheduler.Command;
+import frc.lib.scheduler.InstantCommand;
+import frc.lib.scheduler.ParallelCommandGroup;
+import frc.lib.scheduler.RunCommand;
+import frc.lib.scheduler.SequentialCommandGroup;
+import frc.lib.scheduler.Subsystem;
+import frc.lib.scheduler.Trigger;
+import frc.lib.scheduler.WaitUntilCommand;
+
+/**
+ * The stress structure of {@link WpilibSchedulerStress}, built on {@link BitsetCommandScheduler}.
+ *
+ * <p>Subsystems, commands and bindings are the same, one for one; only the scheduler and the
+ * command classes differ.
+ */
+final class BitsetSchedulerStress {
+  private final BitsetCommandScheduler m_scheduler =
+      new BitsetCommandScheduler(DriverStation::isDisabled);
+
+  BitsetSchedulerStress(int subsystemCount, SimulatedButtons buttons) {
+    StressSubsystem[] subsystems = new StressSubsystem[subsystemCount];
+    for (int i = 0; i < subsystemCount; i++) {
+      subsystems[i] = new StressSubsystem("Subsystem" + i);
+      m_scheduler.registerSubsystem(subsystems[i]);
+      m_scheduler.setDefaultCommand(
+          subsystems[i], named(new WorkCommand(-1, subsystems[i]), "Idle" + i));
+    }
+
+    for (int i = 0; i < subsystemCount; i++) {
+      StressSubsystem a = subsystems[i];
+      StressSubsystem b = subsystems[(i + 1) % subsystemCount];
+      StressSubsystem c = subsystems[(i + 2) % subsystemCount];
+
+      // A button held for a while: run two subsystems together while held.
+      m_scheduler
+          .trigger(buttons.button(20 + i % 37, i * 7))
+          .whileTrue(
+              named(
+                  new ParallelCommandGroup(new WorkCommand(-1, a), new WorkCommand(-1, b)),
+                  "Hold" + i));
+
+      // A tap: a short sequence over three subsystems, started on press.
+      Trigger tap = m_scheduler.trigger(buttons.button(11 + i % 23, i * 13));
+      tap.onTrue(
+          named(
+              new SequentialCommandGroup(
+                  new InstantCommand(a::nudge, a),
+                  new WorkCommand(5, a, b),
+                  new WaitUntilCommand(buttons.button(2, 0)),
+                  ParallelCommandGroup.race(new WorkCommand(8, c), new RunCommand(c::nudge))),
+              "Tap" + i));
+
+      // Every tenth tap button also toggles a long-running command on the third subsystem.
+      if (i % 10 == 0) {
+        tap.toggleOnTrue(named(new WorkCommand(30, c), "Toggle" + i));
+      }
+    }
+  }
+
+  /** Runs the scheduler once. */
+  void run() {
+    m_scheduler.run();
+  }
+
+  private static Command named(Command command, String name) {
+    command.setName(name);
+    return command;
+  }
+
+  /** A subsystem with a little state to update each loop. */
+  private static final class StressSubsystem extends Subsystem {
+    private double m_output;
+
+    StressSubsystem(String name) {
+      super(name);
+    }
+
+    void nudge() {
+      m_output += 0.01;
+    }
+
+    @Override
+    public void periodic() {
+      m_output = m_output * 0.9 + 0.1;
+    }
+  }
+
+  /** Finishes after a number of loops, or never if that is -1. */
+  private static final class WorkCommand extends Command {
+    private final int m_duration;
+    private int m_elapsed;
+
+    WorkCommand(int duration, Subsystem... requirements) {
+      m_duration = duration;
+      addRequirements(requirements);
+    }
+
+    @Override
+    public void initialize() {
+      m_elapsed = 0;
+    }
+
+    @Override
+    public void execute() {
+      m_elapsed++;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return m_duration >= 0 && m_elapsed >= m_duration;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.Preferences;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.livewindow.LiveWindow;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.wpilib.LoopTimingPublisher;
+import java.nio.file.Path;
+
+/**
+ * Hundreds of subsystems, triggers and composed commands, to see what scheduling costs per loop.
+ *
+ * <p>The {@code Scheduler} preference picks WPILib's {@code CommandScheduler} ({@code wpilib}) or
+ * {@code frc.lib.scheduler.BitsetCommandScheduler} ({@code bitset}), and {@code StressSubsystems}
+ * how many subsystems to build. In simulation the {@code SCHEDULER} and {@code STRESS_SUBSYSTEMS}
+ * environment variables override them ({@code -Pscheduler=bitset -PstressSubsystems=400} on the
+ * Gradle command line). Buttons press themselves, so just enable teleop, let it run, quit, and
+ * {@code test_output.txt} at the repository root has the scheduler's loop timing. Run it once with
+ * each scheduler to compare.
+ */
+public class Robot extends TimedRobot {
+  private static final String kSchedulerPreference = "Scheduler";
+  private static final String kSubsystemsPreference = "StressSubsystems";
+  private static final int kDefaultSubsystems = 200;
+
+  private final LoopTimingRegistry m_registry = LoopTimingRegistry.getDefault();
+  private final SimulatedButtons m_buttons = new SimulatedButtons();
+
+  private Runnable m_scheduler;
+  private LoopTimer m_schedulerTimer;
+  private LoopTimingPublisher m_timingPublisher;
+
+  @Override
+  public void robotInit() {
+    // LiveWindow walks and republishes every sendable each loop, which with hundreds of
+    // subsystems would swamp the cost being measured.
+    LiveWindow.disableAllTelemetry();
+
+    Preferences.initString(kSchedulerPreference, "wpilib");
+    Preferences.initInt(kSubsystemsPreference, kDefaultSubsystems);
+    String scheduler = Preferences.getString(kSchedulerPreference, "wpilib");
+    int subsystems = Preferences.getInt(kSubsystemsPreference, kDefaultSubsystems);
+    if (RobotBase.isSimulation()) {
+      scheduler = System.getenv().getOrDefault("SCHEDULER", scheduler);
+      String simulatedSubsystems = System.getenv("STRESS_SUBSYSTEMS");
+      if (simulatedSubsystems != null) {
+        subsystems = Integer.parseInt(simulatedSubsystems);
+      }
+    }
+
+    // Only build the structure on the scheduler under test: WPILib subsystems register themselves
+    // with CommandScheduler as they are constructed.
+    if (scheduler.equals("bitset")) {
+      m_scheduler = new BitsetSchedulerStress(subsystems, m_buttons)::run;
+      m_schedulerTimer =
+          m_registry.timer("BitsetCommandScheduler.run (" + subsystems + " subsystems)");
+    } else {
+      m_scheduler = new WpilibSchedulerStress(subsystems, m_buttons)::run;
+      m_schedulerTimer = m_registry.timer("CommandScheduler.run (" + subsystems + " subsystems)");
+    }
+
+    m_timingPublisher = new LoopTimingPublisher(m_registry, m_schedulerTimer);
+    m_timingPublisher.writeReportOnSimulationExit(
+        Path.of(System.getenv().getOrDefault("SCRATCHPAD_ROOT", "."), "test_output.txt"));
+  }
+
+  @Override
+  public void robotPeriodic() {
+    m_registry.startCycle();
+    m_buttons.advance();
+    m_schedulerTimer.time(m_scheduler);
+    m_timingPublisher.update();
+  }
+}
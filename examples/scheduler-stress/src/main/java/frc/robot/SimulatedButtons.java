@@ -0,0 +1,27 @@
+package frc.robot;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Buttons that press and release themselves on fixed, staggered periods, so a stress run keeps
+ * scheduling, interrupting and finishing commands without anyone at the controls.
+ */
+final class SimulatedButtons {
+  private int m_loop;
+
+  /** Advances every button by one robot loop. Call once at the top of each loop. */
+  void advance() {
+    m_loop++;
+  }
+
+  /**
+   * Returns a button that is held for {@code period} loops, then released for {@code period}.
+   *
+   * @param period The half period, in loops.
+   * @param phase How many loops into its cycle the button starts.
+   * @return The button.
+   */
+  BooleanSupplier button(int period, int phase) {
+    return () -> ((m_loop + phase) / period & 1) == 0;
+  }
+}
@@ -0,0 +1,115 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import edu.wpi.first.wpilibj2.command.InstantCommand;
+import edu.wpi.first.wpilibj2.command.ParallelCommandGroup;
+import edu.wpi.first.wpilibj2.command.ParallelRaceGroup;
+import edu.wpi.first.wpilibj2.command.RunCommand;
+import edu.wpi.first.wpilibj2.command.SequentialCommandGroup;
+import edu.wpi.first.wpilibj2.command.Subsystem;
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import edu.wpi.first.wpilibj2.command.WaitUntilCommand;
+import edu.wpi.first.wpilibj2.command.button.Trigger;
+
+/**
+ * The stress structure on WPILib's {@link CommandScheduler}: a default command on every
+ * subsystem, and two triggers per subsystem bound to composed commands over neighbouring
+ * subsystems, so requirements conflict often.
+ *
+ * <p>{@link BitsetSchedulerStress} builds exactly the same structure on the bitset scheduler.
+ */
+final class WpilibSchedulerStress {
+  private final CommandScheduler m_scheduler = CommandScheduler.getInstance();
+
+  WpilibSchedulerStress(int subsystemCount, SimulatedButtons buttons) {
+    StressSubsystem[] subsystems = new StressSubsystem[subsystemCount];
+    for (int i = 0; i < subsystemCount; i++) {
+      subsystems[i] = new StressSubsystem("Subsystem" + i);
+      subsystems[i].setDefaultCommand(named(new WorkCommand(-1, subsystems[i]), "Idle" + i));
+    }
+
+    for (int i = 0; i < subsystemCount; i++) {
+      StressSubsystem a = subsystems[i];
+      StressSubsystem b = subsystems[(i + 1) % subsystemCount];
+      StressSubsystem c = subsystems[(i + 2) % subsystemCount];
+
+      // A button held for a while: run two subsystems together while held.
+      new Trigger(buttons.button(20 + i % 37, i * 7))
+          .whileTrue(
+              named(
+                  new ParallelCommandGroup(new WorkCommand(-1, a), new WorkCommand(-1, b)),
+                  "Hold" + i));
+
+      // A tap: a short sequence over three subsystems, started on press.
+      Trigger tap = new Trigger(buttons.button(11 + i % 23, i * 13));
+      tap.onTrue(
+          named(
+              new SequentialCommandGroup(
+                  new InstantCommand(a::nudge, a),
+                  new WorkCommand(5, a, b),
+                  new WaitUntilCommand(buttons.button(2, 0)),
+                  new ParallelRaceGroup(new WorkCommand(8, c), new RunCommand(c::nudge))),
+              "Tap" + i));
+
+      // Every tenth tap button also toggles a long-running command on the third subsystem.
+      if (i % 10 == 0) {
+        tap.toggleOnTrue(named(new WorkCommand(30, c), "Toggle" + i));
+      }
+    }
+  }
+
+  /** Runs the scheduler once. */
+  void run() {
+    m_scheduler.run();
+  }
+
+  private static Command named(Command command, String name) {
+    command.setName(name);
+    return command;
+  }
+
+  /** A subsystem with a little state to update each loop. */
+  private static final class StressSubsystem extends SubsystemBase {
+    private double m_output;
+
+    StressSubsystem(String name) {
+      setName(name);
+    }
+
+    void nudge() {
+      m_output += 0.01;
+    }
+
+    @Override
+    public void periodic() {
+      m_output = m_output * 0.9 + 0.1;
+    }
+  }
+
+  /** Finishes after a number of loops, or never if that is -1. */
+  private static final class WorkCommand extends Command {
+    private final int m_duration;
+    private int m_elapsed;
+
+    WorkCommand(int duration, Subsystem... requirements) {
+      m_duration = duration;
+      addRequirements(requirements);
+    }
+
+    @Override
+    public void initialize() {
+      m_elapsed = 0;
+    }
+
+    @Override
+    public void execute() {
+      m_elapsed++;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return m_duration >= 0 && m_elapsed >= m_duration;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package frc.robot;
+
+import edu.wpi.first.math.controller.SimpleMotorFeedforward;
+import edu.wpi.first.networktables.DoubleArrayPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Filesystem;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.motorcontrol.PWMSparkMax;
+import edu.wpi.first.wpilibj.smartdashboard.SendableChooser;
+import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
+import frc.lib.trajectory.MappedTrajectoryCache;
+import frc.lib.trajectory.SampledTrajectory;
+import frc.lib.trajectory.TrajectoryState;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Drives autonomous paths that were generated at build time.
+ *
+ * <p>{@code gradle build} turns every file in {@code src/main/paths} into one trajectory cache,
+ * which deploys to {@code /home/lvuser/deploy/trajectories.bin}. At startup the robot maps that
+ * file and looks up each trajectory by name, so it is ready to pick an auto as soon as it boots;
+ * nothing is generated or parsed on the robot. Following a trajectory samples it by timestamp
+ * every loop without allocating, and feeds the sampled wheel speeds forward to the drive motors.
+ */
+public class Robot extends TimedRobot {
+  private static final String kCacheFile = "trajectories.bin";
+  private static final double kTrackWidth = 0.762; // meters, matches trackWidth in the paths
+
+  private final PWMSparkMax m_leftMotor = new PWMSparkMax(1);
+  private final PWMSparkMax m_rightMotor = new PWMSparkMax(3);
+  private final SimpleMotorFeedforward m_feedforward = new SimpleMotorFeedforward(1, 3);
+
+  private final SendableChooser<SampledTrajectory> m_autoChooser = new SendableChooser<>();
+  private final Timer m_autoTimer = new Timer();
+  private final TrajectoryState m_reference = new TrajectoryState();
+  private SampledTrajectory m_trajectory;
+
+  private final double[] m_referenceArray = new double[3];
+  private final DoubleArrayPublisher m_referencePublisher;
+
+  /** Creates the robot. */
+  public Robot() {
+    m_rightMotor.setInverted(true);
+
+    NetworkTable field = NetworkTableInstance.getDefault().getTable("SmartDashboard/Field");
+    field.getStringTopic(".type").publish().set("Field2d");
+    m_referencePublisher = field.getDoubleArrayTopic("Robot").publish();
+  }
+
+  @Override
+  public void robotInit() {
+    Path cacheFile =
+        RobotBase.isReal()
+            ? Filesystem.getDeployDirectory().toPath().resolve(kCacheFile)
+            : simulationCacheFile();
+
+    long start = System.nanoTime();
+    try {
+      MappedTrajectoryCache cache = MappedTrajectoryCache.open(cacheFile);
+      for (String name : cache.getNames()) {
+        m_autoChooser.addOption(name, cache.get(name));
+      }
+      System.out.printf(
+          "Mapped %d trajectories from %s in %.2f ms%n",
+          cache.getNames().size(), cacheFile, (System.nanoTime() - start) / 1e6);
+    } catch (IOException e) {
+      DriverStation.reportError("No autonomous trajectories: " + e.getMessage(), false);
+    }
+    SmartDashboard.putData("Auto", m_autoChooser);
+  }
+
+  @Override
+  public void autonomousInit() {
+    m_trajectory = m_autoChooser.getSelected();
+    m_autoTimer.restart();
+  }
+
+  @Override
+  public void autonomousPeriodic() {
+    if (m_trajectory == null) {
+      stop();
+      return;
+    }
+
+    m_trajectory.sample(m_autoTimer.get(), m_reference);
+
+    double velocity = m_reference.velocity;
+    double angularVelocity = velocity * m_reference.curvature;
+    double leftVelocity = velocity - angularVelocity * kTrackWidth / 2;
+    double rightVelocity = velocity + angularVelocity * kTrackWidth / 2;
+    m_leftMotor.setVoltage(m_feedforward.calculate(leftVelocity));
+    m_rightMotor.setVoltage(m_feedforward.calculate(rightVelocity));
+
+    m_referenceArray[0] = m_reference.x;
+    m_referenceArray[1] = m_reference.y;
+    m_referenceArray[2] = Math.toDegrees(m_reference.headingRadians);
+    m_referencePublisher.set(m_referenceArray);
+  }
+
+  @Override
+  public void disabledInit() {
+    stop();
+  }
+
+  private void stop() {
+    m_leftMotor.stopMotor();
+    m_rightMotor.stopMotor();
+  }
+
+  // GradleRIO only copies the cache to the roboRIO; simulation reads it where the build put it.
+  // The simulation tasks pass the repository root, since the working directory is up to them.
+  private static Path simulationCacheFile() {
+    Path build = Path.of("build", "generated", "deploy", kCacheFile);
+    String root = System.getenv("SCRATCHPAD_ROOT");
+    return root != null ? Path.of(root, "examples", "trajectory-cache").resolve(build) : build;
+  }
+}
@@ -0,0 +1,152 @@
+package frc.robot;
+
+import edu.wpi.first.math.Matrix;
+import edu.wpi.first.math.Nat;
+import edu.wpi.first.math.estimator.DifferentialDrivePoseEstimator;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.kinematics.DifferentialDriveKinematics;
+import edu.wpi.first.math.numbers.N1;
+import edu.wpi.first.math.numbers.N3;
+import edu.wpi.first.networktables.DoubleArrayPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.ADXRS450_Gyro;
+import edu.wpi.first.wpilibj.Encoder;
+import edu.wpi.first.wpilibj.Preferences;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.Timer;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.wpilib.LoopTimingPublisher;
+import frc.lib.vision.CameraFrame;
+import frc.lib.vision.FieldTags;
+import frc.lib.vision.PoseObservation;
+import frc.lib.vision.ReplayCameraSource;
+import frc.lib.vision.VisionIngestThread;
+import frc.lib.vision.VisionProcessor;
+import java.nio.file.Path;
+
+/**
+ * Fuses AprilTag pose estimates into a drivetrain pose estimator, with the vision work either on
+ * the robot thread or on a dedicated vision thread.
+ *
+ * <p>The camera is a {@link ReplayCameraSource} playing back a recorded drive at 100 Hz. Toggle the
+ * {@code OffloadVision} preference and restart to compare: {@code /LoopTiming/Vision.ingest}
+ * shows what vision costs the loop either way. The recording was not made on this robot, so the
+ * fused pose follows the camera rather than anything the drivetrain does.
+ */
+public class Robot extends TimedRobot {
+  private static final String kOffloadPreference = "OffloadVision";
+
+  private static final double kCameraHz = 100;
+  private static final double kTrackWidth = 0.7; // meters
+  private static final double kWheelRadius = 0.0508; // meters
+  private static final int kEncoderResolution = 4096;
+
+  private final Encoder m_leftEncoder = new Encoder(0, 1);
+  private final Encoder m_rightEncoder = new Encoder(2, 3);
+  private final ADXRS450_Gyro m_gyro = new ADXRS450_Gyro();
+
+  private final DifferentialDrivePoseEstimator m_poseEstimator;
+  private final Matrix<N3, N1> m_visionStdDevs = new Matrix<>(Nat.N3(), Nat.N1());
+
+  private final VisionProcessor m_visionProcessor =
+      new VisionProcessor(FieldTags.k2024Crescendo, 0.3, 0, 0, 0.3, 6.0, 0.02, 0.05);
+
+  // Inline mode: the robot thread reads and processes every frame itself.
+  private final CameraFrame m_frame = new CameraFrame();
+  private final PoseObservation m_inlineObservation = new PoseObservation();
+  private ReplayCameraSource m_inlineCamera;
+
+  // Offloaded mode: the vision thread does the work and the robot thread only picks up results.
+  private VisionIngestThread m_visionThread;
+
+  private final LoopTimingRegistry m_registry = LoopTimingRegistry.getDefault();
+  private final LoopTimer m_loopTimer = m_registry.timer("Robot.robotPeriodic");
+  private final LoopTimer m_visionTimer = m_registry.timer("Vision.ingest");
+  private final LoopTimingPublisher m_timingPublisher =
+      new LoopTimingPublisher(m_registry, m_loopTimer);
+
+  private final double[] m_poseArray = new double[3];
+  private final DoubleArrayPublisher m_posePublisher;
+
+  /** Creates the robot. */
+  public Robot() {
+    m_leftEncoder.setDistancePerPulse(2 * Math.PI * kWheelRadius / kEncoderResolution);
+    m_rightEncoder.setDistancePerPulse(2 * Math.PI * kWheelRadius / kEncoderResolution);
+    m_poseEstimator =
+        new DifferentialDrivePoseEstimator(
+            new DifferentialDriveKinematics(kTrackWidth),
+            m_gyro.getRotation2d(),
+            m_leftEncoder.getDistance(),
+            m_rightEncoder.getDistance(),
+            new Pose2d());
+
+    NetworkTable field = NetworkTableInstance.getDefault().getTable("SmartDashboard/Field");
+    field.getStringTopic(".type").publish().set("Field2d");
+    m_posePublisher = field.getDoubleArrayTopic("Robot").publish();
+  }
+
+  @Override
+  public void robotInit() {
+    Preferences.initBoolean(kOffloadPreference, true);
+    if (Preferences.getBoolean(kOffloadPreference, true)) {
+      m_visionThread =
+          new VisionIngestThread(
+              new ReplayCameraSource(
+                  ReplayCameraSource.recordedFrames(), kCameraHz, Timer::getFPGATimestamp),
+              m_visionProcessor);
+    } else {
+      m_inlineCamera =
+          new ReplayCameraSource(
+              ReplayCameraSource.recordedFrames(), kCameraHz, Timer::getFPGATimestamp);
+    }
+
+    m_timingPublisher.writeReportOnSimulationExit(
+        Path.of(System.getenv().getOrDefault("SCRATCHPAD_ROOT", "."), "test_output.txt"));
+  }
+
+  @Override
+  public void robotPeriodic() {
+    m_registry.startCycle();
+    long start = m_loopTimer.start();
+
+    m_poseEstimator.update(
+        m_gyro.getRotation2d(), m_leftEncoder.getDistance(), m_rightEncoder.getDistance());
+
+    long visionStart = m_visionTimer.start();
+    if (m_visionThread != null) {
+      PoseObservation observation = m_visionThread.poll();
+      if (observation != null) {
+        addVisionMeasurement(observation);
+      }
+    } else {
+      while (m_inlineCamera.poll(m_frame)) {
+        if (m_visionProcessor.process(m_frame, m_inlineObservation)) {
+          addVisionMeasurement(m_inlineObservation);
+        }
+      }
+    }
+    m_visionTimer.stop(visionStart);
+
+    Pose2d pose = m_poseEstimator.getEstimatedPosition();
+    m_poseArray[0] = pose.getX();
+    m_poseArray[1] = pose.getY();
+    m_poseArray[2] = pose.getRotation().getDegrees();
+    m_posePublisher.set(m_poseArray);
+
+    m_loopTimer.stop(start);
+    m_timingPublisher.update();
+  }
+
+  private void addVisionMeasurement(PoseObservation observation) {
+    m_visionStdDevs.set(0, 0, observation.xyStdDev);
+    m_visionStdDevs.set(1, 0, observation.xyStdDev);
+    m_visionStdDevs.set(2, 0, observation.thetaStdDev);
+    m_poseEstimator.addVisionMeasurement(
+        new Pose2d(observation.x, observation.y, new Rotation2d(observation.thetaRadians)),
+        observation.timestampSeconds,
+        m_visionStdDevs);
+  }
+}
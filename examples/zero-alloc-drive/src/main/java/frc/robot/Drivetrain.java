@@ -0,0 +1,177 @@
+package frc.robot;
+
+import edu.wpi.first.math.controller.PIDController;
+import edu.wpi.first.math.controller.SimpleMotorFeedforward;
+import edu.wpi.first.math.system.plant.DCMotor;
+import edu.wpi.first.math.system.plant.LinearSystemId;
+import edu.wpi.first.networktables.DoubleArrayPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.AnalogGyro;
+import edu.wpi.first.wpilibj.Encoder;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.motorcontrol.PWMSparkMax;
+import edu.wpi.first.wpilibj.simulation.AnalogGyroSim;
+import edu.wpi.first.wpilibj.simulation.DifferentialDrivetrainSim;
+import edu.wpi.first.wpilibj.simulation.EncoderSim;
+import frc.lib.kinematics.DifferentialKinematics;
+import frc.lib.kinematics.MutableChassisSpeeds;
+import frc.lib.kinematics.MutableDifferentialOdometry;
+import frc.lib.kinematics.MutableDifferentialWheelSpeeds;
+import frc.lib.replay.ReplayChannels;
+
+/** Represents a differential drive style drivetrain that never allocates in its loop methods. */
+public class Drivetrain {
+  public static final double kMaxSpeed = 3.0; // meters per second
+  public static final double kMaxAngularSpeed = 2 * Math.PI; // one rotation per second
+
+  private static final double kTrackWidth = 0.381 * 2; // meters
+  private static final double kWheelRadius = 0.0508; // meters
+  private static final int kEncoderResolution = 4096;
+
+  private final PWMSparkMax m_leftLeader = new PWMSparkMax(1);
+  private final PWMSparkMax m_leftFollower = new PWMSparkMax(2);
+  private final PWMSparkMax m_rightLeader = new PWMSparkMax(3);
+  private final PWMSparkMax m_rightFollower = new PWMSparkMax(4);
+
+  private final Encoder m_leftEncoder = new Encoder(0, 1);
+  private final Encoder m_rightEncoder = new Encoder(2, 3);
+
+  private final AnalogGyro m_gyro = new AnalogGyro(0);
+
+  private final PIDController m_leftPIDController = new PIDController(8.5, 0, 0);
+  private final PIDController m_rightPIDController = new PIDController(8.5, 0, 0);
+
+  private final SimpleMotorFeedforward m_feedforward = new SimpleMotorFeedforward(1, 3);
+
+  private final DifferentialKinematics m_kinematics = new DifferentialKinematics(kTrackWidth);
+  private final MutableChassisSpeeds m_chassisSpeeds = new MutableChassisSpeeds();
+  private final MutableDifferentialWheelSpeeds m_wheelSpeeds = new MutableDifferentialWheelSpeeds();
+  private final MutableDifferentialOdometry m_odometry;
+
+  // Published in the layout the Field2d widget reads, so the pose shows up on a field view
+  // without going through Field2d.setRobotPose(Pose2d).
+  private final double[] m_poseArray = new double[3];
+  private final DoubleArrayPublisher m_posePublisher;
+
+  // Simulation classes help us simulate our robot. They allocate internally, but only ever run
+  // from simulationPeriodic().
+  private final AnalogGyroSim m_gyroSim = new AnalogGyroSim(m_gyro);
+  private final EncoderSim m_leftEncoderSim = new EncoderSim(m_leftEncoder);
+  private final EncoderSim m_rightEncoderSim = new EncoderSim(m_rightEncoder);
+  private final DifferentialDrivetrainSim m_drivetrainSimulator =
+      new DifferentialDrivetrainSim(
+          LinearSystemId.identifyDrivetrainSystem(1.98, 0.2, 1.5, 0.3),
+          DCMotor.getCIM(2),
+          8,
+          kTrackWidth,
+          kWheelRadius,
+          null);
+
+  /** Subsystem constructor. */
+  public Drivetrain() {
+    m_leftLeader.addFollower(m_leftFollower);
+    m_rightLeader.addFollower(m_rightFollower);
+
+    // We need to invert one side of the drivetrain so that positive voltages
+    // result in both sides moving forward. Depending on how your robot's
+    // gearbox is constructed, you might have to invert the left side instead.
+    m_rightLeader.setInverted(true);
+
+    // Set the distance per pulse for the drive encoders. We can simply use the
+    // distance traveled for one rotation of the wheel divided by the encoder
+    // resolution.
+    m_leftEncoder.setDistancePerPulse(2 * Math.PI * kWheelRadius / kEncoderResolution);
+    m_rightEncoder.setDistancePerPulse(2 * Math.PI * kWheelRadius / kEncoderResolution);
+
+    m_leftEncoder.reset();
+    m_rightEncoder.reset();
+
+    m_odometry =
+        new MutableDifferentialOdometry(
+            getGyroRadians(), m_leftEncoder.getDistance(), m_rightEncoder.getDistance());
+
+    NetworkTable field = NetworkTableInstance.getDefault().getTable("SmartDashboard/Field");
+    field.getStringTopic(".type").publish().set("Field2d");
+    m_posePublisher = field.getDoubleArrayTopic("Robot").publish();
+  }
+
+  /**
+   * Controls the robot using arcade drive.
+   *
+   * @param xSpeed the speed for the x axis, in meters per second
+   * @param rot the rotation, in radians per second
+   */
+  public void drive(double xSpeed, double rot) {
+    m_chassisSpeeds.set(xSpeed, 0, rot);
+    m_kinematics.toWheelSpeeds(m_chassisSpeeds, m_wheelSpeeds).desaturate(kMaxSpeed);
+
+    double left = m_wheelSpeeds.leftMetersPerSecond;
+    double right = m_wheelSpeeds.rightMetersPerSecond;
+    double leftOutput =
+        m_leftPIDController.calculate(m_leftEncoder.getRate(), left)
+            + m_feedforward.calculate(left);
+    double rightOutput =
+        m_rightPIDController.calculate(m_rightEncoder.getRate(), right)
+            + m_feedforward.calculate(right);
+
+    m_leftLeader.setVoltage(leftOutput);
+    m_rightLeader.setVoltage(rightOutput);
+  }
+
+  /** Updates the field-relative position and publishes it. */
+  public void updateOdometry() {
+    m_odometry
+        .update(getGyroRadians(), m_leftEncoder.getDistance(), m_rightEncoder.getDistance())
+        .copyTo(m_poseArray);
+    m_posePublisher.set(m_poseArray);
+  }
+
+  /**
+   * Registers what the drivetrain reads and produces each loop for recording and replay. On
+   * replay, recorded sensor readings are written into the simulated encoders and gyro, so the
+   * drive code sees exactly what it saw when recorded.
+   *
+   * @param channels Where to register the channels.
+   */
+  public void registerReplayChannels(ReplayChannels channels) {
+    channels.addInput(
+        "Drivetrain/leftDistance", m_leftEncoder::getDistance, m_leftEncoderSim::setDistance);
+    channels.addInput("Drivetrain/leftRate", m_leftEncoder::getRate, m_leftEncoderSim::setRate);
+    channels.addInput(
+        "Drivetrain/rightDistance", m_rightEncoder::getDistance, m_rightEncoderSim::setDistance);
+    channels.addInput(
+        "Drivetrain/rightRate", m_rightEncoder::getRate, m_rightEncoderSim::setRate);
+    channels.addInput("Drivetrain/gyroDegrees", m_gyro::getAngle, m_gyroSim::setAngle);
+
+    channels.addOutput("Drivetrain/leftOutput", m_leftLeader::get);
+    channels.addOutput("Drivetrain/rightOutput", m_rightLeader::get);
+    channels.addOutput("Drivetrain/poseX", () -> m_poseArray[0]);
+    channels.addOutput("Drivetrain/poseY", () -> m_poseArray[1]);
+    channels.addOutput("Drivetrain/poseDegrees", () -> m_poseArray[2]);
+  }
+
+  /** Update our simulation. This should be run every robot loop in simulation. */
+  public void simulationPeriodic() {
+    // To update our simulation, we set motor voltage inputs, update the
+    // simulation, and write the simulated positions and velocities to our
+    // simulated encoder and gyro. We negate the right side so that positive
+    // voltages make the right side move forward.
+    m_drivetrainSimulator.setInputs(
+        m_leftLeader.get() * RobotController.getInputVoltage(),
+        m_rightLeader.get() * RobotController.getInputVoltage());
+    m_drivetrainSimulator.update(0.02);
+
+    m_leftEncoderSim.setDistance(m_drivetrainSimulator.getLeftPositionMeters());
+    m_leftEncoderSim.setRate(m_drivetrainSimulator.getLeftVelocityMetersPerSecond());
+    m_rightEncoderSim.setDistance(m_drivetrainSimulator.getRightPositionMeters());
+    m_rightEncoderSim.setRate(m_drivetrainSimulator.getRightVelocityMetersPerSecond());
+    m_gyroSim.setAngle(-m_drivetrainSimulator.getHeading().getDegrees());
+  }
+
+  // AnalogGyro reads clockwise-positive degrees; odometry wants counterclockwise radians. This
+  // avoids getRotation2d(), which allocates.
+  private double getGyroRadians() {
+    return -Math.toRadians(m_gyro.getAngle());
+  }
+}
@@ -0,0 +1,22 @@
+package frc.robot;
+
+import frc.lib.replay.wpilib.ReplaySession;
+
+/**
+ * Do NOT add any static variables to this class, or any initialization at all. Unless you know what
+ * you are doing, do not modify this file except to change the parameter class to the startRobot
+ * call.
+ */
+public final class Main {
+  private Main() {}
+
+  /**
+   * Main initialization function. Do not perform any initialization here.
+   *
+   * <p>If you change your main robot class, change the parameter type. Starting through {@link
+   * ReplaySession} lets simulation sessions be recorded and replayed.
+   */
+  public static void main(String... args) {
+    ReplaySession.startRobot(Robot::new);
+  }
+}
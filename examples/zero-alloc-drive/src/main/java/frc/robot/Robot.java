@@ -0,0 +1,90 @@
+package frc.robot;
+
+import edu.wpi.first.math.filter.SlewRateLimiter;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.XboxController;
+import edu.wpi.first.wpilibj.livewindow.LiveWindow;
+import frc.lib.replay.wpilib.DriverStationChannels;
+import frc.lib.replay.wpilib.ReplaySession;
+
+/**
+ * A differential drive whose periodic methods create no objects once it is running.
+ *
+ * <p>Everything the loop touches is created here or in {@link Drivetrain}'s constructor. Pose and
+ * speed state live in the mutable holders from {@code frc.lib.geometry} and {@code
+ * frc.lib.kinematics} rather than WPILib's immutable {@code Pose2d}/{@code ChassisSpeeds}, and
+ * the pose goes out over NetworkTables through a preallocated array.
+ *
+ * <p>The benchmarks' {@code DifferentialDriveCycle} allocation check covers the kinematics and
+ * odometry calls made here. The rest of the loop belongs to WPILib: {@code TimedRobot}'s
+ * scheduling, its watchdog and the NetworkTables client may still allocate, and nothing here
+ * measures them.
+ *
+ * <p>Simulation sessions can be recorded with {@code -PreplayRecord=<log>} and replayed headless
+ * with {@code -PreplayLog=<log>}; see {@link ReplaySession}. The driver station and the
+ * drivetrain's sensors and outputs are recorded every loop.
+ */
+public class Robot extends TimedRobot {
+  private final XboxController m_controller = new XboxController(0);
+
+  // Slew rate limiters to make joystick inputs more gentle; 1/3 sec from 0 to 1.
+  private final SlewRateLimiter m_speedLimiter = new SlewRateLimiter(3);
+  private final SlewRateLimiter m_rotLimiter = new SlewRateLimiter(3);
+
+  private final Drivetrain m_drive = new Drivetrain();
+
+  @Override
+  public void robotInit() {
+    // LiveWindow walks and republishes every sendable each loop, allocating as it goes. Nothing in
+    // this example needs it.
+    LiveWindow.disableAllTelemetry();
+
+    DriverStationChannels.register(ReplaySession.get().getChannels(), 1);
+    m_drive.registerReplayChannels(ReplaySession.get().getChannels());
+  }
+
+  @Override
+  public void robotPeriodic() {
+    m_drive.updateOdometry();
+    ReplaySession.get().endLoop();
+  }
+
+  @Override
+  public void autonomousPeriodic() {
+    // Drive a slow, constant arc so the loop has steady work without a driver.
+    m_drive.drive(1.0, 0.5);
+  }
+
+  @Override
+  public void teleopInit() {
+    // The limiters measure time from their last call; start them from this loop so a replay,
+    // whose clock began elsewhere, sees the same elapsed times as the recording.
+    m_speedLimiter.reset(0);
+    m_rotLimiter.reset(0);
+  }
+
+  @Override
+  public void teleopPeriodic() {
+    // Get the x speed. We are inverting this because Xbox controllers return
+    // negative values when we push forward.
+    double xSpeed = -m_speedLimiter.calculate(m_controller.getLeftY()) * Drivetrain.kMaxSpeed;
+
+    // Get the rate of angular rotation. We are inverting this because we want a
+    // positive value when we pull to the left (remember, CCW is positive in
+    // mathematics). Xbox controllers return positive values when you pull to
+    // the right by default.
+    double rot = -m_rotLimiter.calculate(m_controller.getRightX()) * Drivetrain.kMaxAngularSpeed;
+
+    m_drive.drive(xSpeed, rot);
+  }
+
+  @Override
+  public void disabledInit() {
+    m_drive.drive(0, 0);
+  }
+
+  @Override
+  public void simulationPeriodic() {
+    m_drive.simulationPeriodic();
+  }
+}
@@ -0,0 +1,110 @@
+package frc.lib.dashboard.wpilib;
+
+import edu.wpi.first.networktables.BooleanPublisher;
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.StringPublisher;
+import frc.lib.dashboard.DashboardBuffer;
+import frc.lib.dashboard.DashboardSink;
+import java.util.Arrays;
+
+/**
+ * Publishes a {@link DashboardBuffer} over NetworkTables.
+ *
+ * <p>Each entry gets its typed publisher when it is added, under one table ({@code /SmartDashboard}
+ * by default, so existing dashboard layouts keep working). The end-of-loop flush then costs one
+ * {@code set} per changed value and a single {@link NetworkTableInstance#flush}, which sends the
+ * whole batch to dashboards right away instead of waiting for the next periodic update.
+ *
+ * <pre>{@code
+ * m_dashboard = new DashboardBuffer(new NetworkTablesSink());
+ * m_flywheelRpm = m_dashboard.addDouble("Shooter/flywheelRpm", 5);
+ * ...
+ * public void robotPeriodic() {
+ *   CommandScheduler.getInstance().run();   // subsystems call m_dashboard.setDouble(...)
+ *   m_dashboard.flush();
+ * }
+ * }</pre>
+ */
+public class NetworkTablesSink implements DashboardSink, AutoCloseable {
+  private final NetworkTableInstance m_instance;
+  private final NetworkTable m_table;
+
+  private DoublePublisher[] m_doubles = new DoublePublisher[64];
+  private BooleanPublisher[] m_booleans = new BooleanPublisher[64];
+  private StringPublisher[] m_strings = new StringPublisher[64];
+
+  /** Creates a sink publishing under {@code /SmartDashboard} on the default instance. */
+  public NetworkTablesSink() {
+    this(NetworkTableInstance.getDefault(), "SmartDashboard");
+  }
+
+  /**
+   * Creates a sink.
+   *
+   * @param instance The NetworkTables instance to publish on.
+   * @param tableName The table entries are published under.
+   */
+  public NetworkTablesSink(NetworkTableInstance instance, String tableName) {
+    m_instance = instance;
+    m_table = instance.getTable(tableName);
+  }
+
+  @Override
+  public void addEntry(int handle, String name, byte type) {
+    if (handle >= m_doubles.length) {
+      int capacity = Math.max(handle + 1, m_doubles.length * 2);
+      m_doubles = Arrays.copyOf(m_doubles, capacity);
+      m_booleans = Arrays.copyOf(m_booleans, capacity);
+      m_strings = Arrays.copyOf(m_strings, capacity);
+    }
+    switch (type) {
+      case kDouble:
+        m_doubles[handle] = m_table.getDoubleTopic(name).publish();
+        break;
+      case kBoolean:
+        m_booleans[handle] = m_table.getBooleanTopic(name).publish();
+        break;
+      default:
+        m_strings[handle] = m_table.getStringTopic(name).publish();
+        break;
+    }
+  }
+
+  @Override
+  public void publishDouble(int handle, double value) {
+    m_doubles[handle].set(value);
+  }
+
+  @Override
+  public void publishBoolean(int handle, boolean value) {
+    m_booleans[handle].set(value);
+  }
+
+  @Override
+  public void publishString(int handle, String value) {
+    m_strings[handle].set(value);
+  }
+
+  @Override
+  public void flush() {
+    m_instance.flush();
+  }
+
+  @Override
+  public void close() {
+    closeAll(m_doubles);
+    closeAll(m_booleans);
+    closeAll(m_strings);
+  }
+
+  private static void closeAll(Publisher[] publishers) {
+    for (Publisher publisher : publishers) {
+      if (publisher != null) {
+        publisher.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package frc.lib.dashboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the dashboard values written during a loop and publishes the ones that changed, all at
+ * once, at the end of it.
+ *
+ * <p>Add every entry at startup; each gets an {@code int} handle, and its publisher is created
+ * then by the {@link DashboardSink}. During the loop, {@code set} calls only store into
+ * preallocated arrays: no name lookups, no publishing. {@link #flush} then publishes each entry
+ * whose value moved past its deadband since it was last published (or changed at all, for
+ * booleans and strings) and flushes the sink once. A dashboard therefore never shows a number
+ * further than its deadband from the latest value, and unchanged values cost nothing on the wire.
+ *
+ * <p>Nothing here allocates after startup. The buffer is not thread-safe; use it from the robot
+ * thread only.
+ */
+public final class DashboardBuffer {
+  private final DashboardSink m_sink;
+  private final List<String> m_names = new ArrayList<>();
+
+  private byte[] m_types = new byte[64];
+  private double[] m_deadbands = new double[64];
+  // Doubles and booleans (as 0 or 1) share these; strings have their own.
+  private double[] m_values = new double[64];
+  private double[] m_published = new double[64];
+  private String[] m_strings = new String[64];
+  private String[] m_publishedStrings = new String[64];
+  private boolean[] m_everPublished = new boolean[64];
+  private boolean[] m_set = new boolean[64];
+  private int m_count;
+
+  private long m_publishedCount;
+  private long m_suppressedCount;
+
+  /**
+   * Creates an empty buffer.
+   *
+   * @param sink Where values are published.
+   */
+  public DashboardBuffer(DashboardSink sink) {
+    m_sink = sink;
+  }
+
+  /**
+   * Adds a number.
+   *
+   * @param name The entry's name.
+   * @param deadband How far the value must move from what was last published before it is
+   *     published again; 0 publishes every change.
+   * @return The entry's handle.
+   */
+  public int addDouble(String name, double deadband) {
+    if (!(deadband >= 0)) {
+      throw new IllegalArgumentException("Deadband must be at least 0, got " + deadband);
+    }
+    int handle = add(name, DashboardSink.kDouble);
+    m_deadbands[handle] = deadband;
+    return handle;
+  }
+
+  /**
+   * Adds a boolean, published whenever it changes.
+   *
+   * @param name The entry's name.
+   * @return The entry's handle.
+   */
+  public int addBoolean(String name) {
+    return add(name, DashboardSink.kBoolean);
+  }
+
+  /**
+   * Adds a string, published whenever it changes.
+   *
+   * @param name The entry's name.
+   * @return The entry's handle.
+   */
+  public int addString(String name) {
+    return add(name, DashboardSink.kString);
+  }
+
+  private int add(String name, byte type) {
+    if (m_names.contains(name)) {
+      throw new IllegalArgumentException("Duplicate dashboard entry " + name);
+    }
+    if (m_count == m_types.length) {
+      int capacity = m_count * 2;
+      m_types = Arrays.copyOf(m_types, capacity);
+      m_deadbands = Arrays.copyOf(m_deadbands, capacity);
+      m_values = Arrays.copyOf(m_values, capacity);
+      m_published = Arrays.copyOf(m_published, capacity);
+      m_strings = Arrays.copyOf(m_strings, capacity);
+      m_publishedStrings = Arrays.copyOf(m_publishedStrings, capacity);
+      m_everPublished = Arrays.copyOf(m_everPublished, capacity);
+      m_set = Arrays.copyOf(m_set, capacity);
+    }
+    int handle = m_count++;
+    m_names.add(name);
+    m_types[handle] = type;
+    m_sink.addEntry(handle, name, type);
+    return handle;
+  }
+
+  /**
+   * Sets a number for the next {@link #flush}. Only stores it.
+   *
+   * @param handle The handle {@link #addDouble} returned.
+   * @param value The value.
+   * @throws IllegalArgumentException If the handle is not a number entry of this buffer.
+   */
+  public void setDouble(int handle, double value) {
+    checkType(handle, DashboardSink.kDouble);
+    m_values[handle] = value;
+    m_set[handle] = true;
+  }
+
+  /**
+   * Sets a boolean for the next {@link #flush}. Only stores it.
+   *
+   * @param handle The handle {@link #addBoolean} returned.
+   * @param value The value.
+   * @throws IllegalArgumentException If the handle is not a boolean entry of this buffer.
+   */
+  public void setBoolean(int handle, boolean value) {
+    checkType(handle, DashboardSink.kBoolean);
+    m_values[handle] = value ? 1 : 0;
+    m_set[handle] = true;
+  }
+
+  /**
+   * Sets a string for the next {@link #flush}. Only stores the reference.
+   *
+   * @param handle The handle {@link #addString} returned.
+   * @param value The value.
+   * @throws IllegalArgumentException If the handle is not a string entry of this buffer.
+   */
+  public void setString(int handle, String value) {
+    checkType(handle, DashboardSink.kString);
+    m_strings[handle] = value;
+    m_set[handle] = true;
+  }
+
+  /**
+   * Publishes every entry set since the last flush whose value changed past its deadband, then
+   * flushes the sink if anything was published. Call once, at the end of the loop.
+   *
+   * @return How many entries were published.
+   */
+  public int flush() {
+    int published = 0;
+    for (int i = 0; i < m_count; i++) {
+      if (!m_set[i]) {
+        continue;
+      }
+      m_set[i] = false;
+      if (m_everPublished[i] && !changed(i)) {
+        m_suppressedCount++;
+        continue;
+      }
+
+      switch (m_types[i]) {
+        case DashboardSink.kDouble:
+          m_sink.publishDouble(i, m_values[i]);
+          break;
+        case DashboardSink.kBoolean:
+          m_sink.publishBoolean(i, m_values[i] != 0);
+          break;
+        default:
+          m_sink.publishString(i, m_strings[i]);
+          break;
+      }
+      m_published[i] = m_values[i];
+      m_publishedStrings[i] = m_strings[i];
+      m_everPublished[i] = true;
+      published++;
+    }
+
+    if (published > 0) {
+      m_sink.flush();
+    }
+    m_publishedCount += published;
+    return published;
+  }
+
+  private boolean changed(int i) {
+    if (m_types[i] == DashboardSink.kString) {
+      String value = m_strings[i];
+      String published = m_publishedStrings[i];
+      return value == null ? published != null : !value.equals(published);
+    }
+    double value = m_values[i];
+    double published = m_published[i];
+    // A move into or out of NaN is a change whatever the deadband.
+    return Double.compare(value, published) != 0
+        && !(Math.abs(value - published) <= m_deadbands[i]);
+  }
+
+  private void checkType(int handle, byte type) {
+    checkHandle(handle);
+    if (m_types[handle] != type) {
+      throw new IllegalArgumentException("Entry " + handle + " is not of that type");
+    }
+  }
+
+  private void checkHandle(int handle) {
+    if (handle < 0 || handle >= m_count) {
+      throw new IllegalArgumentException("No dashboard entry " + handle);
+    }
+  }
+
+  /** Returns how many entries have been added. Handles run from 0 to one less than this. */
+  public int getEntryCount() {
+    return m_count;
+  }
+
+  /**
+   * Returns an entry's name.
+   *
+   * @param handle The entry's handle.
+   * @return The name it was added with.
+   * @throws IllegalArgumentException If no entry has that handle.
+   */
+  public String getName(int handle) {
+    checkHandle(handle);
+    return m_names.get(handle);
+  }
+
+  /** Returns how many values have been published since the buffer was created. */
+  public long getPublishedCount() {
+    return m_publishedCount;
+  }
+
+  /** Returns how many values were set but not published because they had not changed enough. */
+  public long getSuppressedCount() {
+    return m_suppressedCount;
+  }
+}
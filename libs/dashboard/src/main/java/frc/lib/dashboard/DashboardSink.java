@@ -0,0 +1,37 @@
+package frc.lib.dashboard;
+
+/**
+ * Where {@link DashboardBuffer} publishes: NetworkTables on a robot, or anything else that takes
+ * typed values by entry.
+ *
+ * <p>Entries are announced once, when they are added to the buffer, so an implementation can
+ * create a typed publisher for each up front. After that, values arrive by entry handle only.
+ */
+public interface DashboardSink {
+  /** An entry holding a {@code double}. */
+  byte kDouble = 0;
+
+  /** An entry holding a {@code boolean}. */
+  byte kBoolean = 1;
+
+  /** An entry holding a {@code String}. */
+  byte kString = 2;
+
+  /**
+   * Announces a new entry. Called while the robot starts up, not from the loop.
+   *
+   * @param handle The entry's handle, counting up from 0.
+   * @param name The entry's name, e.g. {@code "Shooter/flywheelRpm"}.
+   * @param type {@link #kDouble}, {@link #kBoolean} or {@link #kString}.
+   */
+  void addEntry(int handle, String name, byte type);
+
+  void publishDouble(int handle, double value);
+
+  void publishBoolean(int handle, boolean value);
+
+  void publishString(int handle, String value);
+
+  /** Sends everything published since the last flush. Called at most once per loop. */
+  void flush();
+}
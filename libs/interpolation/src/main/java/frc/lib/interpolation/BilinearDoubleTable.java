@@ -0,0 +1,102 @@
+package frc.lib.interpolation;
+
+/**
+ * A lookup table over a grid of two {@code double} keys, interpolating bilinearly between the four
+ * surrounding entries: flywheel speed by distance and by how fast the robot is moving away from
+ * the target, say.
+ *
+ * <p>Each axis is a sorted array searched with a binary search, and the values are one flat
+ * array, so a lookup allocates nothing. Keys outside the grid clamp to its edge on that axis.
+ *
+ * <p>Tables are immutable, so one can be shared between threads.
+ */
+public final class BilinearDoubleTable {
+  private final double[] m_xKeys;
+  private final double[] m_yKeys;
+  // Row-major: the value at (xKeys[i], yKeys[j]) is m_values[i * yKeys.length + j].
+  private final double[] m_values;
+
+  /**
+   * Creates a table. The arrays are copied.
+   *
+   * @param xKeys The first axis, e.g. distance. Finite and strictly ascending.
+   * @param yKeys The second axis, e.g. radial velocity. Finite and strictly ascending.
+   * @param values The value at each grid point: {@code values[i][j]} is the value at {@code
+   *     (xKeys[i], yKeys[j])}.
+   */
+  public BilinearDoubleTable(double[] xKeys, double[] yKeys, double[][] values) {
+    if (xKeys.length == 0 || yKeys.length == 0) {
+      throw new IllegalArgumentException("Table has no entries");
+    }
+    InterpolatingDoubleTable.checkAxis(xKeys, "X key");
+    InterpolatingDoubleTable.checkAxis(yKeys, "Y key");
+    if (values.length != xKeys.length) {
+      throw new IllegalArgumentException(
+          xKeys.length + " x keys but " + values.length + " rows of values");
+    }
+
+    m_xKeys = xKeys.clone();
+    m_yKeys = yKeys.clone();
+    m_values = new double[xKeys.length * yKeys.length];
+    for (int i = 0; i < xKeys.length; i++) {
+      if (values[i].length != yKeys.length) {
+        throw new IllegalArgumentException(
+            yKeys.length + " y keys but " + values[i].length + " values in row " + i);
+      }
+      System.arraycopy(values[i], 0, m_values, i * yKeys.length, yKeys.length);
+    }
+  }
+
+  public int getXSize() {
+    return m_xKeys.length;
+  }
+
+  public int getYSize() {
+    return m_yKeys.length;
+  }
+
+  /**
+   * Looks up a value, interpolating between the four grid points around the keys.
+   *
+   * @param x The first key.
+   * @param y The second key.
+   * @return The interpolated value, or NaN if either key is NaN.
+   */
+  public double get(double x, double y) {
+    int i = m_xKeys.length > 1 ? InterpolatingDoubleTable.lowerIndex(m_xKeys, x) : 0;
+    int j = m_yKeys.length > 1 ? InterpolatingDoubleTable.lowerIndex(m_yKeys, y) : 0;
+    double tx = fraction(m_xKeys, i, x);
+    double ty = fraction(m_yKeys, j, y);
+
+    int columns = m_yKeys.length;
+    int i1 = m_xKeys.length > 1 ? i + 1 : i;
+    int j1 = columns > 1 ? j + 1 : j;
+    double v00 = m_values[i * columns + j];
+    double v01 = m_values[i * columns + j1];
+    double v10 = m_values[i1 * columns + j];
+    double v11 = m_values[i1 * columns + j1];
+
+    return lerp(lerp(v00, v01, ty), lerp(v10, v11, ty), tx);
+  }
+
+  /** Interpolates between two values, giving exactly the end value at the last grid point. */
+  private static double lerp(double a, double b, double t) {
+    return t >= 1 ? b : a + (b - a) * t;
+  }
+
+  /** Where a key falls between keys[index] and the next key, clamped to [0, 1]. */
+  private static double fraction(double[] keys, int index, double key) {
+    if (keys.length == 1) {
+      return Double.isNaN(key) ? Double.NaN : 0;
+    }
+    double k0 = keys[index];
+    double t = (key - k0) / (keys[index + 1] - k0);
+    if (t < 0) {
+      return 0;
+    }
+    if (t > 1) {
+      return 1;
+    }
+    return t;
+  }
+}
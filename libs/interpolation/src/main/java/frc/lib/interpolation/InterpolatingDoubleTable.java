@@ -0,0 +1,122 @@
+package frc.lib.interpolation;
+
+import java.util.Arrays;
+
+/**
+ * A lookup table from a {@code double} key to a {@code double} value, interpolating linearly
+ * between entries: a shot map from distance to flywheel speed, say.
+ *
+ * <p>It replaces a {@code TreeMap<Double, Double>} (or WPILib's {@code
+ * InterpolatingDoubleTreeMap}) with two sorted arrays. A lookup is a binary search over the keys
+ * and one interpolation, with no boxing and no allocation. Results are the same as the tree map's:
+ * a key in the table returns its value exactly, and keys outside the table clamp to the first or
+ * last value.
+ *
+ * <p>Tables are immutable, so one can be shared between threads.
+ */
+public final class InterpolatingDoubleTable {
+  private final double[] m_keys;
+  private final double[] m_values;
+
+  /**
+   * Creates a table. The arrays are copied, and the entries sorted by key.
+   *
+   * @param keys The keys, in any order. Each must be finite and different from the others.
+   * @param values The value for each key.
+   */
+  public InterpolatingDoubleTable(double[] keys, double[] values) {
+    if (keys.length != values.length) {
+      throw new IllegalArgumentException(
+          keys.length + " keys but " + values.length + " values");
+    }
+    if (keys.length == 0) {
+      throw new IllegalArgumentException("Table has no entries");
+    }
+
+    Integer[] order = new Integer[keys.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(keys[a], keys[b]));
+
+    m_keys = new double[keys.length];
+    m_values = new double[keys.length];
+    for (int i = 0; i < order.length; i++) {
+      m_keys[i] = keys[order[i]];
+      m_values[i] = values[order[i]];
+    }
+    checkAxis(m_keys, "Key");
+  }
+
+  public int size() {
+    return m_keys.length;
+  }
+
+  public double getKey(int index) {
+    return m_keys[index];
+  }
+
+  public double getValue(int index) {
+    return m_values[index];
+  }
+
+  /**
+   * Looks up a value, interpolating between the entries either side of the key.
+   *
+   * @param key The key.
+   * @return The interpolated value, the first or last value if the key is outside the table, or
+   *     NaN if the key is NaN.
+   */
+  public double get(double key) {
+    int last = m_keys.length - 1;
+    if (key <= m_keys[0]) {
+      return m_values[0];
+    }
+    if (key >= m_keys[last]) {
+      return m_values[last];
+    }
+    if (Double.isNaN(key)) {
+      return Double.NaN;
+    }
+
+    int low = lowerIndex(m_keys, key);
+    double k0 = m_keys[low];
+    double t = (key - k0) / (m_keys[low + 1] - k0);
+    double v0 = m_values[low];
+    return v0 + (m_values[low + 1] - v0) * t;
+  }
+
+  /**
+   * Finds the entry at or below a key, by binary search. The result is at most {@code
+   * keys.length - 2}, so there is always an entry above it to interpolate towards; keys below the
+   * first entry give 0.
+   */
+  static int lowerIndex(double[] keys, double key) {
+    // Invariant: keys[low] <= key < keys[high], for keys inside the table.
+    int low = 0;
+    int high = keys.length - 1;
+    while (high - low > 1) {
+      int mid = (low + high) >>> 1;
+      if (keys[mid] <= key) {
+        low = mid;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** Checks that keys are finite and strictly ascending. */
+  static void checkAxis(double[] keys, String what) {
+    for (int i = 0; i < keys.length; i++) {
+      if (!Double.isFinite(keys[i])) {
+        throw new IllegalArgumentException(what + " " + keys[i] + " is not finite");
+      }
+      if (i > 0 && keys[i] <= keys[i - 1]) {
+        throw new IllegalArgumentException(
+            what + "s must be different and ascending, got "
+                + keys[i - 1] + " then " + keys[i]);
+      }
+    }
+  }
+}
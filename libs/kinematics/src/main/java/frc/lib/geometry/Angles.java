@@ -0,0 +1,16 @@
+package frc.lib.geometry;
+
+/** Allocation-free angle helpers. */
+public final class Angles {
+  private Angles() {}
+
+  /**
+   * Wraps an angle into the range (-pi, pi].
+   *
+   * @param radians The angle to wrap.
+   * @return The equivalent angle in (-pi, pi].
+   */
+  public static double wrap(double radians) {
+    return Math.atan2(Math.sin(radians), Math.cos(radians));
+  }
+}
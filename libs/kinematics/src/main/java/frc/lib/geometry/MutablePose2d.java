@@ -0,0 +1,165 @@
+package frc.lib.geometry;
+
+/**
+ * A robot pose on the field that is updated in place.
+ *
+ * <p>WPILib's {@code Pose2d} is immutable, so every odometry update or transform allocates a new
+ * pose, translation and rotation. This class holds the same state in primitive fields and caches
+ * the heading's sine and cosine, so a loop can keep a single instance for its whole lifetime.
+ * None of the methods here allocate.
+ */
+public final class MutablePose2d {
+  private double m_x;
+  private double m_y;
+  private double m_theta;
+  private double m_cos = 1.0;
+  private double m_sin;
+
+  /** Creates a pose at the origin facing along the x axis. */
+  public MutablePose2d() {}
+
+  /**
+   * Creates a pose with the given position and heading.
+   *
+   * @param x The x component of the translation, in meters.
+   * @param y The y component of the translation, in meters.
+   * @param thetaRadians The heading, in radians.
+   */
+  public MutablePose2d(double x, double y, double thetaRadians) {
+    set(x, y, thetaRadians);
+  }
+
+  /**
+   * Overwrites this pose.
+   *
+   * @param x The x component of the translation, in meters.
+   * @param y The y component of the translation, in meters.
+   * @param thetaRadians The heading, in radians.
+   * @return This pose, for chaining.
+   */
+  public MutablePose2d set(double x, double y, double thetaRadians) {
+    m_x = x;
+    m_y = y;
+    setRotation(thetaRadians);
+    return this;
+  }
+
+  /**
+   * Copies another pose into this one.
+   *
+   * @param other The pose to copy.
+   * @return This pose, for chaining.
+   */
+  public MutablePose2d set(MutablePose2d other) {
+    m_x = other.m_x;
+    m_y = other.m_y;
+    m_theta = other.m_theta;
+    m_cos = other.m_cos;
+    m_sin = other.m_sin;
+    return this;
+  }
+
+  /**
+   * Replaces the heading while keeping the translation.
+   *
+   * @param thetaRadians The new heading, in radians.
+   * @return This pose, for chaining.
+   */
+  public MutablePose2d setRotation(double thetaRadians) {
+    m_theta = thetaRadians;
+    m_cos = Math.cos(thetaRadians);
+    m_sin = Math.sin(thetaRadians);
+    return this;
+  }
+
+  public double getX() {
+    return m_x;
+  }
+
+  public double getY() {
+    return m_y;
+  }
+
+  /** Returns the heading in radians. */
+  public double getRotationRadians() {
+    return m_theta;
+  }
+
+  /** Returns the cosine of the heading. */
+  public double getCos() {
+    return m_cos;
+  }
+
+  /** Returns the sine of the heading. */
+  public double getSin() {
+    return m_sin;
+  }
+
+  /**
+   * Moves this pose along a twist, in place.
+   *
+   * <p>This is the same pose exponential WPILib's {@code Pose2d.exp()} computes, written so the
+   * result overwrites this pose.
+   *
+   * @param twist The change in pose, relative to the current heading.
+   * @return This pose, for chaining.
+   */
+  public MutablePose2d exp(MutableTwist2d twist) {
+    double dx = twist.dx;
+    double dy = twist.dy;
+    double dtheta = twist.dtheta;
+
+    double sinTheta = Math.sin(dtheta);
+    double cosTheta = Math.cos(dtheta);
+
+    double s;
+    double c;
+    if (Math.abs(dtheta) < 1E-9) {
+      s = 1.0 - 1.0 / 6.0 * dtheta * dtheta;
+      c = 0.5 * dtheta;
+    } else {
+      s = sinTheta / dtheta;
+      c = (1 - cosTheta) / dtheta;
+    }
+
+    double localX = dx * s - dy * c;
+    double localY = dx * c + dy * s;
+
+    m_x += localX * m_cos - localY * m_sin;
+    m_y += localX * m_sin + localY * m_cos;
+
+    double cos = m_cos * cosTheta - m_sin * sinTheta;
+    double sin = m_cos * sinTheta + m_sin * cosTheta;
+    m_theta = Math.atan2(sin, cos);
+    m_cos = cos;
+    m_sin = sin;
+    return this;
+  }
+
+  /**
+   * Returns the straight-line distance to another pose, ignoring heading.
+   *
+   * @param other The other pose.
+   * @return The distance, in meters.
+   */
+  public double getDistance(MutablePose2d other) {
+    return Math.hypot(other.m_x - m_x, other.m_y - m_y);
+  }
+
+  /**
+   * Writes this pose as {x, y, degrees}, the layout the Field2d widget reads.
+   *
+   * @param out A preallocated array of at least three elements.
+   */
+  public void copyTo(double[] out) {
+    out[0] = m_x;
+    out[1] = m_y;
+    out[2] = Math.toDegrees(m_theta);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "MutablePose2d(X: %.2f, Y: %.2f, Rotation: %.2f deg)", m_x, m_y, Math.toDegrees(m_theta));
+  }
+}
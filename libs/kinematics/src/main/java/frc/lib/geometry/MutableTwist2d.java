@@ -0,0 +1,41 @@
+package frc.lib.geometry;
+
+/**
+ * A change in distance along a 2D arc, held in mutable fields.
+ *
+ * <p>Equivalent to WPILib's {@code Twist2d}, but meant to be allocated once and overwritten every
+ * loop instead of created per cycle.
+ */
+public final class MutableTwist2d {
+  /** Linear "dx" component, in meters. */
+  public double dx;
+
+  /** Linear "dy" component, in meters. */
+  public double dy;
+
+  /** Angular "dtheta" component, in radians. */
+  public double dtheta;
+
+  /** Creates a zero twist. */
+  public MutableTwist2d() {}
+
+  /**
+   * Overwrites every component of this twist.
+   *
+   * @param dx Change in x direction relative to the robot, in meters.
+   * @param dy Change in y direction relative to the robot, in meters.
+   * @param dtheta Change in angle relative to the robot, in radians.
+   * @return This twist, for chaining.
+   */
+  public MutableTwist2d set(double dx, double dy, double dtheta) {
+    this.dx = dx;
+    this.dy = dy;
+    this.dtheta = dtheta;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MutableTwist2d(dX: %.2f, dY: %.2f, dTheta: %.2f)", dx, dy, dtheta);
+  }
+}
@@ -0,0 +1,58 @@
+package frc.lib.kinematics;
+
+/**
+ * Differential drive kinematics that write into caller-owned holders.
+ *
+ * <p>Same math as WPILib's {@code DifferentialDriveKinematics}, without the per-call allocation
+ * of the result.
+ */
+public final class DifferentialKinematics {
+  private final double m_trackWidthMeters;
+
+  /**
+   * Constructs differential drive kinematics.
+   *
+   * @param trackWidthMeters The distance between the left and right wheels.
+   */
+  public DifferentialKinematics(double trackWidthMeters) {
+    if (!(trackWidthMeters > 0.0)) {
+      throw new IllegalArgumentException("Track width must be positive, got " + trackWidthMeters);
+    }
+    m_trackWidthMeters = trackWidthMeters;
+  }
+
+  public double getTrackWidthMeters() {
+    return m_trackWidthMeters;
+  }
+
+  /**
+   * Converts chassis speeds to wheel speeds. The y component of the chassis speeds is ignored.
+   *
+   * @param chassisSpeeds The desired chassis speeds.
+   * @param out Where to write the wheel speeds.
+   * @return {@code out}, for chaining.
+   */
+  public MutableDifferentialWheelSpeeds toWheelSpeeds(
+      MutableChassisSpeeds chassisSpeeds, MutableDifferentialWheelSpeeds out) {
+    double turn = m_trackWidthMeters / 2 * chassisSpeeds.omegaRadiansPerSecond;
+    out.leftMetersPerSecond = chassisSpeeds.vxMetersPerSecond - turn;
+    out.rightMetersPerSecond = chassisSpeeds.vxMetersPerSecond + turn;
+    return out;
+  }
+
+  /**
+   * Converts wheel speeds to chassis speeds.
+   *
+   * @param wheelSpeeds The measured wheel speeds.
+   * @param out Where to write the chassis speeds.
+   * @return {@code out}, for chaining.
+   */
+  public MutableChassisSpeeds toChassisSpeeds(
+      MutableDifferentialWheelSpeeds wheelSpeeds, MutableChassisSpeeds out) {
+    return out.set(
+        (wheelSpeeds.leftMetersPerSecond + wheelSpeeds.rightMetersPerSecond) / 2,
+        0,
+        (wheelSpeeds.rightMetersPerSecond - wheelSpeeds.leftMetersPerSecond)
+            / m_trackWidthMeters);
+  }
+}
@@ -0,0 +1,101 @@
+package frc.lib.kinematics;
+
+/**
+ * Robot-relative chassis velocity held in mutable fields.
+ *
+ * <p>Equivalent to WPILib's {@code ChassisSpeeds}, which the stock kinematics classes return as a
+ * fresh object on every call. Keep one instance per loop and overwrite it instead.
+ */
+public final class MutableChassisSpeeds {
+  /** Velocity along the x axis, in meters per second. Positive is forward. */
+  public double vxMetersPerSecond;
+
+  /** Velocity along the y axis, in meters per second. Positive is to the left. */
+  public double vyMetersPerSecond;
+
+  /** Angular velocity, in radians per second. Positive is counterclockwise. */
+  public double omegaRadiansPerSecond;
+
+  /** Creates zero chassis speeds. */
+  public MutableChassisSpeeds() {}
+
+  /**
+   * Overwrites every component.
+   *
+   * @param vxMetersPerSecond Forward velocity.
+   * @param vyMetersPerSecond Sideways velocity.
+   * @param omegaRadiansPerSecond Angular velocity.
+   * @return These speeds, for chaining.
+   */
+  public MutableChassisSpeeds set(
+      double vxMetersPerSecond, double vyMetersPerSecond, double omegaRadiansPerSecond) {
+    this.vxMetersPerSecond = vxMetersPerSecond;
+    this.vyMetersPerSecond = vyMetersPerSecond;
+    this.omegaRadiansPerSecond = omegaRadiansPerSecond;
+    return this;
+  }
+
+  /**
+   * Sets these speeds from field-relative components.
+   *
+   * @param vxMetersPerSecond Velocity toward the opposing alliance wall.
+   * @param vyMetersPerSecond Velocity toward the left field boundary.
+   * @param omegaRadiansPerSecond Angular velocity.
+   * @param robotAngleRadians The robot's current heading on the field.
+   * @return These speeds, for chaining.
+   */
+  public MutableChassisSpeeds setFieldRelative(
+      double vxMetersPerSecond,
+      double vyMetersPerSecond,
+      double omegaRadiansPerSecond,
+      double robotAngleRadians) {
+    double cos = Math.cos(robotAngleRadians);
+    double sin = Math.sin(robotAngleRadians);
+    this.vxMetersPerSecond = vxMetersPerSecond * cos + vyMetersPerSecond * sin;
+    this.vyMetersPerSecond = -vxMetersPerSecond * sin + vyMetersPerSecond * cos;
+    this.omegaRadiansPerSecond = omegaRadiansPerSecond;
+    return this;
+  }
+
+  /**
+   * Discretizes these speeds in place, compensating for the skew a holonomic drive picks up when
+   * it translates and rotates within a single loop period.
+   *
+   * <p>Same math as {@code ChassisSpeeds.discretize()}.
+   *
+   * @param dtSeconds The loop period.
+   * @return These speeds, for chaining.
+   */
+  public MutableChassisSpeeds discretize(double dtSeconds) {
+    double dtheta = omegaRadiansPerSecond * dtSeconds;
+
+    // Pose2d(vx*dt, vy*dt, dtheta).log(), computed inline.
+    double halfDtheta = dtheta / 2.0;
+    double cosMinusOne = Math.cos(dtheta) - 1.0;
+    double halfThetaByTanOfHalfDtheta;
+    if (Math.abs(cosMinusOne) < 1E-9) {
+      halfThetaByTanOfHalfDtheta = 1.0 - 1.0 / 12.0 * dtheta * dtheta;
+    } else {
+      halfThetaByTanOfHalfDtheta = -(halfDtheta * Math.sin(dtheta)) / cosMinusOne;
+    }
+
+    // Rotating by Rotation2d(halfThetaByTan, -halfDtheta) and scaling by its norm cancels out to
+    // multiplying by the unnormalized components directly.
+    double x = vxMetersPerSecond * dtSeconds;
+    double y = vyMetersPerSecond * dtSeconds;
+    double rx = x * halfThetaByTanOfHalfDtheta + y * halfDtheta;
+    double ry = -x * halfDtheta + y * halfThetaByTanOfHalfDtheta;
+
+    vxMetersPerSecond = rx / dtSeconds;
+    vyMetersPerSecond = ry / dtSeconds;
+    omegaRadiansPerSecond = dtheta / dtSeconds;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "MutableChassisSpeeds(Vx: %.2f m/s, Vy: %.2f m/s, Omega: %.2f rad/s)",
+        vxMetersPerSecond, vyMetersPerSecond, omegaRadiansPerSecond);
+  }
+}
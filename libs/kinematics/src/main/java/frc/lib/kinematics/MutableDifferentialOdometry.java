@@ -0,0 +1,88 @@
+package frc.lib.kinematics;
+
+import frc.lib.geometry.Angles;
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.geometry.MutableTwist2d;
+
+/**
+ * Differential drive odometry that updates a single pose in place.
+ *
+ * <p>Same behavior as WPILib's {@code DifferentialDriveOdometry}: the gyro is trusted for heading
+ * and the encoders for distance. Unlike the stock class, {@link #update} allocates nothing.
+ */
+public final class MutableDifferentialOdometry {
+  private final MutablePose2d m_pose = new MutablePose2d();
+  private final MutableTwist2d m_twist = new MutableTwist2d();
+
+  private double m_gyroOffsetRadians;
+  private double m_previousAngleRadians;
+  private double m_prevLeftDistanceMeters;
+  private double m_prevRightDistanceMeters;
+
+  /**
+   * Constructs odometry starting at the origin.
+   *
+   * @param gyroAngleRadians The current gyro angle.
+   * @param leftDistanceMeters The current left encoder distance.
+   * @param rightDistanceMeters The current right encoder distance.
+   */
+  public MutableDifferentialOdometry(
+      double gyroAngleRadians, double leftDistanceMeters, double rightDistanceMeters) {
+    resetPosition(gyroAngleRadians, leftDistanceMeters, rightDistanceMeters, 0, 0, 0);
+  }
+
+  /**
+   * Resets the robot's position on the field. The gyro angle does not need to be reset first.
+   *
+   * @param gyroAngleRadians The current gyro angle.
+   * @param leftDistanceMeters The current left encoder distance.
+   * @param rightDistanceMeters The current right encoder distance.
+   * @param x The new x position, in meters.
+   * @param y The new y position, in meters.
+   * @param thetaRadians The new heading.
+   */
+  public void resetPosition(
+      double gyroAngleRadians,
+      double leftDistanceMeters,
+      double rightDistanceMeters,
+      double x,
+      double y,
+      double thetaRadians) {
+    m_pose.set(x, y, thetaRadians);
+    m_previousAngleRadians = thetaRadians;
+    m_gyroOffsetRadians = thetaRadians - gyroAngleRadians;
+    m_prevLeftDistanceMeters = leftDistanceMeters;
+    m_prevRightDistanceMeters = rightDistanceMeters;
+  }
+
+  /**
+   * Returns the current pose. The returned object is owned by this odometry and changes on every
+   * update; copy it if you need to keep a snapshot.
+   */
+  public MutablePose2d getPose() {
+    return m_pose;
+  }
+
+  /**
+   * Updates the pose from the latest sensor readings. Call this every loop.
+   *
+   * @param gyroAngleRadians The current gyro angle.
+   * @param leftDistanceMeters The current left encoder distance.
+   * @param rightDistanceMeters The current right encoder distance.
+   * @return The updated pose.
+   */
+  public MutablePose2d update(
+      double gyroAngleRadians, double leftDistanceMeters, double rightDistanceMeters) {
+    double deltaLeft = leftDistanceMeters - m_prevLeftDistanceMeters;
+    double deltaRight = rightDistanceMeters - m_prevRightDistanceMeters;
+    m_prevLeftDistanceMeters = leftDistanceMeters;
+    m_prevRightDistanceMeters = rightDistanceMeters;
+
+    double angle = gyroAngleRadians + m_gyroOffsetRadians;
+    m_twist.set(
+        (deltaLeft + deltaRight) / 2, 0, Angles.wrap(angle - m_previousAngleRadians));
+    m_pose.exp(m_twist).setRotation(Angles.wrap(angle));
+    m_previousAngleRadians = angle;
+    return m_pose;
+  }
+}
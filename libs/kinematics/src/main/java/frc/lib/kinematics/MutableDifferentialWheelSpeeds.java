@@ -0,0 +1,37 @@
+package frc.lib.kinematics;
+
+/** Left and right wheel velocities of a differential drive, held in mutable fields. */
+public final class MutableDifferentialWheelSpeeds {
+  /** Left wheel velocity, in meters per second. */
+  public double leftMetersPerSecond;
+
+  /** Right wheel velocity, in meters per second. */
+  public double rightMetersPerSecond;
+
+  /** Creates zero wheel speeds. */
+  public MutableDifferentialWheelSpeeds() {}
+
+  /**
+   * Scales both wheels down together if either exceeds the attainable speed, preserving the
+   * ratio between them.
+   *
+   * @param attainableMaxSpeedMetersPerSecond The fastest a wheel can go.
+   * @return These speeds, for chaining.
+   */
+  public MutableDifferentialWheelSpeeds desaturate(double attainableMaxSpeedMetersPerSecond) {
+    double realMaxSpeed = Math.max(Math.abs(leftMetersPerSecond), Math.abs(rightMetersPerSecond));
+    if (realMaxSpeed > attainableMaxSpeedMetersPerSecond) {
+      double scale = attainableMaxSpeedMetersPerSecond / realMaxSpeed;
+      leftMetersPerSecond *= scale;
+      rightMetersPerSecond *= scale;
+    }
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "MutableDifferentialWheelSpeeds(Left: %.2f m/s, Right: %.2f m/s)",
+        leftMetersPerSecond, rightMetersPerSecond);
+  }
+}
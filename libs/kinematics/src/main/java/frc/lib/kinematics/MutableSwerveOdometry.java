@@ -0,0 +1,88 @@
+package frc.lib.kinematics;
+
+import frc.lib.geometry.Angles;
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.geometry.MutableTwist2d;
+
+/**
+ * Swerve drive odometry that updates a single pose in place.
+ *
+ * <p>Same behavior as WPILib's {@code SwerveDriveOdometry}: module distance deltas give the
+ * translation, the gyro gives the rotation, and each update moves the pose along a constant-
+ * curvature arc. That arc is only exact while module angles and speeds stay constant between
+ * updates, so the error of each update grows with how much changed since the last one. Sampling
+ * faster shortens the arcs. Unlike the stock class, {@link #update} allocates nothing.
+ */
+public final class MutableSwerveOdometry {
+  private final SwerveKinematics m_kinematics;
+  private final MutablePose2d m_pose = new MutablePose2d();
+  private final MutableTwist2d m_twist = new MutableTwist2d();
+  private final double[] m_previousDistances;
+  private final double[] m_deltas;
+
+  private double m_gyroOffsetRadians;
+  private double m_previousAngleRadians;
+
+  /**
+   * Constructs odometry starting at the origin.
+   *
+   * @param kinematics The drivetrain's kinematics.
+   * @param gyroAngleRadians The current gyro angle.
+   * @param distancesMeters The current distance each module's wheel has rolled.
+   */
+  public MutableSwerveOdometry(
+      SwerveKinematics kinematics, double gyroAngleRadians, double[] distancesMeters) {
+    m_kinematics = kinematics;
+    m_previousDistances = new double[kinematics.getModuleCount()];
+    m_deltas = new double[kinematics.getModuleCount()];
+    resetPosition(gyroAngleRadians, distancesMeters, 0, 0, 0);
+  }
+
+  /**
+   * Resets the robot's position on the field. The gyro angle does not need to be reset first.
+   *
+   * @param gyroAngleRadians The current gyro angle.
+   * @param distancesMeters The current distance each module's wheel has rolled.
+   * @param x The new x position, in meters.
+   * @param y The new y position, in meters.
+   * @param thetaRadians The new heading.
+   */
+  public void resetPosition(
+      double gyroAngleRadians, double[] distancesMeters, double x, double y, double thetaRadians) {
+    m_pose.set(x, y, thetaRadians);
+    m_previousAngleRadians = thetaRadians;
+    m_gyroOffsetRadians = thetaRadians - gyroAngleRadians;
+    System.arraycopy(distancesMeters, 0, m_previousDistances, 0, m_previousDistances.length);
+  }
+
+  /**
+   * Returns the current pose. The returned object is owned by this odometry and changes on every
+   * update; copy it if you need to keep a snapshot.
+   */
+  public MutablePose2d getPose() {
+    return m_pose;
+  }
+
+  /**
+   * Updates the pose from one set of sensor readings. Call this for every sample, in order.
+   *
+   * @param gyroAngleRadians The gyro angle.
+   * @param distancesMeters The distance each module's wheel has rolled.
+   * @param anglesRadians Each module's angle.
+   * @return The updated pose.
+   */
+  public MutablePose2d update(
+      double gyroAngleRadians, double[] distancesMeters, double[] anglesRadians) {
+    for (int i = 0; i < m_deltas.length; i++) {
+      m_deltas[i] = distancesMeters[i] - m_previousDistances[i];
+      m_previousDistances[i] = distancesMeters[i];
+    }
+
+    double angle = gyroAngleRadians + m_gyroOffsetRadians;
+    m_kinematics.toTwist(m_deltas, anglesRadians, m_twist);
+    m_twist.dtheta = Angles.wrap(angle - m_previousAngleRadians);
+    m_pose.exp(m_twist).setRotation(Angles.wrap(angle));
+    m_previousAngleRadians = angle;
+    return m_pose;
+  }
+}
@@ -0,0 +1,187 @@
+package frc.lib.kinematics;
+
+import frc.lib.geometry.MutableTwist2d;
+
+/**
+ * Swerve drive kinematics that read and write caller-owned primitive arrays.
+ *
+ * <p>Same math as WPILib's {@code SwerveDriveKinematics}: inverse kinematics is each module's
+ * velocity as the chassis velocity plus the rotation about its mounting point, and forward
+ * kinematics is the least-squares chassis motion for the module readings, through a pseudo-inverse
+ * computed once in the constructor. Module states are passed as parallel arrays of speeds (or
+ * distances) and angles in radians instead of {@code SwerveModuleState[]}, so nothing here
+ * allocates.
+ */
+public final class SwerveKinematics {
+  private final int m_moduleCount;
+  private final double[] m_moduleX;
+  private final double[] m_moduleY;
+
+  // Rows of the 3 x 2N pseudo-inverse, for the vx, vy and omega outputs. Columns alternate
+  // between each module's x and y components.
+  private final double[] m_vxRow;
+  private final double[] m_vyRow;
+  private final double[] m_omegaRow;
+
+  /**
+   * Constructs swerve drive kinematics.
+   *
+   * @param moduleXMeters Each module's x position relative to the robot center (forward positive).
+   * @param moduleYMeters Each module's y position relative to the robot center (left positive).
+   */
+  public SwerveKinematics(double[] moduleXMeters, double[] moduleYMeters) {
+    if (moduleXMeters.length < 2 || moduleXMeters.length != moduleYMeters.length) {
+      throw new IllegalArgumentException("A swerve drive needs at least two module positions");
+    }
+    m_moduleCount = moduleXMeters.length;
+    m_moduleX = moduleXMeters.clone();
+    m_moduleY = moduleYMeters.clone();
+
+    // The inverse kinematics matrix A has rows [1, 0, -y] and [0, 1, x] for each module. Its
+    // pseudo-inverse is (A^T A)^-1 A^T, where A^T A is the symmetric 3x3 matrix below.
+    double sumX = 0;
+    double sumY = 0;
+    double sumSquares = 0;
+    for (int i = 0; i < m_moduleCount; i++) {
+      sumX += m_moduleX[i];
+      sumY += m_moduleY[i];
+      sumSquares += m_moduleX[i] * m_moduleX[i] + m_moduleY[i] * m_moduleY[i];
+    }
+    double n = m_moduleCount;
+    double[][] normal = {
+      {n, 0, -sumY},
+      {0, n, sumX},
+      {-sumY, sumX, sumSquares},
+    };
+    double[][] inverse = invert3x3(normal);
+
+    m_vxRow = new double[2 * m_moduleCount];
+    m_vyRow = new double[2 * m_moduleCount];
+    m_omegaRow = new double[2 * m_moduleCount];
+    double[][] rows = {m_vxRow, m_vyRow, m_omegaRow};
+    for (int r = 0; r < 3; r++) {
+      for (int i = 0; i < m_moduleCount; i++) {
+        // Column 2i of A^T is [1, 0, -y_i], column 2i + 1 is [0, 1, x_i].
+        rows[r][2 * i] = inverse[r][0] - inverse[r][2] * m_moduleY[i];
+        rows[r][2 * i + 1] = inverse[r][1] + inverse[r][2] * m_moduleX[i];
+      }
+    }
+  }
+
+  public int getModuleCount() {
+    return m_moduleCount;
+  }
+
+  /**
+   * Converts chassis speeds to module states.
+   *
+   * <p>A module asked for no motion keeps the angle already in {@code anglesOut}, the same way
+   * WPILib's kinematics hold the last heading instead of snapping modules back to zero.
+   *
+   * @param chassisSpeeds The desired robot-relative chassis speeds.
+   * @param speedsOut Where to write each module's speed, in meters per second.
+   * @param anglesOut Where to write each module's angle, in radians.
+   */
+  public void toModuleStates(
+      MutableChassisSpeeds chassisSpeeds, double[] speedsOut, double[] anglesOut) {
+    double vx = chassisSpeeds.vxMetersPerSecond;
+    double vy = chassisSpeeds.vyMetersPerSecond;
+    double omega = chassisSpeeds.omegaRadiansPerSecond;
+    for (int i = 0; i < m_moduleCount; i++) {
+      double x = vx - omega * m_moduleY[i];
+      double y = vy + omega * m_moduleX[i];
+      double speed = Math.hypot(x, y);
+      speedsOut[i] = speed;
+      if (speed > 1e-6) {
+        anglesOut[i] = Math.atan2(y, x);
+      }
+    }
+  }
+
+  /**
+   * Converts module states to chassis speeds.
+   *
+   * @param speeds Each module's speed, in meters per second.
+   * @param angles Each module's angle, in radians.
+   * @param out Where to write the robot-relative chassis speeds.
+   * @return {@code out}, for chaining.
+   */
+  public MutableChassisSpeeds toChassisSpeeds(
+      double[] speeds, double[] angles, MutableChassisSpeeds out) {
+    double vx = 0;
+    double vy = 0;
+    double omega = 0;
+    for (int i = 0; i < m_moduleCount; i++) {
+      double x = speeds[i] * Math.cos(angles[i]);
+      double y = speeds[i] * Math.sin(angles[i]);
+      vx += m_vxRow[2 * i] * x + m_vxRow[2 * i + 1] * y;
+      vy += m_vyRow[2 * i] * x + m_vyRow[2 * i + 1] * y;
+      omega += m_omegaRow[2 * i] * x + m_omegaRow[2 * i + 1] * y;
+    }
+    return out.set(vx, vy, omega);
+  }
+
+  /**
+   * Converts changes in module distance to the robot-relative motion that produced them.
+   *
+   * @param distanceDeltas How far each wheel rolled since the last reading, in meters.
+   * @param angles Each module's angle at the end of that motion, in radians.
+   * @param out Where to write the twist.
+   * @return {@code out}, for chaining.
+   */
+  public MutableTwist2d toTwist(double[] distanceDeltas, double[] angles, MutableTwist2d out) {
+    double dx = 0;
+    double dy = 0;
+    double dtheta = 0;
+    for (int i = 0; i < m_moduleCount; i++) {
+      double x = distanceDeltas[i] * Math.cos(angles[i]);
+      double y = distanceDeltas[i] * Math.sin(angles[i]);
+      dx += m_vxRow[2 * i] * x + m_vxRow[2 * i + 1] * y;
+      dy += m_vyRow[2 * i] * x + m_vyRow[2 * i + 1] * y;
+      dtheta += m_omegaRow[2 * i] * x + m_omegaRow[2 * i + 1] * y;
+    }
+    return out.set(dx, dy, dtheta);
+  }
+
+  /**
+   * Scales module speeds down together so none exceeds a limit, preserving the direction of
+   * motion.
+   *
+   * @param speeds Module speeds to scale in place.
+   * @param maxSpeedMetersPerSecond The fastest any module can go.
+   */
+  public static void desaturate(double[] speeds, double maxSpeedMetersPerSecond) {
+    double fastest = 0;
+    for (double speed : speeds) {
+      fastest = Math.max(fastest, Math.abs(speed));
+    }
+    if (fastest > maxSpeedMetersPerSecond) {
+      double scale = maxSpeedMetersPerSecond / fastest;
+      for (int i = 0; i < speeds.length; i++) {
+        speeds[i] *= scale;
+      }
+    }
+  }
+
+  private static double[][] invert3x3(double[][] m) {
+    double a = m[0][0];
+    double b = m[0][1];
+    double c = m[0][2];
+    double d = m[1][0];
+    double e = m[1][1];
+    double f = m[1][2];
+    double g = m[2][0];
+    double h = m[2][1];
+    double k = m[2][2];
+
+    double det = a * (e * k - f * h) - b * (d * k - f * g) + c * (d * h - e * g);
+    if (Math.abs(det) < 1e-12) {
+      throw new IllegalArgumentException("Module positions must not all lie on one point");
+    }
+    return new double[][] {
+      {(e * k - f * h) / det, (c * h - b * k) / det, (b * f - c * e) / det},
+      {(f * g - d * k) / det, (a * k - c * g) / det, (c * d - a * f) / det},
+      {(d * h - e * g) / det, (b * g - a * h) / det, (a * e - b * d) / det},
+    };
+  }
+}
@@ -0,0 +1,196 @@
+package frc.lib.looptiming.wpilib;
+
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.StringPublisher;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.TimedRobot;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+import frc.lib.looptiming.TimingSummary;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publishes loop timing over NetworkTables and names the culprit when a loop overruns.
+ *
+ * <p>Every timer gets {@code p50Ms}, {@code p99Ms}, {@code maxMs} and {@code lastMs} entries under
+ * {@code /LoopTiming/<section>}. Call {@link #update} once per loop, after everything else has
+ * run. Percentiles are republished every {@code publishPeriodLoops} loops so that summarizing the
+ * histograms does not itself show up in loop timing.
+ *
+ * <p>Typical use in a command-based robot:
+ *
+ * <pre>{@code
+ * public void robotPeriodic() {
+ *   m_registry.startCycle();
+ *   m_schedulerTimer.time(CommandScheduler.getInstance()::run);
+ *   m_timingPublisher.update();
+ * }
+ * }</pre>
+ */
+public class LoopTimingPublisher implements AutoCloseable {
+  /** How often percentiles are republished by default: once a second at 50 Hz. */
+  public static final int kDefaultPublishPeriodLoops = 50;
+
+  private final LoopTimingRegistry m_registry;
+  private final NetworkTable m_table;
+  private final LoopTimer m_cycleTimer;
+  private final long m_budgetNanos;
+  private final int m_publishPeriodLoops;
+
+  private final List<Entry> m_entries = new ArrayList<>();
+  private final TimingSummary m_summary = new TimingSummary();
+  private final StringPublisher m_slowestPublisher;
+  private int m_loops;
+
+  /**
+   * Creates a publisher on the default NetworkTables instance with the default period and a
+   * budget of one {@link TimedRobot#kDefaultPeriod}.
+   *
+   * @param registry The timers to publish.
+   * @param cycleTimer The timer covering the whole loop, used to detect overruns.
+   */
+  public LoopTimingPublisher(LoopTimingRegistry registry, LoopTimer cycleTimer) {
+    this(
+        registry,
+        cycleTimer,
+        NetworkTableInstance.getDefault(),
+        TimedRobot.kDefaultPeriod,
+        kDefaultPublishPeriodLoops);
+  }
+
+  /**
+   * Creates a publisher.
+   *
+   * @param registry The timers to publish.
+   * @param cycleTimer The timer covering the whole loop, used to detect overruns.
+   * @param instance The NetworkTables instance to publish on.
+   * @param budgetSeconds The loop budget. Cycles longer than this are reported.
+   * @param publishPeriodLoops How many loops between percentile updates.
+   */
+  public LoopTimingPublisher(
+      LoopTimingRegistry registry,
+      LoopTimer cycleTimer,
+      NetworkTableInstance instance,
+      double budgetSeconds,
+      int publishPeriodLoops) {
+    if (publishPeriodLoops < 1) {
+      throw new IllegalArgumentException("Publish period must be at least one loop");
+    }
+    m_registry = registry;
+    m_cycleTimer = cycleTimer;
+    m_table = instance.getTable("LoopTiming");
+    m_budgetNanos = (long) (budgetSeconds * 1e9);
+    m_publishPeriodLoops = publishPeriodLoops;
+    m_slowestPublisher = m_table.getStringTopic("slowestOverrunSection").publish();
+  }
+
+  /** Publishes timing and checks the last cycle for an overrun. Call once per loop. */
+  public void update() {
+    // Timers can be registered late, e.g. by commands built after robotInit(). Picking them up
+    // allocates their publishers once; every other call is allocation-free.
+    List<LoopTimer> timers = m_registry.getTimers();
+    while (m_entries.size() < timers.size()) {
+      m_entries.add(new Entry(m_table, timers.get(m_entries.size())));
+    }
+
+    if (m_cycleTimer.getLastNanos() > m_budgetNanos) {
+      reportOverrun();
+    }
+
+    boolean publishPercentiles = ++m_loops % m_publishPeriodLoops == 0;
+    for (int i = 0; i < m_entries.size(); i++) {
+      m_entries.get(i).publish(m_summary, publishPercentiles);
+    }
+  }
+
+  /**
+   * In simulation, writes the registry's report to a file when the program exits. Does nothing on
+   * a real robot.
+   *
+   * @param path The file to write, typically {@code test_output.txt}.
+   */
+  public void writeReportOnSimulationExit(Path path) {
+    if (!RobotBase.isSimulation()) {
+      return;
+    }
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread(
+                () -> {
+                  try {
+                    m_registry.writeReport(path);
+                  } catch (IOException e) {
+                    System.err.println("Could not write loop timing report: " + e.getMessage());
+                  }
+                },
+                "LoopTimingReport"));
+  }
+
+  @Override
+  public void close() {
+    for (Entry entry : m_entries) {
+      entry.close();
+    }
+    m_slowestPublisher.close();
+  }
+
+  private void reportOverrun() {
+    LoopTimer slowest = null;
+    for (LoopTimer timer : m_registry.getTimers()) {
+      if (timer != m_cycleTimer
+          && (slowest == null || timer.getLastNanos() > slowest.getLastNanos())) {
+        slowest = timer;
+      }
+    }
+    if (slowest == null) {
+      return;
+    }
+    m_slowestPublisher.set(slowest.getName());
+    DriverStation.reportWarning(
+        String.format(
+            "Loop overrun (%.1f ms): slowest section was %s at %.1f ms",
+            m_cycleTimer.getLastNanos() / 1e6, slowest.getName(), slowest.getLastNanos() / 1e6),
+        false);
+  }
+
+  private static final class Entry implements AutoCloseable {
+    private final LoopTimer m_timer;
+    private final DoublePublisher m_p50;
+    private final DoublePublisher m_p99;
+    private final DoublePublisher m_max;
+    private final DoublePublisher m_last;
+
+    Entry(NetworkTable parent, LoopTimer timer) {
+      m_timer = timer;
+      NetworkTable table = parent.getSubTable(timer.getName());
+      m_p50 = table.getDoubleTopic("p50Ms").publish();
+      m_p99 = table.getDoubleTopic("p99Ms").publish();
+      m_max = table.getDoubleTopic("maxMs").publish();
+      m_last = table.getDoubleTopic("lastMs").publish();
+    }
+
+    void publish(TimingSummary summary, boolean percentiles) {
+      m_last.set(m_timer.getLastNanos() / 1e6);
+      if (percentiles) {
+        m_timer.getHistogram().summarize(summary);
+        m_p50.set(summary.p50Nanos / 1e6);
+        m_p99.set(summary.p99Nanos / 1e6);
+        m_max.set(summary.maxNanos / 1e6);
+      }
+    }
+
+    @Override
+    public void close() {
+      m_p50.close();
+      m_p99.close();
+      m_max.close();
+      m_last.close();
+    }
+  }
+}
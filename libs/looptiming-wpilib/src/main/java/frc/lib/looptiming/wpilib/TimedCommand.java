@@ -0,0 +1,46 @@
+package frc.lib.looptiming.wpilib;
+
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.WrapperCommand;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+
+/**
+ * Wraps a command so that each call to its {@code execute()} is timed under {@code
+ * "<name>.execute"}.
+ *
+ * <p>Like any composition, the wrapped command cannot be scheduled on its own afterwards.
+ */
+public class TimedCommand extends WrapperCommand {
+  private final LoopTimer m_executeTimer;
+
+  /**
+   * Wraps a command, recording into the default registry.
+   *
+   * @param command The command to time.
+   */
+  public TimedCommand(Command command) {
+    this(command, LoopTimingRegistry.getDefault());
+  }
+
+  /**
+   * Wraps a command.
+   *
+   * @param command The command to time.
+   * @param registry The registry to record into.
+   */
+  public TimedCommand(Command command, LoopTimingRegistry registry) {
+    super(command);
+    m_executeTimer = registry.timer(command.getName() + ".execute");
+  }
+
+  @Override
+  public void execute() {
+    long start = m_executeTimer.start();
+    try {
+      m_command.execute();
+    } finally {
+      m_executeTimer.stop(start);
+    }
+  }
+}
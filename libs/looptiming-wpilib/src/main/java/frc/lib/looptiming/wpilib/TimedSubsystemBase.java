@@ -0,0 +1,59 @@
+package frc.lib.looptiming.wpilib;
+
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.lib.looptiming.LoopTimer;
+import frc.lib.looptiming.LoopTimingRegistry;
+
+/**
+ * A {@link SubsystemBase} whose periodic methods are timed.
+ *
+ * <p>Override {@link #timedPeriodic()} and {@link #timedSimulationPeriodic()} instead of {@code
+ * periodic()} and {@code simulationPeriodic()}. Each call is recorded under {@code
+ * "<name>.periodic"} and {@code "<name>.simulationPeriodic"}.
+ */
+public abstract class TimedSubsystemBase extends SubsystemBase {
+  private final LoopTimer m_periodicTimer;
+  private final LoopTimer m_simulationTimer;
+
+  /** Creates a subsystem timed into the default registry. */
+  protected TimedSubsystemBase() {
+    this(LoopTimingRegistry.getDefault());
+  }
+
+  /**
+   * Creates a subsystem timed into the given registry.
+   *
+   * @param registry The registry to record into.
+   */
+  protected TimedSubsystemBase(LoopTimingRegistry registry) {
+    String name = getName();
+    m_periodicTimer = registry.timer(name + ".periodic");
+    m_simulationTimer = registry.timer(name + ".simulationPeriodic");
+  }
+
+  @Override
+  public final void periodic() {
+    long start = m_periodicTimer.start();
+    try {
+      timedPeriodic();
+    } finally {
+      m_periodicTimer.stop(start);
+    }
+  }
+
+  @Override
+  public final void simulationPeriodic() {
+    long start = m_simulationTimer.start();
+    try {
+      timedSimulationPeriodic();
+    } finally {
+      m_simulationTimer.stop(start);
+    }
+  }
+
+  /** This method is called once per scheduler run. */
+  protected void timedPeriodic() {}
+
+  /** This method is called once per scheduler run, in simulation only. */
+  protected void timedSimulationPeriodic() {}
+}
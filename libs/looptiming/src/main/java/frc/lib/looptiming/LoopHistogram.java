@@ -0,0 +1,162 @@
+package frc.lib.looptiming;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, lock-free histogram of durations in nanoseconds.
+ *
+ * <p>Buckets are laid out the way HdrHistogram lays them out: exact below 64 ns, then 32 linear
+ * sub-buckets per power of two, so every recorded value lands in a bucket no wider than about 3%
+ * of its magnitude. Values above {@link #kMaxTrackableNanos} are clamped into the top bucket.
+ *
+ * <p>All storage is allocated in the constructor. {@link #record} is a couple of atomic increments
+ * and is safe to call from any thread; readers can summarize concurrently with writers and see a
+ * slightly stale but consistent-enough view.
+ */
+public final class LoopHistogram {
+  /** The largest duration tracked precisely, about 68 seconds. */
+  public static final long kMaxTrackableNanos = (1L << 36) - 1;
+
+  // Number of significant bits kept per value. Values below 2^kSubBucketBits are exact.
+  private static final int kSubBucketBits = 6;
+  private static final int kSubBucketHalfCount = 1 << (kSubBucketBits - 1);
+  private static final int kBucketCount = indexFor(kMaxTrackableNanos) + 1;
+
+  private final AtomicLongArray m_counts = new AtomicLongArray(kBucketCount);
+  private final AtomicLong m_totalCount = new AtomicLong();
+  private final AtomicLong m_totalNanos = new AtomicLong();
+  private final AtomicLong m_maxNanos = new AtomicLong();
+
+  /** Creates an empty histogram. */
+  public LoopHistogram() {}
+
+  /**
+   * Records one duration.
+   *
+   * @param nanos The duration, in nanoseconds. Negative values are recorded as zero.
+   */
+  public void record(long nanos) {
+    long value = Math.min(Math.max(nanos, 0), kMaxTrackableNanos);
+    m_counts.incrementAndGet(indexFor(value));
+    m_totalCount.incrementAndGet();
+    m_totalNanos.addAndGet(value);
+
+    long max = m_maxNanos.get();
+    while (value > max && !m_maxNanos.compareAndSet(max, value)) {
+      max = m_maxNanos.get();
+    }
+  }
+
+  /** Returns the number of recorded durations. */
+  public long getCount() {
+    return m_totalCount.get();
+  }
+
+  /** Returns the largest recorded duration, in nanoseconds. */
+  public long getMaxNanos() {
+    return m_maxNanos.get();
+  }
+
+  /**
+   * Returns the duration at or below which the given fraction of recordings fall.
+   *
+   * <p>The result is the upper edge of the bucket holding that recording, so it may overstate the
+   * true value by up to one bucket width. Returns zero if nothing has been recorded.
+   *
+   * @param percentile The percentile to query, from 0 to 100.
+   * @return The duration, in nanoseconds.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long total = m_totalCount.get();
+    if (total == 0) {
+      return 0;
+    }
+    long target = countAtPercentile(percentile, total);
+
+    long seen = 0;
+    for (int i = 0; i < kBucketCount; i++) {
+      seen += m_counts.get(i);
+      if (seen >= target) {
+        return Math.min(highestEquivalentValue(i), m_maxNanos.get());
+      }
+    }
+    return m_maxNanos.get();
+  }
+
+  /**
+   * Fills in a summary in a single pass over the buckets.
+   *
+   * @param out The summary to overwrite.
+   * @return {@code out}, for chaining.
+   */
+  public TimingSummary summarize(TimingSummary out) {
+    long total = m_totalCount.get();
+    long max = m_maxNanos.get();
+    out.count = total;
+    out.maxNanos = max;
+    out.meanNanos = total == 0 ? 0 : (double) m_totalNanos.get() / total;
+    out.p50Nanos = 0;
+    out.p99Nanos = 0;
+    if (total == 0) {
+      return out;
+    }
+
+    long p50Target = countAtPercentile(50, total);
+    long p99Target = countAtPercentile(99, total);
+    long seen = 0;
+    boolean havePercentile50 = false;
+    for (int i = 0; i < kBucketCount; i++) {
+      seen += m_counts.get(i);
+      if (!havePercentile50 && seen >= p50Target) {
+        out.p50Nanos = Math.min(highestEquivalentValue(i), max);
+        havePercentile50 = true;
+      }
+      if (seen >= p99Target) {
+        out.p99Nanos = Math.min(highestEquivalentValue(i), max);
+        return out;
+      }
+    }
+    out.p99Nanos = max;
+    if (!havePercentile50) {
+      out.p50Nanos = max;
+    }
+    return out;
+  }
+
+  /**
+   * Clears every recording. Recordings made concurrently with a reset may be partially lost,
+   * which is fine for dashboards and not fine for anything stricter.
+   */
+  public void reset() {
+    for (int i = 0; i < kBucketCount; i++) {
+      m_counts.set(i, 0);
+    }
+    m_totalCount.set(0);
+    m_totalNanos.set(0);
+    m_maxNanos.set(0);
+  }
+
+  private static long countAtPercentile(double percentile, long total) {
+    double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+    return Math.max(1, (long) Math.ceil(clamped / 100.0 * total));
+  }
+
+  static int indexFor(long value) {
+    if (value < 2 * kSubBucketHalfCount) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - (kSubBucketBits - 1);
+    int subBucket = (int) (value >>> shift);
+    return shift * kSubBucketHalfCount + subBucket;
+  }
+
+  static long highestEquivalentValue(int index) {
+    if (index < 2 * kSubBucketHalfCount) {
+      return index;
+    }
+    int shift = index / kSubBucketHalfCount - 1;
+    long subBucket = index - (long) shift * kSubBucketHalfCount;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,75 @@
+package frc.lib.looptiming;
+
+/**
+ * Times one named section of the robot loop, such as a subsystem's {@code periodic()} or a
+ * command's {@code execute()}.
+ *
+ * <p>Timers are created up front through {@link LoopTimingRegistry#timer}. Timing a section is two
+ * clock reads and a histogram update, with no allocation:
+ *
+ * <pre>{@code
+ * long start = m_timer.start();
+ * doWork();
+ * m_timer.stop(start);
+ * }</pre>
+ */
+public final class LoopTimer {
+  private final String m_name;
+  private final LoopHistogram m_histogram = new LoopHistogram();
+  private volatile long m_lastNanos;
+
+  LoopTimer(String name) {
+    m_name = name;
+  }
+
+  public String getName() {
+    return m_name;
+  }
+
+  public LoopHistogram getHistogram() {
+    return m_histogram;
+  }
+
+  /** Returns the duration of the most recently timed run, in nanoseconds. */
+  public long getLastNanos() {
+    return m_lastNanos;
+  }
+
+  void clearLast() {
+    m_lastNanos = 0;
+  }
+
+  /**
+   * Marks the start of a timed section.
+   *
+   * @return The start timestamp to hand back to {@link #stop}.
+   */
+  public long start() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Marks the end of a timed section and records its duration.
+   *
+   * @param startNanos The value returned by the matching {@link #start} call.
+   */
+  public void stop(long startNanos) {
+    long elapsed = System.nanoTime() - startNanos;
+    m_lastNanos = elapsed;
+    m_histogram.record(elapsed);
+  }
+
+  /**
+   * Runs and times a section.
+   *
+   * @param section The work to time.
+   */
+  public void time(Runnable section) {
+    long start = start();
+    try {
+      section.run();
+    } finally {
+      stop(start);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package frc.lib.looptiming;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Owns every {@link LoopTimer} in a robot program.
+ *
+ * <p>Create timers while constructing subsystems and commands; the registry is not meant to be
+ * touched from inside the loop except through the timers it hands out.
+ */
+public final class LoopTimingRegistry {
+  private static final LoopTimingRegistry s_default = new LoopTimingRegistry();
+
+  private final List<LoopTimer> m_timers = new ArrayList<>();
+  private final List<LoopTimer> m_timersView = Collections.unmodifiableList(m_timers);
+
+  /** Creates an empty registry. */
+  public LoopTimingRegistry() {}
+
+  /** Returns the registry shared by the whole robot program. */
+  public static LoopTimingRegistry getDefault() {
+    return s_default;
+  }
+
+  /**
+   * Returns the timer with the given name, creating it on first use.
+   *
+   * @param name The section name, e.g. {@code "Drivetrain.periodic"}.
+   * @return The timer.
+   */
+  public synchronized LoopTimer timer(String name) {
+    for (LoopTimer timer : m_timers) {
+      if (timer.getName().equals(name)) {
+        return timer;
+      }
+    }
+    LoopTimer timer = new LoopTimer(name);
+    m_timers.add(timer);
+    return timer;
+  }
+
+  /** Returns every registered timer, in registration order. */
+  public List<LoopTimer> getTimers() {
+    return m_timersView;
+  }
+
+  /**
+   * Forgets every timer's most recent run. Call this at the top of each loop so that {@link
+   * #getSlowestLast} only considers sections that ran in the current cycle.
+   */
+  public void startCycle() {
+    for (int i = 0; i < m_timers.size(); i++) {
+      m_timers.get(i).clearLast();
+    }
+  }
+
+  /**
+   * Returns the timer whose most recent run took longest, or null if there are no timers. Call
+   * this after a loop overrun to name the section that caused it.
+   */
+  public LoopTimer getSlowestLast() {
+    LoopTimer slowest = null;
+    for (int i = 0; i < m_timers.size(); i++) {
+      LoopTimer timer = m_timers.get(i);
+      if (slowest == null || timer.getLastNanos() > slowest.getLastNanos()) {
+        slowest = timer;
+      }
+    }
+    return slowest;
+  }
+
+  /** Clears every timer's histogram. */
+  public void reset() {
+    for (LoopTimer timer : m_timers) {
+      timer.getHistogram().reset();
+    }
+  }
+
+  /**
+   * Writes a plain-text table of every timer's distribution.
+   *
+   * @param out Where to write the table.
+   */
+  public void writeReport(PrintWriter out) {
+    TimingSummary summary = new TimingSummary();
+    out.printf(
+        "%-40s %10s %10s %10s %10s %10s%n", "section", "count", "mean ms", "p50 ms", "p99 ms",
+        "max ms");
+    for (LoopTimer timer : m_timers) {
+      timer.getHistogram().summarize(summary);
+      out.printf(
+          "%-40s %10d %10.3f %10.3f %10.3f %10.3f%n",
+          timer.getName(),
+          summary.count,
+          summary.meanNanos / 1e6,
+          summary.p50Nanos / 1e6,
+          summary.p99Nanos / 1e6,
+          summary.maxNanos / 1e6);
+    }
+    out.flush();
+  }
+
+  /**
+   * Writes the report to a file, replacing it.
+   *
+   * @param path The file to write.
+   * @throws IOException If the file cannot be written.
+   */
+  public void writeReport(Path path) throws IOException {
+    try (PrintWriter out =
+        new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+      writeReport(out);
+    }
+  }
+}
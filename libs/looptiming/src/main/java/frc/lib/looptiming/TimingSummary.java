@@ -0,0 +1,29 @@
+package frc.lib.looptiming;
+
+/** A point-in-time summary of a {@link LoopHistogram}, held in mutable fields for reuse. */
+public final class TimingSummary {
+  /** Number of recorded durations. */
+  public long count;
+
+  /** Mean duration, in nanoseconds. */
+  public double meanNanos;
+
+  /** Median duration, in nanoseconds. */
+  public long p50Nanos;
+
+  /** 99th percentile duration, in nanoseconds. */
+  public long p99Nanos;
+
+  /** Longest recorded duration, in nanoseconds. */
+  public long maxNanos;
+
+  /** Creates an empty summary. */
+  public TimingSummary() {}
+
+  @Override
+  public String toString() {
+    return String.format(
+        "TimingSummary(count: %d, mean: %.3f ms, p50: %.3f ms, p99: %.3f ms, max: %.3f ms)",
+        count, meanNanos / 1e6, p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+  }
+}
@@ -0,0 +1,48 @@
+package frc.lib.odometry;
+
+/**
+ * One timestamp-aligned set of odometry sensor readings: the gyro and every module, read together.
+ *
+ * <p>Meant to be allocated once and overwritten for each sample.
+ */
+public final class OdometrySample {
+  /** When the sensors were read, in seconds on the robot clock. */
+  public double timestampSeconds;
+
+  /** The gyro angle, in radians, counterclockwise positive. */
+  public double gyroRadians;
+
+  /** The distance each module's wheel has rolled, in meters. */
+  public final double[] distancesMeters;
+
+  /** Each module's angle, in radians. */
+  public final double[] anglesRadians;
+
+  /**
+   * Creates a zeroed sample.
+   *
+   * @param moduleCount The number of swerve modules.
+   */
+  public OdometrySample(int moduleCount) {
+    distancesMeters = new double[moduleCount];
+    anglesRadians = new double[moduleCount];
+  }
+
+  public int getModuleCount() {
+    return distancesMeters.length;
+  }
+
+  /**
+   * Copies another sample into this one.
+   *
+   * @param other A sample with the same module count.
+   * @return This sample, for chaining.
+   */
+  public OdometrySample set(OdometrySample other) {
+    timestampSeconds = other.timestampSeconds;
+    gyroRadians = other.gyroRadians;
+    System.arraycopy(other.distancesMeters, 0, distancesMeters, 0, distancesMeters.length);
+    System.arraycopy(other.anglesRadians, 0, anglesRadians, 0, anglesRadians.length);
+    return this;
+  }
+}
@@ -0,0 +1,113 @@
+package frc.lib.odometry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A preallocated single-producer, single-consumer queue of odometry samples.
+ *
+ * <p>Each slot holds a timestamp, a gyro angle and one distance and angle per module, all in
+ * primitive arrays, so a sample's readings stay aligned with each other and with their timestamp.
+ * Offering or polling a sample is a handful of array copies and a release-ordered counter update:
+ * no allocation, no locks and no system calls. Exactly one thread may call {@link #offer} and
+ * exactly one other thread may call {@link #poll}.
+ *
+ * <p>When the ring is full, new samples are dropped and counted rather than blocking the sampling
+ * thread.
+ */
+public final class OdometrySampleRing {
+  private final int m_capacity;
+  private final int m_mask;
+  private final int m_moduleCount;
+  private final double[] m_timestamps;
+  private final double[] m_gyro;
+  // Module readings, m_moduleCount consecutive entries per slot.
+  private final double[] m_distances;
+  private final double[] m_angles;
+
+  // Next slot to write. Written only by the producer.
+  private final AtomicLong m_tail = new AtomicLong();
+  // Next slot to read. Written only by the consumer.
+  private final AtomicLong m_head = new AtomicLong();
+  private final AtomicLong m_dropped = new AtomicLong();
+
+  // The producer's last view of m_head, so a non-full ring never reads the consumer's counter.
+  private long m_cachedHead;
+
+  /**
+   * Creates a ring.
+   *
+   * @param capacity The number of samples the ring holds. Must be a power of two.
+   * @param moduleCount The number of swerve modules in each sample.
+   */
+  public OdometrySampleRing(int capacity, int moduleCount) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+    }
+    m_capacity = capacity;
+    m_mask = capacity - 1;
+    m_moduleCount = moduleCount;
+    m_timestamps = new double[capacity];
+    m_gyro = new double[capacity];
+    m_distances = new double[capacity * moduleCount];
+    m_angles = new double[capacity * moduleCount];
+  }
+
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  public int getModuleCount() {
+    return m_moduleCount;
+  }
+
+  /**
+   * Adds a sample. Producer thread only.
+   *
+   * @param sample The sample to copy in.
+   * @return False if the ring was full and the sample was dropped.
+   */
+  public boolean offer(OdometrySample sample) {
+    long tail = m_tail.getPlain();
+    if (tail - m_cachedHead >= m_capacity) {
+      m_cachedHead = m_head.getAcquire();
+      if (tail - m_cachedHead >= m_capacity) {
+        m_dropped.incrementAndGet();
+        return false;
+      }
+    }
+
+    int index = (int) tail & m_mask;
+    m_timestamps[index] = sample.timestampSeconds;
+    m_gyro[index] = sample.gyroRadians;
+    System.arraycopy(sample.distancesMeters, 0, m_distances, index * m_moduleCount, m_moduleCount);
+    System.arraycopy(sample.anglesRadians, 0, m_angles, index * m_moduleCount, m_moduleCount);
+    m_tail.setRelease(tail + 1);
+    return true;
+  }
+
+  /**
+   * Takes the oldest queued sample. Consumer thread only.
+   *
+   * @param out The sample to overwrite.
+   * @return False if the ring was empty and {@code out} is unchanged.
+   */
+  public boolean poll(OdometrySample out) {
+    long head = m_head.getPlain();
+    if (m_tail.getAcquire() == head) {
+      return false;
+    }
+
+    int index = (int) head & m_mask;
+    out.timestampSeconds = m_timestamps[index];
+    out.gyroRadians = m_gyro[index];
+    System.arraycopy(m_distances, index * m_moduleCount, out.distancesMeters, 0, m_moduleCount);
+    System.arraycopy(m_angles, index * m_moduleCount, out.anglesRadians, 0, m_moduleCount);
+    m_head.setRelease(head + 1);
+    return true;
+  }
+
+  /** Returns how many samples have been dropped because the ring was full. */
+  public long getDroppedCount() {
+    return m_dropped.get();
+  }
+}
@@ -0,0 +1,12 @@
+package frc.lib.odometry;
+
+/** Reads the odometry sensors. Called from the odometry thread at its sample rate. */
+@FunctionalInterface
+public interface OdometrySampler {
+  /**
+   * Reads the gyro and every module as close together in time as possible.
+   *
+   * @param out The sample to overwrite, including its timestamp.
+   */
+  void sample(OdometrySample out);
+}
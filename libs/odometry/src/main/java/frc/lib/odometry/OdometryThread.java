@@ -0,0 +1,134 @@
+package frc.lib.odometry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Samples the odometry sensors on a dedicated thread, faster than the robot loop runs.
+ *
+ * <p>The thread wakes on a fixed schedule, has an {@link OdometrySampler} read the gyro and every
+ * module, and queues the timestamped sample in an {@link OdometrySampleRing}. The robot loop
+ * drains every queued sample with {@link #poll} once per cycle and feeds them to its odometry or
+ * pose estimator in order, so each update integrates a short, nearly straight arc instead of one
+ * 20 ms arc.
+ *
+ * <p>Wake-ups are scheduled against absolute deadlines, so a late wake-up does not shift later
+ * samples. A wake-up that is more than a full period late skips the missed samples rather than
+ * bursting to catch up, and is counted as an overrun.
+ */
+public final class OdometryThread implements AutoCloseable {
+  private final OdometrySampler m_sampler;
+  private final OdometrySampleRing m_ring;
+  private final long m_periodNanos;
+  private final Runnable m_threadSetup;
+  private final Thread m_thread;
+  private final AtomicLong m_samples = new AtomicLong();
+  private final AtomicLong m_overruns = new AtomicLong();
+  private final AtomicLong m_busyNanos = new AtomicLong();
+
+  private volatile boolean m_running = true;
+
+  /**
+   * Creates and starts the odometry thread.
+   *
+   * @param sampler Reads the sensors.
+   * @param moduleCount The number of swerve modules.
+   * @param frequencyHz How often to sample.
+   * @param threadSetup Runs once on the new thread before the first sample, e.g. to raise its
+   *     priority.
+   */
+  public OdometryThread(
+      OdometrySampler sampler, int moduleCount, double frequencyHz, Runnable threadSetup) {
+    if (!(frequencyHz > 0)) {
+      throw new IllegalArgumentException("Frequency must be positive, got " + frequencyHz);
+    }
+    m_sampler = sampler;
+    m_periodNanos = Math.round(1e9 / frequencyHz);
+    // Room for at least a quarter second of samples, so a stalled robot loop loses nothing.
+    int capacity = Integer.highestOneBit((int) Math.ceil(frequencyHz / 4)) * 2;
+    m_ring = new OdometrySampleRing(Math.max(capacity, 2), moduleCount);
+    m_threadSetup = threadSetup;
+    m_thread = new Thread(this::run, "Odometry");
+    m_thread.setDaemon(true);
+    m_thread.start();
+  }
+
+  /**
+   * Creates and starts the odometry thread.
+   *
+   * @param sampler Reads the sensors.
+   * @param moduleCount The number of swerve modules.
+   * @param frequencyHz How often to sample.
+   */
+  public OdometryThread(OdometrySampler sampler, int moduleCount, double frequencyHz) {
+    this(sampler, moduleCount, frequencyHz, () -> {});
+  }
+
+  /**
+   * Takes the oldest sample the robot loop has not seen yet. Call from one thread only, in a loop
+   * until it returns false.
+   *
+   * @param out The sample to overwrite.
+   * @return False if there are no more samples.
+   */
+  public boolean poll(OdometrySample out) {
+    return m_ring.poll(out);
+  }
+
+  /** Returns how many samples have been taken. */
+  public long getSampleCount() {
+    return m_samples.get();
+  }
+
+  /** Returns how many samples were skipped because the thread woke up late. */
+  public long getOverrunCount() {
+    return m_overruns.get();
+  }
+
+  /** Returns how many samples were dropped because the robot loop fell behind. */
+  public long getDroppedCount() {
+    return m_ring.getDroppedCount();
+  }
+
+  /** Returns the total time spent reading sensors and queuing samples, in nanoseconds. */
+  public long getBusyNanos() {
+    return m_busyNanos.get();
+  }
+
+  /** Stops the thread and waits for it to exit. */
+  @Override
+  public void close() {
+    m_running = false;
+    LockSupport.unpark(m_thread);
+    try {
+      m_thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    m_threadSetup.run();
+    OdometrySample sample = new OdometrySample(m_ring.getModuleCount());
+    long deadline = System.nanoTime();
+    while (m_running) {
+      long start = System.nanoTime();
+      m_sampler.sample(sample);
+      m_ring.offer(sample);
+      long end = System.nanoTime();
+      m_samples.incrementAndGet();
+      m_busyNanos.addAndGet(end - start);
+
+      deadline += m_periodNanos;
+      if (end - deadline > m_periodNanos) {
+        long missed = (end - deadline) / m_periodNanos;
+        m_overruns.addAndGet(missed);
+        deadline += missed * m_periodNanos;
+      }
+      long wait;
+      while (m_running && (wait = deadline - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(this, wait);
+      }
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package frc.lib.odometry;
+
+import frc.lib.geometry.Angles;
+import frc.lib.geometry.MutablePose2d;
+import frc.lib.kinematics.MutableSwerveOdometry;
+import frc.lib.kinematics.SwerveKinematics;
+
+/**
+ * Swerve odometry that keeps a timestamped pose history, so vision measurements that arrive late
+ * are fused at the time they were taken.
+ *
+ * <p>Each {@link #update} applies one {@link OdometrySample} to a {@link MutableSwerveOdometry}
+ * and records the odometry pose at the sample's own timestamp. The estimate is the odometry pose
+ * moved by a rigid correction. {@link #addVisionMeasurement} looks up the odometry pose at the
+ * measurement's timestamp, moves the estimate at that time part of the way toward the
+ * measurement, and re-solves the correction from it. Carrying that correction forward is the same
+ * as WPILib's {@code SwerveDrivePoseEstimator} replaying the odometry recorded since the
+ * measurement, but costs nothing per sample and allocates nothing.
+ *
+ * <p>Where WPILib weighs a measurement with a Kalman gain per axis from standard deviations, this
+ * takes a single weight: the fraction of the gap to the measurement to close.
+ */
+public final class SwervePoseEstimator {
+  private final MutableSwerveOdometry m_odometry;
+  private final MutablePose2d m_estimate = new MutablePose2d();
+
+  // Odometry pose history, oldest first starting at m_oldest, m_count entries long.
+  private final double[] m_times;
+  private final double[] m_x;
+  private final double[] m_y;
+  private final double[] m_theta;
+  private int m_oldest;
+  private int m_count;
+
+  // Rigid transform from the odometry frame to the field: rotate by m_correctionTheta, then move.
+  private double m_correctionX;
+  private double m_correctionY;
+  private double m_correctionTheta;
+  private double m_correctionCos = 1;
+  private double m_correctionSin;
+
+  /**
+   * Creates an estimator starting at the origin.
+   *
+   * @param kinematics The drivetrain's kinematics.
+   * @param initial The sensor readings at startup.
+   * @param historySize How many samples to keep for looking measurements up; at 250 Hz, 375
+   *     covers 1.5 seconds of latency, as WPILib's estimator does.
+   */
+  public SwervePoseEstimator(SwerveKinematics kinematics, OdometrySample initial, int historySize) {
+    if (historySize < 2) {
+      throw new IllegalArgumentException(
+          "History must hold at least 2 samples, got " + historySize);
+    }
+    m_odometry =
+        new MutableSwerveOdometry(kinematics, initial.gyroRadians, initial.distancesMeters);
+    m_times = new double[historySize];
+    m_x = new double[historySize];
+    m_y = new double[historySize];
+    m_theta = new double[historySize];
+    record(initial.timestampSeconds);
+  }
+
+  /**
+   * Moves the estimate to a known pose and forgets the history.
+   *
+   * @param sample The sensor readings at the time of the reset.
+   * @param x The new x position, in meters.
+   * @param y The new y position, in meters.
+   * @param thetaRadians The new heading.
+   */
+  public void resetPosition(OdometrySample sample, double x, double y, double thetaRadians) {
+    m_odometry.resetPosition(sample.gyroRadians, sample.distancesMeters, x, y, thetaRadians);
+    setCorrection(0, 0, 0);
+    m_count = 0;
+    record(sample.timestampSeconds);
+  }
+
+  /**
+   * Applies one sample. Call this for every sample, in timestamp order.
+   *
+   * @param sample The sensor readings.
+   * @return The updated estimate.
+   */
+  public MutablePose2d update(OdometrySample sample) {
+    m_odometry.update(sample.gyroRadians, sample.distancesMeters, sample.anglesRadians);
+    record(sample.timestampSeconds);
+    return m_estimate;
+  }
+
+  /**
+   * Fuses a field-relative pose measurement taken at an earlier time.
+   *
+   * @param x The measured x position, in meters.
+   * @param y The measured y position, in meters.
+   * @param thetaRadians The measured heading.
+   * @param timestampSeconds When the measurement was taken, on the same clock as the samples.
+   * @param weight How far to move toward the measurement, from 0 (ignore it) to 1 (take it as is).
+   * @return False if the measurement is older than the history, or newer than the last sample,
+   *     and was ignored.
+   */
+  public boolean addVisionMeasurement(
+      double x, double y, double thetaRadians, double timestampSeconds, double weight) {
+    int newest = index(m_count - 1);
+    if (timestampSeconds < m_times[m_oldest] || timestampSeconds > m_times[newest]) {
+      return false;
+    }
+
+    // The last entry at or before the measurement, then interpolate toward the next one.
+    int low = 0;
+    int high = m_count - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (m_times[index(middle)] <= timestampSeconds) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    int before = index(low);
+    int after = index(Math.min(low + 1, m_count - 1));
+    double span = m_times[after] - m_times[before];
+    double t = span > 0 ? (timestampSeconds - m_times[before]) / span : 0;
+    double odometryX = m_x[before] + (m_x[after] - m_x[before]) * t;
+    double odometryY = m_y[before] + (m_y[after] - m_y[before]) * t;
+    double odometryTheta = m_theta[before] + Angles.wrap(m_theta[after] - m_theta[before]) * t;
+
+    // Where the estimate was then, moved toward the measurement.
+    double estimateX = correctX(odometryX, odometryY);
+    double estimateY = correctY(odometryX, odometryY);
+    double estimateTheta = odometryTheta + m_correctionTheta;
+    estimateX += (x - estimateX) * weight;
+    estimateY += (y - estimateY) * weight;
+    estimateTheta += Angles.wrap(thetaRadians - estimateTheta) * weight;
+
+    // The correction that puts the odometry pose then on the moved estimate.
+    double theta = estimateTheta - odometryTheta;
+    double cos = Math.cos(theta);
+    double sin = Math.sin(theta);
+    setCorrection(
+        estimateX - (odometryX * cos - odometryY * sin),
+        estimateY - (odometryX * sin + odometryY * cos),
+        theta);
+    applyCorrection();
+    return true;
+  }
+
+  /**
+   * Returns the current estimate. The returned object is owned by this estimator and changes on
+   * every update; copy it if you need to keep a snapshot.
+   */
+  public MutablePose2d getEstimatedPosition() {
+    return m_estimate;
+  }
+
+  private void record(double timestampSeconds) {
+    int slot;
+    if (m_count < m_times.length) {
+      slot = index(m_count++);
+    } else {
+      slot = m_oldest;
+      m_oldest = index(1);
+    }
+    MutablePose2d pose = m_odometry.getPose();
+    m_times[slot] = timestampSeconds;
+    m_x[slot] = pose.getX();
+    m_y[slot] = pose.getY();
+    m_theta[slot] = pose.getRotationRadians();
+    applyCorrection();
+  }
+
+  private void applyCorrection() {
+    MutablePose2d pose = m_odometry.getPose();
+    m_estimate.set(
+        correctX(pose.getX(), pose.getY()),
+        correctY(pose.getX(), pose.getY()),
+        Angles.wrap(pose.getRotationRadians() + m_correctionTheta));
+  }
+
+  private void setCorrection(double x, double y, double thetaRadians) {
+    m_correctionX = x;
+    m_correctionY = y;
+    m_correctionTheta = thetaRadians;
+    m_correctionCos = Math.cos(thetaRadians);
+    m_correctionSin = Math.sin(thetaRadians);
+  }
+
+  private double correctX(double x, double y) {
+    return x * m_correctionCos - y * m_correctionSin + m_correctionX;
+  }
+
+  private double correctY(double x, double y) {
+    return x * m_correctionSin + y * m_correctionCos + m_correctionY;
+  }
+
+  private int index(int entry) {
+    return (m_oldest + entry) % m_times.length;
+  }
+}
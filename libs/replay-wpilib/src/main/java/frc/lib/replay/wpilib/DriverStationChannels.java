@@ -0,0 +1,76 @@
+package frc.lib.replay.wpilib;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import frc.lib.replay.ReplayChannels;
+
+/**
+ * Records what the driver station sends each loop, and plays it back through {@link
+ * DriverStationSim}: the robot mode and every joystick's axes, buttons and POV hat.
+ */
+public final class DriverStationChannels {
+  /** Axes recorded per joystick; enough for an Xbox or PS4 controller. */
+  public static final int kAxes = 6;
+
+  /** Buttons recorded per joystick, as one bitmask. */
+  public static final int kButtons = 16;
+
+  private DriverStationChannels() {}
+
+  /**
+   * Registers the driver station inputs.
+   *
+   * @param channels Where to register them.
+   * @param joystickCount How many joystick ports to record, starting from port 0.
+   */
+  public static void register(ReplayChannels channels, int joystickCount) {
+    channels.addInput(
+        "DriverStation/enabled",
+        () -> DriverStation.isEnabled() ? 1 : 0,
+        value -> DriverStationSim.setEnabled(value != 0));
+    channels.addInput(
+        "DriverStation/autonomous",
+        () -> DriverStation.isAutonomous() ? 1 : 0,
+        value -> DriverStationSim.setAutonomous(value != 0));
+    channels.addInput(
+        "DriverStation/test",
+        () -> DriverStation.isTest() ? 1 : 0,
+        value -> DriverStationSim.setTest(value != 0));
+
+    for (int port = 0; port < joystickCount; port++) {
+      int stick = port;
+      String prefix = "Joystick" + port + "/";
+      for (int axis = 0; axis < kAxes; axis++) {
+        int index = axis;
+        // Reading an axis the joystick does not have reports a warning, so check first.
+        channels.addInput(
+            prefix + "axis" + axis,
+            () ->
+                index < DriverStation.getStickAxisCount(stick)
+                    ? DriverStation.getStickAxis(stick, index)
+                    : 0,
+            value -> DriverStationSim.setJoystickAxis(stick, index, value));
+      }
+      channels.addInput(
+          prefix + "buttons",
+          () -> DriverStation.getStickButtons(stick),
+          value -> DriverStationSim.setJoystickButtons(stick, (int) value));
+      channels.addInput(
+          prefix + "pov",
+          () ->
+              DriverStation.getStickPOVCount(stick) > 0 ? DriverStation.getStickPOV(stick, 0) : -1,
+          value -> DriverStationSim.setJoystickPOV(stick, 0, (int) value));
+    }
+  }
+
+  /** Attaches the driver station and a joystick on every port, ready for replayed values. */
+  static void attachJoysticks() {
+    DriverStationSim.setDsAttached(true);
+    for (int port = 0; port < DriverStation.kJoystickPorts; port++) {
+      DriverStationSim.setJoystickAxisCount(port, kAxes);
+      DriverStationSim.setJoystickButtonCount(port, kButtons);
+      DriverStationSim.setJoystickPOVCount(port, 1);
+    }
+    DriverStationSim.notifyNewData();
+  }
+}
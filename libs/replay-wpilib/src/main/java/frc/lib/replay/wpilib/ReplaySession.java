@@ -0,0 +1,269 @@
+package frc.lib.replay.wpilib;
+
+import edu.wpi.first.hal.simulation.SimulatorJNI;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import frc.lib.replay.MappedReplayLog;
+import frc.lib.replay.ReplayChannels;
+import frc.lib.replay.ReplayFrame;
+import frc.lib.replay.ReplayHarness;
+import frc.lib.replay.ReplayLogWriter;
+import frc.lib.replay.ReplayResult;
+import frc.lib.replay.ReplaySchema;
+import frc.lib.replay.ReplayTarget;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Records a simulated robot's inputs and outputs every loop, or replays a recording against it
+ * headless and faster than real time.
+ *
+ * <p>Start the robot through {@link #startRobot} instead of {@code RobotBase.startRobot}, register
+ * channels in {@code robotInit()} (see {@link DriverStationChannels}), and call {@link #endLoop}
+ * at the end of {@code robotPeriodic()}. The mode comes from the environment, which the Gradle
+ * simulation tasks set from project properties:
+ *
+ * <ul>
+ *   <li>{@code REPLAY_RECORD} ({@code -PreplayRecord=<log>}): record every loop to the log. The
+ *       simulator's clock is paused and stepped one period at a time, in step with wall-clock
+ *       time, so every loop starts on its deadline and the clock stands still while it runs.
+ *       Each frame's timestamp is then the time every clock read in that loop saw.
+ *   <li>{@code REPLAY_LOG} ({@code -PreplayLog=<log>}): replay the log. The simulator's clock is
+ *       paused and stepped to each recorded loop's start time in turn, so no loop waits on
+ *       wall-clock time and code that reads the clock, such as a {@code SlewRateLimiter}, sees
+ *       the same times it did while recording. When the log runs out, the loop-time distribution
+ *       and any channel that differs from the recording go to {@code test_output.txt} at the
+ *       repository root, and the program exits with status 1 if anything differed, or 2 if the
+ *       log could not be replayed, including when no loop calls {@link #endLoop}.
+ *   <li>{@code REPLAY_OUTPUT} ({@code -PreplayOutput=<log>}): while replaying, also record the
+ *       replayed loops. Replaying that log later compares a new build against this run.
+ * </ul>
+ *
+ * <p>With neither set, everything here does nothing.
+ */
+public final class ReplaySession implements ReplayTarget {
+  private static final ReplaySession s_instance = new ReplaySession();
+  private static final long kPeriodMicros = Math.round(TimedRobot.kDefaultPeriod * 1e6);
+
+  private final ReplayChannels m_channels = new ReplayChannels();
+  private final Path m_recordPath = pathFromEnvironment("REPLAY_RECORD");
+  private final Path m_replayPath = pathFromEnvironment("REPLAY_LOG");
+  private final Path m_outputPath = pathFromEnvironment("REPLAY_OUTPUT");
+
+  private ReplayFrame m_frame;
+  private ReplayLogWriter m_writer;
+  private long m_loopCount;
+  private long m_firstRecordedMicros = -1;
+  private long m_firstReplayedMicros;
+
+  private ReplaySession() {}
+
+  /** Returns the session for this robot program. */
+  public static ReplaySession get() {
+    return s_instance;
+  }
+
+  /**
+   * Starts the robot program, and the replay alongside it if one was asked for. Call this from
+   * {@code Main} in place of {@code RobotBase.startRobot}.
+   *
+   * @param robotSupplier Creates the robot.
+   */
+  public static <T extends RobotBase> void startRobot(Supplier<T> robotSupplier) {
+    if (s_instance.isReplaying()) {
+      Thread replay = new Thread(s_instance::replay, "Replay");
+      replay.setDaemon(true);
+      replay.start();
+    } else if (s_instance.isRecording()) {
+      Thread clock = new Thread(ReplaySession::paceRecording, "ReplayClock");
+      clock.setDaemon(true);
+      clock.start();
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(s_instance::closeRecording, "ReplayRecordingClose"));
+    }
+    RobotBase.startRobot(robotSupplier);
+  }
+
+  /** Returns the channels to register this program's inputs and outputs in. */
+  public ReplayChannels getChannels() {
+    return m_channels;
+  }
+
+  public boolean isRecording() {
+    return m_recordPath != null && m_replayPath == null;
+  }
+
+  public boolean isReplaying() {
+    return m_replayPath != null;
+  }
+
+  /**
+   * Records this loop, or hands it to the replay. Call at the end of {@code robotPeriodic()}.
+   * Does nothing unless recording or replaying.
+   */
+  public synchronized void endLoop() {
+    m_loopCount++;
+    if (isReplaying()) {
+      m_channels.capture(RobotController.getFPGATime(), frame());
+    } else if (isRecording()) {
+      record();
+    }
+  }
+
+  private void record() {
+    try {
+      if (m_writer == null) {
+        m_writer = ReplayLogWriter.open(m_recordPath, m_channels.getSchema());
+      }
+      m_channels.capture(RobotController.getFPGATime(), frame());
+      m_writer.write(m_frame);
+    } catch (IOException e) {
+      DriverStation.reportError("Replay recording stopped: " + e.getMessage(), false);
+      closeRecording();
+    }
+  }
+
+  private synchronized void closeRecording() {
+    if (m_writer != null) {
+      try {
+        m_writer.close();
+      } catch (IOException e) {
+        System.err.println("Could not finish replay recording: " + e.getMessage());
+      }
+      m_writer = null;
+    }
+  }
+
+  private synchronized long loopCount() {
+    return m_loopCount;
+  }
+
+  private static void paceRecording() {
+    SimHooks.waitForProgramStart();
+    SimHooks.pauseTiming();
+    long periodNanos = kPeriodMicros * 1000;
+    long deadline = System.nanoTime();
+    while (true) {
+      deadline += periodNanos;
+      long wait;
+      while ((wait = deadline - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      // Returns once the loop the step wakes up has run. A loop that overran is caught up on the
+      // next steps rather than stretching the recorded period.
+      SimulatorJNI.stepTiming(kPeriodMicros);
+    }
+  }
+
+  private ReplayFrame frame() {
+    if (m_frame == null) {
+      m_frame = new ReplayFrame(m_channels.getSchema().getChannelCount());
+    }
+    return m_frame;
+  }
+
+  private void replay() {
+    // robotInit() has registered every channel by the time the program reports it has started.
+    SimHooks.waitForProgramStart();
+    SimHooks.pauseTiming();
+    DriverStationChannels.attachJoysticks();
+
+    int status;
+    StringWriter report = new StringWriter();
+    try (PrintWriter out = new PrintWriter(report)) {
+      try {
+        MappedReplayLog log = MappedReplayLog.open(m_replayPath);
+        ReplayResult result;
+        try (ReplayLogWriter output =
+            m_outputPath != null ? ReplayLogWriter.open(m_outputPath, getSchema()) : null) {
+          result = ReplayHarness.run(log, this, 0, output);
+        }
+        out.printf("Replay of %s%n", m_replayPath);
+        result.writeReport(out);
+        status = result.getDiff().hasDifferences() ? 1 : 0;
+      } catch (IOException | IllegalStateException e) {
+        out.printf("Replay of %s failed: %s%n", m_replayPath, e);
+        status = 2;
+      }
+    }
+
+    System.out.print(report);
+    Path reportPath =
+        Path.of(System.getenv().getOrDefault("SCRATCHPAD_ROOT", "."), "test_output.txt");
+    try {
+      Files.writeString(reportPath, report.toString(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      System.err.println("Could not write replay report: " + e.getMessage());
+    }
+    System.exit(status);
+  }
+
+  @Override
+  public ReplaySchema getSchema() {
+    return m_channels.getSchema();
+  }
+
+  @Override
+  public void applyInputs(ReplayFrame frame) {
+    m_channels.applyInputs(frame);
+    DriverStationSim.notifyNewData();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Steps the paused clock to the recorded loop's start time, measured from the first loop, so
+   * the loop reads the same times it did while recording.
+   *
+   * @throws IllegalStateException If the step did not run exactly one loop, which means the log
+   *     was not recorded one period per loop.
+   */
+  @Override
+  public void runLoop(long timestampMicros) {
+    long now = RobotController.getFPGATime();
+    if (m_firstRecordedMicros < 0) {
+      m_firstRecordedMicros = timestampMicros;
+      m_firstReplayedMicros = now + kPeriodMicros;
+    }
+    long target = m_firstReplayedMicros + (timestampMicros - m_firstRecordedMicros);
+    long loops = loopCount();
+    if (target > now) {
+      // SimHooks.stepTiming takes seconds; stepping whole microseconds keeps the clock exact.
+      // Returns once the loop the step wakes up has run.
+      SimulatorJNI.stepTiming(target - now);
+    }
+    long ran = loopCount() - loops;
+    if (loops == 0 && ran == 0) {
+      throw new IllegalStateException(
+          "the robot's first loop did not call ReplaySession.endLoop(); call it at the end of"
+              + " robotPeriodic()");
+    }
+    if (ran != 1) {
+      throw new IllegalStateException(
+          String.format(
+              "stepping to the loop recorded at %d us ran %d loops instead of 1; the log's loops"
+                  + " are not one period apart",
+              timestampMicros, ran));
+    }
+  }
+
+  @Override
+  public synchronized void capture(ReplayFrame frame) {
+    System.arraycopy(frame().values, 0, frame.values, 0, frame.values.length);
+  }
+
+  private static Path pathFromEnvironment(String name) {
+    String value = System.getenv(name);
+    return value != null && !value.isEmpty() ? Path.of(value) : null;
+  }
+}
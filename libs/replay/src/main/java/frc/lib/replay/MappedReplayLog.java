@@ -0,0 +1,94 @@
+package frc.lib.replay;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a {@link ReplayFormat} log by memory-mapping it.
+ *
+ * <p>Frames are fixed-size, so any loop can be read directly by index without scanning. A
+ * trailing frame that was only partly written is ignored. Files are limited to 2 GB, over an hour
+ * of loops with a few hundred channels.
+ */
+public final class MappedReplayLog {
+  private final MappedByteBuffer m_buffer;
+  private final ReplaySchema m_schema;
+  private final int m_firstFramePosition;
+  private final int m_frameBytes;
+  private final int m_frameCount;
+
+  private MappedReplayLog(MappedByteBuffer buffer) throws IOException {
+    m_buffer = buffer;
+    if (buffer.remaining() < Integer.BYTES + 2 * Short.BYTES
+        || buffer.getInt() != ReplayFormat.kMagic) {
+      throw new IOException("Not a replay log");
+    }
+    short version = buffer.getShort();
+    if (version != ReplayFormat.kVersion) {
+      throw new IOException("Unsupported replay log version " + version);
+    }
+
+    int channelCount = buffer.getShort();
+    List<String> names = new ArrayList<>(channelCount);
+    boolean[] inputs = new boolean[channelCount];
+    for (int i = 0; i < channelCount; i++) {
+      inputs[i] = buffer.get() == ReplayFormat.kInput;
+      byte[] name = new byte[buffer.getShort()];
+      buffer.get(name);
+      names.add(new String(name, StandardCharsets.UTF_8));
+    }
+    m_schema = new ReplaySchema(names, inputs);
+    m_firstFramePosition = buffer.position();
+    m_frameBytes = ReplayFormat.frameBytes(channelCount);
+    m_frameCount = (buffer.limit() - m_firstFramePosition) / m_frameBytes;
+  }
+
+  /**
+   * Maps a log file.
+   *
+   * @param path The file to read.
+   * @return The mapped log.
+   * @throws IOException If the file cannot be read or is not a replay log.
+   */
+  public static MappedReplayLog open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed.
+      return new MappedReplayLog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  public ReplaySchema getSchema() {
+    return m_schema;
+  }
+
+  /** Returns how many complete frames the log holds. */
+  public int getFrameCount() {
+    return m_frameCount;
+  }
+
+  /**
+   * Reads one frame.
+   *
+   * @param index The frame index, from 0 to {@link #getFrameCount()} - 1.
+   * @param out The frame to overwrite, sized for the log's schema.
+   * @return {@code out}, for chaining.
+   */
+  public ReplayFrame read(int index, ReplayFrame out) {
+    if (index < 0 || index >= m_frameCount) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    int position = m_firstFramePosition + index * m_frameBytes;
+    out.timestampMicros = m_buffer.getLong(position);
+    position += Long.BYTES;
+    for (int i = 0; i < out.values.length; i++) {
+      out.values[i] = m_buffer.getDouble(position + i * Double.BYTES);
+    }
+    return out;
+  }
+}
@@ -0,0 +1,173 @@
+package frc.lib.replay;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the channels of two runs frame by frame: a recording and its replay, or two replays of
+ * the same recording by different builds of the robot code.
+ *
+ * <p>Channels are matched by name. For each one the diff keeps the largest difference and the
+ * first frame where the runs differ by more than the tolerance; a deterministic replay of
+ * unchanged code differs nowhere. Channels the baseline has and the candidate lacks count as
+ * differences; channels only the candidate has are listed but do not.
+ */
+public final class OutputDiff {
+  private final ReplaySchema m_baseline;
+  private final double m_tolerance;
+  // Indexed by baseline channel; -1 where the candidate has no such channel.
+  private final int[] m_candidateIndex;
+  private final List<String> m_added = new ArrayList<>();
+
+  private final double[] m_maxDifference;
+  private final int[] m_firstFrame;
+  private final long[] m_differingFrames;
+  private long m_frames;
+
+  /**
+   * Creates an empty diff.
+   *
+   * @param baseline The channels of the run compared against.
+   * @param candidate The channels of the run being checked.
+   * @param tolerance The largest difference that still counts as equal; 0 for an exact replay.
+   */
+  public OutputDiff(ReplaySchema baseline, ReplaySchema candidate, double tolerance) {
+    m_baseline = baseline;
+    m_tolerance = tolerance;
+    int count = baseline.getChannelCount();
+    m_candidateIndex = new int[count];
+    for (int i = 0; i < count; i++) {
+      m_candidateIndex[i] = candidate.indexOf(baseline.getName(i));
+    }
+    for (String name : candidate.getNames()) {
+      if (baseline.indexOf(name) < 0) {
+        m_added.add(name);
+      }
+    }
+    m_maxDifference = new double[count];
+    m_firstFrame = new int[count];
+    Arrays.fill(m_firstFrame, -1);
+    m_differingFrames = new long[count];
+  }
+
+  /**
+   * Compares every log frame of two runs, stopping at the end of the shorter one.
+   *
+   * @param baseline The run compared against.
+   * @param candidate The run being checked.
+   * @param tolerance The largest difference that still counts as equal.
+   * @return The diff.
+   */
+  public static OutputDiff compare(
+      MappedReplayLog baseline, MappedReplayLog candidate, double tolerance) {
+    OutputDiff diff = new OutputDiff(baseline.getSchema(), candidate.getSchema(), tolerance);
+    ReplayFrame a = new ReplayFrame(baseline.getSchema().getChannelCount());
+    ReplayFrame b = new ReplayFrame(candidate.getSchema().getChannelCount());
+    int frames = Math.min(baseline.getFrameCount(), candidate.getFrameCount());
+    for (int i = 0; i < frames; i++) {
+      diff.compare(i, baseline.read(i, a), candidate.read(i, b));
+    }
+    return diff;
+  }
+
+  /**
+   * Compares one frame.
+   *
+   * @param frameIndex The frame's index in the run, for reporting.
+   * @param baseline The frame from the run compared against.
+   * @param candidate The same frame from the run being checked.
+   */
+  public void compare(int frameIndex, ReplayFrame baseline, ReplayFrame candidate) {
+    m_frames++;
+    for (int i = 0; i < m_candidateIndex.length; i++) {
+      int j = m_candidateIndex[i];
+      if (j < 0) {
+        continue;
+      }
+      double expected = baseline.values[i];
+      double actual = candidate.values[j];
+      if (Double.compare(expected, actual) == 0) {
+        continue;
+      }
+      double difference = Math.abs(expected - actual);
+      if (Double.isNaN(difference)) {
+        difference = Double.POSITIVE_INFINITY;
+      }
+      m_maxDifference[i] = Math.max(m_maxDifference[i], difference);
+      if (difference > m_tolerance) {
+        if (m_firstFrame[i] < 0) {
+          m_firstFrame[i] = frameIndex;
+        }
+        m_differingFrames[i]++;
+      }
+    }
+  }
+
+  /** Returns how many frames have been compared. */
+  public long getFrameCount() {
+    return m_frames;
+  }
+
+  /** Returns true if any channel differed by more than the tolerance, or is missing. */
+  public boolean hasDifferences() {
+    for (int i = 0; i < m_candidateIndex.length; i++) {
+      if (m_candidateIndex[i] < 0 || m_differingFrames[i] > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the largest difference seen on a channel.
+   *
+   * @param name The channel name.
+   * @return The difference, or NaN if the baseline has no such channel.
+   */
+  public double getMaxDifference(String name) {
+    int i = m_baseline.indexOf(name);
+    return i >= 0 ? m_maxDifference[i] : Double.NaN;
+  }
+
+  /**
+   * Returns the first frame where a channel differed by more than the tolerance.
+   *
+   * @param name The channel name.
+   * @return The frame index, or -1 if it never did.
+   */
+  public int getFirstDifferingFrame(String name) {
+    int i = m_baseline.indexOf(name);
+    return i >= 0 ? m_firstFrame[i] : -1;
+  }
+
+  /**
+   * Writes a plain-text table of the channels that differ.
+   *
+   * @param out Where to write the table.
+   */
+  public void writeReport(PrintWriter out) {
+    if (!hasDifferences()) {
+      out.printf(
+          "All %d channels match over %d frames (tolerance %s)%n",
+          m_candidateIndex.length, m_frames, m_tolerance);
+    } else {
+      out.printf(
+          "%-40s %12s %12s %12s%n", "channel", "first frame", "frames", "max diff");
+      for (int i = 0; i < m_candidateIndex.length; i++) {
+        if (m_candidateIndex[i] < 0) {
+          out.printf("%-40s %12s%n", m_baseline.getName(i), "missing");
+        } else if (m_differingFrames[i] > 0) {
+          out.printf(
+              "%-40s %12d %12d %12.6g%n",
+              m_baseline.getName(i), m_firstFrame[i], m_differingFrames[i], m_maxDifference[i]);
+        }
+      }
+    }
+    for (String name : m_added) {
+      out.printf("%-40s %12s%n", name, "new");
+    }
+    out.flush();
+  }
+}
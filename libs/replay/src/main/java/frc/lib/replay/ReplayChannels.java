@@ -0,0 +1,125 @@
+package frc.lib.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The values a robot program records each loop, and how to feed the inputs back in on replay.
+ *
+ * <p>Register every channel once at startup, before the first loop, then call {@link #capture} at
+ * the end of each loop. Inputs are what the loop read (driver station data and sensor readings);
+ * on replay {@link #applyInputs} pushes the recorded values back through each input's sink, for
+ * example into WPILib's simulated encoders, so robot code sees exactly what it saw when recorded.
+ * Outputs are what the loop produced; replay compares them against the recording.
+ *
+ * <p>Sources and sinks are called from the robot thread only and must not allocate, so recording
+ * does not add garbage to the loop.
+ */
+public final class ReplayChannels {
+  private final List<String> m_names = new ArrayList<>();
+  private final List<Boolean> m_inputs = new ArrayList<>();
+  private final List<DoubleSupplier> m_sourceList = new ArrayList<>();
+  private final List<DoubleConsumer> m_sinkList = new ArrayList<>();
+
+  private ReplaySchema m_schema;
+  // Set once registration closes. Volatile because replay applies inputs from another thread.
+  private volatile DoubleSupplier[] m_sources;
+  private volatile DoubleConsumer[] m_sinks;
+
+  /** Creates an empty set of channels. */
+  public ReplayChannels() {}
+
+  /**
+   * Registers an input.
+   *
+   * @param name The channel name, e.g. {@code "Drivetrain/leftDistance"}.
+   * @param source Reads the value robot code sees this loop.
+   * @param sink Makes robot code see a recorded value instead, or null if the input cannot be
+   *     replayed, in which case replay only compares it.
+   * @return The channel index.
+   */
+  public int addInput(String name, DoubleSupplier source, DoubleConsumer sink) {
+    return add(name, true, source, sink);
+  }
+
+  /**
+   * Registers an output.
+   *
+   * @param name The channel name, e.g. {@code "Drivetrain/leftVolts"}.
+   * @param source Reads the value robot code produced this loop.
+   * @return The channel index.
+   */
+  public int addOutput(String name, DoubleSupplier source) {
+    return add(name, false, source, null);
+  }
+
+  private synchronized int add(
+      String name, boolean input, DoubleSupplier source, DoubleConsumer sink) {
+    if (m_schema != null) {
+      throw new IllegalStateException("Channels cannot be added once recording has started");
+    }
+    if (m_names.contains(name)) {
+      throw new IllegalArgumentException("Duplicate channel " + name);
+    }
+    m_names.add(name);
+    m_inputs.add(input);
+    m_sourceList.add(source);
+    m_sinkList.add(sink);
+    return m_names.size() - 1;
+  }
+
+  /**
+   * Returns the channels registered so far, and closes registration: a log's schema cannot
+   * change partway through.
+   */
+  public synchronized ReplaySchema getSchema() {
+    if (m_schema == null) {
+      boolean[] inputs = new boolean[m_inputs.size()];
+      for (int i = 0; i < inputs.length; i++) {
+        inputs[i] = m_inputs.get(i);
+      }
+      m_schema = new ReplaySchema(m_names, inputs);
+      m_sinks = m_sinkList.toArray(new DoubleConsumer[0]);
+      m_sources = m_sourceList.toArray(new DoubleSupplier[0]);
+    }
+    return m_schema;
+  }
+
+  /**
+   * Reads every channel into a frame.
+   *
+   * @param timestampMicros The loop's timestamp.
+   * @param frame The frame to overwrite, sized for {@link #getSchema()}.
+   */
+  public void capture(long timestampMicros, ReplayFrame frame) {
+    DoubleSupplier[] sources = m_sources;
+    if (sources == null) {
+      getSchema();
+      sources = m_sources;
+    }
+    frame.timestampMicros = timestampMicros;
+    for (int i = 0; i < sources.length; i++) {
+      frame.values[i] = sources[i].getAsDouble();
+    }
+  }
+
+  /**
+   * Pushes a frame's input values into robot code through their sinks.
+   *
+   * @param frame The recorded frame, laid out by {@link #getSchema()}.
+   */
+  public void applyInputs(ReplayFrame frame) {
+    DoubleConsumer[] sinks = m_sinks;
+    if (sinks == null) {
+      getSchema();
+      sinks = m_sinks;
+    }
+    for (int i = 0; i < sinks.length; i++) {
+      if (sinks[i] != null) {
+        sinks[i].accept(frame.values[i]);
+      }
+    }
+  }
+}
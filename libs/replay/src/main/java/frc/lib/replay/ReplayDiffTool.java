@@ -0,0 +1,48 @@
+package frc.lib.replay;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Compares two replay logs from the command line, e.g. replays of the same session by two builds
+ * of the robot code. Exits with status 1 if they differ, including if one has more frames than the
+ * other.
+ *
+ * <pre>
+ * ReplayDiffTool &lt;baseline log&gt; &lt;candidate log&gt; [tolerance]
+ * </pre>
+ */
+public final class ReplayDiffTool {
+  private ReplayDiffTool() {}
+
+  /**
+   * Entry point.
+   *
+   * @param args The baseline log, the candidate log, and optionally the tolerance (default 0).
+   * @throws IOException If either log cannot be read.
+   */
+  public static void main(String... args) throws IOException {
+    if (args.length != 2 && args.length != 3) {
+      System.err.println("usage: ReplayDiffTool <baseline log> <candidate log> [tolerance]");
+      System.exit(2);
+    }
+    MappedReplayLog baseline = MappedReplayLog.open(Path.of(args[0]));
+    MappedReplayLog candidate = MappedReplayLog.open(Path.of(args[1]));
+    double tolerance = args.length == 3 ? Double.parseDouble(args[2]) : 0;
+
+    OutputDiff diff = OutputDiff.compare(baseline, candidate, tolerance);
+    PrintWriter out = new PrintWriter(System.out, false, StandardCharsets.UTF_8);
+    boolean lengthsDiffer = baseline.getFrameCount() != candidate.getFrameCount();
+    if (lengthsDiffer) {
+      out.printf(
+          "Baseline has %d frames, candidate %d, so the runs differ. Compared the first %d:%n",
+          baseline.getFrameCount(), candidate.getFrameCount(), diff.getFrameCount());
+    }
+    diff.writeReport(out);
+    if (lengthsDiffer || diff.hasDifferences()) {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package frc.lib.replay;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The on-disk layout of a replay log, written by {@link ReplayLogWriter} and read by {@link
+ * MappedReplayLog}.
+ *
+ * <p>All values are big-endian. A file is a header followed by one fixed-size frame per robot
+ * loop:
+ *
+ * <pre>
+ * header:  int magic ("FRCR"), short version, short channelCount,
+ *          channelCount x (byte kind, short nameLength, nameLength bytes of UTF-8)
+ * frame:   long timestampMicros, channelCount x double value
+ * </pre>
+ *
+ * <p>Frames are all the same size, so a reader can seek straight to any loop, and a frame that
+ * was only partly written when the session ended is simply ignored.
+ */
+public final class ReplayFormat {
+  /** "FRCR" in ASCII. */
+  public static final int kMagic = 0x46524352;
+
+  public static final short kVersion = 1;
+
+  /** A value fed into robot code: driver station data or a sensor reading. */
+  public static final byte kInput = 0;
+
+  /** A value robot code produced: a motor output, a pose estimate, a setpoint. */
+  public static final byte kOutput = 1;
+
+  /** The most channels a file can declare. */
+  public static final int kMaxChannels = Short.MAX_VALUE;
+
+  private ReplayFormat() {}
+
+  /** Returns the size of one frame with the given number of channels, in bytes. */
+  public static int frameBytes(int channelCount) {
+    return Long.BYTES + channelCount * Double.BYTES;
+  }
+
+  /**
+   * Encodes the file header.
+   *
+   * @param schema The channels.
+   * @return A buffer holding the header, ready to write.
+   */
+  public static ByteBuffer encodeHeader(ReplaySchema schema) {
+    int count = schema.getChannelCount();
+    byte[][] names = new byte[count][];
+    int size = Integer.BYTES + Short.BYTES + Short.BYTES;
+    for (int i = 0; i < count; i++) {
+      names[i] = schema.getName(i).getBytes(StandardCharsets.UTF_8);
+      if (names[i].length > Short.MAX_VALUE) {
+        throw new IllegalArgumentException("Channel name too long: " + schema.getName(i));
+      }
+      size += Byte.BYTES + Short.BYTES + names[i].length;
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(size);
+    header.putInt(kMagic).putShort(kVersion).putShort((short) count);
+    for (int i = 0; i < count; i++) {
+      header.put(schema.isInput(i) ? kInput : kOutput);
+      header.putShort((short) names[i].length).put(names[i]);
+    }
+    return header.flip();
+  }
+}
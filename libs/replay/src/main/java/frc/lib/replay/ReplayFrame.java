@@ -0,0 +1,22 @@
+package frc.lib.replay;
+
+/**
+ * One robot loop's worth of channel values. Frames are reused from loop to loop; nothing here
+ * allocates after construction.
+ */
+public final class ReplayFrame {
+  /** When the loop ran, on the robot's FPGA clock. */
+  public long timestampMicros;
+
+  /** The value of every channel, indexed by channel. */
+  public final double[] values;
+
+  /**
+   * Creates a frame of zeros.
+   *
+   * @param channelCount The number of channels.
+   */
+  public ReplayFrame(int channelCount) {
+    values = new double[channelCount];
+  }
+}
@@ -0,0 +1,87 @@
+package frc.lib.replay;
+
+import frc.lib.looptiming.LoopHistogram;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replays a recorded session against a robot program, loop by loop, as fast as the program runs.
+ *
+ * <p>Each recorded frame's inputs are applied, one loop is run and timed, and every channel the
+ * loop leaves behind is compared against the recording. Channels are matched by name, so a log
+ * still replays after robot code adds or removes channels. Nothing is tied to wall-clock time,
+ * so a replay is deterministic as long as the program is, and typically runs many times faster
+ * than real time.
+ */
+public final class ReplayHarness {
+  private ReplayHarness() {}
+
+  /**
+   * Replays a log.
+   *
+   * @param log The recorded session.
+   * @param target The program to run.
+   * @param tolerance The largest difference between recorded and replayed values that still
+   *     counts as equal; 0 for an exact replay.
+   * @param output Where to write the replayed frames, or null. Replaying that log later compares
+   *     a new build against this run.
+   * @return What the replay found.
+   * @throws IOException If the replayed frames cannot be written.
+   */
+  public static ReplayResult run(
+      MappedReplayLog log, ReplayTarget target, double tolerance, ReplayLogWriter output)
+      throws IOException {
+    ReplaySchema schema = target.getSchema();
+    ReplaySchema recordedSchema = log.getSchema();
+
+    // Where each of the program's inputs lives in the log.
+    int[] recordedIndex = new int[schema.getChannelCount()];
+    List<String> missingInputs = new ArrayList<>();
+    for (int i = 0; i < recordedIndex.length; i++) {
+      recordedIndex[i] = schema.isInput(i) ? recordedSchema.indexOf(schema.getName(i)) : -1;
+      if (schema.isInput(i) && recordedIndex[i] < 0) {
+        missingInputs.add(schema.getName(i));
+      }
+    }
+
+    ReplayFrame recorded = new ReplayFrame(recordedSchema.getChannelCount());
+    ReplayFrame replayed = new ReplayFrame(schema.getChannelCount());
+    OutputDiff diff = new OutputDiff(recordedSchema, schema, tolerance);
+    LoopHistogram loopTimes = new LoopHistogram();
+
+    int frames = log.getFrameCount();
+    long start = System.nanoTime();
+    for (int frame = 0; frame < frames; frame++) {
+      log.read(frame, recorded);
+      for (int i = 0; i < recordedIndex.length; i++) {
+        if (recordedIndex[i] >= 0) {
+          replayed.values[i] = recorded.values[recordedIndex[i]];
+        }
+      }
+      target.applyInputs(replayed);
+
+      long loopStart = System.nanoTime();
+      target.runLoop(recorded.timestampMicros);
+      loopTimes.record(System.nanoTime() - loopStart);
+
+      target.capture(replayed);
+      replayed.timestampMicros = recorded.timestampMicros;
+      diff.compare(frame, recorded, replayed);
+      if (output != null) {
+        output.write(replayed);
+      }
+    }
+    long wallNanos = System.nanoTime() - start;
+
+    double robotSeconds = 0;
+    if (frames > 1) {
+      ReplayFrame first = log.read(0, new ReplayFrame(recordedSchema.getChannelCount()));
+      ReplayFrame last = log.read(frames - 1, new ReplayFrame(recordedSchema.getChannelCount()));
+      // Count the first loop as one period long, like the rest.
+      robotSeconds =
+          (last.timestampMicros - first.timestampMicros) * 1e-6 * frames / (frames - 1);
+    }
+    return new ReplayResult(frames, wallNanos, robotSeconds, loopTimes, diff, missingInputs);
+  }
+}
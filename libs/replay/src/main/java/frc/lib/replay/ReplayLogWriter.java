@@ -0,0 +1,112 @@
+package frc.lib.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a {@link ReplayFormat} log, one frame per robot loop.
+ *
+ * <p>Frames are encoded into a preallocated buffer and written out once a second's worth has
+ * built up, so recording costs one system call every 50 loops and allocates nothing. Recording
+ * is meant for simulation sessions; on a real robot, log with {@code frc.lib.telemetry} instead,
+ * which keeps file I/O off the robot thread.
+ */
+public final class ReplayLogWriter implements AutoCloseable {
+  /** How many frames are buffered between writes. */
+  public static final int kFramesPerWrite = 50;
+
+  private final WritableByteChannel m_channel;
+  private final ByteBuffer m_buffer;
+  private final int m_channelCount;
+  private long m_frameCount;
+
+  /**
+   * Starts a log on an open channel and writes its header.
+   *
+   * @param channel Where to write. Closed with the writer.
+   * @param schema The channels every frame holds.
+   * @throws IOException If the header cannot be written.
+   */
+  public ReplayLogWriter(WritableByteChannel channel, ReplaySchema schema) throws IOException {
+    m_channel = channel;
+    m_channelCount = schema.getChannelCount();
+    m_buffer =
+        ByteBuffer.allocateDirect(ReplayFormat.frameBytes(m_channelCount) * kFramesPerWrite);
+    writeFully(ReplayFormat.encodeHeader(schema));
+  }
+
+  /**
+   * Creates a log file, replacing any existing one.
+   *
+   * @param path The file to write.
+   * @param schema The channels every frame holds.
+   * @return The writer.
+   * @throws IOException If the file cannot be created.
+   */
+  public static ReplayLogWriter open(Path path, ReplaySchema schema) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    try {
+      return new ReplayLogWriter(channel, schema);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Appends a frame.
+   *
+   * @param frame The frame, laid out by the writer's schema.
+   * @throws IOException If buffered frames cannot be written.
+   */
+  public void write(ReplayFrame frame) throws IOException {
+    if (m_buffer.remaining() < ReplayFormat.frameBytes(m_channelCount)) {
+      flush();
+    }
+    m_buffer.putLong(frame.timestampMicros);
+    for (int i = 0; i < m_channelCount; i++) {
+      m_buffer.putDouble(frame.values[i]);
+    }
+    m_frameCount++;
+  }
+
+  /** Returns how many frames have been written. */
+  public long getFrameCount() {
+    return m_frameCount;
+  }
+
+  /**
+   * Writes out any buffered frames.
+   *
+   * @throws IOException If they cannot be written.
+   */
+  public void flush() throws IOException {
+    m_buffer.flip();
+    writeFully(m_buffer);
+    m_buffer.clear();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      m_channel.close();
+    }
+  }
+
+  private void writeFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      m_channel.write(buffer);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package frc.lib.replay;
+
+import frc.lib.looptiming.LoopHistogram;
+import frc.lib.looptiming.TimingSummary;
+import java.io.PrintWriter;
+import java.util.List;
+
+/** What {@link ReplayHarness} found: how long each loop took, and how the outputs compared. */
+public final class ReplayResult {
+  private final int m_frames;
+  private final long m_wallNanos;
+  private final double m_robotSeconds;
+  private final LoopHistogram m_loopTimes;
+  private final OutputDiff m_diff;
+  private final List<String> m_missingInputs;
+
+  ReplayResult(
+      int frames,
+      long wallNanos,
+      double robotSeconds,
+      LoopHistogram loopTimes,
+      OutputDiff diff,
+      List<String> missingInputs) {
+    m_frames = frames;
+    m_wallNanos = wallNanos;
+    m_robotSeconds = robotSeconds;
+    m_loopTimes = loopTimes;
+    m_diff = diff;
+    m_missingInputs = List.copyOf(missingInputs);
+  }
+
+  /** Returns how many loops were replayed. */
+  public int getFrameCount() {
+    return m_frames;
+  }
+
+  /** Returns how long the replay took, in seconds. */
+  public double getWallSeconds() {
+    return m_wallNanos / 1e9;
+  }
+
+  /** Returns how much robot time the replayed loops span, in seconds. */
+  public double getRobotSeconds() {
+    return m_robotSeconds;
+  }
+
+  /** Returns the distribution of loop times, from {@link ReplayTarget#runLoop} alone. */
+  public LoopHistogram getLoopTimes() {
+    return m_loopTimes;
+  }
+
+  /** Returns the comparison of every channel against the log. */
+  public OutputDiff getDiff() {
+    return m_diff;
+  }
+
+  /** Returns the inputs the program reads that the log did not record. */
+  public List<String> getMissingInputs() {
+    return m_missingInputs;
+  }
+
+  /**
+   * Writes a plain-text summary: speed, loop-time distribution, then differences.
+   *
+   * @param out Where to write the summary.
+   */
+  public void writeReport(PrintWriter out) {
+    out.printf(
+        "Replayed %d loops (%.1f s of robot time) in %.2f s: %.1fx real time%n",
+        m_frames,
+        m_robotSeconds,
+        getWallSeconds(),
+        m_wallNanos > 0 ? m_robotSeconds / getWallSeconds() : 0);
+
+    TimingSummary summary = m_loopTimes.summarize(new TimingSummary());
+    out.printf(
+        "%-40s %10s %10s %10s %10s %10s%n", "section", "count", "mean ms", "p50 ms", "p99 ms",
+        "max ms");
+    out.printf(
+        "%-40s %10d %10.3f %10.3f %10.3f %10.3f%n",
+        "loop",
+        summary.count,
+        summary.meanNanos / 1e6,
+        summary.p50Nanos / 1e6,
+        summary.p99Nanos / 1e6,
+        summary.maxNanos / 1e6);
+    out.println();
+
+    m_diff.writeReport(out);
+    for (String name : m_missingInputs) {
+      out.printf("Input %s is not in the log; replayed as 0%n", name);
+    }
+    out.flush();
+  }
+}
@@ -0,0 +1,61 @@
+package frc.lib.replay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** The channels in a replay log: a name for each, and whether it is an input or an output. */
+public final class ReplaySchema {
+  private final List<String> m_names;
+  private final boolean[] m_inputs;
+
+  /**
+   * Creates a schema.
+   *
+   * @param names The channel names, indexed by channel. Names must be unique.
+   * @param inputs Whether each channel is an input.
+   */
+  public ReplaySchema(List<String> names, boolean[] inputs) {
+    if (names.size() != inputs.length) {
+      throw new IllegalArgumentException(names.size() + " names but " + inputs.length + " kinds");
+    }
+    if (names.size() > ReplayFormat.kMaxChannels) {
+      throw new IllegalArgumentException("Too many channels: " + names.size());
+    }
+    List<String> copy = new ArrayList<>(names);
+    for (int i = 0; i < copy.size(); i++) {
+      if (copy.indexOf(copy.get(i)) != i) {
+        throw new IllegalArgumentException("Duplicate channel " + copy.get(i));
+      }
+    }
+    m_names = Collections.unmodifiableList(copy);
+    m_inputs = inputs.clone();
+  }
+
+  public int getChannelCount() {
+    return m_names.size();
+  }
+
+  public String getName(int channel) {
+    return m_names.get(channel);
+  }
+
+  public boolean isInput(int channel) {
+    return m_inputs[channel];
+  }
+
+  /** Returns the channel names, indexed by channel. */
+  public List<String> getNames() {
+    return m_names;
+  }
+
+  /**
+   * Returns the index of a channel.
+   *
+   * @param name The channel name.
+   * @return The channel index, or -1 if there is no such channel.
+   */
+  public int indexOf(String name) {
+    return m_names.indexOf(name);
+  }
+}
@@ -0,0 +1,34 @@
+package frc.lib.replay;
+
+/**
+ * A robot program that {@link ReplayHarness} can drive one loop at a time.
+ *
+ * <p>For a WPILib robot this is {@code frc.lib.replay.wpilib.ReplaySession}, which steps the
+ * simulator's clock; a loop body with no WPILib dependency can implement it directly.
+ */
+public interface ReplayTarget {
+  /** Returns the channels the program records. Frames passed in are laid out by this schema. */
+  ReplaySchema getSchema();
+
+  /**
+   * Makes the program see a recorded loop's inputs.
+   *
+   * @param frame The recorded inputs. Output values in it are stale and should be ignored.
+   */
+  void applyInputs(ReplayFrame frame);
+
+  /**
+   * Runs one loop. This is the part that is timed.
+   *
+   * @param timestampMicros When the recorded loop started, on the robot's clock. A program that
+   *     reads a clock must see this time to reproduce the recording.
+   */
+  void runLoop(long timestampMicros);
+
+  /**
+   * Reads every channel as the loop just left it.
+   *
+   * @param frame The frame to overwrite.
+   */
+  void capture(ReplayFrame frame);
+}
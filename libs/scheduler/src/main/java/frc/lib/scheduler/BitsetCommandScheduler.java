@@ -0,0 +1,417 @@
+package frc.lib.scheduler;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A command scheduler whose per-cycle work touches only preallocated arrays.
+ *
+ * <p>Same run order and semantics as WPILib's {@code CommandScheduler}: subsystem periodics,
+ * trigger polling, command execution, then default commands. Commands scheduled or canceled while
+ * commands execute, e.g. from another command's {@code execute()}, are queued and take effect after
+ * the command loop, as in WPILib. It differs in bookkeeping:
+ *
+ * <ul>
+ *   <li>Requirements are bitsets. The subsystems in use are one bitset, so a conflict check is a
+ *       word-wise AND, and the owner of each subsystem is an array slot rather than a map entry.
+ *   <li>Scheduled commands are an array compacted in place, not a set walked with an iterator.
+ *   <li>Triggers are a condition array polled once per cycle, and bindings are parallel arrays
+ *       indexed by trigger, not a lambda per binding.
+ *   <li>There is no per-command epoch tracing, which in WPILib's scheduler builds a name string
+ *       for every command on every cycle. Time sections with {@code frc.lib.looptiming} instead.
+ * </ul>
+ *
+ * <p>Arrays grow when subsystems, triggers or bindings are added and when more commands are
+ * scheduled at once than ever before, so a robot in steady state allocates nothing. The scheduler
+ * is not thread-safe; use it from the robot thread only.
+ */
+public final class BitsetCommandScheduler {
+  static final byte kOnTrue = 0;
+  static final byte kOnFalse = 1;
+  static final byte kWhileTrue = 2;
+  static final byte kWhileFalse = 3;
+  static final byte kToggleOnTrue = 4;
+
+  private final BooleanSupplier m_isDisabled;
+
+  private Subsystem[] m_subsystems = new Subsystem[16];
+  private int m_subsystemCount;
+
+  // Indexed by subsystem index.
+  private Command[] m_owners = new Command[64];
+  private Command[] m_defaultCommands = new Command[64];
+  private long[] m_inUse = new long[1];
+  private long[] m_hasDefault = new long[1];
+
+  private Command[] m_scheduled = new Command[32];
+  private int m_scheduledCount;
+  // While commands run, schedule() and cancel() queue their command here instead of acting, and
+  // the queues are drained after the loop, as in WPILib.
+  private boolean m_inRunLoop;
+  private Command[] m_toSchedule = new Command[16];
+  private int m_toScheduleCount;
+  private Command[] m_toCancel = new Command[16];
+  private int m_toCancelCount;
+
+  private BooleanSupplier[] m_conditions = new BooleanSupplier[16];
+  // Each trigger's bindings, as a linked list through m_nextBinding in binding order. -1 ends it.
+  private int[] m_firstBinding = new int[16];
+  private int[] m_lastBinding = new int[16];
+  private int m_triggerCount;
+
+  private byte[] m_bindingKind = new byte[16];
+  private Command[] m_bindingCommand = new Command[16];
+  // The condition as each binding last saw it, starting from its value when the binding was added.
+  private boolean[] m_bindingState = new boolean[16];
+  private int[] m_nextBinding = new int[16];
+  private int m_bindingCount;
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param isDisabled Whether the robot is disabled, e.g. {@code DriverStation::isDisabled}.
+   *     Commands that do not run when disabled are canceled while it returns true.
+   */
+  public BitsetCommandScheduler(BooleanSupplier isDisabled) {
+    m_isDisabled = isDisabled;
+  }
+
+  /**
+   * Registers subsystems so their {@link Subsystem#periodic} runs every cycle.
+   *
+   * @param subsystems The subsystems to register.
+   */
+  public void registerSubsystem(Subsystem... subsystems) {
+    for (Subsystem subsystem : subsystems) {
+      if (m_subsystemCount == m_subsystems.length) {
+        m_subsystems = Arrays.copyOf(m_subsystems, m_subsystemCount * 2);
+      }
+      m_subsystems[m_subsystemCount++] = subsystem;
+      ensureSubsystemCapacity(subsystem.getIndex() + 1);
+    }
+  }
+
+  /**
+   * Sets the command that runs on a subsystem whenever nothing else requires it.
+   *
+   * @param subsystem The subsystem.
+   * @param command A command that requires the subsystem and nothing else that would conflict.
+   */
+  public void setDefaultCommand(Subsystem subsystem, Command command) {
+    if (!command.getRequirements().contains(subsystem)) {
+      throw new IllegalArgumentException("Default commands must require their subsystem");
+    }
+    if (command.isComposed()) {
+      throw new IllegalArgumentException("Default command is part of a composition");
+    }
+    int index = subsystem.getIndex();
+    ensureSubsystemCapacity(index + 1);
+    m_defaultCommands[index] = command;
+    m_hasDefault[index >>> 6] |= 1L << index;
+  }
+
+  /**
+   * Creates a trigger. Bind commands to it with its {@code onTrue}, {@code whileTrue} and related
+   * methods.
+   *
+   * @param condition The condition to poll every cycle.
+   * @return The trigger.
+   */
+  public Trigger trigger(BooleanSupplier condition) {
+    if (m_triggerCount == m_conditions.length) {
+      int capacity = m_triggerCount * 2;
+      m_conditions = Arrays.copyOf(m_conditions, capacity);
+      m_firstBinding = Arrays.copyOf(m_firstBinding, capacity);
+      m_lastBinding = Arrays.copyOf(m_lastBinding, capacity);
+    }
+    int index = m_triggerCount++;
+    m_conditions[index] = condition;
+    m_firstBinding[index] = -1;
+    m_lastBinding[index] = -1;
+    return new Trigger(this, index, condition);
+  }
+
+  void bind(int trigger, byte kind, Command command) {
+    if (m_bindingCount == m_bindingCommand.length) {
+      int capacity = m_bindingCount * 2;
+      m_bindingKind = Arrays.copyOf(m_bindingKind, capacity);
+      m_bindingCommand = Arrays.copyOf(m_bindingCommand, capacity);
+      m_bindingState = Arrays.copyOf(m_bindingState, capacity);
+      m_nextBinding = Arrays.copyOf(m_nextBinding, capacity);
+    }
+    int binding = m_bindingCount++;
+    m_bindingKind[binding] = kind;
+    m_bindingCommand[binding] = command;
+    m_bindingState[binding] = m_conditions[trigger].getAsBoolean();
+    m_nextBinding[binding] = -1;
+    if (m_lastBinding[trigger] < 0) {
+      m_firstBinding[trigger] = binding;
+    } else {
+      m_nextBinding[m_lastBinding[trigger]] = binding;
+    }
+    m_lastBinding[trigger] = binding;
+  }
+
+  /**
+   * Schedules a command, interrupting whatever holds its requirements unless one of those commands
+   * is {@link Command.InterruptionBehavior#kCancelIncoming}. Does nothing if the command is
+   * already scheduled, or if the robot is disabled and the command does not run when disabled.
+   * Called while commands execute, the command is scheduled after the command loop.
+   *
+   * @param command The command to schedule.
+   */
+  public void schedule(Command command) {
+    if (m_inRunLoop) {
+      if (m_toScheduleCount == m_toSchedule.length) {
+        m_toSchedule = Arrays.copyOf(m_toSchedule, m_toScheduleCount * 2);
+      }
+      m_toSchedule[m_toScheduleCount++] = command;
+      return;
+    }
+    if (command.isComposed()) {
+      throw new IllegalArgumentException(
+          "Command " + command.getName() + " is part of a composition and cannot be scheduled");
+    }
+    if (command.m_scheduled
+        || (!command.runsWhenDisabled() && m_isDisabled.getAsBoolean())) {
+      return;
+    }
+
+    RequirementSet requirements = command.getRequirements();
+    ensureSubsystemCapacity(requirements.length());
+    int requirementCount = requirements.size();
+    if (requirements.intersects(m_inUse)) {
+      // Walk the requirements in the order they were added, so commands are interrupted in the
+      // same order WPILib's scheduler would.
+      for (int i = 0; i < requirementCount; i++) {
+        Command owner = m_owners[requirements.get(i).getIndex()];
+        if (owner != null
+            && owner.getInterruptionBehavior() == Command.InterruptionBehavior.kCancelIncoming) {
+          return;
+        }
+      }
+      for (int i = 0; i < requirementCount; i++) {
+        Command owner = m_owners[requirements.get(i).getIndex()];
+        if (owner != null) {
+          cancel(owner);
+        }
+      }
+    }
+
+    if (m_scheduledCount == m_scheduled.length) {
+      compact();
+      if (m_scheduledCount == m_scheduled.length) {
+        m_scheduled = Arrays.copyOf(m_scheduled, m_scheduledCount * 2);
+      }
+    }
+    command.m_slot = m_scheduledCount;
+    m_scheduled[m_scheduledCount++] = command;
+    for (int i = 0; i < requirementCount; i++) {
+      m_owners[requirements.get(i).getIndex()] = command;
+    }
+    requirements.setIn(m_inUse);
+    command.m_scheduled = true;
+    command.initialize();
+  }
+
+  /**
+   * Cancels a command, calling its {@code end(true)}. Does nothing if it is not scheduled. Called
+   * while commands execute, the command is canceled after the command loop, so it still executes
+   * this cycle if it has not already.
+   *
+   * @param command The command to cancel.
+   */
+  public void cancel(Command command) {
+    if (m_inRunLoop) {
+      if (m_toCancelCount == m_toCancel.length) {
+        m_toCancel = Arrays.copyOf(m_toCancel, m_toCancelCount * 2);
+      }
+      m_toCancel[m_toCancelCount++] = command;
+      return;
+    }
+    if (!command.m_scheduled) {
+      return;
+    }
+    command.end(true);
+    release(command);
+  }
+
+  /** Cancels every scheduled command. */
+  public void cancelAll() {
+    for (int i = 0; i < m_scheduledCount; i++) {
+      Command command = m_scheduled[i];
+      if (command != null) {
+        cancel(command);
+      }
+    }
+    if (!m_inRunLoop) {
+      compact();
+    }
+  }
+
+  /**
+   * Returns the command currently using a subsystem.
+   *
+   * @param subsystem The subsystem.
+   * @return The command, or null if the subsystem is free.
+   */
+  public Command requiring(Subsystem subsystem) {
+    int index = subsystem.getIndex();
+    return index < m_owners.length ? m_owners[index] : null;
+  }
+
+  /** Returns how many commands are scheduled. */
+  public int getScheduledCount() {
+    int count = 0;
+    for (int i = 0; i < m_scheduledCount; i++) {
+      if (m_scheduled[i] != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** Runs one scheduler cycle. Call once per robot loop, from {@code robotPeriodic()}. */
+  public void run() {
+    for (int i = 0; i < m_subsystemCount; i++) {
+      m_subsystems[i].periodic();
+    }
+
+    pollTriggers();
+
+    boolean disabled = m_isDisabled.getAsBoolean();
+    m_inRunLoop = true;
+    for (int i = 0; i < m_scheduledCount; i++) {
+      Command command = m_scheduled[i];
+      if (command == null) {
+        continue;
+      }
+      if (disabled && !command.runsWhenDisabled()) {
+        cancel(command);
+        continue;
+      }
+      command.execute();
+      if (command.m_scheduled && command.isFinished()) {
+        command.end(false);
+        release(command);
+      }
+    }
+    m_inRunLoop = false;
+
+    // Commands scheduled during the loop are appended, and first execute next cycle.
+    for (int i = 0; i < m_toScheduleCount; i++) {
+      schedule(m_toSchedule[i]);
+      m_toSchedule[i] = null;
+    }
+    m_toScheduleCount = 0;
+    for (int i = 0; i < m_toCancelCount; i++) {
+      cancel(m_toCancel[i]);
+      m_toCancel[i] = null;
+    }
+    m_toCancelCount = 0;
+    compact();
+
+    // Default commands for subsystems nothing else requires.
+    for (int word = 0; word < m_hasDefault.length; word++) {
+      long idle = m_hasDefault[word] & ~m_inUse[word];
+      while (idle != 0) {
+        int index = (word << 6) + Long.numberOfTrailingZeros(idle);
+        idle &= idle - 1;
+        // An earlier default command in this loop may already have claimed this subsystem.
+        if (m_owners[index] == null) {
+          schedule(m_defaultCommands[index]);
+        }
+      }
+    }
+  }
+
+  private void pollTriggers() {
+    for (int t = 0; t < m_triggerCount; t++) {
+      boolean now = m_conditions[t].getAsBoolean();
+      for (int b = m_firstBinding[t]; b >= 0; b = m_nextBinding[b]) {
+        if (m_bindingState[b] != now) {
+          m_bindingState[b] = now;
+          fireBinding(b, now);
+        }
+      }
+    }
+  }
+
+  private void fireBinding(int binding, boolean rising) {
+    Command command = m_bindingCommand[binding];
+    switch (m_bindingKind[binding]) {
+      case kOnTrue -> {
+        if (rising) {
+          schedule(command);
+        }
+      }
+      case kOnFalse -> {
+        if (!rising) {
+          schedule(command);
+        }
+      }
+      case kWhileTrue -> {
+        if (rising) {
+          schedule(command);
+        } else {
+          cancel(command);
+        }
+      }
+      case kWhileFalse -> {
+        if (rising) {
+          cancel(command);
+        } else {
+          schedule(command);
+        }
+      }
+      case kToggleOnTrue -> {
+        if (rising) {
+          if (command.m_scheduled) {
+            cancel(command);
+          } else {
+            schedule(command);
+          }
+        }
+      }
+      default -> throw new IllegalStateException("Unknown binding kind " + m_bindingKind[binding]);
+    }
+  }
+
+  private void release(Command command) {
+    RequirementSet requirements = command.getRequirements();
+    for (int i = 0; i < requirements.size(); i++) {
+      int index = requirements.get(i).getIndex();
+      if (m_owners[index] == command) {
+        m_owners[index] = null;
+      }
+    }
+    requirements.clearIn(m_inUse);
+    command.m_scheduled = false;
+    m_scheduled[command.m_slot] = null;
+  }
+
+  private void compact() {
+    int kept = 0;
+    for (int i = 0; i < m_scheduledCount; i++) {
+      Command command = m_scheduled[i];
+      if (command != null) {
+        command.m_slot = kept;
+        m_scheduled[kept++] = command;
+      }
+    }
+    Arrays.fill(m_scheduled, kept, m_scheduledCount, null);
+    m_scheduledCount = kept;
+  }
+
+  private void ensureSubsystemCapacity(int subsystems) {
+    if (subsystems > m_owners.length) {
+      int capacity = Math.max(subsystems, m_owners.length * 2);
+      m_owners = Arrays.copyOf(m_owners, capacity);
+      m_defaultCommands = Arrays.copyOf(m_defaultCommands, capacity);
+    }
+    if (subsystems > 0) {
+      m_inUse = RequirementSet.ensureCapacity(m_inUse, subsystems - 1);
+      m_hasDefault = RequirementSet.ensureCapacity(m_hasDefault, subsystems - 1);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package frc.lib.scheduler;
+
+/**
+ * A state machine run by a {@link BitsetCommandScheduler}: initialized once, executed every cycle
+ * until it finishes or is interrupted, then ended.
+ *
+ * <p>The lifecycle matches WPILib's {@code Command}. Requirements are a {@link RequirementSet}, so
+ * the scheduler can check them for conflicts without hashing.
+ */
+public abstract class Command {
+  /** What happens when another command requires a subsystem this command is using. */
+  public enum InterruptionBehavior {
+    /** This command ends and the incoming command is scheduled. */
+    kCancelSelf,
+    /** The incoming command is not scheduled. */
+    kCancelIncoming
+  }
+
+  private final RequirementSet m_requirements = new RequirementSet();
+  private String m_name = getClass().getSimpleName();
+  private boolean m_composed;
+
+  // Maintained by the scheduler: whether the command is scheduled, and where.
+  boolean m_scheduled;
+  int m_slot;
+
+  protected Command() {}
+
+  /** Called once when the command is scheduled. */
+  public void initialize() {}
+
+  /** Called every scheduler run while the command is scheduled. */
+  public void execute() {}
+
+  /**
+   * Called once when the command ends.
+   *
+   * @param interrupted Whether the command was canceled or interrupted rather than finishing.
+   */
+  public void end(boolean interrupted) {}
+
+  /** Returns whether the command has finished. Checked after every {@link #execute}. */
+  public boolean isFinished() {
+    return false;
+  }
+
+  /**
+   * Adds subsystems this command needs exclusive use of.
+   *
+   * @param requirements The subsystems to require.
+   */
+  public final void addRequirements(Subsystem... requirements) {
+    for (Subsystem requirement : requirements) {
+      m_requirements.add(requirement);
+    }
+  }
+
+  public final RequirementSet getRequirements() {
+    return m_requirements;
+  }
+
+  public String getName() {
+    return m_name;
+  }
+
+  public void setName(String name) {
+    m_name = name;
+  }
+
+  /** Returns whether the command keeps running while the robot is disabled. */
+  public boolean runsWhenDisabled() {
+    return false;
+  }
+
+  public InterruptionBehavior getInterruptionBehavior() {
+    return InterruptionBehavior.kCancelSelf;
+  }
+
+  /** Returns whether the command is currently scheduled. */
+  public final boolean isScheduled() {
+    return m_scheduled;
+  }
+
+  /** Returns whether the command is part of a group, and so cannot be scheduled on its own. */
+  public final boolean isComposed() {
+    return m_composed;
+  }
+
+  /**
+   * Marks a command as belonging to a group. A command can only belong to one.
+   *
+   * @param command The command being composed.
+   */
+  static void compose(Command command) {
+    if (command.m_composed) {
+      throw new IllegalArgumentException(
+          "Command " + command.getName() + " is already part of a composition");
+    }
+    command.m_composed = true;
+  }
+}
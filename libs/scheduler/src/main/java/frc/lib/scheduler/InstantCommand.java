@@ -0,0 +1,27 @@
+package frc.lib.scheduler;
+
+/** Runs an action once when scheduled and finishes immediately. */
+public class InstantCommand extends Command {
+  private final Runnable m_toRun;
+
+  /**
+   * Creates an instant command.
+   *
+   * @param toRun The action to run.
+   * @param requirements The subsystems to require.
+   */
+  public InstantCommand(Runnable toRun, Subsystem... requirements) {
+    m_toRun = toRun;
+    addRequirements(requirements);
+  }
+
+  @Override
+  public void initialize() {
+    m_toRun.run();
+  }
+
+  @Override
+  public boolean isFinished() {
+    return true;
+  }
+}
@@ -0,0 +1,103 @@
+package frc.lib.scheduler;
+
+/**
+ * Runs commands at the same time. The group finishes when all of them have finished, or, as a
+ * race, as soon as any one has.
+ *
+ * <p>The members must not share requirements.
+ */
+public class ParallelCommandGroup extends Command {
+  private final Command[] m_commands;
+  private final boolean[] m_running;
+  private final boolean m_race;
+  private boolean m_runsWhenDisabled = true;
+  private boolean m_finished;
+
+  /**
+   * Creates a group that finishes when every member has finished.
+   *
+   * @param commands The commands to run.
+   */
+  public ParallelCommandGroup(Command... commands) {
+    this(false, commands);
+  }
+
+  ParallelCommandGroup(boolean race, Command... commands) {
+    m_race = race;
+    m_commands = commands.clone();
+    m_running = new boolean[m_commands.length];
+    for (Command command : m_commands) {
+      if (getRequirements().intersects(command.getRequirements())) {
+        throw new IllegalArgumentException(
+            "Parallel members may not share requirements: " + command.getName());
+      }
+      compose(command);
+      getRequirements().addAll(command.getRequirements());
+      m_runsWhenDisabled &= command.runsWhenDisabled();
+    }
+  }
+
+  /**
+   * Creates a group that finishes when any member finishes, interrupting the rest.
+   *
+   * @param commands The commands to race.
+   * @return The group.
+   */
+  public static ParallelCommandGroup race(Command... commands) {
+    return new ParallelCommandGroup(true, commands);
+  }
+
+  @Override
+  public void initialize() {
+    m_finished = m_commands.length == 0;
+    for (int i = 0; i < m_commands.length; i++) {
+      m_commands[i].initialize();
+      m_running[i] = true;
+    }
+  }
+
+  @Override
+  public void execute() {
+    boolean anyRunning = false;
+    for (int i = 0; i < m_commands.length; i++) {
+      if (!m_running[i]) {
+        continue;
+      }
+      Command command = m_commands[i];
+      command.execute();
+      if (command.isFinished()) {
+        command.end(false);
+        m_running[i] = false;
+        if (m_race) {
+          m_finished = true;
+        }
+      } else {
+        anyRunning = true;
+      }
+    }
+    if (!anyRunning) {
+      m_finished = true;
+    }
+  }
+
+  @Override
+  public void end(boolean interrupted) {
+    // A race interrupts whoever is still running; so does interrupting the group.
+    for (int i = 0; i < m_commands.length; i++) {
+      if (m_running[i]) {
+        m_commands[i].end(true);
+        m_running[i] = false;
+      }
+    }
+  }
+
+  @Override
+  public boolean isFinished() {
+    return m_finished;
+  }
+
+  @Override
+  public boolean runsWhenDisabled() {
+    return m_runsWhenDisabled;
+  }
+}
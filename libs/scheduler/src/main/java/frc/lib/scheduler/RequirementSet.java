@@ -0,0 +1,134 @@
+package frc.lib.scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The subsystems a command requires, as a bitset over {@link Subsystem#getIndex()}.
+ *
+ * <p>Checking two sets for a conflict is a word-wise AND rather than a hash lookup per subsystem.
+ * Sets are filled while commands are built and only read afterwards.
+ */
+public final class RequirementSet {
+  private long[] m_words = new long[1];
+  private final Set<Subsystem> m_members = new LinkedHashSet<>();
+  // The members again, in the order they were added, for iterating without an iterator.
+  private Subsystem[] m_ordered = new Subsystem[2];
+  private int m_size;
+
+  /**
+   * Adds a subsystem.
+   *
+   * @param subsystem The subsystem to add.
+   */
+  public void add(Subsystem subsystem) {
+    if (!m_members.add(subsystem)) {
+      return;
+    }
+    int index = subsystem.getIndex();
+    m_words = ensureCapacity(m_words, index);
+    m_words[index >>> 6] |= 1L << index;
+    if (m_size == m_ordered.length) {
+      m_ordered = Arrays.copyOf(m_ordered, m_size * 2);
+    }
+    m_ordered[m_size++] = subsystem;
+  }
+
+  /**
+   * Adds every subsystem in another set.
+   *
+   * @param other The set to add.
+   */
+  public void addAll(RequirementSet other) {
+    for (Subsystem subsystem : other.m_members) {
+      add(subsystem);
+    }
+  }
+
+  /** Returns true if the set contains a subsystem. */
+  public boolean contains(Subsystem subsystem) {
+    int index = subsystem.getIndex();
+    int word = index >>> 6;
+    return word < m_words.length && (m_words[word] & (1L << index)) != 0;
+  }
+
+  /** Returns true if the two sets share any subsystem. */
+  public boolean intersects(RequirementSet other) {
+    return intersects(other.m_words);
+  }
+
+  public boolean isEmpty() {
+    return m_size == 0;
+  }
+
+  /** Returns the subsystems as a read-only set, for code that needs a {@code Set}. */
+  public Set<Subsystem> asSet() {
+    return Collections.unmodifiableSet(m_members);
+  }
+
+  /** Returns how many subsystems are in the set. */
+  public int size() {
+    return m_size;
+  }
+
+  /**
+   * Returns a subsystem by position, in the order they were added.
+   *
+   * @param position The position, from 0 to {@link #size()} - 1.
+   * @return The subsystem.
+   */
+  public Subsystem get(int position) {
+    if (position >= m_size) {
+      throw new IndexOutOfBoundsException(position);
+    }
+    return m_ordered[position];
+  }
+
+  /** Returns one more than the highest subsystem index in the set, or 0 if it is empty. */
+  int length() {
+    for (int word = m_words.length - 1; word >= 0; word--) {
+      if (m_words[word] != 0) {
+        return (word << 6) + 64 - Long.numberOfLeadingZeros(m_words[word]);
+      }
+    }
+    return 0;
+  }
+
+  boolean intersects(long[] words) {
+    int n = Math.min(words.length, m_words.length);
+    for (int i = 0; i < n; i++) {
+      if ((words[i] & m_words[i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Sets this set's bits in {@code words}, which must be at least {@link #length} bits long. */
+  void setIn(long[] words) {
+    int n = Math.min(words.length, m_words.length);
+    for (int i = 0; i < n; i++) {
+      words[i] |= m_words[i];
+    }
+  }
+
+  /** Clears this set's bits in {@code words}. */
+  void clearIn(long[] words) {
+    int n = Math.min(words.length, m_words.length);
+    for (int i = 0; i < n; i++) {
+      words[i] &= ~m_words[i];
+    }
+  }
+
+  static long[] ensureCapacity(long[] words, int index) {
+    int needed = (index >>> 6) + 1;
+    if (needed <= words.length) {
+      return words;
+    }
+    long[] grown = new long[Math.max(needed, words.length * 2)];
+    System.arraycopy(words, 0, grown, 0, words.length);
+    return grown;
+  }
+}
@@ -0,0 +1,22 @@
+package frc.lib.scheduler;
+
+/** Runs an action every cycle until interrupted. */
+public class RunCommand extends Command {
+  private final Runnable m_toRun;
+
+  /**
+   * Creates a run command.
+   *
+   * @param toRun The action to run every cycle.
+   * @param requirements The subsystems to require.
+   */
+  public RunCommand(Runnable toRun, Subsystem... requirements) {
+    m_toRun = toRun;
+    addRequirements(requirements);
+  }
+
+  @Override
+  public void execute() {
+    m_toRun.run();
+  }
+}
@@ -0,0 +1,64 @@
+package frc.lib.scheduler;
+
+/** Runs commands one after another, requiring everything any of them requires. */
+public class SequentialCommandGroup extends Command {
+  private final Command[] m_commands;
+  private int m_current = -1;
+  private boolean m_runsWhenDisabled = true;
+
+  /**
+   * Creates a sequence.
+   *
+   * @param commands The commands to run, in order.
+   */
+  public SequentialCommandGroup(Command... commands) {
+    m_commands = commands.clone();
+    for (Command command : m_commands) {
+      compose(command);
+      getRequirements().addAll(command.getRequirements());
+      m_runsWhenDisabled &= command.runsWhenDisabled();
+    }
+  }
+
+  @Override
+  public void initialize() {
+    m_current = 0;
+    if (m_commands.length > 0) {
+      m_commands[0].initialize();
+    }
+  }
+
+  @Override
+  public void execute() {
+    if (m_current >= m_commands.length) {
+      return;
+    }
+    Command command = m_commands[m_current];
+    command.execute();
+    if (command.isFinished()) {
+      command.end(false);
+      m_current++;
+      if (m_current < m_commands.length) {
+        m_commands[m_current].initialize();
+      }
+    }
+  }
+
+  @Override
+  public void end(boolean interrupted) {
+    if (interrupted && m_current >= 0 && m_current < m_commands.length) {
+      m_commands[m_current].end(true);
+    }
+    m_current = -1;
+  }
+
+  @Override
+  public boolean isFinished() {
+    return m_current >= m_commands.length;
+  }
+
+  @Override
+  public boolean runsWhenDisabled() {
+    return m_runsWhenDisabled;
+  }
+}
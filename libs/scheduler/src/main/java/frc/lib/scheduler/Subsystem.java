@@ -0,0 +1,43 @@
+package frc.lib.scheduler;
+
+/**
+ * A robot subsystem: the unit of exclusive ownership between commands.
+ *
+ * <p>Every subsystem gets a small, process-wide index when it is constructed, which is its bit in
+ * every {@link RequirementSet}. Indexes are never reused, so create subsystems once at startup.
+ */
+public abstract class Subsystem {
+  private static int s_nextIndex;
+
+  private final int m_index;
+  private final String m_name;
+
+  /** Creates a subsystem named after its class. */
+  protected Subsystem() {
+    this(null);
+  }
+
+  /**
+   * Creates a subsystem.
+   *
+   * @param name The name used in reports, or null for the class name.
+   */
+  protected Subsystem(String name) {
+    synchronized (Subsystem.class) {
+      m_index = s_nextIndex++;
+    }
+    m_name = name != null ? name : getClass().getSimpleName();
+  }
+
+  /** Returns this subsystem's bit in requirement sets. */
+  public final int getIndex() {
+    return m_index;
+  }
+
+  public String getName() {
+    return m_name;
+  }
+
+  /** Called once per scheduler run, before any command executes. */
+  public void periodic() {}
+}
@@ -0,0 +1,79 @@
+package frc.lib.scheduler;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A condition that schedules or cancels commands when it changes, created by {@link
+ * BitsetCommandScheduler#trigger}.
+ *
+ * <p>The condition is polled once per scheduler run however many commands are bound to it, and
+ * bindings live in the scheduler's preallocated arrays rather than in per-binding objects. As in
+ * WPILib, each binding sees changes from the condition's value when the binding was added, so a
+ * binding added while the condition is already true does not fire until it changes.
+ */
+public final class Trigger implements BooleanSupplier {
+  private final BitsetCommandScheduler m_scheduler;
+  private final int m_index;
+  private final BooleanSupplier m_condition;
+
+  Trigger(BitsetCommandScheduler scheduler, int index, BooleanSupplier condition) {
+    m_scheduler = scheduler;
+    m_index = index;
+    m_condition = condition;
+  }
+
+  /** Schedules a command when the condition changes to true. */
+  public Trigger onTrue(Command command) {
+    m_scheduler.bind(m_index, BitsetCommandScheduler.kOnTrue, command);
+    return this;
+  }
+
+  /** Schedules a command when the condition changes to false. */
+  public Trigger onFalse(Command command) {
+    m_scheduler.bind(m_index, BitsetCommandScheduler.kOnFalse, command);
+    return this;
+  }
+
+  /**
+   * Schedules a command when the condition changes to true and cancels it when it changes back.
+   */
+  public Trigger whileTrue(Command command) {
+    m_scheduler.bind(m_index, BitsetCommandScheduler.kWhileTrue, command);
+    return this;
+  }
+
+  /**
+   * Schedules a command when the condition changes to false and cancels it when it changes back.
+   */
+  public Trigger whileFalse(Command command) {
+    m_scheduler.bind(m_index, BitsetCommandScheduler.kWhileFalse, command);
+    return this;
+  }
+
+  /** Toggles a command each time the condition changes to true. */
+  public Trigger toggleOnTrue(Command command) {
+    m_scheduler.bind(m_index, BitsetCommandScheduler.kToggleOnTrue, command);
+    return this;
+  }
+
+  /** Returns a trigger that is true when both this and another condition are. */
+  public Trigger and(BooleanSupplier other) {
+    return m_scheduler.trigger(() -> m_condition.getAsBoolean() && other.getAsBoolean());
+  }
+
+  /** Returns a trigger that is true when either this or another condition is. */
+  public Trigger or(BooleanSupplier other) {
+    return m_scheduler.trigger(() -> m_condition.getAsBoolean() || other.getAsBoolean());
+  }
+
+  /** Returns a trigger that is true when this one is false. */
+  public Trigger negate() {
+    return m_scheduler.trigger(() -> !m_condition.getAsBoolean());
+  }
+
+  /** Evaluates the condition now. */
+  @Override
+  public boolean getAsBoolean() {
+    return m_condition.getAsBoolean();
+  }
+}
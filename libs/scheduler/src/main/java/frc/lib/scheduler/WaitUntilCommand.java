@@ -0,0 +1,27 @@
+package frc.lib.scheduler;
+
+import java.util.function.BooleanSupplier;
+
+/** Does nothing until a condition becomes true. */
+public class WaitUntilCommand extends Command {
+  private final BooleanSupplier m_condition;
+
+  /**
+   * Creates a wait-until command.
+   *
+   * @param condition The condition to wait for.
+   */
+  public WaitUntilCommand(BooleanSupplier condition) {
+    m_condition = condition;
+  }
+
+  @Override
+  public boolean isFinished() {
+    return m_condition.getAsBoolean();
+  }
+
+  @Override
+  public boolean runsWhenDisabled() {
+    return true;
+  }
+}
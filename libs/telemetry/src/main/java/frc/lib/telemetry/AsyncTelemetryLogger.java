@@ -0,0 +1,154 @@
+package frc.lib.telemetry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * A telemetry logger that never touches the file from the robot thread.
+ *
+ * <p>{@link #log} only stores the sample in a preallocated {@link TelemetryRing}. A background
+ * thread drains the ring every few milliseconds, encodes the samples into large blocks in a direct
+ * buffer and writes each block with a single {@link FileChannel#write} call. A slow or stalled USB
+ * stick therefore backs up the ring instead of the robot loop; if the ring fills, samples are
+ * dropped and counted.
+ *
+ * <p>Only one thread may call {@link #log}.
+ */
+public final class AsyncTelemetryLogger implements TelemetryLogger {
+  /** Ring capacity used by the short constructor: about 16 seconds at 1000 samples per loop. */
+  public static final int kDefaultRingCapacity = 1 << 14;
+
+  private static final int kWriteBufferBytes = 1 << 16;
+  private static final long kIdleParkNanos = 5_000_000;
+
+  private final LongSupplier m_clockMicros;
+  private final TelemetryRing m_ring;
+  private final FileChannel m_channel;
+  private final Thread m_writer;
+
+  private volatile boolean m_running = true;
+  private volatile IOException m_failure;
+
+  /**
+   * Creates a logger with the default ring capacity.
+   *
+   * @param path The file to create or replace.
+   * @param channelNames The channel names, indexed by channel.
+   * @param clockMicros The clock used to stamp samples, e.g. {@code
+   *     RobotController::getFPGATime}.
+   * @throws IOException If the file cannot be opened.
+   */
+  public AsyncTelemetryLogger(Path path, List<String> channelNames, LongSupplier clockMicros)
+      throws IOException {
+    this(path, channelNames, clockMicros, kDefaultRingCapacity);
+  }
+
+  /**
+   * Creates a logger.
+   *
+   * @param path The file to create or replace.
+   * @param channelNames The channel names, indexed by channel.
+   * @param clockMicros The clock used to stamp samples.
+   * @param ringCapacity How many samples may be queued. Must be a power of two.
+   * @throws IOException If the file cannot be opened.
+   */
+  public AsyncTelemetryLogger(
+      Path path, List<String> channelNames, LongSupplier clockMicros, int ringCapacity)
+      throws IOException {
+    m_clockMicros = clockMicros;
+    m_ring = new TelemetryRing(ringCapacity);
+    m_channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    writeFully(m_channel, TelemetryFormat.encodeHeader(channelNames));
+
+    m_writer = new Thread(this::writeLoop, "TelemetryWriter");
+    m_writer.setDaemon(true);
+    m_writer.start();
+  }
+
+  @Override
+  public void log(int channel, double value) {
+    m_ring.offer(m_clockMicros.getAsLong(), channel, value);
+  }
+
+  @Override
+  public void log(long timestampMicros, int channel, double value) {
+    m_ring.offer(timestampMicros, channel, value);
+  }
+
+  /** Returns how many samples were dropped because the writer fell behind or failed. */
+  public long getDroppedCount() {
+    return m_ring.getDroppedCount();
+  }
+
+  /** Returns the error that stopped the writer thread, or null if it is healthy. */
+  public IOException getFailure() {
+    return m_failure;
+  }
+
+  /**
+   * Stops the writer thread after it has written everything already queued, then closes the file.
+   *
+   * @throws IOException If the writer failed or the file could not be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    m_running = false;
+    LockSupport.unpark(m_writer);
+    try {
+      m_writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    m_channel.close();
+    if (m_failure != null) {
+      throw m_failure;
+    }
+  }
+
+  private void writeLoop() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(kWriteBufferBytes);
+    TelemetryFormat.BlockEncoder encoder = new TelemetryFormat.BlockEncoder();
+    int maxSamplesPerBlock = TelemetryFormat.BlockEncoder.capacityFor(kWriteBufferBytes);
+
+    while (true) {
+      // Read the flag before draining so nothing offered before close() is left behind.
+      boolean running = m_running;
+
+      buffer.clear();
+      encoder.begin(buffer);
+      // Stops early if a clock jump splits the block and the new one would not fit; the rest stays
+      // queued for the next pass.
+      m_ring.drain(encoder, maxSamplesPerBlock);
+      if (encoder.finish() > 0 && m_failure == null) {
+        buffer.flip();
+        try {
+          writeFully(m_channel, buffer);
+        } catch (IOException e) {
+          // Keep draining so the robot thread sees a ring with room, but stop writing.
+          m_failure = e;
+        }
+      } else if (!running) {
+        return;
+      } else {
+        LockSupport.parkNanos(kIdleParkNanos);
+      }
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+}
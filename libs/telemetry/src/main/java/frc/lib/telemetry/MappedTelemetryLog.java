@@ -0,0 +1,109 @@
+package frc.lib.telemetry;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads a {@link TelemetryFormat} file for offline analysis by memory-mapping it.
+ *
+ * <p>The file is mapped read-only once; iterating it decodes straight out of the page cache
+ * without copying into intermediate buffers. A block that was only partly written when the robot
+ * lost power is ignored. Files are limited to 2 GB, about 150 million samples.
+ */
+public final class MappedTelemetryLog {
+  private final MappedByteBuffer m_buffer;
+  private final List<String> m_channelNames;
+  private final int m_firstBlockPosition;
+
+  private MappedTelemetryLog(MappedByteBuffer buffer) throws IOException {
+    m_buffer = buffer;
+    if (buffer.remaining() < Integer.BYTES + 2 * Short.BYTES
+        || buffer.getInt() != TelemetryFormat.kMagic) {
+      throw new IOException("Not a telemetry log");
+    }
+    short version = buffer.getShort();
+    if (version != TelemetryFormat.kVersion) {
+      throw new IOException("Unsupported telemetry log version " + version);
+    }
+
+    int channelCount = buffer.getShort();
+    List<String> names = new ArrayList<>(channelCount);
+    for (int i = 0; i < channelCount; i++) {
+      byte[] name = new byte[buffer.getShort()];
+      buffer.get(name);
+      names.add(new String(name, StandardCharsets.UTF_8));
+    }
+    m_channelNames = Collections.unmodifiableList(names);
+    m_firstBlockPosition = buffer.position();
+  }
+
+  /**
+   * Maps a log file.
+   *
+   * @param path The file to read.
+   * @return The mapped log.
+   * @throws IOException If the file cannot be read or is not a telemetry log.
+   */
+  public static MappedTelemetryLog open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed.
+      return new MappedTelemetryLog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /** Returns the channel names, indexed by channel. */
+  public List<String> getChannelNames() {
+    return m_channelNames;
+  }
+
+  /**
+   * Returns the index of a channel.
+   *
+   * @param name The channel name.
+   * @return The channel index, or -1 if the log has no such channel.
+   */
+  public int getChannel(String name) {
+    return m_channelNames.indexOf(name);
+  }
+
+  /**
+   * Hands every sample in the file to a sink, in the order they were logged, until the sink
+   * refuses one.
+   *
+   * @param sink Receives the samples.
+   * @return The number of samples the sink accepted.
+   */
+  public long read(SampleSink sink) {
+    int position = m_firstBlockPosition;
+    int limit = m_buffer.limit();
+    long total = 0;
+
+    while (limit - position >= TelemetryFormat.kBlockHeaderBytes) {
+      int count = m_buffer.getInt(position);
+      long baseMicros = m_buffer.getLong(position + Integer.BYTES);
+      position += TelemetryFormat.kBlockHeaderBytes;
+      if (count <= 0 || (long) count * TelemetryFormat.kSampleBytes > limit - position) {
+        break;
+      }
+
+      for (int i = 0; i < count; i++) {
+        int channel = m_buffer.getShort(position);
+        long timestamp = baseMicros + m_buffer.getInt(position + Short.BYTES);
+        double value = m_buffer.getDouble(position + Short.BYTES + Integer.BYTES);
+        if (!sink.accept(timestamp, channel, value)) {
+          return total + i;
+        }
+        position += TelemetryFormat.kSampleBytes;
+      }
+      total += count;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,15 @@
+package frc.lib.telemetry;
+
+/** Receives telemetry samples one at a time, as primitives. */
+@FunctionalInterface
+public interface SampleSink {
+  /**
+   * Accepts one sample.
+   *
+   * @param timestampMicros When the sample was taken, in microseconds.
+   * @param channel The channel index the sample belongs to.
+   * @param value The sampled value.
+   * @return False to refuse this sample and stop handing over more; the caller keeps it.
+   */
+  boolean accept(long timestampMicros, int channel, double value);
+}
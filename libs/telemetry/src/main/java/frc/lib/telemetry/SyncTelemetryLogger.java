@@ -0,0 +1,74 @@
+package frc.lib.telemetry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * A telemetry logger that writes every sample to the file as it is logged.
+ *
+ * <p>This is the baseline {@link AsyncTelemetryLogger} is measured against: it produces the same
+ * file, but every {@link #log} call is a system call on the robot thread, and blocks for as long
+ * as the storage device does.
+ */
+public final class SyncTelemetryLogger implements TelemetryLogger {
+  private final LongSupplier m_clockMicros;
+  private final FileChannel m_channel;
+  private final ByteBuffer m_buffer =
+      ByteBuffer.allocateDirect(TelemetryFormat.kBlockHeaderBytes + TelemetryFormat.kSampleBytes);
+  private final TelemetryFormat.BlockEncoder m_encoder = new TelemetryFormat.BlockEncoder();
+
+  /**
+   * Creates a logger.
+   *
+   * @param path The file to create or replace.
+   * @param channelNames The channel names, indexed by channel.
+   * @param clockMicros The clock used to stamp samples.
+   * @throws IOException If the file cannot be opened.
+   */
+  public SyncTelemetryLogger(Path path, List<String> channelNames, LongSupplier clockMicros)
+      throws IOException {
+    m_clockMicros = clockMicros;
+    m_channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    ByteBuffer header = TelemetryFormat.encodeHeader(channelNames);
+    while (header.hasRemaining()) {
+      m_channel.write(header);
+    }
+  }
+
+  @Override
+  public void log(int channel, double value) {
+    log(m_clockMicros.getAsLong(), channel, value);
+  }
+
+  @Override
+  public void log(long timestampMicros, int channel, double value) {
+    m_buffer.clear();
+    m_encoder.begin(m_buffer);
+    m_encoder.accept(timestampMicros, channel, value);
+    m_encoder.finish();
+    m_buffer.flip();
+    try {
+      while (m_buffer.hasRemaining()) {
+        m_channel.write(m_buffer);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    m_channel.close();
+  }
+}
@@ -0,0 +1,151 @@
+package frc.lib.telemetry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * The on-disk layout shared by the loggers and {@link MappedTelemetryLog}.
+ *
+ * <p>All values are big-endian. A file is a header followed by any number of blocks:
+ *
+ * <pre>
+ * header:  int magic ("FRCT"), short version, short channelCount,
+ *          channelCount x (short nameLength, nameLength bytes of UTF-8)
+ * block:   int sampleCount, long baseTimestampMicros,
+ *          sampleCount x (short channel, int timestampDeltaMicros, double value)
+ * </pre>
+ *
+ * <p>Each sample costs 14 bytes. Timestamps within a block are stored relative to its first
+ * sample. A sample whose delta would not fit in an int, about 35 minutes either way, starts a new
+ * block with its own absolute base, so any timestamp round-trips exactly.
+ */
+public final class TelemetryFormat {
+  /** "FRCT" in ASCII. */
+  public static final int kMagic = 0x46524354;
+
+  public static final short kVersion = 1;
+
+  /** Size of a block header, in bytes. */
+  public static final int kBlockHeaderBytes = Integer.BYTES + Long.BYTES;
+
+  /** Size of one encoded sample, in bytes. */
+  public static final int kSampleBytes = Short.BYTES + Integer.BYTES + Double.BYTES;
+
+  /** The most channels a file can declare. */
+  public static final int kMaxChannels = Short.MAX_VALUE;
+
+  private TelemetryFormat() {}
+
+  /**
+   * Encodes the file header.
+   *
+   * @param channelNames The channel names, indexed by channel.
+   * @return A buffer holding the header, ready to write.
+   */
+  public static ByteBuffer encodeHeader(List<String> channelNames) {
+    if (channelNames.size() > kMaxChannels) {
+      throw new IllegalArgumentException("Too many channels: " + channelNames.size());
+    }
+    byte[][] names = new byte[channelNames.size()][];
+    int size = Integer.BYTES + Short.BYTES + Short.BYTES;
+    for (int i = 0; i < names.length; i++) {
+      names[i] = channelNames.get(i).getBytes(StandardCharsets.UTF_8);
+      if (names[i].length > Short.MAX_VALUE) {
+        throw new IllegalArgumentException("Channel name too long: " + channelNames.get(i));
+      }
+      size += Short.BYTES + names[i].length;
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(size);
+    header.putInt(kMagic).putShort(kVersion).putShort((short) names.length);
+    for (byte[] name : names) {
+      header.putShort((short) name.length).put(name);
+    }
+    return header.flip();
+  }
+
+  /**
+   * Encodes samples into blocks in a caller-owned buffer, without allocating.
+   *
+   * <p>Call {@link #begin}, feed samples through {@link #accept}, then {@link #finish}. A sample
+   * too far from the current block's base ends that block and starts another. {@link #accept}
+   * refuses a sample that would not fit in the buffer, so a drain ends early rather than
+   * overflowing it.
+   */
+  public static final class BlockEncoder implements SampleSink {
+    private ByteBuffer m_buffer;
+    private int m_headerPosition;
+    private int m_count;
+    private int m_total;
+    private long m_baseMicros;
+
+    /**
+     * Returns how many samples fit in one block in a buffer with the given free space.
+     *
+     * @param remainingBytes Free space in the buffer.
+     */
+    public static int capacityFor(int remainingBytes) {
+      return Math.max(0, (remainingBytes - kBlockHeaderBytes) / kSampleBytes);
+    }
+
+    /**
+     * Starts a block at the buffer's current position.
+     *
+     * @param buffer The buffer to encode into.
+     */
+    public void begin(ByteBuffer buffer) {
+      m_buffer = buffer;
+      m_total = 0;
+      startBlock();
+    }
+
+    @Override
+    public boolean accept(long timestampMicros, int channel, double value) {
+      long delta = timestampMicros - m_baseMicros;
+      if (m_count > 0 && delta != (int) delta) {
+        if (m_buffer.remaining() < kBlockHeaderBytes + kSampleBytes) {
+          return false;
+        }
+        writeHeader();
+        startBlock();
+      } else if (m_buffer.remaining() < kSampleBytes) {
+        return false;
+      }
+      if (m_count == 0) {
+        m_baseMicros = timestampMicros;
+        delta = 0;
+      }
+      m_buffer.putShort((short) channel).putInt((int) delta).putDouble(value);
+      m_count++;
+      m_total++;
+      return true;
+    }
+
+    /**
+     * Completes the last block by writing its header.
+     *
+     * @return The number of samples encoded since {@link #begin}. An empty block is rolled back
+     *     and not written.
+     */
+    public int finish() {
+      if (m_count == 0) {
+        m_buffer.position(m_headerPosition);
+      } else {
+        writeHeader();
+      }
+      return m_total;
+    }
+
+    private void startBlock() {
+      m_headerPosition = m_buffer.position();
+      m_count = 0;
+      m_buffer.position(m_headerPosition + kBlockHeaderBytes);
+    }
+
+    private void writeHeader() {
+      m_buffer.putInt(m_headerPosition, m_count);
+      m_buffer.putLong(m_headerPosition + Integer.BYTES, m_baseMicros);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package frc.lib.telemetry;
+
+import java.io.IOException;
+
+/**
+ * Records telemetry samples to a file in {@link TelemetryFormat}.
+ *
+ * <p>Channels are fixed when the logger is created; a channel's index is its position in the list
+ * of names passed to the constructor.
+ */
+public interface TelemetryLogger extends AutoCloseable {
+  /**
+   * Records a sample stamped with the logger's clock.
+   *
+   * @param channel The channel index.
+   * @param value The sampled value.
+   */
+  void log(int channel, double value);
+
+  /**
+   * Records a sample with an explicit timestamp.
+   *
+   * @param timestampMicros When the sample was taken, in microseconds.
+   * @param channel The channel index.
+   * @param value The sampled value.
+   */
+  void log(long timestampMicros, int channel, double value);
+
+  /** Writes out everything recorded so far and closes the file. */
+  @Override
+  void close() throws IOException;
+}
@@ -0,0 +1,110 @@
+package frc.lib.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A preallocated single-producer, single-consumer queue of telemetry samples.
+ *
+ * <p>Samples are stored in three parallel primitive arrays, so offering one is a few array stores
+ * and a release-ordered counter update: no allocation, no locks and no system calls. Exactly one
+ * thread may call {@link #offer} and exactly one other thread may call {@link #drain}.
+ *
+ * <p>When the ring is full, new samples are dropped and counted rather than blocking the robot
+ * thread.
+ */
+public final class TelemetryRing {
+  private final int m_capacity;
+  private final int m_mask;
+  private final long[] m_timestamps;
+  private final int[] m_channels;
+  private final double[] m_values;
+
+  // Next slot to write. Written only by the producer.
+  private final AtomicLong m_tail = new AtomicLong();
+  // Next slot to read. Written only by the consumer.
+  private final AtomicLong m_head = new AtomicLong();
+  private final AtomicLong m_dropped = new AtomicLong();
+
+  // The producer's last view of m_head, so a non-full ring never reads the consumer's counter.
+  private long m_cachedHead;
+
+  /**
+   * Creates a ring.
+   *
+   * @param capacity The number of samples the ring holds. Must be a power of two.
+   */
+  public TelemetryRing(int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+    }
+    m_capacity = capacity;
+    m_mask = capacity - 1;
+    m_timestamps = new long[capacity];
+    m_channels = new int[capacity];
+    m_values = new double[capacity];
+  }
+
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  /**
+   * Adds a sample. Producer thread only.
+   *
+   * @param timestampMicros When the sample was taken.
+   * @param channel The channel index.
+   * @param value The sampled value.
+   * @return False if the ring was full and the sample was dropped.
+   */
+  public boolean offer(long timestampMicros, int channel, double value) {
+    long tail = m_tail.getPlain();
+    if (tail - m_cachedHead >= m_capacity) {
+      m_cachedHead = m_head.getAcquire();
+      if (tail - m_cachedHead >= m_capacity) {
+        m_dropped.incrementAndGet();
+        return false;
+      }
+    }
+
+    int index = (int) tail & m_mask;
+    m_timestamps[index] = timestampMicros;
+    m_channels[index] = channel;
+    m_values[index] = value;
+    m_tail.setRelease(tail + 1);
+    return true;
+  }
+
+  /**
+   * Hands queued samples to a sink, oldest first, until the sink refuses one. Consumer thread
+   * only.
+   *
+   * @param sink Receives the samples. A refused sample stays queued for the next call.
+   * @param maxSamples The most samples to hand over in this call.
+   * @return The number of samples handed over.
+   */
+  public int drain(SampleSink sink, int maxSamples) {
+    long head = m_head.getPlain();
+    long available = m_tail.getAcquire() - head;
+    int limit = (int) Math.min(available, maxSamples);
+    int count = 0;
+    while (count < limit) {
+      int index = (int) (head + count) & m_mask;
+      if (!sink.accept(m_timestamps[index], m_channels[index], m_values[index])) {
+        break;
+      }
+      count++;
+    }
+    m_head.setRelease(head + count);
+    return count;
+  }
+
+  /** Returns true if there is nothing to drain. Only exact when called from the consumer. */
+  public boolean isEmpty() {
+    return m_tail.getAcquire() == m_head.getAcquire();
+  }
+
+  /** Returns how many samples have been dropped because the ring was full. */
+  public long getDroppedCount() {
+    return m_dropped.get();
+  }
+}
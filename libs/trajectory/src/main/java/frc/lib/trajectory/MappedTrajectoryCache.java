@@ -0,0 +1,97 @@
+package frc.lib.trajectory;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precomputed trajectories read from a memory-mapped {@link TrajectoryCacheFile}.
+ *
+ * <p>Opening the cache maps the file and reads only its directory; each {@link SampledTrajectory}
+ * is a set of views straight into the mapping, so nothing is parsed or copied and pages are read
+ * from storage only when they are first sampled. Look trajectories up by name at init and keep the
+ * references; sampling them afterwards allocates nothing.
+ */
+public final class MappedTrajectoryCache {
+  private final Map<String, SampledTrajectory> m_trajectories;
+
+  private MappedTrajectoryCache(MappedByteBuffer buffer) throws IOException {
+    if (buffer.remaining() < Integer.BYTES + 2 * Short.BYTES
+        || buffer.getInt() != TrajectoryCacheFile.kMagic) {
+      throw new IOException("Not a trajectory cache");
+    }
+    short version = buffer.getShort();
+    if (version != TrajectoryCacheFile.kVersion) {
+      throw new IOException("Unsupported trajectory cache version " + version);
+    }
+
+    int count = buffer.getShort();
+    Map<String, SampledTrajectory> trajectories = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      byte[] name = new byte[buffer.getShort()];
+      buffer.get(name);
+      int samples = buffer.getInt();
+      long offset = buffer.getLong();
+      long length = (long) SampledTrajectory.kColumns * samples * Double.BYTES;
+      if (offset < 0 || offset + length > buffer.capacity()) {
+        throw new IOException("Trajectory cache is truncated");
+      }
+
+      DoubleBuffer data =
+          buffer.slice((int) offset, (int) length).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+      DoubleBuffer[] columns = new DoubleBuffer[SampledTrajectory.kColumns];
+      for (int column = 0; column < columns.length; column++) {
+        columns[column] = data.slice(column * samples, samples);
+      }
+      trajectories.put(
+          new String(name, StandardCharsets.UTF_8),
+          new SampledTrajectory(
+              columns[0], columns[1], columns[2], columns[3], columns[4], columns[5], columns[6]));
+    }
+    m_trajectories = Collections.unmodifiableMap(trajectories);
+  }
+
+  /**
+   * Maps a cache file.
+   *
+   * @param path The file to map.
+   * @return The cache.
+   * @throws IOException If the file cannot be read or is not a trajectory cache.
+   */
+  public static MappedTrajectoryCache open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed.
+      return new MappedTrajectoryCache(
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /** Returns the names of every trajectory in the cache, in file order. */
+  public Set<String> getNames() {
+    return m_trajectories.keySet();
+  }
+
+  /**
+   * Looks up a trajectory by name.
+   *
+   * @param name The trajectory name.
+   * @return The trajectory.
+   * @throws IllegalArgumentException If the cache has no trajectory with that name.
+   */
+  public SampledTrajectory get(String name) {
+    SampledTrajectory trajectory = m_trajectories.get(name);
+    if (trajectory == null) {
+      throw new IllegalArgumentException("No trajectory named " + name + " in cache");
+    }
+    return trajectory;
+  }
+}
@@ -0,0 +1,151 @@
+package frc.lib.trajectory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A named path: the waypoints it passes through and the limits to drive it under.
+ *
+ * <p>Path files are plain text, one directive per line, {@code #} for comments:
+ *
+ * <pre>
+ * config maxVelocity=4.0 maxAcceleration=3.0 maxCentripetalAcceleration=3.0 trackWidth=0
+ * waypoint 1.35 5.55 0          # x (m), y (m), heading (deg)
+ * waypoint 2.90 7.00 0 1.5      # optional tangent scale
+ * </pre>
+ *
+ * @param name The name the trajectory is stored and looked up under.
+ * @param waypoints At least two waypoints, in driving order.
+ * @param config The limits to generate under.
+ */
+public record PathDefinition(String name, List<Waypoint> waypoints, TrajectoryConfig config) {
+  public PathDefinition {
+    if (waypoints.size() < 2) {
+      throw new IllegalArgumentException("Path " + name + " needs at least two waypoints");
+    }
+    waypoints = List.copyOf(waypoints);
+  }
+
+  /**
+   * Reads a path file. The path is named after the file, without its extension.
+   *
+   * @param file The file to read.
+   * @return The path.
+   * @throws IOException If the file cannot be read or is malformed.
+   */
+  public static PathDefinition read(Path file) throws IOException {
+    String fileName = file.getFileName().toString();
+    int dot = fileName.lastIndexOf('.');
+    String name = dot > 0 ? fileName.substring(0, dot) : fileName;
+    return parse(name, Files.readAllLines(file, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses a path from its text form.
+   *
+   * @param name The path name.
+   * @param lines The lines of the path file.
+   * @return The path.
+   * @throws IOException If the text is malformed.
+   */
+  public static PathDefinition parse(String name, List<String> lines) throws IOException {
+    List<Waypoint> waypoints = new ArrayList<>();
+    TrajectoryConfig config = null;
+
+    for (int i = 0; i < lines.size(); i++) {
+      String line = lines.get(i);
+      int comment = line.indexOf('#');
+      if (comment >= 0) {
+        line = line.substring(0, comment);
+      }
+      String[] tokens = line.trim().split("\\s+");
+      if (tokens[0].isEmpty()) {
+        continue;
+      }
+
+      try {
+        switch (tokens[0].toLowerCase(Locale.ROOT)) {
+          case "config" -> config = parseConfig(tokens);
+          case "waypoint" -> waypoints.add(parseWaypoint(tokens));
+          default -> throw new IllegalArgumentException("unknown directive " + tokens[0]);
+        }
+      } catch (IllegalArgumentException e) {
+        throw new IOException(name + " line " + (i + 1) + ": " + e.getMessage(), e);
+      }
+    }
+
+    if (config == null) {
+      throw new IOException(name + ": missing config line");
+    }
+    try {
+      return new PathDefinition(name, waypoints, config);
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /** Returns this path in the text form {@link #parse} reads. */
+  public String format() {
+    StringBuilder out = new StringBuilder();
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "config maxVelocity=%.3f maxAcceleration=%.3f maxCentripetalAcceleration=%.3f"
+                + " trackWidth=%.3f%n",
+            config.maxVelocity(),
+            config.maxAcceleration(),
+            config.maxCentripetalAcceleration(),
+            config.trackWidth()));
+    for (Waypoint waypoint : waypoints) {
+      out.append(
+          String.format(
+              Locale.ROOT,
+              "waypoint %.3f %.3f %.2f %.3f%n",
+              waypoint.x(),
+              waypoint.y(),
+              Math.toDegrees(waypoint.headingRadians()),
+              waypoint.tangentScale()));
+    }
+    return out.toString();
+  }
+
+  private static TrajectoryConfig parseConfig(String[] tokens) {
+    double maxVelocity = Double.NaN;
+    double maxAcceleration = Double.NaN;
+    double maxCentripetalAcceleration = Double.NaN;
+    double trackWidth = 0;
+    for (int i = 1; i < tokens.length; i++) {
+      String[] pair = tokens[i].split("=", 2);
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("expected key=value, got " + tokens[i]);
+      }
+      double value = Double.parseDouble(pair[1]);
+      switch (pair[0]) {
+        case "maxVelocity" -> maxVelocity = value;
+        case "maxAcceleration" -> maxAcceleration = value;
+        case "maxCentripetalAcceleration" -> maxCentripetalAcceleration = value;
+        case "trackWidth" -> trackWidth = value;
+        default -> throw new IllegalArgumentException("unknown config key " + pair[0]);
+      }
+    }
+    return new TrajectoryConfig(
+        maxVelocity, maxAcceleration, maxCentripetalAcceleration, trackWidth);
+  }
+
+  private static Waypoint parseWaypoint(String[] tokens) {
+    if (tokens.length != 4 && tokens.length != 5) {
+      throw new IllegalArgumentException("waypoint takes x, y, heading and an optional scale");
+    }
+    double x = Double.parseDouble(tokens[1]);
+    double y = Double.parseDouble(tokens[2]);
+    double heading = Math.toRadians(Double.parseDouble(tokens[3]));
+    return tokens.length == 5
+        ? new Waypoint(x, y, heading, Double.parseDouble(tokens[4]))
+        : new Waypoint(x, y, heading);
+  }
+}
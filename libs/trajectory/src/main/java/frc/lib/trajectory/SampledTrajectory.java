@@ -0,0 +1,166 @@
+package frc.lib.trajectory;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * A time-parameterized trajectory stored as columns of primitive samples.
+ *
+ * <p>The columns are {@link DoubleBuffer}s so the same class serves trajectories generated in
+ * memory and trajectories read straight out of a memory-mapped {@link MappedTrajectoryCache}.
+ * {@link #sample} binary searches the time column and interpolates between neighbors without
+ * allocating.
+ */
+public final class SampledTrajectory {
+  /** Number of columns: time, x, y, heading, velocity, acceleration, curvature. */
+  static final int kColumns = 7;
+
+  private final int m_length;
+  private final DoubleBuffer m_time;
+  private final DoubleBuffer m_x;
+  private final DoubleBuffer m_y;
+  private final DoubleBuffer m_heading;
+  private final DoubleBuffer m_velocity;
+  private final DoubleBuffer m_acceleration;
+  private final DoubleBuffer m_curvature;
+
+  /**
+   * Wraps sample columns. All columns must be the same length, at least one, with times
+   * ascending.
+   */
+  SampledTrajectory(
+      DoubleBuffer time,
+      DoubleBuffer x,
+      DoubleBuffer y,
+      DoubleBuffer heading,
+      DoubleBuffer velocity,
+      DoubleBuffer acceleration,
+      DoubleBuffer curvature) {
+    m_length = time.limit();
+    if (m_length == 0) {
+      throw new IllegalArgumentException("Trajectory has no samples");
+    }
+    m_time = time;
+    m_x = x;
+    m_y = y;
+    m_heading = heading;
+    m_velocity = velocity;
+    m_acceleration = acceleration;
+    m_curvature = curvature;
+  }
+
+  /**
+   * Creates a trajectory backed by heap arrays. The arrays are used directly, not copied.
+   *
+   * @return The trajectory.
+   */
+  public static SampledTrajectory of(
+      double[] time,
+      double[] x,
+      double[] y,
+      double[] heading,
+      double[] velocity,
+      double[] acceleration,
+      double[] curvature) {
+    return new SampledTrajectory(
+        DoubleBuffer.wrap(time),
+        DoubleBuffer.wrap(x),
+        DoubleBuffer.wrap(y),
+        DoubleBuffer.wrap(heading),
+        DoubleBuffer.wrap(velocity),
+        DoubleBuffer.wrap(acceleration),
+        DoubleBuffer.wrap(curvature));
+  }
+
+  public int getSampleCount() {
+    return m_length;
+  }
+
+  public double getTotalTimeSeconds() {
+    return m_time.get(m_length - 1);
+  }
+
+  /**
+   * Samples the trajectory at a point in time, clamping to its start and end.
+   *
+   * @param timeSeconds Time since the start of the trajectory.
+   * @param out The state to overwrite.
+   * @return {@code out}, for chaining.
+   */
+  public TrajectoryState sample(double timeSeconds, TrajectoryState out) {
+    if (timeSeconds <= m_time.get(0)) {
+      return copySample(0, out);
+    }
+    if (timeSeconds >= m_time.get(m_length - 1)) {
+      return copySample(m_length - 1, out);
+    }
+
+    // Invariant: time[low] <= t < time[high].
+    int low = 0;
+    int high = m_length - 1;
+    while (high - low > 1) {
+      int mid = (low + high) >>> 1;
+      if (m_time.get(mid) <= timeSeconds) {
+        low = mid;
+      } else {
+        high = mid;
+      }
+    }
+
+    double t0 = m_time.get(low);
+    double span = m_time.get(high) - t0;
+    double f = span > 0 ? (timeSeconds - t0) / span : 0;
+
+    out.timeSeconds = timeSeconds;
+    out.x = lerp(m_x, low, high, f);
+    out.y = lerp(m_y, low, high, f);
+    double heading0 = m_heading.get(low);
+    double turn = m_heading.get(high) - heading0;
+    // Neighboring samples are close together, so one wrap is enough to take the short way round.
+    if (turn > Math.PI) {
+      turn -= 2 * Math.PI;
+    } else if (turn < -Math.PI) {
+      turn += 2 * Math.PI;
+    }
+    out.headingRadians = heading0 + f * turn;
+    out.velocity = lerp(m_velocity, low, high, f);
+    out.acceleration = m_acceleration.get(low);
+    out.curvature = lerp(m_curvature, low, high, f);
+    return out;
+  }
+
+  /**
+   * Copies one raw sample.
+   *
+   * @param index The sample index.
+   * @param out The state to overwrite.
+   * @return {@code out}, for chaining.
+   */
+  public TrajectoryState copySample(int index, TrajectoryState out) {
+    out.timeSeconds = m_time.get(index);
+    out.x = m_x.get(index);
+    out.y = m_y.get(index);
+    out.headingRadians = m_heading.get(index);
+    out.velocity = m_velocity.get(index);
+    out.acceleration = m_acceleration.get(index);
+    out.curvature = m_curvature.get(index);
+    return out;
+  }
+
+  DoubleBuffer column(int column) {
+    return switch (column) {
+      case 0 -> m_time;
+      case 1 -> m_x;
+      case 2 -> m_y;
+      case 3 -> m_heading;
+      case 4 -> m_velocity;
+      case 5 -> m_acceleration;
+      case 6 -> m_curvature;
+      default -> throw new IndexOutOfBoundsException(column);
+    };
+  }
+
+  private static double lerp(DoubleBuffer column, int low, int high, double f) {
+    double a = column.get(low);
+    return a + (column.get(high) - a) * f;
+  }
+}
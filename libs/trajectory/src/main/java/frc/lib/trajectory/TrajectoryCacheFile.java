@@ -0,0 +1,108 @@
+package frc.lib.trajectory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Writes trajectory cache files for {@link MappedTrajectoryCache}.
+ *
+ * <p>The file is a big-endian directory followed by 8-byte-aligned, little-endian sample data:
+ *
+ * <pre>
+ * header:     int magic ("FRCJ"), short version, short trajectoryCount
+ * directory:  trajectoryCount x (short nameLength, nameLength bytes of UTF-8,
+ *                                int sampleCount, long dataOffset)
+ * data:       per trajectory, 7 columns of sampleCount doubles each:
+ *             time, x, y, heading, velocity, acceleration, curvature
+ * </pre>
+ *
+ * <p>Storing columns rather than rows keeps the time column contiguous, which is all a binary
+ * search touches. The samples are little-endian because both the roboRIO and desktop machines
+ * are, so the mapped views read them without swapping bytes.
+ */
+public final class TrajectoryCacheFile {
+  /** "FRCJ" in ASCII. */
+  public static final int kMagic = 0x4652434A;
+
+  public static final short kVersion = 1;
+
+  private TrajectoryCacheFile() {}
+
+  /**
+   * Writes a cache file, replacing any existing file.
+   *
+   * @param path The file to write.
+   * @param trajectories The trajectories to store, by name.
+   * @throws IOException If the file cannot be written.
+   */
+  public static void write(Path path, Map<String, SampledTrajectory> trajectories)
+      throws IOException {
+    if (trajectories.size() > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many trajectories: " + trajectories.size());
+    }
+
+    byte[][] names = new byte[trajectories.size()][];
+    int directorySize = Integer.BYTES + 2 * Short.BYTES;
+    int index = 0;
+    for (String name : trajectories.keySet()) {
+      names[index] = name.getBytes(StandardCharsets.UTF_8);
+      directorySize += Short.BYTES + names[index].length + Integer.BYTES + Long.BYTES;
+      index++;
+    }
+
+    long dataStart = align(directorySize);
+    long totalSize = dataStart;
+    for (SampledTrajectory trajectory : trajectories.values()) {
+      totalSize += dataBytes(trajectory);
+    }
+    if (totalSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Trajectory cache would exceed 2 GB");
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) totalSize);
+    buffer.putInt(kMagic).putShort(kVersion).putShort((short) trajectories.size());
+    long offset = dataStart;
+    index = 0;
+    for (SampledTrajectory trajectory : trajectories.values()) {
+      buffer.putShort((short) names[index].length).put(names[index]);
+      buffer.putInt(trajectory.getSampleCount()).putLong(offset);
+      offset += dataBytes(trajectory);
+      index++;
+    }
+
+    buffer.position((int) dataStart);
+    DoubleBuffer data = buffer.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    for (SampledTrajectory trajectory : trajectories.values()) {
+      for (int column = 0; column < SampledTrajectory.kColumns; column++) {
+        data.put(trajectory.column(column).duplicate().clear());
+      }
+    }
+
+    buffer.clear();
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  private static long dataBytes(SampledTrajectory trajectory) {
+    return (long) SampledTrajectory.kColumns * trajectory.getSampleCount() * Double.BYTES;
+  }
+
+  private static long align(long position) {
+    return (position + Double.BYTES - 1) & -Double.BYTES;
+  }
+}
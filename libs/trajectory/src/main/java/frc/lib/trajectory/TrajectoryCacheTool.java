@@ -0,0 +1,65 @@
+package frc.lib.trajectory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Build-time entry point: generates every path file in a directory into one trajectory cache.
+ *
+ * <pre>
+ * TrajectoryCacheTool &lt;paths directory&gt; &lt;output file&gt;
+ * </pre>
+ *
+ * <p>Path files end in {@code .path}; see {@link PathDefinition} for their format. Trajectories are
+ * stored under the file name without its extension, in alphabetical order.
+ */
+public final class TrajectoryCacheTool {
+  private TrajectoryCacheTool() {}
+
+  /**
+   * Entry point.
+   *
+   * @param args The paths directory and the output file.
+   * @throws IOException If a path cannot be read or the cache cannot be written.
+   */
+  public static void main(String... args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("usage: TrajectoryCacheTool <paths directory> <output file>");
+      System.exit(2);
+    }
+    Path pathsDirectory = Path.of(args[0]);
+    Path output = Path.of(args[1]);
+
+    List<Path> pathFiles = new ArrayList<>();
+    try (Stream<Path> files = Files.list(pathsDirectory)) {
+      files.filter(file -> file.toString().endsWith(".path")).sorted().forEach(pathFiles::add);
+    }
+
+    Map<String, SampledTrajectory> trajectories = new LinkedHashMap<>();
+    for (Path file : pathFiles) {
+      PathDefinition path = PathDefinition.read(file);
+      SampledTrajectory trajectory = TrajectoryGenerator.generate(path);
+      trajectories.put(path.name(), trajectory);
+      System.out.printf(
+          "%-24s %6d samples %6.2f s%n",
+          path.name(), trajectory.getSampleCount(), trajectory.getTotalTimeSeconds());
+    }
+
+    Path parent = output.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    TrajectoryCacheFile.write(output, trajectories);
+    System.out.printf(
+        "Wrote %d trajectories to %s (%d bytes)%n",
+        trajectories.size(),
+        output,
+        Files.size(output));
+  }
+}
@@ -0,0 +1,36 @@
+package frc.lib.trajectory;
+
+/**
+ * Limits a trajectory is generated under.
+ *
+ * @param maxVelocity Top speed, in meters per second.
+ * @param maxAcceleration Largest forward or braking acceleration, in meters per second squared.
+ * @param maxCentripetalAcceleration Largest sideways acceleration in turns, in meters per second
+ *     squared.
+ * @param trackWidth Differential drive track width, in meters, so the outside wheel is kept under
+ *     top speed in turns. Zero for holonomic drives.
+ */
+public record TrajectoryConfig(
+    double maxVelocity,
+    double maxAcceleration,
+    double maxCentripetalAcceleration,
+    double trackWidth) {
+  public TrajectoryConfig {
+    if (!(maxVelocity > 0) || !(maxAcceleration > 0) || !(maxCentripetalAcceleration > 0)) {
+      throw new IllegalArgumentException("Trajectory limits must be positive");
+    }
+    if (trackWidth < 0) {
+      throw new IllegalArgumentException("Track width must not be negative");
+    }
+  }
+
+  /** Returns the fastest the robot may go on a path with this curvature, in meters per second. */
+  public double maxVelocityAt(double curvature) {
+    double k = Math.abs(curvature);
+    double velocity = maxVelocity / (1 + k * trackWidth / 2);
+    if (k > 1e-9) {
+      velocity = Math.min(velocity, Math.sqrt(maxCentripetalAcceleration / k));
+    }
+    return velocity;
+  }
+}
@@ -0,0 +1,161 @@
+package frc.lib.trajectory;
+
+import java.util.List;
+
+/**
+ * Generates time-parameterized trajectories from waypoints, without WPILib.
+ *
+ * <p>Consecutive waypoints are joined with quintic Hermite splines whose end tangents follow each
+ * waypoint's heading (second derivatives are zero at the knots, as in WPILib's quintic splines).
+ * The splines are sampled densely, then a forward and a backward pass over the samples find the
+ * fastest speed profile that respects the {@link TrajectoryConfig}: top speed, acceleration,
+ * centripetal acceleration and, for differential drives, outside-wheel speed. The robot starts and
+ * ends at rest.
+ *
+ * <p>This is the same structure as WPILib's {@code TrajectoryGenerator} and {@code
+ * TrajectoryParameterizer}, so it can run on the desktop at build time and in offline tools.
+ */
+public final class TrajectoryGenerator {
+  /** Samples per spline segment. */
+  private static final int kSamplesPerSegment = 200;
+
+  private TrajectoryGenerator() {}
+
+  /**
+   * Generates the trajectory for a path.
+   *
+   * @param path The path to generate.
+   * @return The trajectory.
+   */
+  public static SampledTrajectory generate(PathDefinition path) {
+    return generate(path.waypoints(), path.config());
+  }
+
+  /**
+   * Generates a trajectory through waypoints.
+   *
+   * @param waypoints At least two waypoints, in driving order.
+   * @param config The limits to generate under.
+   * @return The trajectory.
+   */
+  public static SampledTrajectory generate(List<Waypoint> waypoints, TrajectoryConfig config) {
+    if (waypoints.size() < 2) {
+      throw new IllegalArgumentException("Need at least two waypoints");
+    }
+    int segments = waypoints.size() - 1;
+    int n = segments * kSamplesPerSegment + 1;
+
+    double[] x = new double[n];
+    double[] y = new double[n];
+    double[] heading = new double[n];
+    double[] curvature = new double[n];
+    double[] distance = new double[n];
+    sampleSplines(waypoints, x, y, heading, curvature, distance);
+
+    double[] velocity = new double[n];
+    double[] acceleration = new double[n];
+    double[] time = new double[n];
+    parameterize(config, curvature, distance, velocity, acceleration, time);
+
+    return SampledTrajectory.of(time, x, y, heading, velocity, acceleration, curvature);
+  }
+
+  private static void sampleSplines(
+      List<Waypoint> waypoints,
+      double[] x,
+      double[] y,
+      double[] heading,
+      double[] curvature,
+      double[] distance) {
+    int index = 0;
+    for (int segment = 0; segment < waypoints.size() - 1; segment++) {
+      Waypoint start = waypoints.get(segment);
+      Waypoint end = waypoints.get(segment + 1);
+      double chord = Math.hypot(end.x() - start.x(), end.y() - start.y());
+      double startScale = start.tangentScale() * chord;
+      double endScale = end.tangentScale() * chord;
+      double vx0 = startScale * Math.cos(start.headingRadians());
+      double vy0 = startScale * Math.sin(start.headingRadians());
+      double vx1 = endScale * Math.cos(end.headingRadians());
+      double vy1 = endScale * Math.sin(end.headingRadians());
+
+      // The first sample of every segment after the first is the previous segment's last.
+      for (int i = segment == 0 ? 0 : 1; i <= kSamplesPerSegment; i++) {
+        double t = (double) i / kSamplesPerSegment;
+        double t2 = t * t;
+        double t3 = t2 * t;
+        double t4 = t3 * t;
+        double t5 = t4 * t;
+
+        double h0 = 1 - 10 * t3 + 15 * t4 - 6 * t5;
+        double h1 = t - 6 * t3 + 8 * t4 - 3 * t5;
+        double h4 = -4 * t3 + 7 * t4 - 3 * t5;
+        double h5 = 10 * t3 - 15 * t4 + 6 * t5;
+
+        double d0 = -30 * t2 + 60 * t3 - 30 * t4;
+        double d1 = 1 - 18 * t2 + 32 * t3 - 15 * t4;
+        double d4 = -12 * t2 + 28 * t3 - 15 * t4;
+        double d5 = 30 * t2 - 60 * t3 + 30 * t4;
+
+        double dd0 = -60 * t + 180 * t2 - 120 * t3;
+        double dd1 = -36 * t + 96 * t2 - 60 * t3;
+        double dd4 = -24 * t + 84 * t2 - 60 * t3;
+        double dd5 = 60 * t - 180 * t2 + 120 * t3;
+
+        double px = h0 * start.x() + h1 * vx0 + h4 * vx1 + h5 * end.x();
+        double py = h0 * start.y() + h1 * vy0 + h4 * vy1 + h5 * end.y();
+        double dx = d0 * start.x() + d1 * vx0 + d4 * vx1 + d5 * end.x();
+        double dy = d0 * start.y() + d1 * vy0 + d4 * vy1 + d5 * end.y();
+        double ddx = dd0 * start.x() + dd1 * vx0 + dd4 * vx1 + dd5 * end.x();
+        double ddy = dd0 * start.y() + dd1 * vy0 + dd4 * vy1 + dd5 * end.y();
+
+        double speedSquared = dx * dx + dy * dy;
+        x[index] = px;
+        y[index] = py;
+        heading[index] = Math.atan2(dy, dx);
+        curvature[index] =
+            speedSquared > 1e-12 ? (dx * ddy - dy * ddx) / Math.pow(speedSquared, 1.5) : 0;
+        distance[index] =
+            index == 0 ? 0 : distance[index - 1] + Math.hypot(px - x[index - 1], py - y[index - 1]);
+        index++;
+      }
+    }
+  }
+
+  private static void parameterize(
+      TrajectoryConfig config,
+      double[] curvature,
+      double[] distance,
+      double[] velocity,
+      double[] acceleration,
+      double[] time) {
+    int n = distance.length;
+    double maxAcceleration = config.maxAcceleration();
+
+    // Forward pass: accelerate as hard as allowed, capped by the local speed limit.
+    velocity[0] = 0;
+    for (int i = 1; i < n; i++) {
+      double ds = distance[i] - distance[i - 1];
+      double reachable = Math.sqrt(velocity[i - 1] * velocity[i - 1] + 2 * maxAcceleration * ds);
+      velocity[i] = Math.min(config.maxVelocityAt(curvature[i]), reachable);
+    }
+
+    // Backward pass: make sure every slowdown, including the stop at the end, can be made.
+    velocity[n - 1] = 0;
+    for (int i = n - 2; i >= 0; i--) {
+      double ds = distance[i + 1] - distance[i];
+      double reachable = Math.sqrt(velocity[i + 1] * velocity[i + 1] + 2 * maxAcceleration * ds);
+      velocity[i] = Math.min(velocity[i], reachable);
+    }
+
+    time[0] = 0;
+    for (int i = 1; i < n; i++) {
+      double ds = distance[i] - distance[i - 1];
+      double v0 = velocity[i - 1];
+      double v1 = velocity[i];
+      time[i] = time[i - 1] + (v0 + v1 > 1e-12 ? 2 * ds / (v0 + v1) : 0);
+      acceleration[i - 1] = ds > 1e-12 ? (v1 * v1 - v0 * v0) / (2 * ds) : 0;
+    }
+    acceleration[n - 1] = 0;
+  }
+}
@@ -0,0 +1,35 @@
+package frc.lib.trajectory;
+
+/** One sampled point on a trajectory, held in mutable fields for reuse. */
+public final class TrajectoryState {
+  /** Time since the start of the trajectory, in seconds. */
+  public double timeSeconds;
+
+  /** Field x, in meters. */
+  public double x;
+
+  /** Field y, in meters. */
+  public double y;
+
+  /** Direction of travel, in radians. */
+  public double headingRadians;
+
+  /** Speed along the path, in meters per second. */
+  public double velocity;
+
+  /** Acceleration along the path, in meters per second squared. */
+  public double acceleration;
+
+  /** Path curvature, in radians per meter. */
+  public double curvature;
+
+  /** Creates a zero state. */
+  public TrajectoryState() {}
+
+  @Override
+  public String toString() {
+    return String.format(
+        "TrajectoryState(t: %.3f, X: %.2f, Y: %.2f, Heading: %.1f deg, v: %.2f, a: %.2f, k: %.3f)",
+        timeSeconds, x, y, Math.toDegrees(headingRadians), velocity, acceleration, curvature);
+  }
+}
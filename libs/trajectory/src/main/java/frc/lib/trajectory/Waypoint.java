@@ -0,0 +1,26 @@
+package frc.lib.trajectory;
+
+/**
+ * A point the path passes through, with the direction it passes through it.
+ *
+ * @param x Field x, in meters.
+ * @param y Field y, in meters.
+ * @param headingRadians Direction of travel through the point.
+ * @param tangentScale How strongly the path holds that direction, as a multiple of the distance to
+ *     the neighboring waypoint. Larger values give wider, rounder curves.
+ */
+public record Waypoint(double x, double y, double headingRadians, double tangentScale) {
+  /** The tangent scale WPILib's spline helpers use. */
+  public static final double kDefaultTangentScale = 1.2;
+
+  /**
+   * Creates a waypoint with the default tangent scale.
+   *
+   * @param x Field x, in meters.
+   * @param y Field y, in meters.
+   * @param headingRadians Direction of travel through the point.
+   */
+  public Waypoint(double x, double y, double headingRadians) {
+    this(x, y, headingRadians, kDefaultTangentScale);
+  }
+}
@@ -0,0 +1,36 @@
+package frc.lib.vision;
+
+/**
+ * One camera result: every AprilTag the camera saw in a single image, relative to the camera.
+ *
+ * <p>Frames are preallocated and overwritten by {@link CameraSource}; arrays are sized for {@link
+ * #kMaxTargets} targets and only the first {@link #targetCount} entries are meaningful.
+ */
+public final class CameraFrame {
+  /** The most targets a frame can hold. */
+  public static final int kMaxTargets = 16;
+
+  /** When the image was captured, in seconds on the robot's clock. */
+  public double timestampSeconds;
+
+  /** How many targets are in this frame. */
+  public int targetCount;
+
+  /** Fiducial ID of each target. */
+  public final int[] tagIds = new int[kMaxTargets];
+
+  /** Forward distance from the camera to each tag, in meters. */
+  public final double[] cameraToTagX = new double[kMaxTargets];
+
+  /** Leftward distance from the camera to each tag, in meters. */
+  public final double[] cameraToTagY = new double[kMaxTargets];
+
+  /** Yaw of each tag relative to the camera, in radians. */
+  public final double[] cameraToTagYaw = new double[kMaxTargets];
+
+  /** Pose ambiguity of each target, from 0 (certain) to 1. */
+  public final double[] ambiguity = new double[kMaxTargets];
+
+  /** Creates an empty frame. */
+  public CameraFrame() {}
+}
@@ -0,0 +1,20 @@
+package frc.lib.vision;
+
+/** Somewhere camera frames come from, e.g. a coprocessor or a recording. */
+public interface CameraSource {
+  /**
+   * Reads the next frame if one has arrived, without blocking.
+   *
+   * @param out The frame to overwrite.
+   * @return True if a new frame was written to {@code out}.
+   */
+  boolean poll(CameraFrame out);
+
+  /**
+   * Blocks until the next frame arrives and reads it.
+   *
+   * @param out The frame to overwrite.
+   * @throws InterruptedException If the thread is interrupted while waiting.
+   */
+  void await(CameraFrame out) throws InterruptedException;
+}
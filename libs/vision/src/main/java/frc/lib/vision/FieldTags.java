@@ -0,0 +1,92 @@
+package frc.lib.vision;
+
+/**
+ * Where each AprilTag sits on the field, flattened to 2D.
+ *
+ * <p>Stored as primitive arrays indexed by tag ID so looking a tag up costs three array reads.
+ */
+public final class FieldTags {
+  /** The 2024 Crescendo field, in meters and radians, blue alliance origin. */
+  public static final FieldTags k2024Crescendo =
+      new FieldTags(
+          16.541,
+          8.211,
+          new double[][] {
+            {1, 15.079, 0.246, 120},
+            {2, 16.185, 0.884, 120},
+            {3, 16.579, 4.983, 180},
+            {4, 16.579, 5.548, 180},
+            {5, 14.701, 8.204, 270},
+            {6, 1.842, 8.204, 270},
+            {7, -0.038, 5.548, 0},
+            {8, -0.038, 4.983, 0},
+            {9, 0.356, 0.884, 60},
+            {10, 1.462, 0.246, 60},
+            {11, 11.905, 3.713, 300},
+            {12, 11.905, 4.498, 60},
+            {13, 11.220, 4.105, 180},
+            {14, 5.321, 4.105, 0},
+            {15, 4.641, 4.498, 120},
+            {16, 4.641, 3.713, 240},
+          });
+
+  private final double m_fieldLength;
+  private final double m_fieldWidth;
+  private final boolean[] m_present;
+  private final double[] m_x;
+  private final double[] m_y;
+  private final double[] m_yaw;
+
+  /**
+   * Creates a layout.
+   *
+   * @param fieldLength Field length, in meters.
+   * @param fieldWidth Field width, in meters.
+   * @param tags One row per tag: {id, x meters, y meters, yaw degrees}.
+   */
+  public FieldTags(double fieldLength, double fieldWidth, double[][] tags) {
+    int maxId = 0;
+    for (double[] tag : tags) {
+      maxId = Math.max(maxId, (int) tag[0]);
+    }
+    m_fieldLength = fieldLength;
+    m_fieldWidth = fieldWidth;
+    m_present = new boolean[maxId + 1];
+    m_x = new double[maxId + 1];
+    m_y = new double[maxId + 1];
+    m_yaw = new double[maxId + 1];
+    for (double[] tag : tags) {
+      int id = (int) tag[0];
+      m_present[id] = true;
+      m_x[id] = tag[1];
+      m_y[id] = tag[2];
+      m_yaw[id] = Math.toRadians(tag[3]);
+    }
+  }
+
+  public double getFieldLength() {
+    return m_fieldLength;
+  }
+
+  public double getFieldWidth() {
+    return m_fieldWidth;
+  }
+
+  /** Returns true if the layout has a tag with this ID. */
+  public boolean hasTag(int id) {
+    return id >= 0 && id < m_present.length && m_present[id];
+  }
+
+  public double getX(int id) {
+    return m_x[id];
+  }
+
+  public double getY(int id) {
+    return m_y[id];
+  }
+
+  /** Returns the direction the tag faces, in radians. */
+  public double getYaw(int id) {
+    return m_yaw[id];
+  }
+}
@@ -0,0 +1,70 @@
+package frc.lib.vision;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands the most recent value from one producer thread to one consumer thread without locks or
+ * allocation.
+ *
+ * <p>This is a triple buffer. The producer fills its private buffer and {@linkplain #publish
+ * publishes} it by swapping it with a shared middle buffer; the consumer {@linkplain #poll polls}
+ * by swapping its private buffer with the middle one when it has been refreshed. Neither side ever
+ * waits for the other, and a value the consumer has not picked up yet is simply replaced by a
+ * newer one.
+ *
+ * @param <T> The mutable holder type being handed over.
+ */
+public final class LatestValueHandoff<T> {
+  private static final int kIndexMask = 0b011;
+  private static final int kFresh = 0b100;
+
+  private final Object[] m_buffers = new Object[3];
+
+  // Index of the shared buffer, with kFresh set while it holds a value the consumer has not seen.
+  private final AtomicInteger m_middle = new AtomicInteger(1);
+  private int m_back = 2;
+  private int m_front;
+
+  /**
+   * Creates a handoff.
+   *
+   * @param factory Creates the three holders up front.
+   */
+  public LatestValueHandoff(Supplier<T> factory) {
+    for (int i = 0; i < m_buffers.length; i++) {
+      m_buffers[i] = factory.get();
+    }
+  }
+
+  /**
+   * Returns the producer's private holder to fill in. Producer thread only.
+   *
+   * <p>The holder may contain an old value; overwrite every field before publishing.
+   */
+  @SuppressWarnings("unchecked")
+  public T beginWrite() {
+    return (T) m_buffers[m_back];
+  }
+
+  /** Makes the holder from {@link #beginWrite} visible to the consumer. Producer thread only. */
+  public void publish() {
+    m_back = m_middle.getAndSet(m_back | kFresh) & kIndexMask;
+  }
+
+  /**
+   * Takes the newest published value, if there is one the consumer has not seen. Consumer thread
+   * only.
+   *
+   * @return The newest value, owned by the consumer until the next call, or null if nothing new
+   *     has been published.
+   */
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    if ((m_middle.get() & kFresh) == 0) {
+      return null;
+    }
+    m_front = m_middle.getAndSet(m_front) & kIndexMask;
+    return (T) m_buffers[m_front];
+  }
+}
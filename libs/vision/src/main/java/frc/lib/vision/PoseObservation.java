@@ -0,0 +1,58 @@
+package frc.lib.vision;
+
+/**
+ * A filtered robot pose estimate from one camera frame, ready to hand to a pose estimator.
+ *
+ * <p>Held in mutable fields so the vision thread can fill preallocated instances.
+ */
+public final class PoseObservation {
+  /** When the frame was captured, in seconds on the robot's clock. */
+  public double timestampSeconds;
+
+  /** Estimated robot x, in meters. */
+  public double x;
+
+  /** Estimated robot y, in meters. */
+  public double y;
+
+  /** Estimated robot heading, in radians. */
+  public double thetaRadians;
+
+  /** How many tags contributed to the estimate. */
+  public int tagCount;
+
+  /** Mean distance from the camera to the contributing tags, in meters. */
+  public double averageTagDistance;
+
+  /** Standard deviation to trust x and y with, in meters. */
+  public double xyStdDev;
+
+  /** Standard deviation to trust the heading with, in radians. */
+  public double thetaStdDev;
+
+  /** Creates an empty observation. */
+  public PoseObservation() {}
+
+  /**
+   * Copies another observation into this one.
+   *
+   * @param other The observation to copy.
+   */
+  public void set(PoseObservation other) {
+    timestampSeconds = other.timestampSeconds;
+    x = other.x;
+    y = other.y;
+    thetaRadians = other.thetaRadians;
+    tagCount = other.tagCount;
+    averageTagDistance = other.averageTagDistance;
+    xyStdDev = other.xyStdDev;
+    thetaStdDev = other.thetaStdDev;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "PoseObservation(t: %.3f, X: %.2f, Y: %.2f, Rotation: %.1f deg, tags: %d, xyStd: %.3f)",
+        timestampSeconds, x, y, Math.toDegrees(thetaRadians), tagCount, xyStdDev);
+  }
+}
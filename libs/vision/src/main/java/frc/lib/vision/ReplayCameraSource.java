@@ -0,0 +1,125 @@
+package frc.lib.vision;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A fake camera that replays recorded frames at a fixed rate, looping forever.
+ *
+ * <p>Frames are kept in their recorded text form and decoded only when delivered, so reading a
+ * frame costs parsing and allocation much like decoding a real coprocessor result does. Each
+ * frame is stamped with the replay clock minus its recorded pipeline latency.
+ *
+ * <p>The recording format is one frame per line, {@code #} comments allowed:
+ *
+ * <pre>
+ * latencySeconds,targetCount[,tagId,x,y,yaw,ambiguity]...
+ * </pre>
+ */
+public final class ReplayCameraSource implements CameraSource {
+  private static final String kRecordedFramesResource = "recorded-frames.csv";
+
+  private final List<String> m_frames;
+  private final long m_periodNanos;
+  private final DoubleSupplier m_clockSeconds;
+  private final long m_startNanos;
+  private long m_nextFrame;
+
+  /**
+   * Creates a replaying camera. Playback starts immediately.
+   *
+   * @param frames The recorded frames, one per element.
+   * @param rateHz How many frames to deliver per second.
+   * @param clockSeconds The robot clock used to timestamp frames.
+   */
+  public ReplayCameraSource(List<String> frames, double rateHz, DoubleSupplier clockSeconds) {
+    if (frames.isEmpty()) {
+      throw new IllegalArgumentException("Recording has no frames");
+    }
+    if (!(rateHz > 0)) {
+      throw new IllegalArgumentException("Rate must be positive, got " + rateHz);
+    }
+    m_frames = List.copyOf(frames);
+    m_periodNanos = (long) (1e9 / rateHz);
+    m_clockSeconds = clockSeconds;
+    m_startNanos = System.nanoTime();
+  }
+
+  /** Returns the recording bundled with this library: 20 seconds of driving around the field. */
+  public static List<String> recordedFrames() {
+    try (InputStream in = ReplayCameraSource.class.getResourceAsStream(kRecordedFramesResource)) {
+      if (in == null) {
+        throw new IllegalStateException("Missing resource " + kRecordedFramesResource);
+      }
+      return readFrames(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads a recording, skipping blank lines and comments.
+   *
+   * @param in The recording.
+   * @return The frames, one per element.
+   * @throws IOException If the stream cannot be read.
+   */
+  public static List<String> readFrames(InputStream in) throws IOException {
+    List<String> frames = new ArrayList<>();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        frames.add(line);
+      }
+    }
+    return frames;
+  }
+
+  @Override
+  public boolean poll(CameraFrame out) {
+    if (System.nanoTime() < dueNanos(m_nextFrame)) {
+      return false;
+    }
+    decode(m_frames.get((int) (m_nextFrame++ % m_frames.size())), out);
+    return true;
+  }
+
+  @Override
+  public void await(CameraFrame out) throws InterruptedException {
+    long wait = dueNanos(m_nextFrame) - System.nanoTime();
+    if (wait > 0) {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+    decode(m_frames.get((int) (m_nextFrame++ % m_frames.size())), out);
+  }
+
+  private long dueNanos(long frame) {
+    return m_startNanos + frame * m_periodNanos;
+  }
+
+  private void decode(String line, CameraFrame out) {
+    String[] fields = line.split(",");
+    double latencySeconds = Double.parseDouble(fields[0]);
+    int count = Math.min(Integer.parseInt(fields[1]), CameraFrame.kMaxTargets);
+
+    out.timestampSeconds = m_clockSeconds.getAsDouble() - latencySeconds;
+    out.targetCount = count;
+    for (int i = 0; i < count; i++) {
+      int base = 2 + 5 * i;
+      out.tagIds[i] = Integer.parseInt(fields[base]);
+      out.cameraToTagX[i] = Double.parseDouble(fields[base + 1]);
+      out.cameraToTagY[i] = Double.parseDouble(fields[base + 2]);
+      out.cameraToTagYaw[i] = Double.parseDouble(fields[base + 3]);
+      out.ambiguity[i] = Double.parseDouble(fields[base + 4]);
+    }
+  }
+}
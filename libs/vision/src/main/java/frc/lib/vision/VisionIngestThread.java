@@ -0,0 +1,84 @@
+package frc.lib.vision;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads and processes camera frames on a dedicated thread, keeping the work off the robot loop.
+ *
+ * <p>The thread blocks on the {@link CameraSource}, runs each frame through the {@link
+ * VisionProcessor} and publishes accepted estimates through a {@link LatestValueHandoff}. The
+ * robot loop calls {@link #poll} once per cycle and gets either the newest estimate, tagged with
+ * its capture timestamp, or null.
+ */
+public final class VisionIngestThread implements AutoCloseable {
+  private final CameraSource m_source;
+  private final VisionProcessor m_processor;
+  private final LatestValueHandoff<PoseObservation> m_handoff =
+      new LatestValueHandoff<>(PoseObservation::new);
+  private final Thread m_thread;
+  private final AtomicLong m_framesRead = new AtomicLong();
+  private final AtomicLong m_framesAccepted = new AtomicLong();
+
+  private volatile boolean m_running = true;
+
+  /**
+   * Creates and starts the vision thread.
+   *
+   * @param source Where frames come from.
+   * @param processor Turns frames into estimates.
+   */
+  public VisionIngestThread(CameraSource source, VisionProcessor processor) {
+    m_source = source;
+    m_processor = processor;
+    m_thread = new Thread(this::run, "VisionIngest");
+    m_thread.setDaemon(true);
+    m_thread.start();
+  }
+
+  /**
+   * Takes the newest estimate the robot loop has not seen yet. Call from one thread only.
+   *
+   * @return The estimate, valid until the next call, or null if there is nothing new.
+   */
+  public PoseObservation poll() {
+    return m_handoff.poll();
+  }
+
+  /** Returns how many frames the thread has read. */
+  public long getFramesRead() {
+    return m_framesRead.get();
+  }
+
+  /** Returns how many frames produced an estimate. */
+  public long getFramesAccepted() {
+    return m_framesAccepted.get();
+  }
+
+  /** Stops the thread and waits for it to exit. */
+  @Override
+  public void close() {
+    m_running = false;
+    m_thread.interrupt();
+    try {
+      m_thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    CameraFrame frame = new CameraFrame();
+    while (m_running) {
+      try {
+        m_source.await(frame);
+      } catch (InterruptedException e) {
+        return;
+      }
+      m_framesRead.incrementAndGet();
+      if (m_processor.process(frame, m_handoff.beginWrite())) {
+        m_handoff.publish();
+        m_framesAccepted.incrementAndGet();
+      }
+    }
+  }
+}
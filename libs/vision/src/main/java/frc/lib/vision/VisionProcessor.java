@@ -0,0 +1,131 @@
+package frc.lib.vision;
+
+/**
+ * Turns a camera frame into a filtered robot pose estimate with standard deviations.
+ *
+ * <p>Each target is converted to a field-relative robot pose through the tag layout and the
+ * camera's mounting position. Targets that are too ambiguous, too far away, or that put the robot
+ * off the field are discarded. The survivors are averaged, and the estimate's standard deviations
+ * grow with the square of the average tag distance and shrink with the number of tags. A single
+ * tag is not trusted for heading at all.
+ *
+ * <p>{@link #process} does not allocate, so it can run on either the robot thread or a vision
+ * thread.
+ */
+public final class VisionProcessor {
+  /** Heading standard deviation used for single-tag estimates: effectively "ignore heading". */
+  public static final double kUntrustedThetaStdDev = 1e3;
+
+  private static final double kFieldMargin = 0.5;
+
+  private final FieldTags m_tags;
+  private final double m_robotToCameraX;
+  private final double m_robotToCameraY;
+  private final double m_robotToCameraYaw;
+  private final double m_maxAmbiguity;
+  private final double m_maxDistance;
+  private final double m_xyStdDevCoefficient;
+  private final double m_thetaStdDevCoefficient;
+
+  /**
+   * Creates a processor.
+   *
+   * @param tags The field's tag layout.
+   * @param robotToCameraX How far forward of robot center the camera is, in meters.
+   * @param robotToCameraY How far left of robot center the camera is, in meters.
+   * @param robotToCameraYaw Which way the camera faces relative to the robot, in radians.
+   * @param maxAmbiguity Targets with a higher pose ambiguity are discarded.
+   * @param maxDistance Targets farther than this from the camera are discarded, in meters.
+   * @param xyStdDevCoefficient x/y standard deviation of one tag seen from one meter away.
+   * @param thetaStdDevCoefficient Heading standard deviation of one tag seen from one meter away.
+   */
+  public VisionProcessor(
+      FieldTags tags,
+      double robotToCameraX,
+      double robotToCameraY,
+      double robotToCameraYaw,
+      double maxAmbiguity,
+      double maxDistance,
+      double xyStdDevCoefficient,
+      double thetaStdDevCoefficient) {
+    m_tags = tags;
+    m_robotToCameraX = robotToCameraX;
+    m_robotToCameraY = robotToCameraY;
+    m_robotToCameraYaw = robotToCameraYaw;
+    m_maxAmbiguity = maxAmbiguity;
+    m_maxDistance = maxDistance;
+    m_xyStdDevCoefficient = xyStdDevCoefficient;
+    m_thetaStdDevCoefficient = thetaStdDevCoefficient;
+  }
+
+  /**
+   * Estimates the robot pose from one frame.
+   *
+   * @param frame The camera frame.
+   * @param out Where to write the estimate. Left untouched if the frame is rejected.
+   * @return True if at least one target survived filtering and {@code out} was written.
+   */
+  public boolean process(CameraFrame frame, PoseObservation out) {
+    int used = 0;
+    double sumX = 0;
+    double sumY = 0;
+    double sumCos = 0;
+    double sumSin = 0;
+    double sumDistance = 0;
+
+    for (int i = 0; i < frame.targetCount; i++) {
+      int id = frame.tagIds[i];
+      double tagX = frame.cameraToTagX[i];
+      double tagY = frame.cameraToTagY[i];
+      double distance = Math.hypot(tagX, tagY);
+      if (!m_tags.hasTag(id) || frame.ambiguity[i] > m_maxAmbiguity || distance > m_maxDistance) {
+        continue;
+      }
+
+      // field->camera = field->tag * inverse(camera->tag)
+      double cameraYaw = m_tags.getYaw(id) - frame.cameraToTagYaw[i];
+      double cameraCos = Math.cos(cameraYaw);
+      double cameraSin = Math.sin(cameraYaw);
+      double cameraX = m_tags.getX(id) - (tagX * cameraCos - tagY * cameraSin);
+      double cameraY = m_tags.getY(id) - (tagX * cameraSin + tagY * cameraCos);
+
+      // field->robot = field->camera * inverse(robot->camera)
+      double robotYaw = cameraYaw - m_robotToCameraYaw;
+      double robotCos = Math.cos(robotYaw);
+      double robotSin = Math.sin(robotYaw);
+      double robotX = cameraX - (m_robotToCameraX * robotCos - m_robotToCameraY * robotSin);
+      double robotY = cameraY - (m_robotToCameraX * robotSin + m_robotToCameraY * robotCos);
+
+      if (robotX < -kFieldMargin
+          || robotY < -kFieldMargin
+          || robotX > m_tags.getFieldLength() + kFieldMargin
+          || robotY > m_tags.getFieldWidth() + kFieldMargin) {
+        continue;
+      }
+
+      used++;
+      sumX += robotX;
+      sumY += robotY;
+      sumCos += robotCos;
+      sumSin += robotSin;
+      sumDistance += distance;
+    }
+
+    if (used == 0) {
+      return false;
+    }
+
+    double averageDistance = sumDistance / used;
+    double distanceSquared = averageDistance * averageDistance;
+    out.timestampSeconds = frame.timestampSeconds;
+    out.x = sumX / used;
+    out.y = sumY / used;
+    out.thetaRadians = Math.atan2(sumSin, sumCos);
+    out.tagCount = used;
+    out.averageTagDistance = averageDistance;
+    out.xyStdDev = m_xyStdDevCoefficient * distanceSquared / used;
+    out.thetaStdDev =
+        used > 1 ? m_thetaStdDevCoefficient * distanceSquared / used : kUntrustedThetaStdDev;
+    return true;
+  }
+}
@@ -0,0 +1,159 @@
+package frc.pathoptimizer;
+
+import frc.lib.trajectory.PathDefinition;
+import frc.lib.trajectory.TrajectoryConfig;
+import frc.lib.trajectory.Waypoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * One setting of a route's free parameters: the order notes are picked up in, the heading through
+ * every waypoint between start and end, every waypoint's tangent scale, and the path's velocity
+ * and acceleration limits.
+ */
+public final class Candidate {
+  private final int[] m_order;
+  private final double[] m_headings;
+  private final double[] m_tangentScales;
+  private final double m_maxVelocity;
+  private final double m_maxAcceleration;
+
+  private Candidate(
+      int[] order,
+      double[] headings,
+      double[] tangentScales,
+      double maxVelocity,
+      double maxAcceleration) {
+    m_order = order;
+    m_headings = headings;
+    m_tangentScales = tangentScales;
+    m_maxVelocity = maxVelocity;
+    m_maxAcceleration = maxAcceleration;
+  }
+
+  /**
+   * Draws a candidate uniformly from the search space.
+   *
+   * @param route The route.
+   * @param order The note order, as indices into the route's notes.
+   * @param random Where to draw from.
+   * @return The candidate.
+   */
+  public static Candidate random(RouteSpec route, int[] order, SplittableRandom random) {
+    SearchSpace search = route.search();
+    int waypoints = route.getWaypointCount();
+    double[] headings = new double[waypoints - 2];
+    for (int i = 0; i < headings.length; i++) {
+      headings[i] = random.nextDouble(-Math.PI, Math.PI);
+    }
+    double[] tangentScales = new double[waypoints];
+    for (int i = 0; i < waypoints; i++) {
+      tangentScales[i] = uniform(random, search.minTangentScale(), search.maxTangentScale());
+    }
+    return new Candidate(
+        order.clone(),
+        headings,
+        tangentScales,
+        uniform(random, search.minVelocity(), search.maxVelocity()),
+        uniform(random, search.minAcceleration(), search.maxAcceleration()));
+  }
+
+  /**
+   * Returns a nearby candidate with the same note order: every continuous parameter moved by a
+   * normally distributed step, then clamped to the search space.
+   *
+   * @param route The route.
+   * @param step The step, as a fraction of each parameter's range (half a turn, for headings).
+   * @param random Where to draw from.
+   * @return The candidate.
+   */
+  public Candidate perturb(RouteSpec route, double step, SplittableRandom random) {
+    SearchSpace search = route.search();
+    double[] headings = m_headings.clone();
+    for (int i = 0; i < headings.length; i++) {
+      double heading = headings[i] + gaussian(random) * step * Math.PI;
+      headings[i] = Math.IEEEremainder(heading, 2 * Math.PI);
+    }
+    double[] tangentScales = m_tangentScales.clone();
+    for (int i = 0; i < tangentScales.length; i++) {
+      tangentScales[i] =
+          nudge(random, tangentScales[i], step, search.minTangentScale(), search.maxTangentScale());
+    }
+    return new Candidate(
+        m_order,
+        headings,
+        tangentScales,
+        nudge(random, m_maxVelocity, step, search.minVelocity(), search.maxVelocity()),
+        nudge(random, m_maxAcceleration, step, search.minAcceleration(), search.maxAcceleration()));
+  }
+
+  /**
+   * Lays the candidate out as a path: start, each note in order with the route's shooting spots
+   * between, end.
+   *
+   * @param route The route.
+   * @return The path, named after the route.
+   */
+  public PathDefinition toPath(RouteSpec route) {
+    List<Waypoint> waypoints = new ArrayList<>(route.getWaypointCount());
+    Waypoint start = route.start();
+    waypoints.add(new Waypoint(start.x(), start.y(), start.headingRadians(), m_tangentScales[0]));
+    for (int i = 0; i < m_order.length; i++) {
+      FieldPoint shot = i > 0 ? route.getShot(i - 1) : null;
+      if (shot != null) {
+        addInterior(waypoints, shot);
+      }
+      addInterior(waypoints, route.notes().get(m_order[i]));
+    }
+    Waypoint end = route.end();
+    waypoints.add(
+        new Waypoint(end.x(), end.y(), end.headingRadians(), m_tangentScales[waypoints.size()]));
+
+    DrivetrainLimits drivetrain = route.drivetrain();
+    TrajectoryConfig config =
+        new TrajectoryConfig(
+            m_maxVelocity,
+            m_maxAcceleration,
+            drivetrain.maxCentripetalAcceleration(),
+            drivetrain.trackWidth());
+    return new PathDefinition(route.name(), waypoints, config);
+  }
+
+  /** Returns the note order, as indices into the route's notes. */
+  public int[] getOrder() {
+    return m_order.clone();
+  }
+
+  @Override
+  public String toString() {
+    int[] notes = Arrays.stream(m_order).map(i -> i + 1).toArray();
+    return String.format(
+        "notes %s, maxVelocity %.2f, maxAcceleration %.2f",
+        Arrays.toString(notes), m_maxVelocity, m_maxAcceleration);
+  }
+
+  private void addInterior(List<Waypoint> waypoints, FieldPoint point) {
+    int index = waypoints.size();
+    waypoints.add(
+        new Waypoint(point.x(), point.y(), m_headings[index - 1], m_tangentScales[index]));
+  }
+
+  private static double uniform(SplittableRandom random, double low, double high) {
+    return low < high ? random.nextDouble(low, high) : low;
+  }
+
+  private static double nudge(
+      SplittableRandom random, double value, double step, double low, double high) {
+    return Math.max(low, Math.min(high, value + gaussian(random) * step * (high - low)));
+  }
+
+  // RandomGenerator does not pin down how nextGaussian() draws, so candidates could differ between
+  // JDKs. A Box-Muller transform of nextDouble() does not.
+  private static double gaussian(SplittableRandom random) {
+    double u = 1 - random.nextDouble();
+    double v = random.nextDouble();
+    return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+  }
+}
@@ -0,0 +1,155 @@
+package frc.pathoptimizer;
+
+import frc.lib.trajectory.PathDefinition;
+import frc.lib.trajectory.SampledTrajectory;
+import frc.lib.trajectory.TrajectoryGenerator;
+import frc.lib.trajectory.TrajectoryState;
+
+/**
+ * Scores a path against a route: generate the trajectory, check it against the field and the
+ * intake, then simulate the drivetrain following it.
+ *
+ * <p>The simulation tracks distance along the path. Each 5 ms step the robot is commanded the
+ * trajectory's acceleration plus feedback on its distance and speed error, and gets what the
+ * motors can deliver at its current speed on the current curve ({@link
+ * DrivetrainLimits#availableAcceleration}), or what traction allows when braking. A trajectory
+ * that asks for more than that leaves the robot behind. More than {@link #kMaxLagMeters} behind
+ * and the path is rejected: everything timed off the trajectory (shots, the intake, partners'
+ * routes) would be off. Otherwise the score is the time until the robot is settled at the end.
+ *
+ * <p>One scorer per thread: it reuses a sample holder.
+ */
+public final class CandidateScorer {
+  /** The 2024 field, in meters. */
+  public static final double kFieldLength = 16.541;
+
+  public static final double kFieldWidth = 8.211;
+
+  /** Furthest the simulated robot may fall behind the trajectory, in meters. */
+  public static final double kMaxLagMeters = 0.15;
+
+  private static final double kDt = 0.005;
+  private static final double kDistanceGain = 10;
+  private static final double kVelocityGain = 5;
+  private static final double kSettledDistance = 0.02;
+  private static final double kSettledVelocity = 0.1;
+  private static final double kMaxSettleSeconds = 3;
+
+  private final RouteSpec m_route;
+  private final TrajectoryState m_state = new TrajectoryState();
+  private final TrajectoryState m_robotState = new TrajectoryState();
+
+  public CandidateScorer(RouteSpec route) {
+    m_route = route;
+  }
+
+  /**
+   * Scores a path.
+   *
+   * @param path The path. It need not have come from a {@link Candidate}: hand-written paths are
+   *     scored the same way.
+   * @return The score.
+   */
+  public Score score(PathDefinition path) {
+    SampledTrajectory trajectory = TrajectoryGenerator.generate(path);
+    int samples = trajectory.getSampleCount();
+    DrivetrainLimits drivetrain = m_route.drivetrain();
+
+    // Distance along the path at each sample, and the field check on the way.
+    double[] distance = new double[samples];
+    double margin = drivetrain.robotRadius();
+    double lastX = 0;
+    double lastY = 0;
+    for (int i = 0; i < samples; i++) {
+      trajectory.copySample(i, m_state);
+      if (m_state.x < margin
+          || m_state.x > kFieldLength - margin
+          || m_state.y < margin
+          || m_state.y > kFieldWidth - margin) {
+        return Score.rejected(
+            "leaves the field at (%.2f, %.2f) after %.2f s",
+            m_state.x, m_state.y, m_state.timeSeconds);
+      }
+      distance[i] = i == 0 ? 0 : distance[i - 1] + Math.hypot(m_state.x - lastX, m_state.y - lastY);
+      lastX = m_state.x;
+      lastY = m_state.y;
+    }
+
+    for (int note = 0; note < m_route.notes().size(); note++) {
+      String missed = checkPickup(trajectory, m_route.notes().get(note));
+      if (missed != null) {
+        return Score.rejected("note %d: %s", note + 1, missed);
+      }
+    }
+
+    return simulate(trajectory, distance);
+  }
+
+  private String checkPickup(SampledTrajectory trajectory, FieldPoint note) {
+    double closest = Double.POSITIVE_INFINITY;
+    double speed = 0;
+    for (int i = 0; i < trajectory.getSampleCount(); i++) {
+      trajectory.copySample(i, m_state);
+      double d = Math.hypot(m_state.x - note.x(), m_state.y - note.y());
+      if (d < closest) {
+        closest = d;
+        speed = m_state.velocity;
+      }
+    }
+    // The intake is as wide as the robot; the note has to pass under it.
+    if (closest > Math.max(0.1, m_route.drivetrain().robotRadius() / 2)) {
+      return String.format("passes %.2f m away", closest);
+    }
+    if (speed > m_route.maxPickupSpeed()) {
+      return String.format("passed at %.2f m/s", speed);
+    }
+    return null;
+  }
+
+  private Score simulate(SampledTrajectory trajectory, double[] distance) {
+    DrivetrainLimits drivetrain = m_route.drivetrain();
+    int last = distance.length - 1;
+    double length = distance[last];
+    double duration = trajectory.getTotalTimeSeconds();
+
+    double referenceDistance = 0;
+    double referenceVelocity = 0;
+    double position = 0;
+    double velocity = 0;
+    int index = 0;
+
+    for (double t = 0; t < duration + kMaxSettleSeconds; t += kDt) {
+      trajectory.sample(t, m_state);
+      referenceDistance += (referenceVelocity + m_state.velocity) / 2 * kDt;
+      referenceDistance = Math.min(referenceDistance, length);
+      referenceVelocity = m_state.velocity;
+
+      while (index < last && distance[index + 1] <= position) {
+        index++;
+      }
+      double curvature = trajectory.copySample(index, m_robotState).curvature;
+
+      double lag = referenceDistance - position;
+      if (lag > kMaxLagMeters) {
+        return Score.rejected("robot falls %.2f m behind at %.2f s", lag, t);
+      }
+
+      double commanded =
+          m_state.acceleration
+              + kDistanceGain * lag
+              + kVelocityGain * (referenceVelocity - velocity);
+      double acceleration =
+          Math.max(
+              -drivetrain.maxAcceleration(),
+              Math.min(drivetrain.availableAcceleration(velocity, curvature), commanded));
+      velocity = Math.max(0, velocity + acceleration * kDt);
+      position = Math.min(length, position + velocity * kDt);
+
+      boolean settled = length - position <= kSettledDistance && velocity <= kSettledVelocity;
+      if (t >= duration && settled) {
+        return new Score(t, duration, null);
+      }
+    }
+    return Score.rejected("robot never settles at the end (%.2f m short)", length - position);
+  }
+}
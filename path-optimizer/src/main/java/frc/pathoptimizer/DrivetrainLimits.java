@@ -0,0 +1,42 @@
+package frc.pathoptimizer;
+
+/**
+ * What the drivetrain can physically do. Candidate paths are generated under limits no higher than
+ * these, and simulated against them.
+ *
+ * @param freeSpeed Wheel free speed, in meters per second. Available acceleration falls linearly
+ *     to zero as a wheel approaches it, as it does for a DC motor.
+ * @param maxAcceleration Acceleration at a standstill, and the most braking traction allows, in
+ *     meters per second squared.
+ * @param maxCentripetalAcceleration Largest sideways acceleration before the wheels slip, in
+ *     meters per second squared.
+ * @param trackWidth Differential drive track width, in meters. Zero for holonomic drives.
+ * @param robotRadius Distance from the robot's center to its furthest bumper corner, in meters.
+ */
+public record DrivetrainLimits(
+    double freeSpeed,
+    double maxAcceleration,
+    double maxCentripetalAcceleration,
+    double trackWidth,
+    double robotRadius) {
+  public DrivetrainLimits {
+    if (!(freeSpeed > 0) || !(maxAcceleration > 0) || !(maxCentripetalAcceleration > 0)) {
+      throw new IllegalArgumentException("Drivetrain limits must be positive");
+    }
+    if (trackWidth < 0 || robotRadius < 0) {
+      throw new IllegalArgumentException("Track width and robot radius must not be negative");
+    }
+  }
+
+  /**
+   * Returns the most the motors can accelerate the robot at a speed along a curve.
+   *
+   * @param velocity Speed along the path, in meters per second.
+   * @param curvature Path curvature, in radians per meter.
+   * @return The acceleration, in meters per second squared; never negative.
+   */
+  public double availableAcceleration(double velocity, double curvature) {
+    double outsideWheel = Math.abs(velocity) * (1 + Math.abs(curvature) * trackWidth / 2);
+    return Math.max(0, maxAcceleration * (1 - outsideWheel / freeSpeed));
+  }
+}
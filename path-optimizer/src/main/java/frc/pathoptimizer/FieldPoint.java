@@ -0,0 +1,9 @@
+package frc.pathoptimizer;
+
+/**
+ * A spot on the field the route must pass through, in any direction.
+ *
+ * @param x Field x, in meters.
+ * @param y Field y, in meters.
+ */
+public record FieldPoint(double x, double y) {}
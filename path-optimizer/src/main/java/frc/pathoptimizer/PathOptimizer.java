@@ -0,0 +1,142 @@
+package frc.pathoptimizer;
+
+import frc.lib.trajectory.PathDefinition;
+import frc.lib.trajectory.Waypoint;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Desktop entry point: optimizes every route in a directory and writes the winners as path files.
+ *
+ * <pre>
+ * PathOptimizer &lt;routes directory&gt; &lt;paths directory&gt; [threads]
+ * </pre>
+ *
+ * <p>Route files end in {@code .route}; see {@link RouteSpec} for their format. Each route's best
+ * candidate is written to {@code <name>.path} in the paths directory, which is what the robot
+ * projects build their trajectory caches from. If that file already exists and passes through
+ * the same points as the route, it is scored the same way first and only replaced by a faster
+ * path; one left over from an edited route is always replaced. Its leading comment is kept.
+ * Threads default to every core.
+ */
+public final class PathOptimizer {
+  private static final String kGeneratedPrefix = "# Optimized by PathOptimizer";
+
+  private PathOptimizer() {}
+
+  /**
+   * Entry point.
+   *
+   * @param args The routes directory, the paths directory and optionally the thread count.
+   * @throws IOException If a route or path cannot be read, or a path cannot be written.
+   */
+  public static void main(String... args) throws IOException {
+    if (args.length != 2 && args.length != 3) {
+      System.err.println("usage: PathOptimizer <routes directory> <paths directory> [threads]");
+      System.exit(2);
+    }
+    Path routesDirectory = Path.of(args[0]);
+    Path pathsDirectory = Path.of(args[1]);
+    int threads =
+        args.length == 3 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+    List<Path> routeFiles = new ArrayList<>();
+    try (Stream<Path> files = Files.list(routesDirectory)) {
+      files.filter(file -> file.toString().endsWith(".route")).sorted().forEach(routeFiles::add);
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      for (Path file : routeFiles) {
+        optimize(RouteSpec.read(file), pathsDirectory, pool);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static void optimize(RouteSpec route, Path pathsDirectory, ForkJoinPool pool)
+      throws IOException {
+    long start = System.nanoTime();
+    SearchResult result = PathSearch.run(route, pool);
+    double wallSeconds = (System.nanoTime() - start) / 1e9;
+    System.out.printf(
+        "%-24s %7d candidates (%d feasible) in %.1f s on %d threads%n",
+        route.name(), result.scored(), result.feasible(), wallSeconds, pool.getParallelism());
+    if (result.candidate() == null) {
+      System.out.printf("%-24s no candidate met every constraint; nothing written%n", "");
+      return;
+    }
+    // Score what will be written: the path file rounds every parameter.
+    String formatted = result.candidate().toPath(route).format();
+    PathDefinition best = PathDefinition.parse(route.name(), formatted.lines().toList());
+    Score score = new CandidateScorer(route).score(best);
+    if (!score.feasible()) {
+      System.out.printf(
+          "%-24s best candidate is rejected once rounded: %s%n", "", score.rejection());
+      return;
+    }
+    System.out.printf("%-24s best %.2f s: %s%n", "", score.seconds(), result.candidate());
+
+    Path output = pathsDirectory.resolve(route.name() + ".path");
+    List<String> header = new ArrayList<>();
+    if (Files.exists(output)) {
+      List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+      PathDefinition current = PathDefinition.parse(route.name(), lines);
+      if (!points(current).equals(points(best))) {
+        System.out.printf("%-24s current path does not follow the route; replacing it%n", "");
+      } else {
+        Score existing = new CandidateScorer(route).score(current);
+        System.out.printf(
+            "%-24s current path: %s%n",
+            "",
+            existing.feasible()
+                ? String.format(Locale.ROOT, "%.2f s", existing.seconds())
+                : "rejected, " + existing.rejection());
+        if (existing.seconds() <= score.seconds()) {
+          System.out.printf("%-24s kept the current path%n", "");
+          return;
+        }
+      }
+      for (String line : lines) {
+        if (!line.startsWith("#") || line.startsWith(kGeneratedPrefix)) {
+          break;
+        }
+        header.add(line);
+      }
+    }
+
+    StringBuilder out = new StringBuilder();
+    for (String line : header) {
+      out.append(line).append(System.lineSeparator());
+    }
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "%s: %s, simulated %.2f s.%n",
+            kGeneratedPrefix,
+            result.candidate(),
+            score.seconds()));
+    out.append(formatted);
+    Files.writeString(output, out, StandardCharsets.UTF_8);
+    System.out.printf("%-24s wrote %s%n", "", output);
+  }
+
+  // Where a path's waypoints are, as written to a path file, in no particular order: the note
+  // order may differ between two paths for the same route.
+  private static List<String> points(PathDefinition path) {
+    List<String> points = new ArrayList<>();
+    for (Waypoint waypoint : path.waypoints()) {
+      points.add(String.format(Locale.ROOT, "%.3f %.3f", waypoint.x(), waypoint.y()));
+    }
+    points.sort(null);
+    return points;
+  }
+}
@@ -0,0 +1,200 @@
+package frc.pathoptimizer;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * Searches a route's parameters on every core with fork/join.
+ *
+ * <p>A global phase scores {@link SearchSpace#candidates} random candidates, cycling through
+ * every note order. Each refinement round then scores a quarter as many perturbations of the best
+ * candidate so far, with the step halving every round. Within a phase, candidates are split in
+ * halves until a piece is small enough to score on one thread, and the pieces' winners are
+ * combined on the way back up.
+ *
+ * <p>Every candidate is drawn from its own generator, seeded from the search seed and its index,
+ * and ties go to the lower index. The result is therefore the same for any pool size, so a run on
+ * a 32-core desktop reproduces one on a laptop.
+ */
+public final class PathSearch {
+  /** Candidates scored by one task without splitting further. */
+  static final int kLeafSize = 32;
+
+  private static final double kFirstRefineStep = 0.2;
+
+  private PathSearch() {}
+
+  /**
+   * Runs the search.
+   *
+   * @param route The route to optimize.
+   * @param pool Where to run it.
+   * @return The best candidate found.
+   */
+  public static SearchResult run(RouteSpec route, ForkJoinPool pool) {
+    SearchSpace search = route.search();
+    int notes = route.notes().size();
+    // RouteSpec keeps n! within the candidate count, so it fits in an int.
+    int orders = (int) orderCount(notes, Integer.MAX_VALUE);
+
+    IntFunction<Candidate> global =
+        index -> {
+          int[] order = permutation(notes, index % orders);
+          return Candidate.random(route, order, random(search.seed(), 0, index));
+        };
+    Best best = pool.invoke(new Batch(route, 0, 0, search.candidates(), global));
+
+    int perRound = Math.max(kLeafSize, search.candidates() / 4);
+    double step = kFirstRefineStep;
+    for (int round = 1; round <= search.rounds() && best.m_candidate != null; round++) {
+      Candidate center = best.m_candidate;
+      double roundStep = step;
+      int phase = round;
+      IntFunction<Candidate> nearby =
+          index -> center.perturb(route, roundStep, random(search.seed(), phase, index));
+      best = Best.combine(best, pool.invoke(new Batch(route, phase, 0, perRound, nearby)));
+      step /= 2;
+    }
+
+    return new SearchResult(best.m_candidate, best.m_score, best.m_scored, best.m_feasible);
+  }
+
+  /**
+   * Returns how many orders {@code n} notes can be picked up in, {@code n!}, or any number above
+   * {@code limit} once it passes it.
+   *
+   * @param n The number of notes.
+   * @param limit Where to stop counting; keeps the result from overflowing.
+   * @return {@code n!}, or a number past {@code limit}.
+   */
+  static long orderCount(int n, long limit) {
+    long count = 1;
+    for (int i = 2; i <= n && count <= limit; i++) {
+      count *= i;
+    }
+    return count;
+  }
+
+  /**
+   * Returns the {@code index}th ordering of {@code n} items in lexicographic order, decoded from
+   * the index's factorial digits so the orders never have to be listed.
+   */
+  static int[] permutation(int n, int index) {
+    int[] order = new int[n];
+    boolean[] used = new boolean[n];
+    int remaining = index;
+    int place = (int) orderCount(n, Integer.MAX_VALUE);
+    for (int position = 0; position < n; position++) {
+      place /= n - position;
+      int skip = remaining / place;
+      remaining %= place;
+      for (int i = 0; i < n; i++) {
+        if (!used[i] && skip-- == 0) {
+          used[i] = true;
+          order[position] = i;
+          break;
+        }
+      }
+    }
+    return order;
+  }
+
+  private static SplittableRandom random(long seed, int phase, int index) {
+    return new SplittableRandom(seed ^ (((long) phase << 32 | index) * 0x9E3779B97F4A7C15L));
+  }
+
+  /** The winner of a range of candidates, and how many were scored. */
+  private static final class Best {
+    final Candidate m_candidate;
+    final Score m_score;
+    // Phase and index, for breaking ties the same way whatever order ranges finish in.
+    final long m_key;
+    final int m_scored;
+    final int m_feasible;
+
+    Best(Candidate candidate, Score score, long key, int scored, int feasible) {
+      m_candidate = candidate;
+      m_score = score;
+      m_key = key;
+      m_scored = scored;
+      m_feasible = feasible;
+    }
+
+    static Best combine(Best a, Best b) {
+      Best winner = b.beats(a) ? b : a;
+      return new Best(
+          winner.m_candidate,
+          winner.m_score,
+          winner.m_key,
+          a.m_scored + b.m_scored,
+          a.m_feasible + b.m_feasible);
+    }
+
+    boolean beats(Best other) {
+      if (m_candidate == null) {
+        return false;
+      }
+      if (other.m_candidate == null) {
+        return true;
+      }
+      int compare = Double.compare(m_score.seconds(), other.m_score.seconds());
+      return compare < 0 || (compare == 0 && m_key < other.m_key);
+    }
+  }
+
+  /** Scores candidates {@code [m_from, m_to)} of one phase. */
+  private static final class Batch extends RecursiveTask<Best> {
+    private final RouteSpec m_route;
+    private final long m_phaseKey;
+    private final int m_from;
+    private final int m_to;
+    private final IntFunction<Candidate> m_candidates;
+
+    Batch(RouteSpec route, int phase, int from, int to, IntFunction<Candidate> candidates) {
+      this(route, (long) phase << 32, from, to, candidates);
+    }
+
+    private Batch(
+        RouteSpec route, long phaseKey, int from, int to, IntFunction<Candidate> candidates) {
+      m_route = route;
+      m_phaseKey = phaseKey;
+      m_from = from;
+      m_to = to;
+      m_candidates = candidates;
+    }
+
+    @Override
+    protected Best compute() {
+      if (m_to - m_from > kLeafSize) {
+        int middle = (m_from + m_to) >>> 1;
+        Batch left = new Batch(m_route, m_phaseKey, m_from, middle, m_candidates);
+        Batch right = new Batch(m_route, m_phaseKey, middle, m_to, m_candidates);
+        right.fork();
+        Best leftBest = left.compute();
+        return Best.combine(leftBest, right.join());
+      }
+
+      CandidateScorer scorer = new CandidateScorer(m_route);
+      Candidate bestCandidate = null;
+      Score bestScore = null;
+      long bestKey = 0;
+      int feasible = 0;
+      for (int index = m_from; index < m_to; index++) {
+        Candidate candidate = m_candidates.apply(index);
+        Score score = scorer.score(candidate.toPath(m_route));
+        if (!score.feasible()) {
+          continue;
+        }
+        feasible++;
+        if (bestScore == null || score.seconds() < bestScore.seconds()) {
+          bestCandidate = candidate;
+          bestScore = score;
+          bestKey = m_phaseKey | index;
+        }
+      }
+      return new Best(bestCandidate, bestScore, bestKey, m_to - m_from, feasible);
+    }
+  }
+}
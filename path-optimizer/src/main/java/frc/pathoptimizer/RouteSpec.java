@@ -0,0 +1,255 @@
+package frc.pathoptimizer;
+
+import frc.lib.trajectory.Waypoint;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An autonomous routine to optimize: where it starts and ends, the notes it picks up, and what may
+ * be changed to get there faster.
+ *
+ * <p>The robot drives from the start to each note in turn, back to a shooting spot after every
+ * note but the last, and on to the end. Route files are plain text, one directive per line,
+ * {@code #} for comments:
+ *
+ * <pre>
+ * drivetrain freeSpeed=4.8 maxAcceleration=4.0 maxCentripetalAcceleration=3.0 trackWidth=0.762
+ * pickup maxSpeed=2.0                 # fastest the intake still grabs a note, m/s
+ * start 0.75 6.65 60                  # x (m), y (m), heading (deg)
+ * note 2.90 7.00                      # x (m), y (m); picked up in whichever order is fastest
+ * shoot 1.80 5.90                     # optional, repeatable; x (m), y (m)
+ * end 1.35 5.55 150                   # x (m), y (m), heading (deg)
+ * search velocity=2.5:4.5 acceleration=2.0:4.0 tangentScale=0.6:1.8 candidates=20000
+ * </pre>
+ *
+ * <p>One {@code shoot} line is the spot the robot returns to after every pickup. One line per
+ * return instead gives each its own spot: the first {@code shoot} follows the first note picked
+ * up, whichever note that is, and so on.
+ *
+ * <p>{@code drivetrain} also takes {@code robotRadius} (default 0), and {@code search} takes
+ * {@code rounds} (default 8) and {@code seed} (default 1); see {@link DrivetrainLimits} and {@link
+ * SearchSpace}.
+ *
+ * @param name The name of the path the route produces.
+ * @param drivetrain What the drivetrain can do.
+ * @param maxPickupSpeed Fastest the robot may pass a note and still pick it up, in meters per
+ *     second.
+ * @param start Where the robot starts, facing the way it first drives.
+ * @param notes The notes to pick up, at least one. Every order is tried, so there may be no more
+ *     orders ({@code notes.size()!}) than {@link SearchSpace#candidates}.
+ * @param shots Where the robot returns to shoot between notes: none to drive note to note, one
+ *     for the same spot every time, or one per return, in order.
+ * @param end Where the robot ends, and which way it is driving when it gets there.
+ * @param search What to search and how hard.
+ */
+public record RouteSpec(
+    String name,
+    DrivetrainLimits drivetrain,
+    double maxPickupSpeed,
+    Waypoint start,
+    List<FieldPoint> notes,
+    List<FieldPoint> shots,
+    Waypoint end,
+    SearchSpace search) {
+  public RouteSpec {
+    if (notes.isEmpty()) {
+      throw new IllegalArgumentException("Route " + name + " picks up no notes");
+    }
+    // The global search tries every note order at least once.
+    if (PathSearch.orderCount(notes.size(), search.candidates()) > search.candidates()) {
+      throw new IllegalArgumentException(
+          "Route "
+              + name
+              + " has more note orders than its "
+              + search.candidates()
+              + " candidates; pick up fewer notes or search more candidates");
+    }
+    if (!(maxPickupSpeed > 0)) {
+      throw new IllegalArgumentException("Route " + name + " needs a positive pickup speed");
+    }
+    if (search.maxVelocity() > drivetrain.freeSpeed()) {
+      throw new IllegalArgumentException("Route " + name + " searches past the free speed");
+    }
+    if (shots.size() > 1 && shots.size() != notes.size() - 1) {
+      throw new IllegalArgumentException(
+          "Route "
+              + name
+              + " has "
+              + shots.size()
+              + " shooting spots; give one, or one for each of its "
+              + (notes.size() - 1)
+              + " returns");
+    }
+    notes = List.copyOf(notes);
+    shots = List.copyOf(shots);
+  }
+
+  /**
+   * Reads a route file. The route is named after the file, without its extension.
+   *
+   * @param file The file to read.
+   * @return The route.
+   * @throws IOException If the file cannot be read or is malformed.
+   */
+  public static RouteSpec read(Path file) throws IOException {
+    String fileName = file.getFileName().toString();
+    int dot = fileName.lastIndexOf('.');
+    String name = dot > 0 ? fileName.substring(0, dot) : fileName;
+    return parse(name, Files.readAllLines(file, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses a route from its text form.
+   *
+   * @param name The route name.
+   * @param lines The lines of the route file.
+   * @return The route.
+   * @throws IOException If the text is malformed.
+   */
+  public static RouteSpec parse(String name, List<String> lines) throws IOException {
+    DrivetrainLimits drivetrain = null;
+    double maxPickupSpeed = Double.NaN;
+    Waypoint start = null;
+    List<FieldPoint> notes = new ArrayList<>();
+    List<FieldPoint> shots = new ArrayList<>();
+    Waypoint end = null;
+    SearchSpace search = null;
+
+    for (int i = 0; i < lines.size(); i++) {
+      String line = lines.get(i);
+      int comment = line.indexOf('#');
+      if (comment >= 0) {
+        line = line.substring(0, comment);
+      }
+      String[] tokens = line.trim().split("\\s+");
+      if (tokens[0].isEmpty()) {
+        continue;
+      }
+
+      try {
+        switch (tokens[0].toLowerCase(Locale.ROOT)) {
+          case "drivetrain" -> drivetrain = parseDrivetrain(keyValues(tokens));
+          case "pickup" -> maxPickupSpeed = required(keyValues(tokens), "maxSpeed");
+          case "start" -> start = parsePose(tokens);
+          case "note" -> notes.add(parsePoint(tokens));
+          case "shoot" -> shots.add(parsePoint(tokens));
+          case "end" -> end = parsePose(tokens);
+          case "search" -> search = parseSearch(keyValues(tokens));
+          default -> throw new IllegalArgumentException("unknown directive " + tokens[0]);
+        }
+      } catch (IllegalArgumentException e) {
+        throw new IOException(name + " line " + (i + 1) + ": " + e.getMessage(), e);
+      }
+    }
+
+    if (drivetrain == null || start == null || end == null || search == null) {
+      throw new IOException(name + ": needs drivetrain, start, end and search lines");
+    }
+    if (Double.isNaN(maxPickupSpeed)) {
+      throw new IOException(name + ": missing pickup line");
+    }
+    try {
+      return new RouteSpec(name, drivetrain, maxPickupSpeed, start, notes, shots, end, search);
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /** Returns how many waypoints each candidate path has. */
+  public int getWaypointCount() {
+    return 2 + notes.size() + (shots.isEmpty() ? 0 : notes.size() - 1);
+  }
+
+  /**
+   * Returns where the robot shoots after a pickup.
+   *
+   * @param pickup Which pickup, counting from 0 in the order the notes are picked up; not the
+   *     last.
+   * @return The shooting spot, or null if the route drives note to note.
+   */
+  public FieldPoint getShot(int pickup) {
+    if (shots.isEmpty()) {
+      return null;
+    }
+    return shots.get(shots.size() == 1 ? 0 : pickup);
+  }
+
+  private static DrivetrainLimits parseDrivetrain(Map<String, String> values) {
+    return new DrivetrainLimits(
+        required(values, "freeSpeed"),
+        required(values, "maxAcceleration"),
+        required(values, "maxCentripetalAcceleration"),
+        values.containsKey("trackWidth") ? Double.parseDouble(values.get("trackWidth")) : 0,
+        values.containsKey("robotRadius") ? Double.parseDouble(values.get("robotRadius")) : 0);
+  }
+
+  private static SearchSpace parseSearch(Map<String, String> values) {
+    double[] velocity = range(values, "velocity");
+    double[] acceleration = range(values, "acceleration");
+    double[] tangentScale = range(values, "tangentScale");
+    return new SearchSpace(
+        velocity[0],
+        velocity[1],
+        acceleration[0],
+        acceleration[1],
+        tangentScale[0],
+        tangentScale[1],
+        (int) required(values, "candidates"),
+        values.containsKey("rounds") ? Integer.parseInt(values.get("rounds")) : 8,
+        values.containsKey("seed") ? Long.parseLong(values.get("seed")) : 1);
+  }
+
+  private static Waypoint parsePose(String[] tokens) {
+    if (tokens.length != 4) {
+      throw new IllegalArgumentException(tokens[0] + " takes x, y and heading");
+    }
+    return new Waypoint(
+        Double.parseDouble(tokens[1]),
+        Double.parseDouble(tokens[2]),
+        Math.toRadians(Double.parseDouble(tokens[3])));
+  }
+
+  private static FieldPoint parsePoint(String[] tokens) {
+    if (tokens.length != 3) {
+      throw new IllegalArgumentException(tokens[0] + " takes x and y");
+    }
+    return new FieldPoint(Double.parseDouble(tokens[1]), Double.parseDouble(tokens[2]));
+  }
+
+  private static Map<String, String> keyValues(String[] tokens) {
+    Map<String, String> values = new HashMap<>();
+    for (int i = 1; i < tokens.length; i++) {
+      String[] pair = tokens[i].split("=", 2);
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("expected key=value, got " + tokens[i]);
+      }
+      values.put(pair[0], pair[1]);
+    }
+    return values;
+  }
+
+  private static double required(Map<String, String> values, String key) {
+    String value = values.get(key);
+    if (value == null) {
+      throw new IllegalArgumentException("missing " + key);
+    }
+    return Double.parseDouble(value);
+  }
+
+  private static double[] range(Map<String, String> values, String key) {
+    String value = values.get(key);
+    if (value == null) {
+      throw new IllegalArgumentException("missing " + key);
+    }
+    String[] bounds = value.split(":", 2);
+    double low = Double.parseDouble(bounds[0]);
+    return new double[] {low, bounds.length == 2 ? Double.parseDouble(bounds[1]) : low};
+  }
+}
@@ -0,0 +1,19 @@
+package frc.pathoptimizer;
+
+/**
+ * How a candidate path did: the simulated time to complete it, or why it was rejected.
+ *
+ * @param seconds Simulated time from the start until the robot is settled at the end, or infinity
+ *     if rejected.
+ * @param trajectorySeconds The generated trajectory's own duration.
+ * @param rejection Why the path breaks a constraint, or null if it does not.
+ */
+public record Score(double seconds, double trajectorySeconds, String rejection) {
+  static Score rejected(String format, Object... args) {
+    return new Score(Double.POSITIVE_INFINITY, Double.NaN, String.format(format, args));
+  }
+
+  public boolean feasible() {
+    return rejection == null;
+  }
+}
@@ -0,0 +1,11 @@
+package frc.pathoptimizer;
+
+/**
+ * The best candidate a search found.
+ *
+ * @param candidate The candidate, or null if none was feasible.
+ * @param score Its score.
+ * @param scored How many candidates were scored.
+ * @param feasible How many of them met every constraint.
+ */
+public record SearchResult(Candidate candidate, Score score, int scored, int feasible) {}
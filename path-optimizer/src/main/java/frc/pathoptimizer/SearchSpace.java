@@ -0,0 +1,37 @@
+package frc.pathoptimizer;
+
+/**
+ * The ranges a route's free parameters are searched over, and how hard to search.
+ *
+ * @param minVelocity Lowest path top speed to try, in meters per second.
+ * @param maxVelocity Highest path top speed to try, in meters per second.
+ * @param minAcceleration Lowest path acceleration limit to try, in meters per second squared.
+ * @param maxAcceleration Highest path acceleration limit to try, in meters per second squared.
+ * @param minTangentScale Smallest waypoint tangent scale to try.
+ * @param maxTangentScale Largest waypoint tangent scale to try.
+ * @param candidates How many random candidates the global search scores.
+ * @param rounds How many rounds of local refinement follow it, each with a smaller step.
+ * @param seed Seed for the candidates. The same seed gives the same result on any number of
+ *     cores.
+ */
+public record SearchSpace(
+    double minVelocity,
+    double maxVelocity,
+    double minAcceleration,
+    double maxAcceleration,
+    double minTangentScale,
+    double maxTangentScale,
+    int candidates,
+    int rounds,
+    long seed) {
+  public SearchSpace {
+    if (!(minVelocity > 0 && minVelocity <= maxVelocity)
+        || !(minAcceleration > 0 && minAcceleration <= maxAcceleration)
+        || !(minTangentScale > 0 && minTangentScale <= maxTangentScale)) {
+      throw new IllegalArgumentException("Search ranges must be positive and ordered low:high");
+    }
+    if (candidates < 1 || rounds < 0) {
+      throw new IllegalArgumentException("Need at least one candidate and no negative rounds");
+    }
+  }
+}